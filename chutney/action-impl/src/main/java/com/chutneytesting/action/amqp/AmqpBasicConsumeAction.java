@@ -16,14 +16,12 @@ import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
 
 import com.chutneytesting.action.amqp.consumer.ConsumerSupervisor;
 import com.chutneytesting.action.amqp.consumer.QueueingConsumer;
-import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.InterruptibleAction;
 import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.action.spi.time.Duration;
-import com.rabbitmq.client.Channel;
-import com.rabbitmq.client.Connection;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
@@ -31,7 +29,7 @@ import java.util.Map;
 import java.util.concurrent.TimeoutException;
 import org.apache.commons.lang3.tuple.Pair;
 
-public class AmqpBasicConsumeAction implements Action {
+public class AmqpBasicConsumeAction implements InterruptibleAction {
 
     private final ConnectionFactoryFactory connectionFactoryFactory = new ConnectionFactoryFactory();
 
@@ -73,8 +71,7 @@ public class AmqpBasicConsumeAction implements Action {
         long originalDuration = Duration.parse(timeout).toMilliseconds();
 
         ConsumerSupervisor instance = ConsumerSupervisor.getInstance();
-        Connection connection = null;
-        Channel channel = null;
+        PooledChannel channel = null;
         try {
             Pair<Boolean, Long> waitingResult = instance.waitUntilQueueAvailable(queueName, originalDuration, logger);
             boolean lockAcquired = waitingResult.getLeft();
@@ -82,11 +79,11 @@ public class AmqpBasicConsumeAction implements Action {
                 return ActionExecutionResult.ko();
             }
 
-            connection = connectionFactoryFactory.newConnection(target);
-            channel = connection.createChannel();
+            // Dedicated channel, so not acknowledged messages are requeued when it is closed
+            channel = connectionFactoryFactory.newChannel(target);
 
             long consumingDuration = waitingResult.getRight();
-            QueueingConsumer.Result result = new QueueingConsumer(channel, queueName, nbMessages, selector, consumingDuration, ack).consume();
+            QueueingConsumer.Result result = new QueueingConsumer(channel.channel(), queueName, nbMessages, selector, consumingDuration, ack).consume();
             if (result.messages.size() != nbMessages) {
                 logger.error("Unable to get the expected number of messages [" + nbMessages + "] during " + timeout + ".");
                 return ActionExecutionResult.ko();
@@ -99,7 +96,6 @@ public class AmqpBasicConsumeAction implements Action {
         } finally {
             try {
                 closeChannel(channel);
-                closeConnection(connection);
             } finally {
                 instance.unlock(this.queueName);
             }
@@ -114,23 +110,9 @@ public class AmqpBasicConsumeAction implements Action {
         return results;
     }
 
-    private void closeConnection(Connection connection) {
-        if (connection != null && connection.isOpen()) {
-            try {
-                connection.close(1000);
-            } catch (IOException e) {
-                logger.error("Error during connection closing: " + e.getMessage());
-            }
-        }
-    }
-
-    private void closeChannel(Channel channel) {
-        if (channel != null && channel.isOpen()) {
-            try {
-                channel.close();
-            } catch (IOException | TimeoutException e) {
-                logger.error("Error during channel closing: " + e.getMessage());
-            }
+    private void closeChannel(PooledChannel channel) {
+        if (channel != null) {
+            channel.close();
         }
     }
 }
@@ -18,7 +18,6 @@ import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.rabbitmq.client.Channel;
-import com.rabbitmq.client.Connection;
 import com.rabbitmq.client.GetResponse;
 import java.io.IOException;
 import java.util.HashMap;
@@ -52,8 +51,8 @@ public class AmqpBasicGetAction implements Action {
 
     @Override
     public ActionExecutionResult execute() {
-        try (Connection connection = connectionFactoryFactory.newConnection(target);
-             Channel channel = connection.createChannel()) {
+        try (PooledChannel pooledChannel = connectionFactoryFactory.borrowChannel(target)) {
+            Channel channel = pooledChannel.channel();
 
             GetResponse getResponse = channel.basicGet(queueName, true);
 
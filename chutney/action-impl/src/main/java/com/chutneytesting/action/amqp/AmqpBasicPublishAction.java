@@ -7,29 +7,44 @@
 
 package com.chutneytesting.action.amqp;
 
+import static com.chutneytesting.action.spi.validation.ActionValidatorsUtils.durationValidation;
 import static com.chutneytesting.action.spi.validation.ActionValidatorsUtils.notBlankStringValidation;
 import static com.chutneytesting.action.spi.validation.ActionValidatorsUtils.targetValidation;
 import static com.chutneytesting.action.spi.validation.Validator.getErrorsFrom;
+import static com.chutneytesting.action.spi.validation.Validator.of;
 import static java.util.stream.Collectors.joining;
+import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
 
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
 import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
+import com.chutneytesting.action.spi.time.Duration;
+import com.chutneytesting.action.spi.validation.Validator;
 import com.rabbitmq.client.AMQP.BasicProperties;
 import com.rabbitmq.client.AMQP.BasicProperties.Builder;
 import com.rabbitmq.client.Channel;
-import com.rabbitmq.client.Connection;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 
+/**
+ * Publish one message, or a batch of messages given in the messages input.
+ * <p>
+ * Messages are published on a pooled channel of the connection shared by target, see {@link ConnectionFactoryFactory}.
+ * Publisher confirms are awaited once, after all messages are published.
+ */
 public class AmqpBasicPublishAction implements Action {
 
+    static final String MESSAGE_PAYLOAD = "payload";
+    static final String MESSAGE_HEADERS = "headers";
+
     private static final String CONTENT_TYPE = "content_type";
 
     private final ConnectionFactoryFactory connectionFactoryFactory = new ConnectionFactoryFactory();
@@ -40,6 +55,8 @@ public class AmqpBasicPublishAction implements Action {
     private final Map<String, Object> headers;
     private final Map<String, String> properties;
     private final String payload;
+    private final List<Map<String, Object>> messages;
+    private final String timeout;
     private final Logger logger;
 
     public AmqpBasicPublishAction(Target target,
@@ -48,6 +65,8 @@ public class AmqpBasicPublishAction implements Action {
                                 @Input("headers") Map<String, Object> headers,
                                 @Input("properties") Map<String, String> properties,
                                 @Input("payload") String payload,
+                                @Input("messages") List<Map<String, Object>> messages,
+                                @Input("timeout") String timeout,
                                 Logger logger) {
         this.target = target;
         this.exchangeName = exchangeName;
@@ -55,6 +74,8 @@ public class AmqpBasicPublishAction implements Action {
         this.headers = headers != null ? headers : Collections.emptyMap();
         this.properties = properties != null ? properties : Collections.emptyMap();
         this.payload = payload;
+        this.messages = messages;
+        this.timeout = defaultIfEmpty(timeout, "5 s");
         this.logger = logger;
     }
 
@@ -62,26 +83,67 @@ public class AmqpBasicPublishAction implements Action {
     public List<String> validateInputs() {
         return getErrorsFrom(
             notBlankStringValidation(exchangeName, "exchange-name"),
-            notBlankStringValidation(payload, "payload"),
-            targetValidation(target)
+            messages == null ? notBlankStringValidation(payload, "payload") : messagesValidation(messages),
+            targetValidation(target),
+            durationValidation(timeout, "timeout")
         );
     }
 
+    private static Validator<List<Map<String, Object>>> messagesValidation(List<Map<String, Object>> messages) {
+        return of(messages)
+            .validate(m -> !m.isEmpty(), "messages should not be empty")
+            .validate(m -> m.stream().allMatch(Objects::nonNull), "messages should not contain null message")
+            .validate(m -> m.stream().filter(Objects::nonNull).allMatch(message -> message.get(MESSAGE_PAYLOAD) != null), "All messages should have a payload");
+    }
+
     @Override
     public ActionExecutionResult execute() {
-        try (Connection connection = connectionFactoryFactory.newConnection(target);
-             Channel channel = connection.createChannel()) {
+        try (PooledChannel pooledChannel = connectionFactoryFactory.borrowChannel(target)) {
+            Channel channel = pooledChannel.channel();
+            channel.confirmSelect();
+            if (messages != null) {
+                return publishMessages(channel);
+            }
 
-            BasicProperties basicProperties = buildProperties();
+            BasicProperties basicProperties = buildProperties(headers);
             channel.basicPublish(exchangeName, routingKey, basicProperties, payload.getBytes());
+            waitForConfirms(channel);
             logger.info("Published AMQP Message on " + exchangeName + " with routing key: " + routingKey);
             return ActionExecutionResult.ok(outputs(basicProperties, payload));
         } catch (TimeoutException | IOException e) {
-            logger.error("Unable to establish connection to RabbitMQ: " + e.getMessage());
+            logger.error("Unable to publish to RabbitMQ: " + e.getMessage());
+            return ActionExecutionResult.ko();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while waiting for RabbitMQ publisher confirms");
             return ActionExecutionResult.ko();
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private ActionExecutionResult publishMessages(Channel channel) throws IOException, TimeoutException, InterruptedException {
+        List<Object> payloads = new ArrayList<>();
+        for (Map<String, Object> message : messages) {
+            Map<String, Object> messageHeaders = new HashMap<>(headers);
+            if (message.get(MESSAGE_HEADERS) != null) {
+                messageHeaders.putAll((Map<String, Object>) message.get(MESSAGE_HEADERS));
+            }
+            String messagePayload = message.get(MESSAGE_PAYLOAD).toString();
+            channel.basicPublish(exchangeName, routingKey, buildProperties(messageHeaders), messagePayload.getBytes());
+            payloads.add(messagePayload);
+        }
+        waitForConfirms(channel);
+        logger.info("Published " + messages.size() + " AMQP Messages on " + exchangeName + " with routing key: " + routingKey);
+        return ActionExecutionResult.ok(Collections.singletonMap("payloads", payloads));
+    }
+
+    /**
+     * Fails when a message is nacked by the broker, or when confirms are not received in time.
+     */
+    private void waitForConfirms(Channel channel) throws IOException, TimeoutException, InterruptedException {
+        channel.waitForConfirmsOrDie(Duration.parse(timeout).toMilliseconds());
+    }
+
     public Map<String, Object> outputs(BasicProperties basicProperties, String payload) {
         Map<String, Object> results = new HashMap<>();
         results.put("payload", payload);
@@ -92,7 +154,7 @@ public class AmqpBasicPublishAction implements Action {
         return results;
     }
 
-    private BasicProperties buildProperties() {
+    private BasicProperties buildProperties(Map<String, Object> headers) {
         Builder basicPropertiesBuilder = new Builder().appId("testing-app");
         if (properties.containsKey(CONTENT_TYPE)) {
             basicPropertiesBuilder.contentType(properties.get(CONTENT_TYPE));
@@ -20,7 +20,6 @@ import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.rabbitmq.client.AMQP.Queue.PurgeOk;
 import com.rabbitmq.client.Channel;
-import com.rabbitmq.client.Connection;
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.TimeoutException;
@@ -51,8 +50,8 @@ public class AmqpCleanQueuesAction implements Action {
 
     @Override
     public ActionExecutionResult execute() {
-        try (Connection connection = connectionFactoryFactory.newConnection(target);
-             Channel channel = connection.createChannel()) {
+        try (PooledChannel pooledChannel = connectionFactoryFactory.borrowChannel(target)) {
+            Channel channel = pooledChannel.channel();
             for (String queueName : queueNames) {
                 PurgeOk purgeOk = channel.queuePurge(queueName);
                 logger.info("Purge queue " + queueName + ". " + purgeOk.getMessageCount() + " messages deleted");
@@ -19,7 +19,6 @@ import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.rabbitmq.client.Channel;
-import com.rabbitmq.client.Connection;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
@@ -62,8 +61,8 @@ public class AmqpCreateBoundTemporaryQueueAction implements Action {
 
     @Override
     public ActionExecutionResult execute() {
-        try (Connection connection = connectionFactoryFactory.newConnection(target);
-             Channel channel = connection.createChannel()) {
+        try (PooledChannel pooledChannel = connectionFactoryFactory.borrowChannel(target)) {
+            Channel channel = pooledChannel.channel();
             createQueue(queueName, channel);
             bindQueue(channel, queueName);
             createQuitFinallyActions();
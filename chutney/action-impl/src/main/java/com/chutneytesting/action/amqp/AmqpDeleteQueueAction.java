@@ -17,7 +17,6 @@ import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.rabbitmq.client.Channel;
-import com.rabbitmq.client.Connection;
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.TimeoutException;
@@ -47,8 +46,8 @@ public class AmqpDeleteQueueAction implements Action {
 
     @Override
     public ActionExecutionResult execute() {
-        try (Connection connection = connectionFactoryFactory.newConnection(target);
-             Channel channel = connection.createChannel()) {
+        try (PooledChannel pooledChannel = connectionFactoryFactory.borrowChannel(target)) {
+            Channel channel = pooledChannel.channel();
 
             long messageCount = channel.messageCount(queueName);
             long consumerCount = channel.consumerCount(queueName);
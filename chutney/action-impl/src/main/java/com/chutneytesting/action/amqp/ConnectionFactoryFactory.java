@@ -10,30 +10,105 @@ package com.chutneytesting.action.amqp;
 import static com.chutneytesting.action.common.SecurityUtils.buildSslContext;
 import static java.util.function.Predicate.not;
 
+import com.chutneytesting.action.common.ResourceCache;
 import com.chutneytesting.action.spi.injectable.Target;
+import com.google.common.util.concurrent.UncheckedTimeoutException;
 import com.rabbitmq.client.Address;
 import com.rabbitmq.client.Connection;
 import com.rabbitmq.client.ConnectionFactory;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import javax.net.ssl.SSLContext;
 
+/**
+ * Connections are shared by all actions using the same target, see {@link SharedConnection}.
+ */
 public class ConnectionFactoryFactory {
 
+    private static final int MAX_CACHED_CONNECTIONS = 20;
+    private static final Duration CONNECTION_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final Supplier<ResourceCache<ConnectionKey, SharedConnection>> CONNECTIONS = ResourceCache.lazy("amqp-connection", MAX_CACHED_CONNECTIONS, CONNECTION_IDLE_TIMEOUT, SharedConnection::close);
+
+    // Null when a new factory is used for each connection
     private final ConnectionFactory connectionFactory;
 
     ConnectionFactoryFactory() {
-        this.connectionFactory = new ConnectionFactory();
+        this.connectionFactory = null;
     }
 
     ConnectionFactoryFactory(ConnectionFactory connectionFactory) {
         this.connectionFactory = connectionFactory;
     }
 
+    /**
+     * Borrow a channel of the connection shared by actions using the same target.
+     * Closing returned channel gives it back to the pool, the connection stays open.
+     */
+    PooledChannel borrowChannel(Target target) throws IOException, TimeoutException {
+        ResourceCache.Lease<SharedConnection> connection = sharedConnection(target);
+        try {
+            return connection.value().borrowChannel(connection::close);
+        } catch (IOException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Open a channel, which is not pooled, over the connection shared by actions using the same target.
+     * Closing returned channel closes it, the connection stays open.
+     */
+    PooledChannel newChannel(Target target) throws IOException, TimeoutException {
+        ResourceCache.Lease<SharedConnection> connection = sharedConnection(target);
+        try {
+            return connection.value().dedicatedChannel(connection::close);
+        } catch (IOException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    private ResourceCache.Lease<SharedConnection> sharedConnection(Target target) throws IOException, TimeoutException {
+        ConnectionKey key = new ConnectionKey(connectionFactory, target.uri(), target.prefixedProperties(""));
+        ResourceCache.Lease<SharedConnection> connection = sharedConnection(key, target);
+        if (!connection.value().isOpen()) {
+            // Closed by broker or by network, since last use
+            CONNECTIONS.get().invalidate(key, connection);
+            connection.close();
+            connection = sharedConnection(key, target);
+        }
+        return connection;
+    }
+
+    private ResourceCache.Lease<SharedConnection> sharedConnection(ConnectionKey key, Target target) throws IOException, TimeoutException {
+        try {
+            return CONNECTIONS.get().acquire(key, () -> {
+                try {
+                    return new SharedConnection(newConnection(target));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (TimeoutException e) {
+                    throw new UncheckedTimeoutException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (UncheckedTimeoutException e) {
+            throw (TimeoutException) e.getCause();
+        }
+    }
+
     public Connection newConnection(Target target) throws IOException, TimeoutException {
+        ConnectionFactory connectionFactory = Optional.ofNullable(this.connectionFactory).orElseGet(ConnectionFactory::new);
         try {
             if ("amqps".equalsIgnoreCase(target.uri().getScheme())) {
                 SSLContext sslContext = buildSslContext(target).build();
@@ -60,4 +135,11 @@ public class ConnectionFactoryFactory {
             return connectionFactory.newConnection(adresses);
         }
     }
+
+    private record ConnectionKey(ConnectionFactory connectionFactory, URI uri, Map<String, String> targetProperties) {
+        @Override
+        public String toString() {
+            return uri.toString();
+        }
+    }
 }
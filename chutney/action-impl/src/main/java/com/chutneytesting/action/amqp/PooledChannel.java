@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.amqp;
+
+import com.rabbitmq.client.Channel;
+import java.util.function.Consumer;
+
+/**
+ * Channel borrowed from a {@link SharedConnection}, given back to the pool, or closed when dedicated, when closed.
+ * The connection is released afterward.
+ */
+final class PooledChannel implements AutoCloseable {
+
+    private final Channel channel;
+    private final Consumer<Channel> channelRelease;
+    private final Runnable connectionRelease;
+
+    PooledChannel(Channel channel, Consumer<Channel> channelRelease, Runnable connectionRelease) {
+        this.channel = channel;
+        this.channelRelease = channelRelease;
+        this.connectionRelease = connectionRelease;
+    }
+
+    Channel channel() {
+        return channel;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channelRelease.accept(channel);
+        } finally {
+            connectionRelease.run();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.amqp;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import java.io.IOException;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Connection shared by actions using the same target, with a pool of idle channels.
+ * Channels closed by the broker, after a channel error for example, are not given back to the pool.
+ */
+final class SharedConnection implements AutoCloseable {
+
+    static final int MAX_IDLE_CHANNELS = 10;
+    private static final int CLOSE_TIMEOUT_MS = 1000;
+
+    private final Connection connection;
+    private final BlockingDeque<Channel> idleChannels = new LinkedBlockingDeque<>(MAX_IDLE_CHANNELS);
+
+    SharedConnection(Connection connection) {
+        this.connection = connection;
+    }
+
+    boolean isOpen() {
+        return connection.isOpen();
+    }
+
+    /**
+     * Borrow an idle channel, or open a new one when none is available.
+     * Closing returned channel gives it back to the pool, then runs given release.
+     */
+    PooledChannel borrowChannel(Runnable release) throws IOException {
+        Channel channel;
+        while ((channel = idleChannels.pollFirst()) != null) {
+            if (channel.isOpen()) {
+                return new PooledChannel(channel, this::release, release);
+            }
+        }
+        return new PooledChannel(createChannel(), this::release, release);
+    }
+
+    /**
+     * Open a channel which is not pooled.
+     * Closing returned channel closes it, then runs given release.
+     */
+    PooledChannel dedicatedChannel(Runnable release) throws IOException {
+        return new PooledChannel(createChannel(), this::closeQuietly, release);
+    }
+
+    private Channel createChannel() throws IOException {
+        Channel channel = connection.createChannel();
+        if (channel == null) {
+            throw new IOException("No channel available on connection to " + connection.getAddress());
+        }
+        return channel;
+    }
+
+    private void release(Channel channel) {
+        if (!channel.isOpen() || !idleChannels.offerFirst(channel)) {
+            closeQuietly(channel);
+        }
+    }
+
+    private void closeQuietly(Channel channel) {
+        try {
+            if (channel.isOpen()) {
+                channel.close();
+            }
+        } catch (IOException | TimeoutException | RuntimeException e) {
+            // Channel is unusable anyway
+        }
+    }
+
+    @Override
+    public void close() {
+        idleChannels.clear();
+        // Closes all channels too, without throwing
+        connection.abort(CLOSE_TIMEOUT_MS);
+    }
+}
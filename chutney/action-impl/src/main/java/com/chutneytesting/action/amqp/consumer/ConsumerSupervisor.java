@@ -29,7 +29,7 @@ public class ConsumerSupervisor {
         return instance;
     }
 
-    public boolean isLocked(String queueName) {
+    public synchronized boolean isLocked(String queueName) {
         return queuesLocked.contains(queueName);
     }
 
@@ -24,7 +24,17 @@ public class JsonPathEvaluator {
         .addOptions(Option.DEFAULT_PATH_LEAF_TO_NULL);
 
     public static boolean evaluate(String jsonAsString, String jsonPath) {
-        JSONArray ret = JsonPath.using(CONFIG).parse(jsonAsString).read(jsonPath);
+        return anyMatch(JsonPath.using(CONFIG).parse(jsonAsString).read(jsonPath));
+    }
+
+    /**
+     * Evaluate json path on an already parsed document (i.e. maps and lists), avoiding its serialization.
+     */
+    public static boolean evaluate(Object document, String jsonPath) {
+        return anyMatch(JsonPath.using(CONFIG).parse(document).read(jsonPath));
+    }
+
+    private static boolean anyMatch(JSONArray ret) {
         return StreamSupport.stream(spliterator(ret.iterator(), ret.size(), Spliterator.DISTINCT), false)
             .anyMatch(Objects::nonNull);
     }
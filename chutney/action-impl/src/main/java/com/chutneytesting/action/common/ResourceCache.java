@@ -0,0 +1,218 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.common;
+
+import com.chutneytesting.action.spi.SharedResources;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded cache of heavy resources (pools, clients...) shared by actions executions.
+ * <ul>
+ *     <li>Resources not used for the idle timeout are evicted</li>
+ *     <li>Least recently used resources are evicted when max size is reached</li>
+ *     <li>All resources are evicted when the engine shuts down, see {@link SharedResources}</li>
+ * </ul>
+ * Resources are borrowed through a {@link Lease}, and an evicted resource is closed only once all its leases are released.
+ * <p>
+ * Actions share a cache through {@link #lazy}, so a cache closed when the engine shut down is created again on next use.
+ */
+public class ResourceCache<K, V> implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceCache.class);
+
+    private static final ScheduledExecutorService CLEANER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "actions-resources-cleaner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String name;
+    private final Consumer<V> closer;
+    private final Cache<K, Shared<V>> cache;
+    private final ScheduledFuture<?> cleaning;
+    private volatile boolean closed = false;
+
+    public ResourceCache(String name, long maxSize, Duration idleTimeout, Consumer<V> closer) {
+        this.name = name;
+        this.closer = closer;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterAccess(idleTimeout)
+            .removalListener(this::onRemoval)
+            .build();
+        long cleaningPeriod = Math.max(1, idleTimeout.toSeconds());
+        this.cleaning = CLEANER.scheduleWithFixedDelay(cache::cleanUp, cleaningPeriod, cleaningPeriod, TimeUnit.SECONDS);
+        SharedResources.register(this);
+    }
+
+    /**
+     * @return supplier of a cache created on first use, and created again on next use once closed
+     */
+    public static <K, V> Supplier<ResourceCache<K, V>> lazy(String name, long maxSize, Duration idleTimeout, Consumer<V> closer) {
+        SharedResources.Lazy<ResourceCache<K, V>> cache = lazy();
+        return () -> cache.get(() -> new ResourceCache<>(name, maxSize, idleTimeout, closer));
+    }
+
+    /**
+     * @return holder of a cache which settings are known at its first use only
+     */
+    public static <K, V> SharedResources.Lazy<ResourceCache<K, V>> lazy() {
+        return SharedResources.lazy(ResourceCache::isClosed);
+    }
+
+    /**
+     * Borrow the resource of given key, created with given factory when not cached.
+     * Returned lease must be closed when the resource is not used anymore.
+     */
+    public Lease<V> acquire(K key, Supplier<V> factory) {
+        while (true) {
+            Shared<V> shared = get(key, factory);
+            if (shared.borrow()) {
+                return new Lease<>(shared);
+            }
+            // Evicted between its lookup and its borrowing, a new one is created
+        }
+    }
+
+    private Shared<V> get(K key, Supplier<V> factory) {
+        try {
+            return cache.get(key, () -> new Shared<>(name, factory.get(), closer));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Evict the resource of given key, so next {@link #acquire} creates a new one.
+     * It is closed once all its leases are released.
+     */
+    public void invalidate(K key) {
+        cache.invalidate(key);
+    }
+
+    /**
+     * Evict the resource of given lease, if it is still the cached one for given key.
+     * Unlike {@link #invalidate(Object)}, a resource already created again by another borrower is kept.
+     */
+    public void invalidate(K key, Lease<V> lease) {
+        cache.asMap().remove(key, lease.shared);
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.size();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        cleaning.cancel(false);
+        cache.invalidateAll();
+        cache.cleanUp();
+    }
+
+    private void onRemoval(RemovalNotification<K, Shared<V>> notification) {
+        LOGGER.debug("Evict {} resource ({})", name, notification.getCause());
+        notification.getValue().evict();
+    }
+
+    /**
+     * Resource borrowed from a {@link ResourceCache}, given back when closed.
+     */
+    public static final class Lease<V> implements AutoCloseable {
+        private final Shared<V> shared;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Lease(Shared<V> shared) {
+            this.shared = shared;
+        }
+
+        public V value() {
+            return shared.value;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                shared.release();
+            }
+        }
+    }
+
+    private static final class Shared<V> {
+        private final String name;
+        private final V value;
+        private final Consumer<V> closer;
+        private int borrowers = 0;
+        private boolean evicted = false;
+
+        private Shared(String name, V value, Consumer<V> closer) {
+            this.name = name;
+            this.value = value;
+            this.closer = closer;
+        }
+
+        private synchronized boolean borrow() {
+            if (evicted) {
+                return false;
+            }
+            borrowers++;
+            return true;
+        }
+
+        private void release() {
+            synchronized (this) {
+                borrowers--;
+                if (!evicted || borrowers > 0) {
+                    return;
+                }
+            }
+            close();
+        }
+
+        private void evict() {
+            synchronized (this) {
+                evicted = true;
+                if (borrowers > 0) {
+                    return;
+                }
+            }
+            close();
+        }
+
+        private void close() {
+            LOGGER.debug("Close {} resource", name);
+            try {
+                closer.accept(value);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Cannot close {} resource", name, e);
+            }
+        }
+    }
+}
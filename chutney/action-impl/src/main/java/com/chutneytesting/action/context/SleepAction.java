@@ -10,15 +10,15 @@ package com.chutneytesting.action.context;
 import static com.chutneytesting.action.spi.validation.ActionValidatorsUtils.durationValidation;
 import static com.chutneytesting.action.spi.validation.Validator.getErrorsFrom;
 
-import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.InterruptibleAction;
 import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
-public class SleepAction implements Action {
+public class SleepAction implements InterruptibleAction {
 
     private final Logger logger;
     private final String duration;
@@ -17,6 +17,7 @@ import com.chutneytesting.action.http.domain.HttpClient;
 import com.chutneytesting.action.http.domain.HttpClientFactory;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.injectable.ActionsConfiguration;
 import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
@@ -33,13 +34,15 @@ public class HttpGetAction implements Action {
 
     private final Target target;
     private final Logger logger;
+    private final ActionsConfiguration configuration;
     private final String uri;
     private final Map<String, String> headers;
     private final String timeout;
 
-    public HttpGetAction(Target target, Logger logger, @Input("uri") String uri, @Input("headers") Map<String, String> headers, @Input("timeout") String timeout) {
+    public HttpGetAction(Target target, Logger logger, ActionsConfiguration configuration, @Input("uri") String uri, @Input("headers") Map<String, String> headers, @Input("timeout") String timeout) {
         this.target = target;
         this.logger = logger;
+        this.configuration = configuration;
         this.uri = uri;
         this.headers = headers != null ? headers : new HashMap<>();
         this.timeout = ofNullable(timeout).orElse(DEFAULT_TIMEOUT);
@@ -54,7 +57,7 @@ public class HttpGetAction implements Action {
 
     @Override
     public ActionExecutionResult execute() {
-        HttpClient httpClient = new HttpClientFactory().create(logger, target, String.class, (int) parseToMs(timeout));
+        HttpClient httpClient = new HttpClientFactory(configuration).create(logger, target, String.class, (int) parseToMs(timeout));
         HttpHeaders httpHeaders = new HttpHeaders();
         headers.forEach(httpHeaders::add);
         Supplier<ResponseEntity<String>> caller = () -> httpClient.get(this.uri, httpHeaders);
@@ -18,6 +18,7 @@ import com.chutneytesting.action.http.domain.HttpClient;
 import com.chutneytesting.action.http.domain.HttpClientFactory;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.injectable.ActionsConfiguration;
 import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
@@ -34,6 +35,7 @@ public class HttpSoapAction implements Action {
 
     private final Target target;
     private final Logger logger;
+    private final ActionsConfiguration configuration;
     private final String uri;
     private final String username;
     private final String password;
@@ -41,7 +43,7 @@ public class HttpSoapAction implements Action {
     private final String timeout;
     private final Map<String, String> headers;
 
-    public HttpSoapAction(Target target, Logger logger,
+    public HttpSoapAction(Target target, Logger logger, ActionsConfiguration configuration,
                         @Input("uri") String uri,
                         @Input("body") String body,
                         @Input("username") String username,
@@ -50,6 +52,7 @@ public class HttpSoapAction implements Action {
                         @Input("headers") Map<String, String> headers) {
         this.target = target;
         this.logger = logger;
+        this.configuration = configuration;
         this.uri = uri;
         this.body = body;
         this.username = username;
@@ -67,7 +70,7 @@ public class HttpSoapAction implements Action {
 
     @Override
     public ActionExecutionResult execute() {
-        HttpClient httpClient = new HttpClientFactory().create(logger, target, String.class, (int) parseToMs(timeout));
+        HttpClient httpClient = new HttpClientFactory(configuration).create(logger, target, String.class, (int) parseToMs(timeout));
         HttpHeaders httpHeaders = new HttpHeaders();
         headers.forEach(httpHeaders::add);
         Object envelope = soapInsertWSUsernameToken(this.username, this.password, body.toString());
@@ -13,6 +13,9 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 
+import com.chutneytesting.action.common.ResourceCache;
+import com.chutneytesting.action.spi.SharedResources;
+import com.chutneytesting.action.spi.injectable.ActionsConfiguration;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
 import java.net.MalformedURLException;
@@ -20,11 +23,15 @@ import java.net.ProxySelector;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import javax.net.ssl.SSLContext;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
@@ -36,6 +43,9 @@ import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.client.support.BasicAuthenticationInterceptor;
@@ -44,7 +54,32 @@ import org.springframework.web.client.RestTemplate;
 
 public class HttpClientFactory {
 
+    public static final String CONFIGURABLE_MAX_CONNECTIONS_PER_TARGET = "chutney.actions.http.pool.max-connections-per-target";
+    public static final String CONFIGURABLE_CONNECTION_IDLE_TIMEOUT = "chutney.actions.http.pool.connection-idle-timeout";
+    public static final String CONFIGURABLE_MAX_CLIENTS = "chutney.actions.http.pool.max-clients";
+    public static final String CONFIGURABLE_CLIENT_EVICTION_TIMEOUT = "chutney.actions.http.pool.client-eviction-timeout";
+
     private static final String PROXY_PROPERTY = "proxy";
+    private static final String MAX_CONNECTIONS_PROPERTY = "maxConnections";
+    private static final Integer DEFAULT_MAX_CONNECTIONS_PER_TARGET = 20;
+    private static final Integer DEFAULT_CONNECTION_IDLE_TIMEOUT_SECONDS = 30;
+    private static final Integer DEFAULT_MAX_CLIENTS = 100;
+    private static final Integer DEFAULT_CLIENT_EVICTION_TIMEOUT_SECONDS = 600;
+
+    private static final SharedResources.Lazy<ResourceCache<ClientKey, PooledClient>> CLIENTS = ResourceCache.lazy();
+
+    private final ActionsConfiguration configuration;
+    private final int maxConnectionsPerTarget;
+    private final Duration connectionIdleTimeout;
+
+    /**
+     * @param configuration limits of connections pools, the ones of pools cache being taken at its first use
+     */
+    public HttpClientFactory(ActionsConfiguration configuration) {
+        this.configuration = configuration;
+        this.maxConnectionsPerTarget = configuration.getInteger(CONFIGURABLE_MAX_CONNECTIONS_PER_TARGET, DEFAULT_MAX_CONNECTIONS_PER_TARGET);
+        this.connectionIdleTimeout = Duration.ofSeconds(configuration.getInteger(CONFIGURABLE_CONNECTION_IDLE_TIMEOUT, DEFAULT_CONNECTION_IDLE_TIMEOUT_SECONDS));
+    }
 
     /**
      * @return an {@link HttpClient} depending on given {@link Target} able to handle:
@@ -58,14 +93,39 @@ public class HttpClientFactory {
      * </ul>
      * </li>
      * </ul>
+     * Underlying connections pool and TLS context are shared by all clients created for the same target connection,
+     * so keep-alive connections and TLS sessions are reused between calls.<br>
+     * Target property {@value MAX_CONNECTIONS_PROPERTY} overrides the configured max connections of its pool.
      */
     public HttpClient create(Logger logger, Target target, Class<String> responseType, int timeout) {
-        RestTemplate restTemplate = buildRestTemplate(logger, target, timeout);
+        ClientKey key = ClientKey.of(target, maxConnections(logger, target));
+        return (httpMethod, resource, input) -> {
+            try (ResourceCache.Lease<PooledClient> client = clients(configuration).acquire(key, () -> new PooledClient(buildHttpClient(logger, target, key.maxConnections(), connectionIdleTimeout)))) {
+                return client.value().restTemplate(target, timeout).exchange(target.uri().toString() + resource, httpMethod, input, responseType);
+            }
+        };
+    }
+
+    private static ResourceCache<ClientKey, PooledClient> clients(ActionsConfiguration configuration) {
+        return CLIENTS.get(() -> new ResourceCache<>(
+            "http",
+            configuration.getInteger(CONFIGURABLE_MAX_CLIENTS, DEFAULT_MAX_CLIENTS),
+            Duration.ofSeconds(configuration.getInteger(CONFIGURABLE_CLIENT_EVICTION_TIMEOUT, DEFAULT_CLIENT_EVICTION_TIMEOUT_SECONDS)),
+            PooledClient::close
+        ));
+    }
 
-        return (httpMethod, resource, input) -> restTemplate.exchange(target.uri().toString() + resource, httpMethod, input, responseType);
+    private int maxConnections(Logger logger, Target target) {
+        Optional<String> maxConnections = target.property(MAX_CONNECTIONS_PROPERTY);
+        try {
+            return maxConnections.map(Integer::valueOf).orElse(maxConnectionsPerTarget);
+        } catch (NumberFormatException e) {
+            logger.error("Invalid target property " + MAX_CONNECTIONS_PROPERTY + " [" + maxConnections.get() + "], using " + maxConnectionsPerTarget);
+            return maxConnectionsPerTarget;
+        }
     }
 
-    private static RestTemplate buildRestTemplate(Logger logger, Target target, int timeout) {
+    private static CloseableHttpClient buildHttpClient(Logger logger, Target target, int maxConnections, Duration connectionIdleTimeout) {
 
         SSLContext sslContext;
         try {
@@ -78,20 +138,21 @@ public class HttpClientFactory {
 
         final HttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
             .setSSLSocketFactory(socketFactory)
-            .setDefaultSocketConfig(SocketConfig.custom().setSoTimeout(timeout, TimeUnit.MILLISECONDS).build())
+            .setDefaultSocketConfig(SocketConfig.custom().setSoKeepAlive(true).build())
+            .setMaxConnPerRoute(maxConnections)
+            .setMaxConnTotal(maxConnections)
             .build();
-        final HttpClientBuilder httpClient = HttpClients.custom().setConnectionManager(connectionManager);
+        final HttpClientBuilder httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofSeconds(connectionIdleTimeout.toSeconds()))
+            // Client is dedicated to one target connection, so connections established with client certificate can be reused
+            .disableConnectionState();
 
         final Optional<HttpRoutePlanner> httpRoutePlanner = getProxyConfiguration(logger, target);
         httpRoutePlanner.ifPresent(httpClient::setRoutePlanner);
 
-        final HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient.build());
-        requestFactory.setConnectTimeout(timeout);
-
-        final RestTemplate restTemplate = new RestTemplate(requestFactory);
-        configureBasicAuth(target, restTemplate);
-        removeErrorHandler(restTemplate);
-        return restTemplate;
+        return httpClient.build();
     }
 
     private static Optional<HttpRoutePlanner> getProxyConfiguration(Logger logger, Target target) {
@@ -139,6 +200,79 @@ public class HttpClientFactory {
             .anyMatch(Objects::nonNull);
     }
 
+    private record ClientKey(String url, String user, String password, String keyStore, String keyStorePassword, String keyPassword,
+                             String trustStore, String trustStorePassword, String sslProtocol, String proxy, int maxConnections) {
+
+        private static ClientKey of(Target target, int maxConnections) {
+            return new ClientKey(
+                target.uri().toString(),
+                target.user().orElse(null),
+                target.userPassword().orElse(null),
+                target.keyStore().orElse(null),
+                target.keyStorePassword().orElse(null),
+                target.keyPassword().orElse(null),
+                target.trustStore().orElse(null),
+                target.trustStorePassword().orElse(null),
+                target.property("sslProtocol").orElse(null),
+                target.property(PROXY_PROPERTY).orElse(null),
+                maxConnections
+            );
+        }
+
+        @Override
+        public String toString() {
+            return url;
+        }
+    }
+
+    /**
+     * Pooled http client of one target connection, with one {@link RestTemplate} per used timeout.
+     */
+    private static class PooledClient {
+
+        private final CloseableHttpClient httpClient;
+        private final Map<Integer, RestTemplate> restTemplates = new ConcurrentHashMap<>();
+
+        private PooledClient(CloseableHttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+
+        private RestTemplate restTemplate(Target target, int timeout) {
+            return restTemplates.computeIfAbsent(timeout, t -> {
+                final RestTemplate restTemplate = new RestTemplate(new TimeoutRequestFactory(httpClient, t));
+                configureBasicAuth(target, restTemplate);
+                removeErrorHandler(restTemplate);
+                return restTemplate;
+            });
+        }
+
+        private void close() {
+            httpClient.close(CloseMode.GRACEFUL);
+        }
+    }
+
+    /**
+     * Apply timeout on connection, connection lease and response of each request, whatever the pooled connection used.
+     */
+    private static class TimeoutRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+        private final RequestConfig requestConfig;
+
+        private TimeoutRequestFactory(CloseableHttpClient httpClient, int timeout) {
+            super(httpClient);
+            this.requestConfig = RequestConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(timeout))
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(timeout))
+                .setResponseTimeout(Timeout.ofMilliseconds(timeout))
+                .build();
+        }
+
+        @Override
+        protected RequestConfig createRequestConfig(Object client) {
+            return requestConfig;
+        }
+    }
+
     private static class NoOpResponseErrorHandler extends DefaultResponseErrorHandler {
         @Override
         public void handleError(ClientHttpResponse response) {
@@ -8,39 +8,73 @@
 package com.chutneytesting.action.kafka;
 
 import static com.chutneytesting.action.kafka.KafkaClientFactoryHelper.resolveBootStrapServerConfig;
+import static java.util.Collections.unmodifiableMap;
 import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
 
+import com.chutneytesting.action.common.ResourceCache;
 import com.chutneytesting.action.spi.injectable.Target;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.apache.kafka.common.config.SslConfigs;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 
+/**
+ * Producers are shared by all publish actions using the same producer configuration.
+ */
 final class ChutneyKafkaProducerFactory {
 
-    private DefaultKafkaProducerFactory<String, String> factory;
+    private static final int MAX_CACHED_PRODUCERS = 50;
+    private static final Duration PRODUCER_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private static final Supplier<ResourceCache<ProducerKey, KafkaTemplate<String, String>>> PRODUCERS = ResourceCache.lazy("kafka-producer", MAX_CACHED_PRODUCERS, PRODUCER_IDLE_TIMEOUT, ChutneyKafkaProducerFactory::close);
 
-    KafkaTemplate<String, String> create(Target target, Map<String, String> config) {
+    /**
+     * @return a lease of the producer of given configuration, to close once its publications are done
+     */
+    ResourceCache.Lease<KafkaTemplate<String, String>> create(Target target, Map<String, String> config) {
+        ProducerKey key = ProducerKey.of(target, config);
+        return PRODUCERS.get().acquire(key, () -> createTemplate(key));
+    }
 
-        Map<String, Object> producerConfig = new HashMap<>();
-        producerConfig.put(BOOTSTRAP_SERVERS_CONFIG, resolveBootStrapServerConfig(target));
-        producerConfig.putAll(config);
-        target.trustStore().ifPresent(trustStore -> {
-          producerConfig.put(SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG, trustStore);
-          producerConfig.put(SslConfigs.SSL_TRUSTSTORE_PASSWORD_CONFIG, target.trustStorePassword().orElseThrow(IllegalArgumentException::new));
-        });
+    /**
+     * Evict given producer, so next publication gets a new one.
+     * It is closed once all its leases are released.
+     */
+    void invalidate(Target target, Map<String, String> config, ResourceCache.Lease<KafkaTemplate<String, String>> producer) {
+        PRODUCERS.get().invalidate(ProducerKey.of(target, config), producer);
+    }
 
-        this.factory = new DefaultKafkaProducerFactory<>(
-            producerConfig,
+    private static KafkaTemplate<String, String> createTemplate(ProducerKey key) {
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+            key.producerConfig(),
             new StringSerializer(),
-            new StringSerializer());
+            new StringSerializer()));
+    }
 
-        return new KafkaTemplate<>(this.factory, true);
+    private static void close(KafkaTemplate<String, String> template) {
+        ((DefaultKafkaProducerFactory<String, String>) template.getProducerFactory()).destroy();
     }
 
-    void destroy() {
-        factory.destroy();
+    private record ProducerKey(Map<String, Object> producerConfig) {
+
+        private static ProducerKey of(Target target, Map<String, String> config) {
+            Map<String, Object> producerConfig = new HashMap<>();
+            producerConfig.put(BOOTSTRAP_SERVERS_CONFIG, resolveBootStrapServerConfig(target));
+            producerConfig.putAll(config);
+            target.trustStore().ifPresent(trustStore -> {
+                producerConfig.put(SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG, trustStore);
+                producerConfig.put(SslConfigs.SSL_TRUSTSTORE_PASSWORD_CONFIG, target.trustStorePassword().orElseThrow(IllegalArgumentException::new));
+            });
+            return new ProducerKey(unmodifiableMap(producerConfig));
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(producerConfig.get(BOOTSTRAP_SERVERS_CONFIG));
+        }
     }
 }
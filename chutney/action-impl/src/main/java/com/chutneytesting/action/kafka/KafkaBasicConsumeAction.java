@@ -25,9 +25,10 @@ import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
 import static org.springframework.util.MimeTypeUtils.APPLICATION_XML;
 
 import com.chutneytesting.action.amqp.utils.JsonPathEvaluator;
+import com.chutneytesting.action.common.ResourceCache;
 import com.chutneytesting.action.function.XPathFunction;
-import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.InterruptibleAction;
 import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
@@ -46,15 +47,17 @@ import org.apache.commons.exec.util.MapUtils;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.MessageListener;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 
-public class KafkaBasicConsumeAction implements Action {
+public class KafkaBasicConsumeAction implements InterruptibleAction {
 
     private final KafkaConsumerFactoryFactory kafkaConsumerFactoryFactory = new KafkaConsumerFactoryFactory();
+    private final KafkaConsumerSessions kafkaConsumerSessions = new KafkaConsumerSessions();
     private static final String AUTO_COMMIT_COUNT_CONFIG = "auto.commit.count";
 
     static final String OUTPUT_BODY = "body";
@@ -81,6 +84,7 @@ public class KafkaBasicConsumeAction implements Action {
     private final String group;
     private final String ackMode;
     private final Boolean resetOffset;
+    private final boolean session;
     private MimeType recordContentType;
 
     public KafkaBasicConsumeAction(Target target,
@@ -94,6 +98,7 @@ public class KafkaBasicConsumeAction implements Action {
                                    @Input("timeout") String timeout,
                                    @Input("ackMode") String ackMode,
                                    @Input("reset-offset") Boolean resetOffset,
+                                   @Input("session") Boolean session,
                                    Logger logger) {
         this.topic = topic;
         this.nbMessages = defaultIfNull(nbMessages, 1);
@@ -112,6 +117,9 @@ public class KafkaBasicConsumeAction implements Action {
             .or(() -> ofNullable(target).flatMap(t -> t.property("ackMode")))
             .orElse(ContainerProperties.AckMode.BATCH.name());
         this.resetOffset = ofNullable(resetOffset).orElse(false);
+        this.session = ofNullable(session)
+            .or(() -> ofNullable(target).flatMap(t -> t.property("session")).map(Boolean::parseBoolean))
+            .orElse(false);
     }
 
     @Override
@@ -127,17 +135,15 @@ public class KafkaBasicConsumeAction implements Action {
 
     @Override
     public ActionExecutionResult execute() {
+        if (session) {
+            return executeWithSession();
+        }
         ConcurrentMessageListenerContainer<String, String> messageListenerContainer = createMessageListenerContainer();
         try {
             logger.info("Consuming message from topic " + topic);
             messageListenerContainer.start();
             countDownLatch.await(Duration.parse(timeout).toMilliseconds(), TimeUnit.MILLISECONDS);
-            if (consumedMessages.size() != nbMessages) {
-                logger.error("Unable to get the expected number of messages [" + nbMessages + "] during " + timeout + " from topic " + topic + ".");
-                return ActionExecutionResult.ko();
-            }
-            logger.info("Consumed [" + nbMessages + "] Kafka Messages from topic " + topic);
-            return ActionExecutionResult.ok(toOutputs());
+            return toResult();
         } catch (Exception e) {
             logger.error("An exception occurs when consuming a message to Kafka server: " + e.getMessage());
             return ActionExecutionResult.ko();
@@ -146,18 +152,64 @@ public class KafkaBasicConsumeAction implements Action {
         }
     }
 
+    /**
+     * Read messages from the consumer session of this topic, which stays connected between actions executions.
+     * Offsets of read messages are committed by the session, so ackMode does not apply.
+     */
+    private ActionExecutionResult executeWithSession() {
+        ConsumerFactory<String, String> consumerFactory = kafkaConsumerFactoryFactory.create(target, group, properties);
+        ResourceCache.Lease<KafkaConsumerSession> consumerSession = null;
+        try {
+            logger.info("Consuming message from topic " + topic + " with consumer session");
+            consumerSession = kafkaConsumerSessions.get(consumerFactory, topic, resetOffset);
+            consumerSession.value().read(record -> {
+                handleRecord(record);
+                return countDownLatch.getCount() <= 0;
+            }, Duration.parse(timeout).toMilliseconds());
+            return toResult();
+        } catch (InterruptedException e) {
+            // Execution stopped, the session is still usable
+            Thread.currentThread().interrupt();
+            logger.error("Consuming interrupted");
+            return ActionExecutionResult.ko();
+        } catch (Exception e) {
+            logger.error("An exception occurs when consuming a message to Kafka server: " + e.getMessage());
+            if (consumerSession != null) {
+                kafkaConsumerSessions.invalidate(consumerFactory, topic, consumerSession);
+            }
+            return ActionExecutionResult.ko();
+        } finally {
+            if (consumerSession != null) {
+                consumerSession.close();
+            }
+        }
+    }
+
+    private ActionExecutionResult toResult() {
+        if (consumedMessages.size() != nbMessages) {
+            logger.error("Unable to get the expected number of messages [" + nbMessages + "] during " + timeout + " from topic " + topic + ".");
+            return ActionExecutionResult.ko();
+        }
+        logger.info("Consumed [" + nbMessages + "] Kafka Messages from topic " + topic);
+        return ActionExecutionResult.ok(toOutputs());
+    }
+
     private MessageListener<String, String> createMessageListener() {
         return record -> {
             if (countDownLatch.getCount() <= 0) {
                 return;
             }
-            final Map<String, Object> message = extractMessageFromRecord(record);
-            if (applySelector(message) && applyHeaderSelector(message)) {
-                addMessageToResultAndCountDown(message);
-            }
+            handleRecord(record);
         };
     }
 
+    private void handleRecord(ConsumerRecord<String, String> record) {
+        final Map<String, Object> message = extractMessageFromRecord(record);
+        if (applySelector(message) && applyHeaderSelector(message)) {
+            addMessageToResultAndCountDown(message);
+        }
+    }
+
     private boolean applySelector(Map<String, Object> message) {
         if (isBlank(selector)) {
             return true;
@@ -165,8 +217,7 @@ public class KafkaBasicConsumeAction implements Action {
 
         if (recordContentType.getSubtype().contains(APPLICATION_JSON.getSubtype())) {
             try {
-                String messageAsString = OBJECT_MAPPER.writeValueAsString(message);
-                return JsonPathEvaluator.evaluate(messageAsString, selector);
+                return JsonPathEvaluator.evaluate(message, selector);
             } catch (Exception e) {
                 logger.info("Received a message, however cannot read process it as json, ignoring payload selection : " + e.getMessage());
                 return true;
@@ -191,8 +242,7 @@ public class KafkaBasicConsumeAction implements Action {
         }
 
         try {
-            String messageAsString = OBJECT_MAPPER.writeValueAsString(message.get(OUTPUT_BODY_HEADERS_KEY));
-            return JsonPathEvaluator.evaluate(messageAsString, headerSelector);
+            return JsonPathEvaluator.evaluate(message.get(OUTPUT_BODY_HEADERS_KEY), headerSelector);
         } catch (Exception e) {
             logger.error("\"Received a message, however cannot process headers selection, Ignoring header selection");
             return true;
@@ -7,32 +7,74 @@
 
 package com.chutneytesting.action.kafka;
 
+import static com.chutneytesting.action.spi.validation.ActionValidatorsUtils.durationValidation;
 import static com.chutneytesting.action.spi.validation.ActionValidatorsUtils.notBlankStringValidation;
 import static com.chutneytesting.action.spi.validation.ActionValidatorsUtils.targetValidation;
 import static com.chutneytesting.action.spi.validation.Validator.getErrorsFrom;
+import static com.chutneytesting.action.spi.validation.Validator.of;
 import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
-import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.stream.Collectors.joining;
+import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
 
+import com.chutneytesting.action.common.ResourceCache;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
 import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
+import com.chutneytesting.action.spi.time.Duration;
+import com.chutneytesting.action.spi.validation.Validator;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.commons.exec.util.MapUtils;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.errors.AuthenticationException;
+import org.apache.kafka.common.errors.AuthorizationException;
+import org.apache.kafka.common.errors.InvalidProducerEpochException;
+import org.apache.kafka.common.errors.OutOfOrderSequenceException;
+import org.apache.kafka.common.errors.ProducerFencedException;
+import org.apache.kafka.common.errors.UnsupportedVersionException;
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 
+/**
+ * Publish one message, or a batch of records given in the records input.
+ * <p>
+ * Producers are shared between executions, see {@link ChutneyKafkaProducerFactory}.
+ * Batch records are all sent before waiting for their acknowledgements,
+ * so producer batching properties like {@code linger.ms}, {@code batch.size} or {@code acks} apply.
+ */
 public class KafkaBasicPublishAction implements Action {
 
+    static final String RECORD_KEY = "key";
+    static final String RECORD_PAYLOAD = "payload";
+    static final String RECORD_HEADERS = "headers";
+
+    private static final List<Class<? extends Throwable>> PRODUCER_FATAL_ERRORS = List.of(
+        ProducerFencedException.class,
+        InvalidProducerEpochException.class,
+        OutOfOrderSequenceException.class,
+        AuthenticationException.class,
+        AuthorizationException.class,
+        UnsupportedVersionException.class,
+        ConfigException.class,
+        // Producer already closed
+        IllegalStateException.class
+    );
+
     private final ChutneyKafkaProducerFactory producerFactory = new ChutneyKafkaProducerFactory();
 
     private final Target target;
@@ -41,6 +83,8 @@ public class KafkaBasicPublishAction implements Action {
     private final String payload;
     private final Map<String, String> properties;
     private final String key;
+    private final List<Map<String, Object>> records;
+    private final String timeout;
     private final Logger logger;
 
     public KafkaBasicPublishAction(Target target,
@@ -49,12 +93,16 @@ public class KafkaBasicPublishAction implements Action {
                                  @Input("payload") String payload,
                                  @Input("properties") Map<String, String> properties,
                                  @Input("key") String key,
+                                 @Input("records") List<Map<String, Object>> records,
+                                 @Input("timeout") String timeout,
                                  Logger logger) {
         this.target = target;
         this.topic = topic;
         this.headers = headers != null ? headers : emptyMap();
         this.payload = payload;
         this.key = key;
+        this.records = records;
+        this.timeout = defaultIfEmpty(timeout, "5 s");
         this.properties = ofNullable(
             MapUtils.merge(extractProducerConfig(target), properties)
         ).orElse(new HashMap<>());
@@ -65,38 +113,121 @@ public class KafkaBasicPublishAction implements Action {
     public List<String> validateInputs() {
         return getErrorsFrom(
             notBlankStringValidation(topic, "topic"),
-            notBlankStringValidation(payload, "payload"),
-            targetValidation(target)
+            records == null ? notBlankStringValidation(payload, "payload") : recordsValidation(records),
+            targetValidation(target),
+            durationValidation(timeout, "timeout")
         );
     }
 
+    private static Validator<List<Map<String, Object>>> recordsValidation(List<Map<String, Object>> records) {
+        return of(records)
+            .validate(r -> !r.isEmpty(), "records should not be empty")
+            .validate(r -> r.stream().allMatch(Objects::nonNull), "records should not contain null record")
+            .validate(r -> r.stream().filter(Objects::nonNull).allMatch(record -> record.get(RECORD_PAYLOAD) != null), "All records should have a payload");
+    }
+
     @Override
     public ActionExecutionResult execute() {
+        ResourceCache.Lease<KafkaTemplate<String, String>> producer = null;
         try {
-            List<Header> recordHeaders = headers.entrySet().stream()
-                .map(it -> new RecordHeader(it.getKey(), it.getValue().getBytes()))
-                .collect(Collectors.toList());
+            producer = producerFactory.create(target, properties);
+            KafkaTemplate<String, String> kafkaTemplate = producer.value();
+            if (records != null) {
+                return publishRecords(kafkaTemplate);
+            }
 
             logger.info("sending message to topic=" + topic);
-            ProducerRecord<String, String> producerRecord = new ProducerRecord<String, String>(topic, null, key, payload, recordHeaders);
-
-            KafkaTemplate<String, String> kafkaTemplate = producerFactory.create(target, properties);
-            kafkaTemplate.send(producerRecord).get(5, SECONDS);
+            ProducerRecord<String, String> producerRecord = new ProducerRecord<>(topic, null, key, payload, toRecordHeaders(headers));
+            SendResult<String, String> sendResult = kafkaTemplate.send(producerRecord).get(Duration.parse(timeout).toMilliseconds(), MILLISECONDS);
 
             logger.info("Published Kafka Message on topic " + topic + (key != null ? " with key " + key : ""));
-            return ActionExecutionResult.ok(toOutputs(headers, payload));
+            Map<String, Object> outputs = toOutputs(headers, payload);
+            ofNullable(sendResult).map(SendResult::getRecordMetadata).ifPresent(metadata -> {
+                outputs.put("partition", metadata.partition());
+                outputs.put("offset", metadata.offset());
+            });
+            return ActionExecutionResult.ok(outputs);
         } catch (Exception e) {
             logger.error("An exception occurs when sending a message to Kafka server: " + e.getMessage());
+            if (producer != null && isProducerFatal(e)) {
+                // Producer cannot send anymore, it is closed once other publications using it are done
+                producerFactory.invalidate(target, properties, producer);
+            }
             return ActionExecutionResult.ko();
         } finally {
-            try {
-                producerFactory.destroy();
-            } catch (Exception e) {
-                logger.error(e);
+            if (producer != null) {
+                producer.close();
             }
         }
     }
 
+    /**
+     * Errors after which a producer cannot send anymore.
+     * Others, such as timeouts or too large records, only fail the current publication.
+     */
+    private static boolean isProducerFatal(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            Throwable error = cause;
+            if (PRODUCER_FATAL_ERRORS.stream().anyMatch(type -> type.isInstance(error))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ActionExecutionResult publishRecords(KafkaTemplate<String, String> kafkaTemplate) throws Exception {
+        logger.info("sending " + records.size() + " records to topic=" + topic);
+        List<CompletableFuture<SendResult<String, String>>> sendResults = new ArrayList<>(records.size());
+        for (Map<String, Object> record : records) {
+            sendResults.add(kafkaTemplate.send(toProducerRecord(record)));
+        }
+        kafkaTemplate.flush();
+
+        long deadline = System.nanoTime() + MILLISECONDS.toNanos(Duration.parse(timeout).toMilliseconds());
+        List<Map<String, Object>> publishedRecords = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            SendResult<String, String> sendResult = sendResults.get(i).get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+            publishedRecords.add(toRecordOutput(records.get(i), sendResult));
+        }
+
+        logger.info("Published " + records.size() + " Kafka Messages on topic " + topic);
+        return ActionExecutionResult.ok(Map.of("records", publishedRecords));
+    }
+
+    private ProducerRecord<String, String> toProducerRecord(Map<String, Object> record) {
+        return new ProducerRecord<>(
+            topic,
+            null,
+            ofNullable(record.get(RECORD_KEY)).map(String::valueOf).orElse(null),
+            String.valueOf(record.get(RECORD_PAYLOAD)),
+            toRecordHeaders(recordHeaders(record))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> recordHeaders(Map<String, Object> record) {
+        Map<String, String> recordHeaders = new HashMap<>(headers);
+        ofNullable((Map<String, Object>) record.get(RECORD_HEADERS))
+            .ifPresent(h -> h.forEach((name, value) -> recordHeaders.put(name, String.valueOf(value))));
+        return recordHeaders;
+    }
+
+    private static List<Header> toRecordHeaders(Map<String, String> headers) {
+        return headers.entrySet().stream()
+            .map(it -> new RecordHeader(it.getKey(), it.getValue().getBytes()))
+            .collect(Collectors.toList());
+    }
+
+    private static Map<String, Object> toRecordOutput(Map<String, Object> record, SendResult<String, String> sendResult) {
+        Map<String, Object> output = new LinkedHashMap<>();
+        output.put(RECORD_KEY, record.get(RECORD_KEY));
+        ofNullable(sendResult).map(SendResult::getRecordMetadata).ifPresent(metadata -> {
+            output.put("partition", metadata.partition());
+            output.put("offset", metadata.offset());
+        });
+        return output;
+    }
+
     private Map<String, Object> toOutputs(Map<String, String> headers, String payload) {
         Map<String, Object> results = new HashMap<>();
         results.put("payload", payload);
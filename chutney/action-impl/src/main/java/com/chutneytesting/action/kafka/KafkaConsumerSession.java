@@ -0,0 +1,195 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.kafka;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+import org.apache.kafka.common.errors.WakeupException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Long-lived consumer of one topic, shared by consecutive consume actions.
+ * <ul>
+ *     <li>All topic's partitions are assigned to the consumer, so there is no group join nor rebalance</li>
+ *     <li>A dedicated thread polls records into a bounded prefetch buffer, actions read from this buffer</li>
+ *     <li>Offsets of records read by actions are committed for the consumer group</li>
+ * </ul>
+ */
+class KafkaConsumerSession implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaConsumerSession.class);
+
+    static final int BUFFER_CAPACITY = 1000;
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+    private static final long CLOSE_TIMEOUT_MS = 5000;
+
+    private final Consumer<String, String> consumer;
+    private final String topic;
+    private final boolean resetOffset;
+    private final BlockingQueue<ConsumerRecord<String, String>> buffer;
+    private final Map<TopicPartition, OffsetAndMetadata> offsetsToCommit = new ConcurrentHashMap<>();
+    private final ReentrantLock readLock = new ReentrantLock();
+    private final Thread pollingThread;
+    private volatile boolean closed = false;
+    private volatile RuntimeException failure;
+
+    KafkaConsumerSession(Consumer<String, String> consumer, String topic, boolean resetOffset, int bufferCapacity) {
+        this.consumer = consumer;
+        this.topic = topic;
+        this.resetOffset = resetOffset;
+        this.buffer = new LinkedBlockingQueue<>(bufferCapacity);
+        this.pollingThread = new Thread(this::pollLoop, "kafka-consumer-session-" + topic);
+        this.pollingThread.setDaemon(true);
+        this.pollingThread.start();
+    }
+
+    /**
+     * Read buffered records in order, giving each one to the handler, until the handler returns true or the timeout is reached.<br>
+     * Records read are consumed, whether the handler keeps them or not.
+     *
+     * @return true if the handler stopped the reading, false on timeout
+     */
+    boolean read(Predicate<ConsumerRecord<String, String>> handler, long timeoutMs) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        if (!readLock.tryLock(timeoutMs, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        try {
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                checkAlive();
+                ConsumerRecord<String, String> record = buffer.poll(Math.min(remaining, POLL_TIMEOUT.toNanos()), TimeUnit.NANOSECONDS);
+                if (record != null) {
+                    offsetsToCommit.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                    if (handler.test(record)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        consumer.wakeup();
+        pollingThread.interrupt();
+        try {
+            pollingThread.join(CLOSE_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkAlive() {
+        if (failure != null) {
+            throw failure;
+        }
+        if (closed) {
+            throw new IllegalStateException("Consumer session of topic " + topic + " is closed");
+        }
+    }
+
+    private void pollLoop() {
+        try {
+            while (!closed) {
+                if (consumer.assignment().isEmpty() && !assignPartitions()) {
+                    Thread.sleep(POLL_TIMEOUT.toMillis());
+                    continue;
+                }
+                commitOffsets(false);
+                for (ConsumerRecord<String, String> record : consumer.poll(POLL_TIMEOUT)) {
+                    buffer.put(record);
+                }
+            }
+        } catch (WakeupException | InterruptException | InterruptedException e) {
+            // Session is closing
+        } catch (RuntimeException e) {
+            LOGGER.warn("Consumer session of topic {} failed", topic, e);
+            failure = e;
+        } finally {
+            closed = true;
+            closeConsumer();
+        }
+    }
+
+    private boolean assignPartitions() {
+        List<PartitionInfo> partitionsInfo = consumer.partitionsFor(topic);
+        if (partitionsInfo == null || partitionsInfo.isEmpty()) {
+            return false;
+        }
+        List<TopicPartition> partitions = partitionsInfo.stream()
+            .map(info -> new TopicPartition(info.topic(), info.partition()))
+            .toList();
+        consumer.assign(partitions);
+        if (resetOffset) {
+            consumer.seekToBeginning(partitions);
+        }
+        // Resolve positions now, so records published from now on are not missed with latest offset reset
+        partitions.forEach(consumer::position);
+        return true;
+    }
+
+    private void commitOffsets(boolean sync) {
+        if (offsetsToCommit.isEmpty()) {
+            return;
+        }
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>(offsetsToCommit);
+        if (sync) {
+            consumer.commitSync(offsets);
+        } else {
+            consumer.commitAsync(offsets, (committed, e) -> {
+                if (e != null) {
+                    LOGGER.warn("Cannot commit offsets {} of topic {}", committed, topic, e);
+                }
+            });
+        }
+        offsets.forEach(offsetsToCommit::remove);
+    }
+
+    private void closeConsumer() {
+        Thread.interrupted(); // Clear interruption, so last offsets can be committed
+        try {
+            try {
+                commitOffsets(true);
+            } catch (WakeupException e) {
+                // Wakeup of closing was not consumed by polling
+                commitOffsets(true);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot commit offsets of topic {} on close", topic, e);
+        }
+        try {
+            consumer.close();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot close consumer of topic {}", topic, e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.kafka;
+
+import static java.util.Collections.unmodifiableMap;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
+
+import com.chutneytesting.action.common.ResourceCache;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
+import org.springframework.kafka.core.ConsumerFactory;
+
+/**
+ * Consumer sessions are shared by all consume actions using the same consumer configuration and topic.
+ */
+final class KafkaConsumerSessions {
+
+    private static final int MAX_CACHED_SESSIONS = 50;
+    private static final Duration SESSION_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final Supplier<ResourceCache<SessionKey, KafkaConsumerSession>> SESSIONS = ResourceCache.lazy("kafka-consumer-session", MAX_CACHED_SESSIONS, SESSION_IDLE_TIMEOUT, KafkaConsumerSession::close);
+
+    /**
+     * @param resetOffset when true, a new session is started, reading topic from the beginning
+     * @return a lease of the session, to close once reading is done
+     */
+    ResourceCache.Lease<KafkaConsumerSession> get(ConsumerFactory<String, String> consumerFactory, String topic, boolean resetOffset) {
+        SessionKey key = SessionKey.of(consumerFactory, topic);
+        if (resetOffset) {
+            SESSIONS.get().invalidate(key);
+        }
+        ResourceCache.Lease<KafkaConsumerSession> session = SESSIONS.get().acquire(key, () -> start(consumerFactory, topic, resetOffset));
+        if (session.value().isClosed()) {
+            SESSIONS.get().invalidate(key, session);
+            session.close();
+            session = SESSIONS.get().acquire(key, () -> start(consumerFactory, topic, resetOffset));
+        }
+        return session;
+    }
+
+    /**
+     * Evict given session, so next consumption starts a new one.
+     * It is closed once all its leases are released.
+     */
+    void invalidate(ConsumerFactory<String, String> consumerFactory, String topic, ResourceCache.Lease<KafkaConsumerSession> session) {
+        SESSIONS.get().invalidate(SessionKey.of(consumerFactory, topic), session);
+    }
+
+    private static KafkaConsumerSession start(ConsumerFactory<String, String> consumerFactory, String topic, boolean resetOffset) {
+        // Offsets of records read by actions are committed by the session
+        Properties overrides = new Properties();
+        overrides.put(ENABLE_AUTO_COMMIT_CONFIG, "false");
+        return new KafkaConsumerSession(
+            consumerFactory.createConsumer(null, null, null, overrides),
+            topic,
+            resetOffset,
+            KafkaConsumerSession.BUFFER_CAPACITY);
+    }
+
+    private record SessionKey(Map<String, Object> consumerConfig, String topic) {
+
+        private static SessionKey of(ConsumerFactory<String, String> consumerFactory, String topic) {
+            return new SessionKey(unmodifiableMap(new HashMap<>(consumerFactory.getConfigurationProperties())), topic);
+        }
+
+        @Override
+        public String toString() {
+            return consumerConfig.get(BOOTSTRAP_SERVERS_CONFIG) + "/" + topic + "/" + consumerConfig.get(GROUP_ID_CONFIG);
+        }
+    }
+}
@@ -7,6 +7,7 @@
 
 package com.chutneytesting.action.mongo;
 
+import com.chutneytesting.action.common.ResourceCache;
 import com.chutneytesting.action.common.SecurityUtils;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.tools.CloseableResource;
@@ -17,10 +18,21 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoDatabase;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.StringUtils;
 
+/**
+ * Mongo clients, and their connection pools, are shared by all actions using the same target configuration.
+ */
 public class DefaultMongoDatabaseFactory implements MongoDatabaseFactory {
 
+    private static final int MAX_CACHED_CLIENTS = 20;
+    private static final Duration CLIENT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private static final Supplier<ResourceCache<ClientKey, MongoClient>> CLIENTS = ResourceCache.lazy("mongo-client", MAX_CACHED_CLIENTS, CLIENT_IDLE_TIMEOUT, MongoClient::close);
+
     public CloseableResource<MongoDatabase> create(Target target) throws IllegalArgumentException {
         String databaseName = target.property("databaseName").orElse("");
         if (StringUtils.isEmpty(databaseName)) {
@@ -28,8 +40,13 @@ public class DefaultMongoDatabaseFactory implements MongoDatabaseFactory {
         }
 
         String connectionString = String.format("mongodb://%s:%d/", target.host(), target.port());
+        ClientKey key = new ClientKey(connectionString, databaseName, target.prefixedProperties(""));
+        ResourceCache.Lease<MongoClient> mongoClient = CLIENTS.get().acquire(key, () -> createClient(target, connectionString, databaseName));
+        // Client is shared, it is only released
+        return CloseableResource.build(mongoClient.value().getDatabase(databaseName), mongoClient::close);
+    }
 
-        final MongoClient mongoClient;
+    private static MongoClient createClient(Target target, String connectionString, String databaseName) {
         MongoClientSettings.Builder mongoClientSettings = MongoClientSettings.builder();
         target.keyStore().ifPresent(keystore ->
             mongoClientSettings.applyToSslSettings(builder -> {
@@ -51,8 +68,13 @@ public class DefaultMongoDatabaseFactory implements MongoDatabaseFactory {
                 MongoCredential.createCredential(user, databaseName, password.toCharArray())
             );
         }
-        mongoClient = MongoClients.create(mongoClientSettings.build());
-        return CloseableResource.build(mongoClient.getDatabase(databaseName), mongoClient::close);
+        return MongoClients.create(mongoClientSettings.build());
     }
 
+    private record ClientKey(String connectionString, String databaseName, Map<String, String> targetProperties) {
+        @Override
+        public String toString() {
+            return connectionString + databaseName;
+        }
+    }
 }
@@ -19,4 +19,9 @@ public class MongoActionValidatorsUtils {
         return targetValidation(target)
             .validate(t -> target.property("databaseName").orElse(null), StringUtils::isNotBlank, "Missing Target property 'databaseName'");
     }
+
+    public static Validator<Integer> batchSizeValidation(Integer batchSize) {
+        return Validator.of(batchSize)
+            .validate(bs -> bs == null || bs > 0, "batchSize should be positive");
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.mongo;
+
+import static com.chutneytesting.action.mongo.MongoActionValidatorsUtils.batchSizeValidation;
+import static com.chutneytesting.action.mongo.MongoActionValidatorsUtils.mongoTargetValidation;
+import static com.chutneytesting.action.spi.validation.ActionValidatorsUtils.notBlankStringValidation;
+import static com.chutneytesting.action.spi.validation.Validator.getErrorsFrom;
+import static java.util.Optional.ofNullable;
+
+import com.chutneytesting.action.spi.Action;
+import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.injectable.Input;
+import com.chutneytesting.action.spi.injectable.Logger;
+import com.chutneytesting.action.spi.injectable.Target;
+import com.chutneytesting.tools.CloseableResource;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.MongoDatabase;
+import java.util.Collections;
+import java.util.List;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+
+public class MongoAggregateAction implements Action {
+
+    private final MongoDatabaseFactory mongoDatabaseFactory = new DefaultMongoDatabaseFactory();
+    private final Target target;
+    private final Logger logger;
+    private final String collection;
+    private final String pipeline;
+    private final Integer limit;
+    private final Integer batchSize;
+    private final Boolean decode;
+
+    public MongoAggregateAction(Target target,
+                                Logger logger,
+                                @Input("collection") String collection,
+                                @Input("pipeline") String pipeline,
+                                @Input("limit") Integer limit,
+                                @Input("batchSize") Integer batchSize,
+                                @Input("decode") Boolean decode
+    ) {
+        this.target = target;
+        this.logger = logger;
+        this.collection = collection;
+        this.pipeline = pipeline;
+        this.limit = ofNullable(limit).orElse(20);
+        this.batchSize = batchSize;
+        this.decode = ofNullable(decode).orElse(false);
+    }
+
+    @Override
+    public List<String> validateInputs() {
+        return getErrorsFrom(
+            notBlankStringValidation(collection, "collection"),
+            notBlankStringValidation(pipeline, "pipeline"),
+            mongoTargetValidation(target),
+            batchSizeValidation(batchSize)
+        );
+    }
+
+    @Override
+    public ActionExecutionResult execute() {
+        try (CloseableResource<MongoDatabase> database = mongoDatabaseFactory.create(target)) {
+            AggregateIterable<Document> documents = database.getResource()
+                .getCollection(collection)
+                .aggregate(parsePipeline());
+            if (batchSize != null) {
+                documents = documents.batchSize(batchSize);
+            }
+
+            List<Object> documentList = MongoDocuments.read(documents, limit, decode);
+            logger.info("Found " + documentList.size() + " document(s)");
+            return ActionExecutionResult.ok(Collections.singletonMap("documents", documentList));
+        } catch (IllegalArgumentException e) {
+            logger.error(e.getMessage());
+            return ActionExecutionResult.ko();
+        }
+    }
+
+    private List<BsonDocument> parsePipeline() {
+        BsonArray stages = BsonArray.parse(pipeline);
+        return stages.stream().map(BsonValue::asDocument).toList();
+    }
+}
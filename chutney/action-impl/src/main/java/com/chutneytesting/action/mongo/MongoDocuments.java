@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.mongo;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoIterable;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.Document;
+
+/**
+ * Read documents of find or aggregate results, one cursor batch at a time.
+ */
+final class MongoDocuments {
+
+    private MongoDocuments() {
+    }
+
+    /**
+     * @param limit  maximum number of documents read, no limit when zero or negative
+     * @param decode when true, documents are returned as {@link Document} maps, else as json strings
+     */
+    static List<Object> read(MongoIterable<Document> documents, int limit, boolean decode) {
+        List<Object> result = new ArrayList<>();
+        try (MongoCursor<Document> cursor = documents.iterator()) {
+            while ((limit <= 0 || result.size() < limit) && cursor.hasNext()) {
+                Document document = cursor.next();
+                result.add(decode ? document : document.toJson());
+            }
+        }
+        return result;
+    }
+}
@@ -7,6 +7,7 @@
 
 package com.chutneytesting.action.mongo;
 
+import static com.chutneytesting.action.mongo.MongoActionValidatorsUtils.batchSizeValidation;
 import static com.chutneytesting.action.mongo.MongoActionValidatorsUtils.mongoTargetValidation;
 import static com.chutneytesting.action.spi.validation.ActionValidatorsUtils.notBlankStringValidation;
 import static com.chutneytesting.action.spi.validation.Validator.getErrorsFrom;
@@ -18,9 +19,8 @@ import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.tools.CloseableResource;
+import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoDatabase;
-import com.mongodb.client.MongoIterable;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.bson.BsonDocument;
@@ -34,18 +34,24 @@ public class MongoFindAction implements Action {
     private final String collection;
     private final String query;
     private final Integer limit;
+    private final Integer batchSize;
+    private final Boolean decode;
 
     public MongoFindAction(Target target,
                          Logger logger,
                          @Input("collection") String collection,
                          @Input("query") String query,
-                         @Input("limit") Integer limit
+                         @Input("limit") Integer limit,
+                         @Input("batchSize") Integer batchSize,
+                         @Input("decode") Boolean decode
     ) {
         this.target = target;
         this.logger = logger;
         this.collection = collection;
         this.query = query;
         this.limit = ofNullable(limit).orElse(20);
+        this.batchSize = batchSize;
+        this.decode = ofNullable(decode).orElse(false);
     }
 
     @Override
@@ -53,21 +59,23 @@ public class MongoFindAction implements Action {
         return getErrorsFrom(
             notBlankStringValidation(collection, "collection"),
             notBlankStringValidation(query, "query"),
-            mongoTargetValidation(target)
+            mongoTargetValidation(target),
+            batchSizeValidation(batchSize)
         );
     }
 
     @Override
     public ActionExecutionResult execute() {
         try (CloseableResource<MongoDatabase> database = mongoDatabaseFactory.create(target)) {
-            MongoIterable<String> documents = database.getResource()
+            FindIterable<Document> documents = database.getResource()
                 .getCollection(collection)
                 .find(BsonDocument.parse(query))
-                .limit(limit)
-                .map(Document::toJson);
+                .limit(limit);
+            if (batchSize != null) {
+                documents = documents.batchSize(batchSize);
+            }
 
-            var documentList = new ArrayList<String>();
-            documents.iterator().forEachRemaining(documentList::add);
+            List<Object> documentList = MongoDocuments.read(documents, limit, decode);
             logger.info("Found " + documentList.size() + " document(s)");
             return ActionExecutionResult.ok(Collections.singletonMap("documents", documentList));
         } catch (IllegalArgumentException e) {
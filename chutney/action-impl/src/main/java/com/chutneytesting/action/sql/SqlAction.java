@@ -15,7 +15,9 @@ import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.FinallyAction;
 import com.chutneytesting.action.spi.injectable.ActionsConfiguration;
+import com.chutneytesting.action.spi.injectable.FinallyActionRegistry;
 import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
@@ -28,6 +30,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.commons.lang3.StringUtils;
 
@@ -40,13 +43,16 @@ public class SqlAction implements Action {
     private final Logger logger;
     private final List<String> statements;
     private final Integer nbLoggedRow;
+    private final FinallyActionRegistry finallyActionRegistry;
 
-    private final DefaultSqlClientFactory clientFactory = new DefaultSqlClientFactory();
+    private final DefaultSqlClientFactory clientFactory;
 
-    public SqlAction(Target target, Logger logger, ActionsConfiguration configuration, @Input("statements") List<String> statements, @Input("nbLoggedRow") Integer nbLoggedRow) {
+    public SqlAction(Target target, Logger logger, ActionsConfiguration configuration, FinallyActionRegistry finallyActionRegistry, @Input("statements") List<String> statements, @Input("nbLoggedRow") Integer nbLoggedRow) {
         this.target = target;
         this.logger = logger;
+        this.finallyActionRegistry = finallyActionRegistry;
         this.statements = statements;
+        this.clientFactory = new DefaultSqlClientFactory(configuration);
         this.nbLoggedRow = ofNullable(nbLoggedRow)
             .orElse(configuration.getInteger(CONFIGURABLE_NB_LOGGED_ROW, DEFAULT_NB_LOGGED_ROW));
     }
@@ -64,16 +70,19 @@ public class SqlAction implements Action {
 
     @Override
     public ActionExecutionResult execute() {
-        SqlClient sqlClient = clientFactory.create(target);
-        try {
-            var records = new ArrayList<Records>();
-            Map<String, Object> outputs = new HashMap<>();
-            AtomicBoolean failure = new AtomicBoolean(false);
+        var records = new ArrayList<Records>();
+        Map<String, Object> outputs = new HashMap<>();
+        AtomicBoolean failure = new AtomicBoolean(false);
+        try (SqlClient sqlClient = clientFactory.create(target)) {
             statements.forEach(statement -> {
                 try {
                     Records result = sqlClient.execute(statement);
                     records.add(result);
                     logger.info(result.printable(nbLoggedRow));
+                    if (result.truncated()) {
+                        logger.info(result.count() + " rows kept out of " + result.totalRows +
+                            ofNullable(result.overflowFile).map(f -> ", others written to " + f).orElse(""));
+                    }
                 } catch (SQLException e) {
                     logger.error(e.getMessage() + " for " + statement + "; Vendor error code: " + e.getErrorCode());
                     records.add(sqlClient.emptyRecords());
@@ -84,21 +93,31 @@ public class SqlAction implements Action {
                     failure.set(true);
                 }
             });
+        }
+        registerOverflowFilesDeletion(records);
+
+        if (statements.size() == 1) {
+            outputs.put("affectedRows", records.get(0).affectedRows);
+            outputs.put("rows", records.get(0).rows()); // All rows result from the first statement only
+            outputs.put("firstRow", records.get(0).rows().get(0)); // First row of the first statement
+            outputs.put("recordResult", records); // List of all results from each statement // TODO - remove after user migration
+        } else {
+            outputs.put("recordResult", records); // List of all results from each statement
+        }
 
-            if (statements.size() == 1) {
-                outputs.put("affectedRows", records.get(0).affectedRows);
-                outputs.put("rows", records.get(0).rows()); // All rows result from the first statement only
-                outputs.put("firstRow", records.get(0).rows().get(0)); // First row of the first statement
-                outputs.put("recordResult", records); // List of all results from each statement // TODO - remove after user migration
-            } else {
-                outputs.put("recordResult", records); // List of all results from each statement
-            }
+        return failure.get() ? ActionExecutionResult.ko(outputs) : ActionExecutionResult.ok(outputs);
+    }
 
-            return failure.get() ? ActionExecutionResult.ko(outputs) : ActionExecutionResult.ok(outputs);
-        } finally {
-            if (sqlClient != null) {
-                sqlClient.closeDatasource();
-            }
+    private void registerOverflowFilesDeletion(List<Records> records) {
+        List<String> overflowFiles = records.stream()
+            .map(r -> r.overflowFile)
+            .filter(Objects::nonNull)
+            .toList();
+        if (!overflowFiles.isEmpty()) {
+            finallyActionRegistry.registerFinallyAction(FinallyAction.Builder
+                .forAction("sql-delete-overflow-files", SqlAction.class)
+                .withInput("files", overflowFiles)
+                .build());
         }
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.sql;
+
+import static com.chutneytesting.action.spi.validation.ActionValidatorsUtils.notEmptyListValidation;
+import static com.chutneytesting.action.spi.validation.Validator.getErrorsFrom;
+
+import com.chutneytesting.action.spi.Action;
+import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.injectable.Input;
+import com.chutneytesting.action.spi.injectable.Logger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Delete temporary files receiving rows beyond the rows limit of a {@link SqlAction}.<br>
+ * Registered as a finally action, so they can be read by following steps.
+ */
+public class SqlDeleteOverflowFilesAction implements Action {
+
+    private final Logger logger;
+    private final List<String> files;
+
+    public SqlDeleteOverflowFilesAction(Logger logger, @Input("files") List<String> files) {
+        this.logger = logger;
+        this.files = files;
+    }
+
+    @Override
+    public List<String> validateInputs() {
+        return getErrorsFrom(
+            notEmptyListValidation(files, "files")
+        );
+    }
+
+    @Override
+    public ActionExecutionResult execute() {
+        boolean failure = false;
+        for (String file : files) {
+            try {
+                if (Files.deleteIfExists(Path.of(file))) {
+                    logger.info("Deleted sql overflow file " + file);
+                }
+            } catch (IOException e) {
+                logger.error("Cannot delete sql overflow file " + file + ": " + e.getMessage());
+                failure = true;
+            }
+        }
+        return failure ? ActionExecutionResult.ko() : ActionExecutionResult.ok();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.sql.core;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Column oriented storage of a query result.
+ * <p>
+ * Integer, long and double columns are kept in primitive arrays, other ones in object arrays.
+ * {@link Row} and {@link Cell} instances are only created when rows are read.
+ */
+class ColumnarTable {
+
+    private final List<Column> columns;
+    private final ColumnValues[] values;
+    private int size = 0;
+
+    ColumnarTable(List<Column> columns) {
+        this.columns = columns;
+        this.values = new ColumnValues[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new ColumnValues();
+        }
+    }
+
+    void add(Object[] row) {
+        for (int i = 0; i < values.length; i++) {
+            values[i].add(row[i]);
+        }
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Object get(int rowIndex, int columnIndex) {
+        return values[columnIndex].get(rowIndex);
+    }
+
+    Row row(int rowIndex) {
+        final List<Cell> cells = new ArrayList<>(columns.size());
+        for (int i = 0; i < values.length; i++) {
+            cells.add(new Cell(columns.get(i), get(rowIndex, i)));
+        }
+        return new Row(cells);
+    }
+
+    List<Row> rows() {
+        return new AbstractList<>() {
+            @Override
+            public Row get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+                return row(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static class ColumnValues {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private enum Kind {EMPTY, INT, LONG, DOUBLE, OBJECT}
+
+        private Kind kind = Kind.EMPTY;
+        private int[] ints;
+        private long[] longs;
+        private double[] doubles;
+        private Object[] objects;
+        private int size = 0;
+
+        private void add(Object value) {
+            Kind valueKind = kindOf(value);
+            if (kind == Kind.EMPTY) {
+                allocate(valueKind, INITIAL_CAPACITY);
+            } else if (kind != Kind.OBJECT && kind != valueKind) {
+                toObjects();
+            }
+            ensureCapacity();
+            switch (kind) {
+                case INT -> ints[size] = (Integer) value;
+                case LONG -> longs[size] = (Long) value;
+                case DOUBLE -> doubles[size] = (Double) value;
+                default -> objects[size] = value;
+            }
+            size++;
+        }
+
+        private Object get(int index) {
+            return switch (kind) {
+                case INT -> ints[index];
+                case LONG -> longs[index];
+                case DOUBLE -> doubles[index];
+                default -> objects[index];
+            };
+        }
+
+        private static Kind kindOf(Object value) {
+            if (value instanceof Integer) {
+                return Kind.INT;
+            }
+            if (value instanceof Long) {
+                return Kind.LONG;
+            }
+            if (value instanceof Double) {
+                return Kind.DOUBLE;
+            }
+            return Kind.OBJECT;
+        }
+
+        private void allocate(Kind newKind, int capacity) {
+            kind = newKind;
+            switch (kind) {
+                case INT -> ints = new int[capacity];
+                case LONG -> longs = new long[capacity];
+                case DOUBLE -> doubles = new double[capacity];
+                default -> objects = new Object[capacity];
+            }
+        }
+
+        private void toObjects() {
+            final Object[] boxed = new Object[capacity()];
+            for (int i = 0; i < size; i++) {
+                boxed[i] = get(i);
+            }
+            ints = null;
+            longs = null;
+            doubles = null;
+            objects = boxed;
+            kind = Kind.OBJECT;
+        }
+
+        private int capacity() {
+            return switch (kind) {
+                case INT -> ints.length;
+                case LONG -> longs.length;
+                case DOUBLE -> doubles.length;
+                default -> objects.length;
+            };
+        }
+
+        private void ensureCapacity() {
+            if (size < capacity()) {
+                return;
+            }
+            int newCapacity = capacity() + (capacity() >> 1) + 1;
+            switch (kind) {
+                case INT -> ints = Arrays.copyOf(ints, newCapacity);
+                case LONG -> longs = Arrays.copyOf(longs, newCapacity);
+                case DOUBLE -> doubles = Arrays.copyOf(doubles, newCapacity);
+                default -> objects = Arrays.copyOf(objects, newCapacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.sql.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * CSV temporary file receiving rows of a query result beyond its rows limit.
+ * It is deleted at the end of the scenario execution, see {@link com.chutneytesting.action.sql.SqlDeleteOverflowFilesAction},
+ * or when the JVM exits if the scenario execution never ends.
+ */
+class OverflowFile implements AutoCloseable {
+
+    private final Path path;
+    private final BufferedWriter writer;
+
+    private OverflowFile(Path path) throws IOException {
+        this.path = path;
+        this.writer = Files.newBufferedWriter(path, UTF_8);
+    }
+
+    static OverflowFile create(List<Column> columns) {
+        try {
+            Path path = Files.createTempFile("chutney-sql-", ".csv");
+            path.toFile().deleteOnExit();
+            OverflowFile overflowFile = new OverflowFile(path);
+            overflowFile.writeLine(columns.stream().map(Column::name).toArray());
+            return overflowFile;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create sql overflow file", e);
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    void write(Object[] row) {
+        try {
+            writeLine(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write to sql overflow file " + path, e);
+        }
+    }
+
+    /**
+     * Close and delete file, when the query fails after rows have been written to it.
+     */
+    void discard() {
+        try {
+            close();
+        } finally {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                // Deleted on exit anyway
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close sql overflow file " + path, e);
+        }
+    }
+
+    private void writeLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(String.valueOf(values[i])));
+        }
+        writer.newLine();
+    }
+
+    private static String escape(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -9,6 +9,8 @@ package com.chutneytesting.action.sql.core;
 
 import static java.util.stream.Collectors.toList;
 
+import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -24,13 +26,49 @@ public class Records {
     public final List<Column> columns;
     public final List<Row> records; // TODO - rename to 'rows' after removing currently deprecated 'rows'
 
+    /**
+     * Number of rows returned by the query, including the ones not kept in {@link #records} when rows are limited.
+     */
+    public final long totalRows;
+    /**
+     * Temporary CSV file holding rows not kept in {@link #records}, null when they were only counted.
+     */
+    public final String overflowFile;
+
     public Records(int affectedRows, List<Column> columns, List<Row> records) {
+        this(affectedRows, columns, records, records.size(), null);
+    }
+
+    Records(int affectedRows, List<Column> columns, ColumnarTable table, long totalRows, Path overflowFile) {
+        this(affectedRows, columns, table.rows(), totalRows, overflowFile == null ? null : overflowFile.toString());
+    }
+
+    private Records(int affectedRows, List<Column> columns, List<Row> records, long totalRows, String overflowFile) {
         this.affectedRows = affectedRows;
         this.columns = columns;
         this.records = records;
+        this.totalRows = totalRows;
+        this.overflowFile = overflowFile;
 
         this.headers = this.columns.stream().map(Column::name).collect(toList());
-        this.rows = this.records.stream().map(r -> r.cells).map(l -> l.stream().map(c -> c.value).collect(toList())).collect(toList());
+        this.rows = new AbstractList<>() {
+            @Override
+            public List<Object> get(int index) {
+                return Records.this.records.get(index).cells.stream().map(c -> c.value).collect(toList());
+            }
+
+            @Override
+            public int size() {
+                return Records.this.records.size();
+            }
+        };
+    }
+
+    /**
+     * @return true when some rows returned by the query are not kept in {@link #records}
+     */
+    public boolean truncated() {
+        return totalRows > records.size();
     }
 
     List<String> getHeaders() {
@@ -174,6 +212,7 @@ public class Records {
         return "Records{" +
             "affectedRows=" + affectedRows +
             ", headers=" + headers +
+            ", totalRows=" + totalRows +
             ", records=" + records +
             '}';
     }
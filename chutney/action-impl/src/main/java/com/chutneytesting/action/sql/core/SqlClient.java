@@ -12,6 +12,7 @@ import static com.chutneytesting.tools.ChutneyMemoryInfo.maxMemory;
 import static com.chutneytesting.tools.ChutneyMemoryInfo.usedMemory;
 import static org.apache.commons.lang3.ClassUtils.isPrimitiveOrWrapper;
 
+import com.chutneytesting.action.common.ResourceCache;
 import com.chutneytesting.tools.NotEnoughMemoryException;
 import com.zaxxer.hikari.HikariDataSource;
 import java.math.BigDecimal;
@@ -30,26 +31,45 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
-public class SqlClient {
+/**
+ * Runs statements on a pool shared with other sql actions, see {@link SqlDataSourceRegistry}.
+ * Closing the client releases the pool, never closes it.
+ */
+public class SqlClient implements AutoCloseable {
+
+    public static final int NO_ROWS_LIMIT = 0;
 
-    private final HikariDataSource dataSource;
+    private final ResourceCache.Lease<HikariDataSource> dataSource;
     private final int maxFetchSize;
+    private final int maxRows;
+    private final boolean spillOverflow;
 
 
-    public SqlClient(HikariDataSource dataSource, int maxFetchSize) {
+    public SqlClient(ResourceCache.Lease<HikariDataSource> dataSource, int maxFetchSize) {
+        this(dataSource, maxFetchSize, NO_ROWS_LIMIT, false);
+    }
+
+    /**
+     * @param maxRows       number of rows kept in returned {@link Records}, following ones are only counted.
+     *                      {@link #NO_ROWS_LIMIT} keeps all rows, within memory and {@link NonOptimizedQueryException} limits
+     * @param spillOverflow write rows beyond maxRows to a temporary CSV file, see {@link Records#overflowFile}
+     */
+    public SqlClient(ResourceCache.Lease<HikariDataSource> dataSource, int maxFetchSize, int maxRows, boolean spillOverflow) {
         this.dataSource = dataSource;
         this.maxFetchSize = maxFetchSize;
+        this.maxRows = maxRows;
+        this.spillOverflow = spillOverflow;
     }
 
     public Records execute(String query) throws SQLException {
         final Records records;
         Connection connection = null;
         try {
-            connection = dataSource.getConnection();
+            connection = dataSource.value().getConnection();
             try (final Statement statement = connection.createStatement()) {
                 statement.setFetchSize(maxFetchSize);
                 statement.execute(query);
-                records = StatementConverter.createRecords(statement);
+                records = new StatementConverter(maxRows, spillOverflow).createRecords(statement);
             }
         } finally {
             silentClose(connection);
@@ -58,8 +78,9 @@ public class SqlClient {
         return records;
     }
 
-    public void closeDatasource() {
-        this.dataSource.close();
+    @Override
+    public void close() {
+        dataSource.close();
     }
 
     public Records emptyRecords() {
@@ -78,21 +99,29 @@ public class SqlClient {
 
     private static class StatementConverter {
 
-        private static Records createRecords(Statement statement) throws SQLException {
+        private static final int MAX_UNLIMITED_ROWS = 100000;
+
+        private final int maxRows;
+        private final boolean spillOverflow;
+
+        private StatementConverter(int maxRows, boolean spillOverflow) {
+            this.maxRows = maxRows;
+            this.spillOverflow = spillOverflow;
+        }
+
+        private Records createRecords(Statement statement) throws SQLException {
             final int affectedRows = statement.getUpdateCount();
-            List<Column> columns = Collections.emptyList();
-            List<Row> rows = Collections.emptyList();
 
             if (isSelectQuery(affectedRows)) {
                 try (final ResultSet rs = statement.getResultSet()) {
                     final ResultSetMetaData md = rs.getMetaData();
 
-                    columns = createHeaders(md, md.getColumnCount());
-                    rows = createRows(rs, columns, md.getColumnCount());
+                    List<Column> columns = createHeaders(md, md.getColumnCount());
+                    return createRows(affectedRows, rs, columns, md.getColumnCount());
                 }
             }
 
-            return new Records(affectedRows, columns, rows);
+            return new Records(affectedRows, Collections.emptyList(), Collections.emptyList());
         }
 
         private static boolean isSelectQuery(int affectedRows) {
@@ -108,26 +137,55 @@ public class SqlClient {
             return headers;
         }
 
-        private static List<Row> createRows(ResultSet rs, List<Column> columns, int columnCount) throws SQLException {
-            final var rows = new ArrayList<Row>();
-            int j = 0;
-            while (rs.next()) {
-                if (j++ > 100000) {
-                    throw new NonOptimizedQueryException();
+        private Records createRows(int affectedRows, ResultSet rs, List<Column> columns, int columnCount) throws SQLException {
+            final ColumnarTable table = new ColumnarTable(columns);
+            final Object[] values = new Object[columnCount];
+            long totalRows = 0;
+            OverflowFile overflowFile = null;
+            boolean fetched = false;
+            try {
+                while (rs.next()) {
+                    totalRows++;
+                    boolean kept = maxRows <= NO_ROWS_LIMIT || table.size() < maxRows;
+                    if (!kept && !spillOverflow) {
+                        continue;
+                    }
+
+                    for (int i = 1; i <= columnCount; i++) {
+                        values[i - 1] = boxed(rs, i);
+                    }
+
+                    if (kept) {
+                        checkFetchedRows(table.size());
+                        table.add(values);
+                    } else {
+                        if (overflowFile == null) {
+                            overflowFile = OverflowFile.create(columns);
+                        }
+                        overflowFile.write(values);
+                    }
                 }
-
-                if (!hasEnoughAvailableMemory()) {
-                    throw new NotEnoughMemoryException(usedMemory(), maxMemory(), "Query fetched " + rows.size() + " rows");
+                fetched = true;
+            } finally {
+                if (overflowFile != null) {
+                    if (fetched) {
+                        overflowFile.close();
+                    } else {
+                        overflowFile.discard();
+                    }
                 }
+            }
+            return new Records(affectedRows, columns, table, totalRows, overflowFile == null ? null : overflowFile.path());
+        }
 
-                final List<Cell> cells = new ArrayList<>(columnCount);
-                int columnIndex = 0;
-                for (int i = 1; i <= columnCount; i++) {
-                    cells.add(new Cell(columns.get(columnIndex++), boxed(rs, i)));
-                }
-                rows.add(new Row(cells));
+        private void checkFetchedRows(int fetchedRows) {
+            // A rows limit bounds the number of rows, not their size
+            if (maxRows <= NO_ROWS_LIMIT && fetchedRows > MAX_UNLIMITED_ROWS) {
+                throw new NonOptimizedQueryException();
+            }
+            if (!hasEnoughAvailableMemory()) {
+                throw new NotEnoughMemoryException(usedMemory(), maxMemory(), "Query fetched " + fetchedRows + " rows");
             }
-            return rows;
         }
 
         private static Object boxed(ResultSet rs, int i) throws SQLException {
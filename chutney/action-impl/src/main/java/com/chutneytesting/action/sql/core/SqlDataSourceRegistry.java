@@ -0,0 +1,138 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.sql.core;
+
+import com.chutneytesting.action.common.ResourceCache;
+import com.chutneytesting.action.spi.SharedResources;
+import com.chutneytesting.action.spi.injectable.ActionsConfiguration;
+import com.chutneytesting.action.spi.injectable.Target;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Connection pools shared by sql actions, one per jdbcUrl, user, password and dataSource properties.
+ */
+public class SqlDataSourceRegistry implements AutoCloseable {
+
+    public static final String CONFIGURABLE_POOL_MAX_SIZE = "chutney.actions.sql.pool.maximum-size";
+    public static final String CONFIGURABLE_POOL_MIN_IDLE = "chutney.actions.sql.pool.minimum-idle";
+    public static final String CONFIGURABLE_POOL_IDLE_TIMEOUT = "chutney.actions.sql.pool.idle-timeout";
+    public static final String CONFIGURABLE_MAX_POOLS = "chutney.actions.sql.pool.max-pools";
+    public static final String CONFIGURABLE_POOL_EVICTION_TIMEOUT = "chutney.actions.sql.pool.eviction-timeout";
+
+    private static final Integer DEFAULT_POOL_MAX_SIZE = 5;
+    private static final Integer DEFAULT_POOL_MIN_IDLE = 0;
+    private static final Integer DEFAULT_POOL_IDLE_TIMEOUT_SECONDS = 60;
+    private static final Integer DEFAULT_MAX_POOLS = 20;
+    private static final Integer DEFAULT_POOL_EVICTION_TIMEOUT_SECONDS = 600;
+
+    private static final SharedResources.Lazy<SqlDataSourceRegistry> SHARED = SharedResources.lazy(registry -> registry.dataSources.isClosed());
+
+    /**
+     * @return registry shared by all sql actions, with defaults when it is first used here
+     */
+    public static SqlDataSourceRegistry shared() {
+        return shared(new DefaultsConfiguration());
+    }
+
+    /**
+     * @return registry shared by all sql actions, configured at its first use
+     */
+    public static SqlDataSourceRegistry shared(ActionsConfiguration configuration) {
+        return SHARED.get(() -> new SqlDataSourceRegistry(configuration));
+    }
+
+    private final int poolMaxSize;
+    private final int poolMinIdle;
+    private final Duration poolIdleTimeout;
+    private final ResourceCache<DataSourceKey, HikariDataSource> dataSources;
+
+    public SqlDataSourceRegistry(ActionsConfiguration configuration) {
+        this.poolMaxSize = configuration.getInteger(CONFIGURABLE_POOL_MAX_SIZE, DEFAULT_POOL_MAX_SIZE);
+        this.poolMinIdle = configuration.getInteger(CONFIGURABLE_POOL_MIN_IDLE, DEFAULT_POOL_MIN_IDLE);
+        this.poolIdleTimeout = Duration.ofSeconds(configuration.getInteger(CONFIGURABLE_POOL_IDLE_TIMEOUT, DEFAULT_POOL_IDLE_TIMEOUT_SECONDS));
+        this.dataSources = new ResourceCache<>(
+            "sql",
+            configuration.getInteger(CONFIGURABLE_MAX_POOLS, DEFAULT_MAX_POOLS),
+            Duration.ofSeconds(configuration.getInteger(CONFIGURABLE_POOL_EVICTION_TIMEOUT, DEFAULT_POOL_EVICTION_TIMEOUT_SECONDS)),
+            HikariDataSource::close
+        );
+    }
+
+    /**
+     * @return a lease of the pool of given target, to close when its connections are not used anymore
+     */
+    public ResourceCache.Lease<HikariDataSource> dataSource(Target target) {
+        DataSourceKey key = new DataSourceKey(
+            target.property("jdbcUrl").orElse(target.uri().toString()),
+            target.user().orElse(null),
+            target.userPassword().orElse(null),
+            target.prefixedProperties("dataSource.")
+        );
+        return dataSources.acquire(key, () -> createDataSource(key));
+    }
+
+    public long size() {
+        return dataSources.size();
+    }
+
+    @Override
+    public void close() {
+        dataSources.close();
+    }
+
+    private HikariDataSource createDataSource(DataSourceKey key) {
+        Properties props = new Properties();
+        props.put("jdbcUrl", key.jdbcUrl());
+        if (key.user() != null) {
+            props.put("username", key.user());
+        }
+        if (key.password() != null) {
+            props.put("password", key.password());
+        }
+        props.putAll(key.properties());
+
+        final HikariConfig config = new HikariConfig(props);
+        config.setMaximumPoolSize(poolMaxSize);
+        config.setMinimumIdle(poolMinIdle);
+        config.setIdleTimeout(poolIdleTimeout.toMillis());
+        return new HikariDataSource(config);
+    }
+
+    private static class DefaultsConfiguration implements ActionsConfiguration {
+        @Override
+        public String getString(String key) {
+            return null;
+        }
+
+        @Override
+        public String getString(String key, String defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public Integer getInteger(String key) {
+            return null;
+        }
+
+        @Override
+        public Integer getInteger(String key, Integer defaultValue) {
+            return defaultValue;
+        }
+    }
+
+    private record DataSourceKey(String jdbcUrl, String user, String password, Map<String, String> properties) {
+        @Override
+        public String toString() {
+            return user + "@" + jdbcUrl;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.ssh;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Channels which can be opened at the same time over one shared connection.
+ * <p>
+ * Servers refuse channels beyond their own limit (OpenSSH MaxSessions is 10 by default),
+ * so actions wait for a channel of the shared connection to be closed instead.
+ */
+public final class ChannelPermits {
+
+    private final Connection connection;
+    private final Semaphore permits;
+
+    public ChannelPermits(Connection connection) {
+        this.connection = connection;
+        this.permits = new Semaphore(connection.maxSessions, true);
+    }
+
+    /**
+     * @throws IOException when no channel is available within given timeout
+     */
+    public void acquire(long timeoutMs) throws IOException {
+        try {
+            if (!permits.tryAcquire(timeoutMs, MILLISECONDS)) {
+                throw new IOException("No channel available on " + connection + " within " + timeoutMs + " ms, " + connection.maxSessions + " are already opened");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a channel on " + connection);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
@@ -11,10 +11,12 @@ package com.chutneytesting.action.ssh;
 import static org.junit.platform.commons.util.StringUtils.isNotBlank;
 
 import com.chutneytesting.action.spi.injectable.Target;
+import java.util.Objects;
 
 public class Connection {
 
     private static final String EMPTY = "";
+    private static final int DEFAULT_MAX_SESSIONS = 10;
 
     public final String serverHost;
     public final int serverPort;
@@ -22,14 +24,19 @@ public class Connection {
     public final String password;
     public final String privateKey;
     public final String passphrase;
+    /**
+     * Maximum number of channels opened at the same time over the connection, not part of its identity
+     */
+    public final int maxSessions;
 
-    private Connection(String serverHost, int serverPort, String username, String password, String privateKey, String passphrase) {
+    private Connection(String serverHost, int serverPort, String username, String password, String privateKey, String passphrase, int maxSessions) {
         this.serverHost = serverHost;
         this.serverPort = serverPort;
         this.username = username;
         this.password = password;
         this.privateKey = privateKey;
         this.passphrase = passphrase;
+        this.maxSessions = maxSessions;
     }
 
     public static Connection from(Target target) {
@@ -41,14 +48,38 @@ public class Connection {
         final String password = target.userPassword().orElse(EMPTY);
         final String privateKey = target.privateKey().orElse(EMPTY);
         final String passphrase = target.privateKeyPassword().orElse(EMPTY);
+        final int maxSessions = target.numericProperty("maxSessions").map(Number::intValue).filter(max -> max > 0).orElse(DEFAULT_MAX_SESSIONS);
 
-        return new Connection(host, port, username, password, privateKey, passphrase);
+        return new Connection(host, port, username, password, privateKey, passphrase, maxSessions);
     }
 
     public boolean usePrivateKey() {
         return isNotBlank(privateKey);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Connection that = (Connection) o;
+        return serverPort == that.serverPort
+            && serverHost.equals(that.serverHost)
+            && username.equals(that.username)
+            && password.equals(that.password)
+            && privateKey.equals(that.privateKey)
+            && passphrase.equals(that.passphrase);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(serverHost, serverPort, username, password, privateKey, passphrase);
+    }
+
+    @Override
+    public String toString() {
+        return username + "@" + serverHost + ":" + serverPort;
+    }
+
     private static void guardClause(Target target) {
         if (target.uri() == null) {
             throw new IllegalArgumentException("Target URL is undefined");
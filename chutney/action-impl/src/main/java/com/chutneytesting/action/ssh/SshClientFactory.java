@@ -9,10 +9,16 @@ package com.chutneytesting.action.ssh;
 
 import static java.util.Collections.singletonList;
 
+import com.chutneytesting.action.common.ResourceCache;
+import com.chutneytesting.action.spi.SharedResources;
 import com.chutneytesting.action.spi.injectable.Target;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import org.apache.sshd.client.SshClient;
 import org.apache.sshd.client.auth.UserAuthFactory;
 import org.apache.sshd.client.auth.password.UserAuthPasswordFactory;
@@ -21,25 +27,79 @@ import org.apache.sshd.client.future.ConnectFuture;
 import org.apache.sshd.client.session.ClientSession;
 import org.apache.sshd.common.config.keys.FilePasswordProvider;
 import org.apache.sshd.common.keyprovider.FileKeyPairProvider;
+import org.apache.sshd.core.CoreModuleProperties;
 
+/**
+ * Authenticated sessions are shared by all actions using the same target host and credentials.
+ * Each action opens its own channel over the shared session, and releases the session without closing it.
+ * At most target property {@code maxSessions} channels are opened at the same time over a session (10 by default).
+ * <p>
+ * Sessions are kept alive with heartbeats, and closed when not used for some time, or when the engine shuts down.
+ */
 public class SshClientFactory {
 
     public static String DEFAULT_TIMEOUT = "5 s";
 
-    public static ClientSession buildSSHClientSession(Target target, long timeout) throws IOException {
+    // Number of shared sessions, channels of each one are limited by target property maxSessions, see ChannelPermits
+    private static final int MAX_CACHED_SESSIONS = 20;
+    private static final Duration SESSION_IDLE_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(30);
+
+    private static final SharedResources.Lazy<SshClient> CLIENT = SharedResources.lazy(SshClient::isClosed);
+    private static final Supplier<ResourceCache<Connection, SharedSession>> SESSIONS = ResourceCache.lazy("ssh-session", MAX_CACHED_SESSIONS, SESSION_IDLE_TIMEOUT, shared -> shared.session().close(true));
+
+    /**
+     * @return a channel permit on the session shared by actions using the same target, to close once its channel is closed
+     */
+    public static SessionChannel buildSSHClientSession(Target target, long timeout) throws IOException {
         Connection connection = Connection.from(target);
-        SshClient defaultClient = createDefaultClient();
-        defaultClient.setUserAuthFactories(getAuthFactory(connection));
-        ClientSession session = getConnectedSession(defaultClient, connection);
+        ResourceCache.Lease<SharedSession> session = sharedSession(connection, timeout);
+        if (!session.value().session().isOpen() || !session.value().session().isAuthenticated()) {
+            // Closed by server or by network, since last use
+            SESSIONS.get().invalidate(connection, session);
+            session.close();
+            session = sharedSession(connection, timeout);
+        }
+        try {
+            session.value().channels().acquire(timeout);
+        } catch (IOException e) {
+            session.close();
+            throw e;
+        }
+        return new SessionChannel(session);
+    }
 
-        session.auth().verify(timeout);
-        return session;
+    private static ResourceCache.Lease<SharedSession> sharedSession(Connection connection, long timeout) throws IOException {
+        try {
+            return SESSIONS.get().acquire(connection, () -> {
+                try {
+                    return new SharedSession(createSession(connection, timeout), new ChannelPermits(connection));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static ClientSession createSession(Connection connection, long timeout) throws IOException {
+        ClientSession session = getConnectedSession(CLIENT.get(SshClientFactory::startClient), connection);
+        try {
+            session.setUserAuthFactories(getAuthFactory(connection));
+            session.auth().verify(timeout);
+            return session;
+        } catch (IOException | RuntimeException e) {
+            session.close(true);
+            throw e;
+        }
     }
 
-    private static SshClient createDefaultClient() {
-        SshClient defaultClient = SshClient.setUpDefaultClient();
-        defaultClient.start();
-        return defaultClient;
+    private static SshClient startClient() {
+        SshClient client = SshClient.setUpDefaultClient();
+        CoreModuleProperties.HEARTBEAT_INTERVAL.set(client, HEARTBEAT_INTERVAL);
+        client.start();
+        return SharedResources.register(client);
     }
 
     private static List<UserAuthFactory> getAuthFactory(Connection connection) {
@@ -65,4 +125,31 @@ public class SshClientFactory {
         return session;
     }
 
+    /**
+     * Right to open one channel over a shared session.
+     * Closing it, once the channel is closed, releases the session without closing it.
+     */
+    public static final class SessionChannel implements AutoCloseable {
+        private final ResourceCache.Lease<SharedSession> session;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private SessionChannel(ResourceCache.Lease<SharedSession> session) {
+            this.session = session;
+        }
+
+        public ClientSession session() {
+            return session.value().session();
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                session.value().channels().release();
+                session.close();
+            }
+        }
+    }
+
+    private record SharedSession(ClientSession session, ChannelPermits channels) {
+    }
 }
@@ -11,18 +11,16 @@ import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.action.ssh.SshClientFactory;
 import java.io.IOException;
 import java.util.Collections;
-import org.apache.sshd.client.session.ClientSession;
-import org.apache.sshd.scp.client.CloseableScpClient;
 import org.apache.sshd.scp.client.ScpClientCreator;
 
 public class ScpClientImpl implements ScpClient {
 
-    private final ClientSession session;
-    private final CloseableScpClient scpClient;
+    private final SshClientFactory.SessionChannel session;
+    private final org.apache.sshd.scp.client.ScpClient scpClient;
 
-    private ScpClientImpl(ClientSession session, CloseableScpClient scpClient) {
+    private ScpClientImpl(SshClientFactory.SessionChannel session) {
         this.session = session;
-        this.scpClient = scpClient;
+        this.scpClient = ScpClientCreator.instance().createScpClient(session.session());
     }
 
     @Override
@@ -35,22 +33,16 @@ public class ScpClientImpl implements ScpClient {
         scpClient.download(remote, local, Collections.emptyList());
     }
 
+    /**
+     * Each transfer uses its own channel, shared session is only released and kept open for next actions.
+     */
     @Override
-    public void close() throws Exception {
+    public void close() {
         session.close();
-        scpClient.close();
     }
 
     public static ScpClient buildFor(Target target, long timeout) throws IOException {
-        ClientSession session = SshClientFactory.buildSSHClientSession(target, timeout);
-        return new ScpClientImpl(session, closeableScpClient(session));
-    }
-
-    private static CloseableScpClient closeableScpClient(ClientSession session) {
-        ScpClientCreator creator = ScpClientCreator.instance();
-        return CloseableScpClient.singleSessionInstance(
-            creator.createScpClient(session)
-        );
+        return new ScpClientImpl(SshClientFactory.buildSSHClientSession(target, timeout));
     }
 
 }
@@ -35,10 +35,10 @@ import org.apache.sshd.sftp.client.impl.DefaultSftpClientFactory;
 
 public class SftpClientImpl implements ChutneySftpClient {
 
-    private final ClientSession session;
+    private final SshClientFactory.SessionChannel session;
     private final SftpClient sftpClient;
 
-    private SftpClientImpl(ClientSession session, SftpClient sftpClient) {
+    private SftpClientImpl(SshClientFactory.SessionChannel session, SftpClient sftpClient) {
         this.session = session;
         this.sftpClient = sftpClient;
     }
@@ -90,21 +90,31 @@ public class SftpClientImpl implements ChutneySftpClient {
         );
     }
 
+    /**
+     * Close sftp channel only, shared session is released and kept open for next actions.
+     */
     @Override
     public void close() throws Exception {
-        sftpClient.close();
-        session.close();
+        try {
+            sftpClient.close();
+        } finally {
+            session.close();
+        }
     }
 
     public static ChutneySftpClient buildFor(Target target, long timeout, Logger logger) throws IOException {
-        ClientSession session = SshClientFactory.buildSSHClientSession(target, timeout);
-        return new SftpClientImpl(session, buildSftpClient(session, logger));
+        SshClientFactory.SessionChannel session = SshClientFactory.buildSSHClientSession(target, timeout);
+        try {
+            return new SftpClientImpl(session, buildSftpClient(session.session(), logger));
+        } catch (IOException | RuntimeException e) {
+            session.close();
+            throw e;
+        }
     }
 
     private static SftpClient buildSftpClient(ClientSession session, Logger logger) throws IOException {
         SftpClientFactory factory = DefaultSftpClientFactory.INSTANCE;
-        SftpClient client = factory.createSftpClient(session, new ActionSftpErrorDataHandler(logger));
-        return client.singleSessionInstance();
+        return factory.createSftpClient(session, new ActionSftpErrorDataHandler(logger));
     }
 
     /*
@@ -11,26 +11,50 @@ import static java.util.Collections.emptyList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
+import com.chutneytesting.action.common.ResourceCache;
 import com.chutneytesting.action.spi.injectable.Logger;
+import com.chutneytesting.action.ssh.ChannelPermits;
 import com.chutneytesting.action.ssh.Connection;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.security.PublicKey;
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Supplier;
+import net.schmizz.keepalive.KeepAliveProvider;
+import net.schmizz.sshj.DefaultConfig;
 import net.schmizz.sshj.SSHClient;
 import net.schmizz.sshj.common.IOUtils;
 import net.schmizz.sshj.common.LoggerFactory;
+import net.schmizz.sshj.common.SSHException;
 import net.schmizz.sshj.common.StreamCopier;
+import net.schmizz.sshj.connection.channel.OpenFailException;
 import net.schmizz.sshj.connection.channel.direct.Session;
 import net.schmizz.sshj.transport.TransportException;
 import net.schmizz.sshj.transport.verification.HostKeyVerifier;
 import net.schmizz.sshj.userauth.UserAuthException;
 import net.schmizz.sshj.userauth.keyprovider.KeyProvider;
 
+/**
+ * Authenticated connections are shared by all clients using the same target host and credentials.
+ * Each command is executed on its own channel over the shared connection,
+ * with at most target property {@code maxSessions} channels opened at the same time (10 by default).
+ * <p>
+ * Connections are kept alive, and closed when not used for some time, or when the engine shuts down.
+ */
 public class SshJClient implements SshClient {
 
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(SshJClient.class);
+
+    private static final int MAX_CACHED_CONNECTIONS = 20;
+    private static final Duration CONNECTION_IDLE_TIMEOUT = Duration.ofMinutes(5);
+    private static final int KEEP_ALIVE_INTERVAL_SECONDS = 30;
+
+    private static final Supplier<ResourceCache<Connection, SharedClient>> CONNECTIONS = ResourceCache.lazy("ssh-connection", MAX_CACHED_CONNECTIONS, CONNECTION_IDLE_TIMEOUT, sshClient -> disconnect(sshClient.client()));
+
     private final Connection connection;
     private final Logger logger;
     private final boolean shell;
@@ -48,17 +72,103 @@ public class SshJClient implements SshClient {
 
     @Override
     public CommandResult execute(Command command) throws IOException {
-        SSHClient sshClient = new SSHClient();
-        connect(sshClient, connection);
+        logAuthentication();
+        long timeoutMs = command.timeout.toMilliseconds();
+        ResourceCache.Lease<SharedClient> sshClient = sharedClient();
         try {
-            authenticate(sshClient, connection);
-            return executeCommand(sshClient, command);
+            Session session = tryStartSession(sshClient.value(), timeoutMs);
+            if (session == null) {
+                // Closed by server or by network since last use, nothing was executed yet so try on a new connection
+                CONNECTIONS.get().invalidate(connection, sshClient);
+                sshClient.close();
+                sshClient = sharedClient();
+                try {
+                    session = startSession(sshClient.value(), timeoutMs);
+                } catch (IllegalStateException e) {
+                    throw new IOException("Cannot open channel on " + connection + ": " + e.getMessage(), e);
+                }
+            }
+            SharedClient sessionClient = sshClient.value();
+            try (Session commandSession = session) {
+                if (shell) {
+                    return shellCommand(command, commandSession);
+                } else {
+                    return execCommand(command, commandSession);
+                }
+            } finally {
+                sessionClient.channels().release();
+            }
         } finally {
-            sshClient.disconnect();
+            sshClient.close();
+        }
+    }
+
+    /**
+     * @return null when the shared connection is not usable anymore
+     */
+    private Session tryStartSession(SharedClient sshClient, long timeoutMs) throws IOException {
+        if (!sshClient.client().isConnected() || !sshClient.client().isAuthenticated()) {
+            return null;
+        }
+        try {
+            return startSession(sshClient, timeoutMs);
+        } catch (OpenFailException e) {
+            // Channel refused by server, the connection is still usable
+            throw e;
+        } catch (SSHException | IllegalStateException e) {
+            LOGGER.debug("Cannot open channel on shared connection {}", connection, e);
+            return null;
+        }
+    }
+
+    private Session startSession(SharedClient sshClient, long timeoutMs) throws IOException {
+        sshClient.channels().acquire(timeoutMs);
+        try {
+            return sshClient.client().startSession();
+        } catch (IOException | RuntimeException e) {
+            sshClient.channels().release();
+            throw e;
         }
     }
 
-    private void connect(SSHClient client, Connection connection) throws IOException {
+    private ResourceCache.Lease<SharedClient> sharedClient() throws IOException {
+        try {
+            return CONNECTIONS.get().acquire(connection, () -> {
+                try {
+                    return new SharedClient(connect(connection), new ChannelPermits(connection));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static SSHClient connect(Connection connection) throws IOException {
+        DefaultConfig config = new DefaultConfig();
+        config.setKeepAliveProvider(KeepAliveProvider.KEEP_ALIVE);
+        SSHClient client = new SSHClient(config);
+        client.getConnection().getKeepAlive().setKeepAliveInterval(KEEP_ALIVE_INTERVAL_SECONDS);
+        try {
+            connect(client, connection);
+            authenticate(client, connection);
+            return client;
+        } catch (IOException | RuntimeException e) {
+            disconnect(client);
+            throw e;
+        }
+    }
+
+    private static void disconnect(SSHClient client) {
+        try {
+            client.disconnect();
+        } catch (IOException e) {
+            LOGGER.warn("Cannot disconnect ssh client", e);
+        }
+    }
+
+    private static void connect(SSHClient client, Connection connection) throws IOException {
         client.addHostKeyVerifier(new HostKeyVerifier() {
             @Override
             public boolean verify(String hostname, int port, PublicKey key) {
@@ -73,35 +183,31 @@ public class SshJClient implements SshClient {
         client.connect(connection.serverHost, connection.serverPort);
     }
 
-    private void authenticate(SSHClient client, Connection connection) throws IOException {
+    private void logAuthentication() {
         if (isBlank(connection.privateKey)) {
             logger.info("Authentication via username/password as " + connection.username);
-            loginWithPassword(client, connection.username, connection.password);
         } else {
             logger.info("Authentication via private key as " + connection.username);
+        }
+    }
+
+    private static void authenticate(SSHClient client, Connection connection) throws IOException {
+        if (isBlank(connection.privateKey)) {
+            loginWithPassword(client, connection.username, connection.password);
+        } else {
             loginWithPrivateKey(client, connection.username, connection.privateKey, connection.passphrase);
         }
     }
 
-    private void loginWithPassword(SSHClient client, String username, String password) throws UserAuthException, TransportException {
+    private static void loginWithPassword(SSHClient client, String username, String password) throws UserAuthException, TransportException {
         client.authPassword(username, password);
     }
 
-    private void loginWithPrivateKey(SSHClient client, String username, String privateKey, String passphrase) throws IOException {
+    private static void loginWithPrivateKey(SSHClient client, String username, String privateKey, String passphrase) throws IOException {
         KeyProvider keyProvider = client.loadKeys(privateKey, passphrase);
         client.authPublickey(username, keyProvider);
     }
 
-    private CommandResult executeCommand(SSHClient sshClient, Command command) throws IOException {
-        try (Session session = sshClient.startSession()) {
-            if (shell) {
-                return shellCommand(command, session);
-            } else {
-                return execCommand(command, session);
-            }
-        }
-    }
-
     private CommandResult shellCommand(Command command, Session session) throws IOException {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         ByteArrayOutputStream err = new ByteArrayOutputStream();
@@ -153,4 +259,6 @@ public class SshJClient implements SshClient {
         return IOUtils.readFully(inputStream).toString().replaceAll("\r", "");
     }
 
+    private record SharedClient(SSHClient client, ChannelPermits channels) {
+    }
 }
@@ -10,6 +10,9 @@ package com.chutneytesting.action.amqp;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.chutneytesting.action.TestFinallyActionRegistry;
 import com.chutneytesting.action.TestLogger;
@@ -32,6 +35,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import org.apache.qpid.server.SystemLauncher;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -79,6 +83,52 @@ public class AmqpActionsTest {
         deleteQueue(mockConnectionFactory, logger, target, queueName);
     }
 
+    @Test
+    public void should_share_one_connection_between_actions_on_embedded_broker() throws Exception {
+        TestLogger logger = new TestLogger();
+        ActionExecutionResult qpidStart = new QpidServerStartAction(logger, new TestFinallyActionRegistry(), null).execute();
+        assertThat(qpidStart.status).isEqualTo(Status.Success);
+        SystemLauncher qpidServer = (SystemLauncher) qpidStart.outputs.get("qpidLauncher");
+        try {
+            ConnectionFactory connectionFactory = spy(new ConnectionFactory());
+            connectionFactory.setAutomaticRecoveryEnabled(false);
+            Target target = TestTarget.TestTargetBuilder.builder()
+                .withTargetId("qpid")
+                .withUrl("amqp://localhost:5672")
+                .withProperty("user", "guest")
+                .withProperty("password", "guest")
+                .build();
+
+            Action createQueue = mockConnectionFactory(new AmqpCreateBoundTemporaryQueueAction(
+                target, "amq.direct", "pooling", "pooling-queue", logger, new TestFinallyActionRegistry()
+            ), connectionFactory);
+            assertThat(createQueue.execute().status).isEqualTo(Status.Success);
+
+            List<Map<String, Object>> messages = List.of(
+                Map.of("payload", "first"),
+                Map.of("payload", "second", "headers", Map.of("header1", "value1")),
+                Map.of("payload", "third")
+            );
+            Action publish = mockConnectionFactory(new AmqpBasicPublishAction(
+                target, "amq.direct", "pooling", null, null, null, messages, null, logger
+            ), connectionFactory);
+            ActionExecutionResult publishResult = publish.execute();
+            assertThat(publishResult.status).isEqualTo(Status.Success);
+            assertThat((List<Object>) publishResult.outputs.get("payloads")).containsExactly("first", "second", "third");
+
+            for (String expectedBody : List.of("first", "second", "third")) {
+                Action get = mockConnectionFactory(new AmqpBasicGetAction(target, "pooling-queue", logger), connectionFactory);
+                ActionExecutionResult getResult = get.execute();
+                assertThat(getResult.status).isEqualTo(Status.Success);
+                assertThat(getResult.outputs.get("body")).isEqualTo(expectedBody);
+            }
+
+            verify(connectionFactory, times(1)).newConnection();
+        } finally {
+            qpidServer.shutdown();
+        }
+    }
+
     private void deleteQueue(MockConnectionFactory mockConnectionFactory, TestLogger logger, Target target, String queueName) {
         Action amqpDeleteQueueAction = mockConnectionFactory(new AmqpDeleteQueueAction(
             target,
@@ -157,6 +207,8 @@ public class AmqpActionsTest {
             Collections.singletonMap("header1", "value1"),
             Collections.singletonMap("content_type", "application/json"),
             "test message",
+            null,
+            null,
             logger
         ), mockConnectionFactory);
 
@@ -174,6 +226,8 @@ public class AmqpActionsTest {
             ImmutableMap.of("header1", value1, "header2", ImmutableList.of(value1, value2, value3)),
             Collections.singletonMap("content_type", "application/json"),
             "{\"value\": \"test message\", \"id\": \"999999\"}",
+            null,
+            null,
             logger
         ), mockConnectionFactory);
 
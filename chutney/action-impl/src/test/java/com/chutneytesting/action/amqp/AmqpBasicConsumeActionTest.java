@@ -91,6 +91,8 @@ public class AmqpBasicConsumeActionTest {
             ImmutableMap.of("maVersion", "1.0", "timestamp", "987456321"),
             Collections.singletonMap("content_type", "application/json"),
             "{\"value\": \"test message\", \"id\": \"7777\"}",
+            null,
+            null,
             logger1
         ), mockConnectionFactory);
         assertThat(publishFirstMessage.execute().status).isEqualTo(ActionExecutionResult.Status.Success);
@@ -103,6 +105,8 @@ public class AmqpBasicConsumeActionTest {
             ImmutableMap.of("maVersion", "2.0", "timestamp", "987456321"),
             Collections.singletonMap("content_type", "application/json"),
             "{\"value\": \"test message\", \"id\": \"1111\", \"item\": {\"id\": \"123\"}   }",
+            null,
+            null,
             logger1
         ), mockConnectionFactory);
         assertThat(publishSecondMessage.execute().status).isEqualTo(ActionExecutionResult.Status.Success);
@@ -114,6 +118,8 @@ public class AmqpBasicConsumeActionTest {
             ImmutableMap.of("maVersion", "10.0", "timestamp", "987456321"),
             Collections.singletonMap("content_type", "application/json"),
             "{\"value\": \"test message\", \"id\": \"1111\", \"item\": {\"id\": \"123\"}   }",
+            null,
+            null,
             logger1
         ), mockConnectionFactory);
         assertThat(publishThirdMessageOnSecondQueue.execute().status).isEqualTo(ActionExecutionResult.Status.Success);
@@ -337,9 +343,14 @@ public class AmqpBasicConsumeActionTest {
             }
         );
 
-        await().atMost(1, SECONDS).untilAsserted(() ->
-            assertThat(ConsumerSupervisor.getInstance().isLocked(secondQueueName)).isTrue()
+        // Consuming on second queue does not wait for first queue lock, which is held until its 1 s timeout
+        await().atMost(1, SECONDS).untilAsserted(() -> {
+                assertThat(result2.get()).isNotNull();
+                assertThat(result2.get().status).isEqualTo(Status.Success);
+                assertThat(ConsumerSupervisor.getInstance().isLocked(firstQueueName)).isTrue();
+            }
         );
+        assertThat(logger2.info).noneMatch(s -> s.contains("to acquire lock to consume queue"));
 
         await().atMost(5, SECONDS).untilAsserted(() -> {
                 assertThat(result1.get()).isNotNull();
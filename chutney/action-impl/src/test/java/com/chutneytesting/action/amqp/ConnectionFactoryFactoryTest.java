@@ -10,11 +10,15 @@ package com.chutneytesting.action.amqp;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.chutneytesting.action.TestTarget;
 import com.chutneytesting.action.spi.injectable.Target;
+import com.github.fridujo.rabbitmq.mock.MockConnectionFactory;
 import com.rabbitmq.client.Address;
+import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.ConnectionFactory;
 import java.net.URI;
 import org.junit.jupiter.api.Test;
@@ -79,4 +83,53 @@ class ConnectionFactoryFactoryTest {
         verify(connectionFactory).newConnection(createConnectionAdresses.capture());
         assertThat(createConnectionAdresses.getValue()).containsExactly(new Address("host", 888));
     }
+
+    @Test
+    void should_share_connection_and_reuse_channels_for_same_target() throws Exception {
+        // Given
+        ConnectionFactory connectionFactory = spy(new MockConnectionFactory());
+        Target target = TestTarget.TestTargetBuilder.builder()
+            .withTargetId("rabbit")
+            .withUrl("amqp://non_host:1234")
+            .build();
+
+        // When
+        Channel firstChannel;
+        try (PooledChannel pooledChannel = new ConnectionFactoryFactory(connectionFactory).borrowChannel(target)) {
+            firstChannel = pooledChannel.channel();
+        }
+        Channel secondChannel;
+        try (PooledChannel pooledChannel = new ConnectionFactoryFactory(connectionFactory).borrowChannel(target)) {
+            secondChannel = pooledChannel.channel();
+        }
+
+        // Then
+        verify(connectionFactory, times(1)).newConnection();
+        assertThat(secondChannel).isSameAs(firstChannel);
+    }
+
+    @Test
+    void should_not_reuse_closed_channels() throws Exception {
+        // Given
+        ConnectionFactoryFactory sut = new ConnectionFactoryFactory(new MockConnectionFactory());
+        Target target = TestTarget.TestTargetBuilder.builder()
+            .withTargetId("rabbit")
+            .withUrl("amqp://non_host:1234")
+            .build();
+
+        // When
+        Channel closedChannel;
+        try (PooledChannel pooledChannel = sut.borrowChannel(target)) {
+            closedChannel = pooledChannel.channel();
+            closedChannel.close();
+        }
+        Channel nextChannel;
+        try (PooledChannel pooledChannel = sut.borrowChannel(target)) {
+            nextChannel = pooledChannel.channel();
+        }
+
+        // Then
+        assertThat(nextChannel).isNotSameAs(closedChannel);
+        assertThat(nextChannel.isOpen()).isTrue();
+    }
 }
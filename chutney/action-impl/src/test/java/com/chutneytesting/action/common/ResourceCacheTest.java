@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ResourceCacheTest {
+
+    private final List<String> closed = new ArrayList<>();
+    private final AtomicInteger created = new AtomicInteger();
+    private final ResourceCache<String, String> sut = new ResourceCache<>("test", 1, Duration.ofMinutes(1), closed::add);
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    void should_share_resource_of_same_key() {
+        // When
+        ResourceCache.Lease<String> first = sut.acquire("key", this::create);
+        ResourceCache.Lease<String> second = sut.acquire("key", this::create);
+
+        // Then
+        assertThat(second.value()).isSameAs(first.value());
+        assertThat(created).hasValue(1);
+    }
+
+    @Test
+    void should_close_evicted_resource_only_when_all_leases_are_released() {
+        // Given
+        ResourceCache.Lease<String> first = sut.acquire("key", this::create);
+        ResourceCache.Lease<String> second = sut.acquire("key", this::create);
+
+        // When
+        sut.acquire("other", this::create).close();
+
+        // Then
+        assertThat(closed).isEmpty();
+        first.close();
+        first.close();
+        assertThat(closed).isEmpty();
+        second.close();
+        assertThat(closed).containsExactly("resource-1");
+    }
+
+    @Test
+    void should_close_released_resource_when_evicted() {
+        // Given
+        sut.acquire("key", this::create).close();
+        assertThat(closed).isEmpty();
+
+        // When
+        sut.invalidate("key");
+
+        // Then
+        assertThat(closed).containsExactly("resource-1");
+    }
+
+    @Test
+    void should_create_new_resource_after_invalidation_of_a_lease() {
+        // Given
+        ResourceCache.Lease<String> lease = sut.acquire("key", this::create);
+
+        // When
+        sut.invalidate("key", lease);
+        ResourceCache.Lease<String> newLease = sut.acquire("key", this::create);
+        sut.invalidate("key", lease);
+
+        // Then
+        assertThat(newLease.value()).isEqualTo("resource-2");
+        assertThat(sut.acquire("key", this::create).value()).isEqualTo("resource-2");
+        lease.close();
+        assertThat(closed).containsExactly("resource-1");
+    }
+
+    @Test
+    void should_create_lazy_cache_again_once_closed() {
+        // Given
+        Supplier<ResourceCache<String, String>> lazy = ResourceCache.lazy("test", 1, Duration.ofMinutes(1), closed::add);
+        ResourceCache<String, String> first = lazy.get();
+        first.acquire("key", this::create).close();
+
+        // When
+        ResourceCache<String, String> same = lazy.get();
+        first.close();
+        ResourceCache<String, String> recreated = lazy.get();
+
+        // Then
+        assertThat(same).isSameAs(first);
+        assertThat(recreated).isNotSameAs(first);
+        assertThat(recreated.isClosed()).isFalse();
+        assertThat(closed).containsExactly("resource-1");
+        recreated.close();
+    }
+
+    private String create() {
+        return "resource-" + created.incrementAndGet();
+    }
+}
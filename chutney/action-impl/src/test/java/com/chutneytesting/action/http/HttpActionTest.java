@@ -12,6 +12,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
 import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.patch;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.put;
@@ -21,10 +22,13 @@ import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMoc
 import static java.util.Collections.emptyMap;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.chutneytesting.action.TestActionsConfiguration;
 import com.chutneytesting.action.TestTarget;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
@@ -40,6 +44,7 @@ import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -50,6 +55,7 @@ import org.springframework.http.HttpHeaders;
 
 public class HttpActionTest {
 
+    private final TestActionsConfiguration configuration = new TestActionsConfiguration();
 
   private final WireMockServer wireMockServer = new WireMockServer(wireMockConfig()
         .dynamicPort()
@@ -98,7 +104,7 @@ public class HttpActionTest {
         .willReturn(aResponse().withStatus(200))
     );
     Logger logger = mock(Logger.class);
-    Action httpGetAction = new HttpGetAction(target, logger,  "/some/thing", null, "3000 ms");
+    Action httpGetAction = new HttpGetAction(target, logger, configuration,  "/some/thing", null, "3000 ms");
 
     // When
     ActionExecutionResult executionResult = httpGetAction.execute();
@@ -122,7 +128,7 @@ public class HttpActionTest {
         .willReturn(aResponse().withStatus(200))
     );
     Logger logger = mock(Logger.class);
-    Action httpGetAction = new HttpGetAction(target, logger,  "/some/thing", null, "3000 ms");
+    Action httpGetAction = new HttpGetAction(target, logger, configuration,  "/some/thing", null, "3000 ms");
 
     // When
     ActionExecutionResult executionResult = httpGetAction.execute();
@@ -149,7 +155,7 @@ public class HttpActionTest {
         Target targetMock = mockTarget("http://127.0.0.1:" + wireMockServer.port());
 
         // when
-        Action httpGetAction = new HttpGetAction(targetMock, logger, uri, null, "1000 ms");
+        Action httpGetAction = new HttpGetAction(targetMock, logger, configuration, uri, null, "1000 ms");
         ActionExecutionResult executionResult = httpGetAction.execute();
 
         // then
@@ -173,7 +179,7 @@ public class HttpActionTest {
         Target targetMock = mockTarget("http://127.0.0.1:" + wireMockServer.port());
 
         // when
-        Action httpPostAction = new HttpPostAction(targetMock, logger, uri, "some body", null, "1000 ms");
+        Action httpPostAction = new HttpPostAction(targetMock, logger, configuration, uri, "some body", null, "1000 ms");
         ActionExecutionResult executionResult = httpPostAction.execute();
 
         // then
@@ -196,7 +202,7 @@ public class HttpActionTest {
         Target targetMock = mockTarget("http://127.0.0.1:" + wireMockServer.port());
 
         // when
-        Action httpPostAction = new HttpPostAction(targetMock, logger, uri, null, null, "1000 ms");
+        Action httpPostAction = new HttpPostAction(targetMock, logger, configuration, uri, null, null, "1000 ms");
         ActionExecutionResult executionResult = httpPostAction.execute();
 
         // then
@@ -212,7 +218,7 @@ public class HttpActionTest {
         Target targetMock = mockTarget("http://nowhere.com:42");
 
         // when
-        Action httpDeleteAction = new HttpDeleteAction(targetMock, logger, "", null, "5 ms");
+        Action httpDeleteAction = new HttpDeleteAction(targetMock, logger, configuration, "", null, "5 ms");
         ActionExecutionResult executionResult = httpDeleteAction.execute();
 
         // then
@@ -232,7 +238,7 @@ public class HttpActionTest {
         Target targetMock = mockTarget("http://127.0.0.1:" + wireMockServer.port());
 
         // when
-        Action httpGetAction = new HttpGetAction(targetMock, logger, uri, null, "1000 ms");
+        Action httpGetAction = new HttpGetAction(targetMock, logger, configuration, uri, null, "1000 ms");
         ActionExecutionResult executionResult = httpGetAction.execute();
 
         // then
@@ -255,7 +261,7 @@ public class HttpActionTest {
         Map<String, String> headers = new HashMap<>();
         headers.put("CustomHeader", "toto");
 
-        Action httpPutAction = new HttpPutAction(targetMock, logger, uri, "somebody", headers, "1000 ms");
+        Action httpPutAction = new HttpPutAction(targetMock, logger, configuration, uri, "somebody", headers, "1000 ms");
         ActionExecutionResult executionResult = httpPutAction.execute();
 
         // then
@@ -279,7 +285,7 @@ public class HttpActionTest {
         Map<String, String> headers = new HashMap<>();
         headers.put("CustomHeader", "toto");
 
-        Action httpPutAction = new HttpPatchAction(targetMock, logger, uri, "somebody", headers, "1000 ms");
+        Action httpPutAction = new HttpPatchAction(targetMock, logger, configuration, uri, "somebody", headers, "1000 ms");
         ActionExecutionResult executionResult = httpPutAction.execute();
 
         // then
@@ -287,6 +293,58 @@ public class HttpActionTest {
         assertThat((Integer) executionResult.outputs.get("status")).isEqualTo(expectedStatus);
     }
 
+    @Test
+    public void should_honour_each_call_timeout_when_reusing_target_client() {
+        String uri = "/some/slow/thing";
+
+        stubFor(get(urlEqualTo(uri))
+            .willReturn(aResponse().withStatus(200).withFixedDelay(500))
+        );
+
+        Logger logger = mock(Logger.class);
+        Target targetMock = mockTarget("http://127.0.0.1:" + wireMockServer.port());
+
+        // when
+        ActionExecutionResult patientResult = new HttpGetAction(targetMock, logger, configuration, uri, null, "2000 ms").execute();
+        ActionExecutionResult impatientResult = new HttpGetAction(targetMock, logger, configuration, uri, null, "100 ms").execute();
+        ActionExecutionResult patientAgainResult = new HttpGetAction(targetMock, logger, configuration, uri, null, "2000 ms").execute();
+
+        // then
+        assertThat(patientResult.status).isEqualTo(ActionExecutionResult.Status.Success);
+        assertThat(impatientResult.status).isEqualTo(ActionExecutionResult.Status.Failure);
+        assertThat(patientAgainResult.status).isEqualTo(ActionExecutionResult.Status.Success);
+    }
+
+    @Test
+    public void should_limit_target_connections_with_target_property() throws Exception {
+        String slowUri = "/some/slow/thing";
+        String fastUri = "/some/thing";
+        stubFor(get(urlEqualTo(slowUri))
+            .willReturn(aResponse().withStatus(200).withFixedDelay(1000))
+        );
+        stubFor(get(urlEqualTo(fastUri))
+            .willReturn(aResponse().withStatus(200))
+        );
+
+        Logger logger = mock(Logger.class);
+        Target targetMock = mockTarget("http://127.0.0.1:" + wireMockServer.port());
+        when(targetMock.property("maxConnections")).thenReturn(of("1"));
+
+        // when
+        CompletableFuture<ActionExecutionResult> slowResult = CompletableFuture.supplyAsync(() ->
+            new HttpGetAction(targetMock, logger, configuration, slowUri, null, "3000 ms").execute()
+        );
+        await().atMost(2, SECONDS).until(() -> !wireMockServer.findAll(getRequestedFor(urlEqualTo(slowUri))).isEmpty());
+        ActionExecutionResult fastResultWhileConnectionUsed = new HttpGetAction(targetMock, logger, configuration, fastUri, null, "300 ms").execute();
+        slowResult.get(5, SECONDS);
+        ActionExecutionResult fastResultOnceConnectionReleased = new HttpGetAction(targetMock, logger, configuration, fastUri, null, "300 ms").execute();
+
+        // then
+        assertThat(slowResult.get().status).isEqualTo(ActionExecutionResult.Status.Success);
+        assertThat(fastResultWhileConnectionUsed.status).isEqualTo(ActionExecutionResult.Status.Failure);
+        assertThat(fastResultOnceConnectionReleased.status).isEqualTo(ActionExecutionResult.Status.Success);
+    }
+
     /**
      * It test that the proxy is set.
      * It doesnt test DefaultProxyRoutePlanner class.
@@ -305,7 +363,7 @@ public class HttpActionTest {
         when(targetMock.property("proxy")).thenReturn(of("https://127.0.0.1:" + wireMockServer.httpsPort()));
 
         // when
-        Action httpPutTask = new HttpGetAction(targetMock, logger, uri, emptyMap(), "1000 ms");
+        Action httpPutTask = new HttpGetAction(targetMock, logger, configuration, uri, emptyMap(), "1000 ms");
         ActionExecutionResult executionResult = httpPutTask.execute();
 
         // then
@@ -150,8 +150,36 @@ public abstract class KafkaBasicConsumeActionIntegrationTest {
 
     }
 
+    @Test
+    public void should_read_consecutive_messages_from_consumer_session() {
+        // given
+        Map<String, String> props = new HashMap<>();
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, OffsetResetStrategy.EARLIEST.name().toLowerCase());
+        producer.send(new ProducerRecord<>(uniqueTopic, 123, "1"));
+        producer.send(new ProducerRecord<>(uniqueTopic, 123, "2"));
+
+        // when
+        ActionExecutionResult firstResult = getKafkaBasicConsumeAction(targetBuilder.build(), props, false, true).execute();
+        ActionExecutionResult secondResult = getKafkaBasicConsumeAction(targetBuilder.build(), props, false, true).execute();
+
+        // then
+        assertThat(firstResult.status).isEqualTo(Success);
+        assertThat(assertActionOutputsSize(firstResult, 1).get(0).get("payload")).isEqualTo("1");
+        assertThat(secondResult.status).isEqualTo(Success);
+        assertThat(assertActionOutputsSize(secondResult, 1).get(0).get("payload")).isEqualTo("2");
+
+        // and again from the beginning with reset
+        ActionExecutionResult resetResult = getKafkaBasicConsumeAction(targetBuilder.build(), props, true, true).execute();
+        assertThat(resetResult.status).isEqualTo(Success);
+        assertThat(assertActionOutputsSize(resetResult, 1).get(0).get("payload")).isEqualTo("1");
+    }
+
     private KafkaBasicConsumeAction getKafkaBasicConsumeAction(Target target, Map<String, String> props, boolean resetOffset) {
-        return new KafkaBasicConsumeAction(target, uniqueTopic, GROUP, props, 1, null, null, TEXT_PLAIN_VALUE, "10 s", null, resetOffset, logger);
+        return getKafkaBasicConsumeAction(target, props, resetOffset, false);
+    }
+
+    private KafkaBasicConsumeAction getKafkaBasicConsumeAction(Target target, Map<String, String> props, boolean resetOffset, boolean session) {
+        return new KafkaBasicConsumeAction(target, uniqueTopic, GROUP, props, 1, null, null, TEXT_PLAIN_VALUE, "10 s", null, resetOffset, session, logger);
     }
 
     private List<Map<String, Object>> assertActionOutputsSize(ActionExecutionResult actionExecutionResult, int size) {
@@ -85,7 +85,7 @@ public class KafkaBasicConsumeActionTest {
 
     @Test
     void should_set_inputs_default_values() {
-        KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(null, null, null, null, null, null, null, null, null, null, null,null);
+        KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(null, null, null, null, null, null, null, null, null, null, null, null, null);
         assertThat(defaultAction)
             .hasFieldOrPropertyWithValue("topic", null)
             .hasFieldOrPropertyWithValue("group", null)
@@ -96,12 +96,26 @@ public class KafkaBasicConsumeActionTest {
             .hasFieldOrPropertyWithValue("contentType", MimeType.valueOf("application/json"))
             .hasFieldOrPropertyWithValue("timeout", "60 sec")
             .hasFieldOrPropertyWithValue("ackMode", "BATCH")
+            .hasFieldOrPropertyWithValue("session", false)
         ;
     }
 
+    @Test
+    void should_use_consumer_session_from_target_property() {
+        Target target = TestTarget.TestTargetBuilder.builder()
+            .withProperty("session", "true")
+            .build();
+
+        KafkaBasicConsumeAction targetAction = new KafkaBasicConsumeAction(target, null, null, null, null, null, null, null, null, null, null, null, null);
+        KafkaBasicConsumeAction inputAction = new KafkaBasicConsumeAction(target, null, null, null, null, null, null, null, null, null, null, false, null);
+
+        assertThat(targetAction).hasFieldOrPropertyWithValue("session", true);
+        assertThat(inputAction).hasFieldOrPropertyWithValue("session", false);
+    }
+
     @Test
     void should_validate_all_mandatory_inputs() {
-        KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(null, null, null, null, null, null, null, null, null, null, null, null);
+        KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(null, null, null, null, null, null, null, null, null, null, null, null, null);
         List<String> errors = defaultAction.validateInputs();
 
         assertThat(errors.size()).isEqualTo(8);
@@ -124,7 +138,7 @@ public class KafkaBasicConsumeActionTest {
     @Test
     void should_validate_timeout_input() {
         String badTimeout = "twenty seconds";
-        KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(TARGET_STUB, "topic", "group", null, null, null, null, null, badTimeout, null,null, null);
+        KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(TARGET_STUB, "topic", "group", null, null, null, null, null, badTimeout, null, null, null, null);
 
         List<String> errors = defaultAction.validateInputs();
 
@@ -135,7 +149,7 @@ public class KafkaBasicConsumeActionTest {
     @Test
     void should_validate_ackMode_input() {
         String badTackMode = "UNKNOWN_ACKMODE";
-        KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(TARGET_STUB, "topic", "group", null, null, null, null, null, null, badTackMode, null,null);
+        KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(TARGET_STUB, "topic", "group", null, null, null, null, null, null, badTackMode, null, null, null);
 
         List<String> errors = defaultAction.validateInputs();
 
@@ -167,7 +181,7 @@ public class KafkaBasicConsumeActionTest {
             propertyToOverride, "a property value"
         );
 
-        KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(target, null, null, properties, null, null, null, null, null, null, null,null);
+        KafkaBasicConsumeAction defaultAction = new KafkaBasicConsumeAction(target, null, null, properties, null, null, null, null, null, null, null, null, null);
         assertThat(defaultAction)
             .hasFieldOrPropertyWithValue("properties", expectedConfig)
         ;
@@ -537,7 +551,7 @@ public class KafkaBasicConsumeActionTest {
     }
 
     private KafkaBasicConsumeAction givenKafkaConsumeAction(int expectedMessageNb, String selector, String headerSelector, String mimeType, String timeout) {
-        return new KafkaBasicConsumeAction(TARGET_STUB, TOPIC, GROUP, emptyMap(), expectedMessageNb, selector, headerSelector, mimeType, timeout, null,null, logger);
+        return new KafkaBasicConsumeAction(TARGET_STUB, TOPIC, GROUP, emptyMap(), expectedMessageNb, selector, headerSelector, mimeType, timeout, null, null, null, logger);
     }
 
     private void givenActionReceiveMessages(Action action, ConsumerRecord<String, String>... messages) {
@@ -15,28 +15,34 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.chutneytesting.action.TestLogger;
 import com.chutneytesting.action.TestTarget;
+import com.chutneytesting.action.common.ResourceCache;
 import com.chutneytesting.action.http.HttpsServerStartActionTest;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
 import com.chutneytesting.action.spi.injectable.Target;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.ProducerFencedException;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -66,28 +72,66 @@ public class KafkaBasicPublishActionTest {
       logger = new TestLogger();
     }
 
+    private ResourceCache.Lease<KafkaTemplate<String, String>> lease(KafkaTemplate<String, String> kafkaTemplate) {
+        ResourceCache.Lease<KafkaTemplate<String, String>> lease = mock(ResourceCache.Lease.class);
+        when(lease.value()).thenReturn(kafkaTemplate);
+        return lease;
+    }
+
     private Target getKafkaTarget() {
         return TestTarget.TestTargetBuilder.builder()
             .withTargetId("kafka")
-            .withUrl("127.0.0.1:5555")
+            .withUrl("tcp://127.0.0.1:5555")
             .build();
     }
 
     @Test
     void should_set_inputs_default_values() {
-        KafkaBasicPublishAction defaultAction = new KafkaBasicPublishAction(null, null, null, null, null, null, null);
+        KafkaBasicPublishAction defaultAction = new KafkaBasicPublishAction(null, null, null, null, null, null, null, null, null);
         assertThat(defaultAction)
             .hasFieldOrPropertyWithValue("topic", null)
             .hasFieldOrPropertyWithValue("headers", emptyMap())
             .hasFieldOrPropertyWithValue("payload", null)
             .hasFieldOrPropertyWithValue("key", null)
             .hasFieldOrPropertyWithValue("properties", emptyMap())
+            .hasFieldOrPropertyWithValue("records", null)
+            .hasFieldOrPropertyWithValue("timeout", "5 s")
         ;
     }
 
+    @Test
+    void should_validate_records_instead_of_payload_when_given() {
+        List<Map<String, Object>> records = new ArrayList<>();
+        records.add(Map.of("key", "1", "payload", "first"));
+        records.add(Map.of("key", "2"));
+        KafkaBasicPublishAction action = new KafkaBasicPublishAction(getKafkaTarget(), TOPIC, null, null, null, null, records, "1 min", logger);
+
+        List<String> errors = action.validateInputs();
+
+        assertThat(errors).containsExactly("All records should have a payload");
+    }
+
+    @Test
+    void should_share_producer_between_publications_with_same_configuration() {
+        ChutneyKafkaProducerFactory producerFactory = new ChutneyKafkaProducerFactory();
+        Target target = getKafkaTarget();
+        Map<String, String> config = Map.of(ProducerConfig.ACKS_CONFIG, "all");
+
+        ResourceCache.Lease<KafkaTemplate<String, String>> first = producerFactory.create(target, config);
+        ResourceCache.Lease<KafkaTemplate<String, String>> second = producerFactory.create(target, new HashMap<>(config));
+        ResourceCache.Lease<KafkaTemplate<String, String>> otherConfig = producerFactory.create(target, Map.of(ProducerConfig.ACKS_CONFIG, "1"));
+        producerFactory.invalidate(target, config, first);
+        ResourceCache.Lease<KafkaTemplate<String, String>> afterInvalidation = producerFactory.create(target, config);
+
+        assertThat(second.value()).isSameAs(first.value());
+        assertThat(otherConfig.value()).isNotSameAs(first.value());
+        assertThat(afterInvalidation.value()).isNotSameAs(first.value());
+        Stream.of(first, second, otherConfig, afterInvalidation).forEach(ResourceCache.Lease::close);
+    }
+
     @Test
     void should_validate_all_mandatory_inputs() {
-        KafkaBasicPublishAction defaultAction = new KafkaBasicPublishAction(null, null, null, null, null, null, null);
+        KafkaBasicPublishAction defaultAction = new KafkaBasicPublishAction(null, null, null, null, null, null, null, null, null);
         List<String> errors = defaultAction.validateInputs();
 
         assertThat(errors.size()).isEqualTo(8);
@@ -131,7 +175,7 @@ public class KafkaBasicPublishActionTest {
             propertyToOverride, "a property value"
         );
 
-        KafkaBasicPublishAction defaultAction = new KafkaBasicPublishAction(target, null, null, null, properties, null, null);
+        KafkaBasicPublishAction defaultAction = new KafkaBasicPublishAction(target, null, null, null, properties, null, null, null, null);
         assertThat(defaultAction)
             .hasFieldOrPropertyWithValue("properties", expectedConfig)
         ;
@@ -141,11 +185,12 @@ public class KafkaBasicPublishActionTest {
     public void basic_publish_action_should_success() throws Exception {
         //given
         TestLogger logger = new TestLogger();
-        Action action = new KafkaBasicPublishAction(getKafkaTarget(), TOPIC, null, PAYLOAD, null, null, logger);
+        Action action = new KafkaBasicPublishAction(getKafkaTarget(), TOPIC, null, PAYLOAD, null, null, null, null, logger);
         //mocks
         ChutneyKafkaProducerFactory producerFactoryMock = mock(ChutneyKafkaProducerFactory.class);
         KafkaTemplate<String, String> kafkaTemplateMock = mock(KafkaTemplate.class);
-        when(producerFactoryMock.create(any(), any())).thenReturn(kafkaTemplateMock);
+        ResourceCache.Lease<KafkaTemplate<String, String>> producerMock = lease(kafkaTemplateMock);
+        when(producerFactoryMock.create(any(), any())).thenReturn(producerMock);
 
         CompletableFuture<SendResult<String, String>> listenableFutureMock = mock(CompletableFuture.class);
         when(listenableFutureMock.get(anyLong(), any(TimeUnit.class))).thenReturn(null);
@@ -166,11 +211,12 @@ public class KafkaBasicPublishActionTest {
     public void basic_publish_action_should_failed_when_timeout() throws Exception {
         //given
         TestLogger logger = new TestLogger();
-        Action action = new KafkaBasicPublishAction(getKafkaTarget(), TOPIC, null, PAYLOAD, null, null, logger);
+        Action action = new KafkaBasicPublishAction(getKafkaTarget(), TOPIC, null, PAYLOAD, null, null, null, null, logger);
         //mocks
         ChutneyKafkaProducerFactory producerFactoryMock = mock(ChutneyKafkaProducerFactory.class);
         KafkaTemplate<String, String> kafkaTemplateMock = mock(KafkaTemplate.class);
-        when(producerFactoryMock.create(any(), any())).thenReturn(kafkaTemplateMock);
+        ResourceCache.Lease<KafkaTemplate<String, String>> producerMock = lease(kafkaTemplateMock);
+        when(producerFactoryMock.create(any(), any())).thenReturn(producerMock);
 
         CompletableFuture<SendResult<String, String>> listenableFutureMock = mock(CompletableFuture.class);
         when(listenableFutureMock.get(anyLong(), any(TimeUnit.class))).thenThrow(TimeoutException.class);
@@ -184,6 +230,35 @@ public class KafkaBasicPublishActionTest {
         //Then
         assertThat(actionExecutionResult.status).isEqualTo(Failure);
         assertThat(logger.errors).isNotEmpty();
+        verify(producerFactoryMock, never()).invalidate(any(), any(), any());
+        verify(producerMock).close();
+    }
+
+    @Test
+    public void basic_publish_action_should_invalidate_producer_on_fatal_error() throws Exception {
+        //given
+        TestLogger logger = new TestLogger();
+        Target target = getKafkaTarget();
+        Action action = new KafkaBasicPublishAction(target, TOPIC, null, PAYLOAD, null, null, null, null, logger);
+        //mocks
+        ChutneyKafkaProducerFactory producerFactoryMock = mock(ChutneyKafkaProducerFactory.class);
+        KafkaTemplate<String, String> kafkaTemplateMock = mock(KafkaTemplate.class);
+        ResourceCache.Lease<KafkaTemplate<String, String>> producerMock = lease(kafkaTemplateMock);
+        when(producerFactoryMock.create(any(), any())).thenReturn(producerMock);
+
+        CompletableFuture<SendResult<String, String>> listenableFutureMock = mock(CompletableFuture.class);
+        when(listenableFutureMock.get(anyLong(), any(TimeUnit.class))).thenThrow(new ExecutionException(new ProducerFencedException("fenced")));
+        when(kafkaTemplateMock.send(ArgumentMatchers.<ProducerRecord<String, String>>any())).thenReturn(listenableFutureMock);
+
+        ReflectionTestUtils.setField(action, "producerFactory", producerFactoryMock);
+
+        //when
+        ActionExecutionResult actionExecutionResult = action.execute();
+
+        //Then
+        assertThat(actionExecutionResult.status).isEqualTo(Failure);
+        verify(producerFactoryMock).invalidate(target, emptyMap(), producerMock);
+        verify(producerMock).close();
     }
 
     @Test
@@ -202,7 +277,7 @@ public class KafkaBasicPublishActionTest {
       props.put("session.timeout.ms", "60000");
       props.put("auto.offset.reset", "earliest");
 
-      Action sut = new KafkaBasicPublishAction(target, TOPIC, Map.of(), "my-test-value", props, null, logger);
+      Action sut = new KafkaBasicPublishAction(target, TOPIC, Map.of(), "my-test-value", props, null, null, null, logger);
 
       ActionExecutionResult actionExecutionResult = sut.execute();
 
@@ -233,7 +308,7 @@ public class KafkaBasicPublishActionTest {
       props.put("session.timeout.ms", "3000");
       props.put("auto.offset.reset", "earliest");
 
-      Action sut = new KafkaBasicPublishAction(target, TOPIC, Map.of(), "my-test-value", props, null, logger);
+      Action sut = new KafkaBasicPublishAction(target, TOPIC, Map.of(), "my-test-value", props, null, null, null, logger);
 
       ActionExecutionResult actionExecutionResult = sut.execute();
 
@@ -258,7 +333,7 @@ public class KafkaBasicPublishActionTest {
         props.put("session.timeout.ms", "60000");
         props.put("auto.offset.reset", "earliest");
 
-        Action sut = new KafkaBasicPublishAction(target, TOPIC, Map.of(), "my-test-value", props, "my-key", logger);
+        Action sut = new KafkaBasicPublishAction(target, TOPIC, Map.of(), "my-test-value", props, "my-key", null, null, logger);
 
         ActionExecutionResult actionExecutionResult = sut.execute();
 
@@ -271,6 +346,46 @@ public class KafkaBasicPublishActionTest {
         consumer.close();
     }
 
+    @Test
+    public void should_publish_records_batch_and_report_their_offsets() {
+        embeddedKafkaBroker.afterPropertiesSet();
+        Consumer<Integer, String> consumer = configureConsumer();
+
+        Target target = TestTarget.TestTargetBuilder.builder()
+            .withTargetId("kafka")
+            .withUrl("tcp://" + embeddedKafkaBroker.getBrokersAsString())
+            .build();
+
+        Map<String, String> props = Map.of(
+            ProducerConfig.LINGER_MS_CONFIG, "20",
+            ProducerConfig.ACKS_CONFIG, "all"
+        );
+        List<Map<String, Object>> records = List.of(
+            Map.of("key", "1", "payload", "first"),
+            Map.of("key", "2", "payload", "second", "headers", Map.of("season", "2")),
+            Map.of("payload", "third")
+        );
+
+        Action sut = new KafkaBasicPublishAction(target, TOPIC, Map.of("type", "batch"), null, props, null, records, "30 s", logger);
+
+        ActionExecutionResult actionExecutionResult = sut.execute();
+
+        assertThat(actionExecutionResult.status).isEqualTo(Success);
+        List<Map<String, Object>> publishedRecords = (List<Map<String, Object>>) actionExecutionResult.outputs.get("records");
+        assertThat(publishedRecords).extracting(r -> r.get("key")).containsExactly("1", "2", null);
+        assertThat(publishedRecords).allSatisfy(r -> assertThat(r).containsKeys("partition", "offset"));
+
+        List<ConsumerRecord<Integer, String>> consumedRecords = new ArrayList<>();
+        KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 3).forEach(consumedRecords::add);
+        assertThat(consumedRecords).extracting(ConsumerRecord::value).containsExactlyInAnyOrder("first", "second", "third");
+        assertThat(consumedRecords).filteredOn(r -> r.value().equals("second")).singleElement().satisfies(r -> {
+            assertThat(r.headers().lastHeader("season").value()).isEqualTo("2".getBytes());
+            assertThat(r.headers().lastHeader("type").value()).isEqualTo("batch".getBytes());
+        });
+
+        consumer.close();
+    }
+
     private Consumer<Integer, String> configureConsumer() {
       Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("testGroup", "true", embeddedKafkaBroker);
       consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
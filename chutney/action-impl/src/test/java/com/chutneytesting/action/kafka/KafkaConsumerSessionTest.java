@@ -0,0 +1,136 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.kafka;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class KafkaConsumerSessionTest {
+
+    private static final String TOPIC = "topic";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private MockConsumer<String, String> consumer;
+    private KafkaConsumerSession sut;
+
+    @BeforeEach
+    public void before() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(TOPIC, List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        sut = new KafkaConsumerSession(consumer, TOPIC, false, 10);
+        await().atMost(5, SECONDS).until(() -> !consumer.assignment().isEmpty());
+    }
+
+    @AfterEach
+    public void after() {
+        sut.close();
+    }
+
+    @Test
+    public void should_assign_all_topic_partitions() {
+        assertThat(consumer.assignment()).containsExactly(PARTITION);
+        assertThat(consumer.subscription()).isEmpty();
+    }
+
+    @Test
+    public void should_read_buffered_records_across_consecutive_reads() throws InterruptedException {
+        // Given
+        consumer.addRecord(record(0, "first"));
+        consumer.addRecord(record(1, "second"));
+        List<String> firstRead = new ArrayList<>();
+        List<String> secondRead = new ArrayList<>();
+
+        // When
+        boolean firstStopped = sut.read(record -> firstRead.add(record.value()), 5000);
+        boolean secondStopped = sut.read(record -> secondRead.add(record.value()), 5000);
+
+        // Then
+        assertThat(firstStopped).isTrue();
+        assertThat(firstRead).containsExactly("first");
+        assertThat(secondStopped).isTrue();
+        assertThat(secondRead).containsExactly("second");
+    }
+
+    @Test
+    public void should_stop_reading_on_timeout() throws InterruptedException {
+        // Given
+        consumer.addRecord(record(0, "skipped"));
+        List<String> read = new ArrayList<>();
+
+        // When
+        boolean stopped = sut.read(record -> {
+            read.add(record.value());
+            return false;
+        }, 500);
+
+        // Then
+        assertThat(stopped).isFalse();
+        assertThat(read).containsExactly("skipped");
+    }
+
+    @Test
+    public void should_commit_offsets_of_read_records() throws InterruptedException {
+        // Given
+        consumer.addRecord(record(0, "first"));
+        consumer.addRecord(record(1, "second"));
+
+        // When
+        sut.read(record -> record.offset() == 1, 5000);
+
+        // Then
+        await().atMost(5, SECONDS).untilAsserted(() ->
+            assertThat(consumer.committed(Set.of(PARTITION)).get(PARTITION).offset()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    public void should_fail_reading_when_polling_failed() {
+        // Given
+        consumer.setPollException(new KafkaException("broker is gone"));
+
+        // When
+        await().atMost(5, SECONDS).until(sut::isClosed);
+
+        // Then
+        assertThatThrownBy(() -> sut.read(record -> true, 500))
+            .isInstanceOf(KafkaException.class)
+            .hasMessage("broker is gone");
+        assertThat(consumer.closed()).isTrue();
+    }
+
+    @Test
+    public void should_close_consumer_on_close() {
+        // When
+        sut.close();
+
+        // Then
+        assertThat(sut.isClosed()).isTrue();
+        assertThat(consumer.closed()).isTrue();
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, "key", value);
+    }
+}
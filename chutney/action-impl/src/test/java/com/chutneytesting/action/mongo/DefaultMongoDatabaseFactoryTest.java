@@ -12,12 +12,14 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.chutneytesting.action.TestLogger;
 import com.chutneytesting.action.TestTarget;
+import com.chutneytesting.action.common.ResourceCache;
 import com.chutneytesting.action.spi.ActionExecutionResult;
 import com.chutneytesting.action.spi.injectable.Target;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.MountableFile;
@@ -37,6 +39,25 @@ public class DefaultMongoDatabaseFactoryTest {
         }
     }
 
+    @Test
+    public void should_share_client_between_executions_on_same_target() {
+        // Given
+        DefaultMongoDatabaseFactory sut = new DefaultMongoDatabaseFactory();
+        Target target = mongoTarget("mongodb://shared-host:27017", "user");
+        Target sameTarget = mongoTarget("mongodb://shared-host:27017", "user");
+        Target otherUserTarget = mongoTarget("mongodb://shared-host:27017", "other");
+        sut.create(target).close();
+        long clientsCount = clients().size();
+
+        // When
+        sut.create(sameTarget).close();
+        sut.create(target).close();
+        sut.create(otherUserTarget).close();
+
+        // Then
+        assertThat(clients().size()).isEqualTo(clientsCount + 1);
+    }
+
     @Test
     public void should_accept_ssl_connection_when_truststore_in_target_properties() {
         GenericContainer mongoContainer = new GenericContainer(DockerImageName.parse("mongo:4.4.24"))
@@ -85,4 +106,17 @@ public class DefaultMongoDatabaseFactoryTest {
         MongoListAction action = new MongoListAction(mongoTarget, logger);
         assertThatThrownBy(action::execute);
     }
+
+    private static Target mongoTarget(String url, String user) {
+        return TestTarget.TestTargetBuilder.builder()
+            .withTargetId("mongo")
+            .withUrl(url)
+            .withProperty("databaseName", "test")
+            .withProperty("user", user)
+            .build();
+    }
+
+    private static ResourceCache<?, ?> clients() {
+        return (ResourceCache<?, ?>) ReflectionTestUtils.getField(DefaultMongoDatabaseFactory.class, "clients");
+    }
 }
@@ -10,8 +10,11 @@ package com.chutneytesting.action.mongo;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.chutneytesting.action.TestLogger;
@@ -25,12 +28,13 @@ import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Consumer;
 import org.bson.BsonDocument;
+import org.bson.Document;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.mockito.stubbing.OngoingStubbing;
 import org.springframework.test.util.ReflectionTestUtils;
 
 public class MongoActionsTest {
@@ -72,29 +76,58 @@ public class MongoActionsTest {
 
     @Test
     public void findDocument() {
-        MongoCursor<Object> iterable = mock(MongoCursor.class);
-        OngoingStubbing<MongoCursor<Object>> resultStubbing = Mockito.when(database.getCollection(any())
-            .find(any(BsonDocument.class))
-            .limit(anyInt())
-            .map(any())
-            .iterator());
-        resultStubbing.thenReturn(iterable);
-        doAnswer(iom -> {
-            Consumer<String> consumer = iom.getArgument(0);
-            consumer.accept("{fake: truc}");
-            return null;
-        }).when(iterable).forEachRemaining(any());
+        MongoCursor<Document> cursor = givenCursor(Document.parse("{fake: 'truc'}"));
+        when(database.getCollection(any()).find(any(BsonDocument.class)).limit(anyInt()).iterator()).thenReturn(cursor);
 
-        Action findAction = mockDatabase(new MongoFindAction(mongoTarget, logger, "lolilol", "{ qty: { $gt: 4 } }", null), database);
+        Action findAction = mockDatabase(new MongoFindAction(mongoTarget, logger, "lolilol", "{ qty: { $gt: 4 } }", null, null, null), database);
 
         ActionExecutionResult findActionResult = findAction.execute();
         assertThat(findActionResult.status).isEqualTo(Status.Success);
         @SuppressWarnings("unchecked")
         String insertedDocument = ((Iterable<String>) findActionResult.outputs.get("documents")).iterator().next();
-        assertThat(insertedDocument).isEqualTo("{fake: truc}");
+        assertThat(insertedDocument).isEqualTo("{\"fake\": \"truc\"}");
+        assertThat(logger.info).containsOnly("Found 1 document(s)");
+        verify(cursor).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void findDecodedDocumentsByBatchUpToLimit() {
+        MongoCursor<Document> cursor = givenCursor(Document.parse("{qty: 5}"), Document.parse("{qty: 6}"), Document.parse("{qty: 7}"));
+        when(database.getCollection(any()).find(any(BsonDocument.class)).limit(anyInt()).batchSize(anyInt()).iterator()).thenReturn(cursor);
+
+        Action findAction = mockDatabase(new MongoFindAction(mongoTarget, logger, "lolilol", "{ qty: { $gt: 4 } }", 2, 100, true), database);
+
+        ActionExecutionResult findActionResult = findAction.execute();
+        assertThat(findActionResult.status).isEqualTo(Status.Success);
+        assertThat((List<Document>) findActionResult.outputs.get("documents"))
+            .containsExactly(new Document("qty", 5), new Document("qty", 6));
+        verify(cursor, times(2)).next();
+        verify(cursor).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void aggregateDocuments() {
+        MongoCursor<Document> cursor = givenCursor(Document.parse("{_id: 'Hayao Miyazaki', count: 2}"));
+        when(database.getCollection(any()).aggregate(anyList()).iterator()).thenReturn(cursor);
+
+        Action aggregateAction = mockDatabase(new MongoAggregateAction(mongoTarget, logger, "lolilol", "[{ $match: { qty: { $gt: 4 } } }, { $group: { _id: '$director', count: { $sum: 1 } } }]", null, null, true), database);
+
+        ActionExecutionResult aggregateActionResult = aggregateAction.execute();
+        assertThat(aggregateActionResult.status).isEqualTo(Status.Success);
+        assertThat((List<Document>) aggregateActionResult.outputs.get("documents"))
+            .containsExactly(new Document("_id", "Hayao Miyazaki").append("count", 2));
         assertThat(logger.info).containsOnly("Found 1 document(s)");
     }
 
+    @Test
+    public void validateBatchSize() {
+        MongoFindAction findAction = new MongoFindAction(mongoTarget, logger, "lolilol", "{ }", null, 0, null);
+
+        assertThat(findAction.validateInputs()).containsExactly("batchSize should be positive");
+    }
+
     @Test
     public void deleteDocument() {
         DeleteResult deleteResult = mock(DeleteResult.class);
@@ -139,6 +172,15 @@ public class MongoActionsTest {
         assertThat(logger.info).containsOnly("Found 1 collection(s)");
     }
 
+    @SuppressWarnings("unchecked")
+    private MongoCursor<Document> givenCursor(Document... documents) {
+        MongoCursor<Document> cursor = mock(MongoCursor.class);
+        Iterator<Document> iterator = List.of(documents).iterator();
+        when(cursor.hasNext()).thenAnswer(iom -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(iom -> iterator.next());
+        return cursor;
+    }
+
     private <T extends Action> T mockDatabase(T action, MongoDatabase database) {
         MongoDatabaseFactory mongoDatabaseFactory = t -> CloseableResource.build(database, () -> {
         });
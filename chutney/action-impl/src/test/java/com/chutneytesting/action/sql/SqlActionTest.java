@@ -14,9 +14,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.chutneytesting.action.TestActionsConfiguration;
+import com.chutneytesting.action.TestFinallyActionRegistry;
 import com.chutneytesting.action.TestTarget;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.FinallyAction;
 import com.chutneytesting.action.spi.injectable.ActionsConfiguration;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
@@ -24,6 +26,8 @@ import com.chutneytesting.action.sql.core.Records;
 import com.chutneytesting.action.sql.core.Row;
 import com.chutneytesting.action.sql.core.Rows;
 import com.google.common.collect.Lists;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +49,7 @@ public class SqlActionTest {
         .build();
 
     private final Logger logger = Mockito.mock(Logger.class);
+    private final TestFinallyActionRegistry finallyActionRegistry = new TestFinallyActionRegistry();
 
     @BeforeEach
     public void setUp() {
@@ -61,7 +66,7 @@ public class SqlActionTest {
     public void should_output_only_one_result_when_single_statement() {
         // Given
         ActionsConfiguration configuration = new TestActionsConfiguration();
-        Action action = new SqlAction(sqlTarget, logger, configuration, Collections.singletonList("select * from users"), 2);
+        Action action = new SqlAction(sqlTarget, logger, configuration, finallyActionRegistry, Collections.singletonList("select * from users"), 2);
 
         // When
         ActionExecutionResult result = action.execute();
@@ -89,7 +94,7 @@ public class SqlActionTest {
     public void should_provide_affectedRows_when_single_statement() {
         // Given
         ActionsConfiguration configuration = new TestActionsConfiguration();
-        Action action = new SqlAction(sqlTarget, logger, configuration, Collections.singletonList("UPDATE USERS SET NAME = 'toto' WHERE ID = 1"), 5);
+        Action action = new SqlAction(sqlTarget, logger, configuration, finallyActionRegistry, Collections.singletonList("UPDATE USERS SET NAME = 'toto' WHERE ID = 1"), 5);
 
         // When
         ActionExecutionResult result = action.execute();
@@ -102,7 +107,7 @@ public class SqlActionTest {
     public void should_output_only_many_results_when_multi_statements() {
         // Given
         ActionsConfiguration configuration = new TestActionsConfiguration();
-        Action action = new SqlAction(sqlTarget, logger, configuration, Lists.newArrayList("select * from users where id = 1", "select * from users where id = 2") , 2);
+        Action action = new SqlAction(sqlTarget, logger, configuration, finallyActionRegistry, Lists.newArrayList("select * from users where id = 1", "select * from users where id = 2") , 2);
 
         // When
         ActionExecutionResult result = action.execute();
@@ -137,7 +142,7 @@ public class SqlActionTest {
     public void should_be_non_sensitive_to_header_case_or_spaces() {
         // Given
         ActionsConfiguration configuration = new TestActionsConfiguration();
-        Action action = new SqlAction(sqlTarget, logger, configuration, Lists.newArrayList("select * from users"), 2);
+        Action action = new SqlAction(sqlTarget, logger, configuration, finallyActionRegistry, Lists.newArrayList("select * from users"), 2);
 
         // When
         ActionExecutionResult result = action.execute();
@@ -149,4 +154,46 @@ public class SqlActionTest {
         assertThat(rows.get("NaMe")).isEqualTo(List.of("laitue","carotte", "tomate"));
         assertThat(rows.get(" EMAIL ")).isEqualTo(List.of("laitue@fake.com","kakarot@fake.db","null"));
     }
+
+    @Test
+    public void should_delete_overflow_files_at_the_end_of_the_scenario() {
+        // Given
+        Target spillingTarget = TestTarget.TestTargetBuilder.builder()
+            .withTargetId("sql")
+            .withUrl("jdbc:h2:mem")
+            .withProperty("jdbcUrl", "jdbc:h2:mem:" + DB_NAME)
+            .withProperty("user", "sa")
+            .withProperty("maxRows", "1")
+            .withProperty("spillOverflowRows", "true")
+            .build();
+        Action action = new SqlAction(spillingTarget, logger, new TestActionsConfiguration(), finallyActionRegistry, Lists.newArrayList("select * from users", "select * from users where id = 1", "select * from users"), 2);
+        ActionExecutionResult result = action.execute();
+        @SuppressWarnings("unchecked")
+        List<String> overflowFiles = ((List<Records>) result.outputs.get("recordResult")).stream().map(r -> r.overflowFile).filter(f -> f != null).toList();
+        assertThat(overflowFiles).hasSize(2).allSatisfy(f -> assertThat(Path.of(f)).exists());
+        assertThat(finallyActionRegistry.finallyActions).hasSize(1);
+        FinallyAction deleteOverflowFiles = finallyActionRegistry.finallyActions.get(0);
+        assertThat(deleteOverflowFiles.type()).isEqualTo("sql-delete-overflow-files");
+        assertThat(deleteOverflowFiles.inputs()).containsEntry("files", overflowFiles);
+
+        // When
+        @SuppressWarnings("unchecked")
+        ActionExecutionResult deletion = new SqlDeleteOverflowFilesAction(logger, (List<String>) deleteOverflowFiles.inputs().get("files")).execute();
+
+        // Then
+        assertThat(deletion.status).isEqualTo(ActionExecutionResult.Status.Success);
+        assertThat(overflowFiles).allSatisfy(f -> assertThat(Files.exists(Path.of(f))).isFalse());
+    }
+
+    @Test
+    public void should_not_register_overflow_files_deletion_when_no_rows_overflow() {
+        // Given
+        Action action = new SqlAction(sqlTarget, logger, new TestActionsConfiguration(), finallyActionRegistry, Collections.singletonList("select * from users"), 2);
+
+        // When
+        action.execute();
+
+        // Then
+        assertThat(finallyActionRegistry.finallyActions).isEmpty();
+    }
 }
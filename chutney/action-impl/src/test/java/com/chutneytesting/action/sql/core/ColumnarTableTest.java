@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.sql.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ColumnarTableTest {
+
+    private final Column id = new Column("ID", 0);
+    private final Column amount = new Column("AMOUNT", 1);
+    private final Column label = new Column("LABEL", 2);
+
+    @Test
+    void should_give_back_stored_values_with_their_types() {
+        ColumnarTable sut = new ColumnarTable(List.of(id, amount, label));
+
+        for (int i = 0; i < 100; i++) {
+            sut.add(new Object[]{i, (double) i / 2, "label" + i});
+        }
+
+        assertThat(sut.size()).isEqualTo(100);
+        assertThat(sut.row(42)).isEqualTo(new Row(List.of(new Cell(id, 42), new Cell(amount, 21.0), new Cell(label, "label42"))));
+        assertThat(sut.rows()).hasSize(100);
+    }
+
+    @Test
+    void should_keep_values_when_column_types_are_mixed() {
+        ColumnarTable sut = new ColumnarTable(List.of(id, amount, label));
+
+        sut.add(new Object[]{1, 1L, "a"});
+        sut.add(new Object[]{"null", new BigDecimal("2.5"), "b"});
+
+        assertThat(sut.get(0, 0)).isEqualTo(1);
+        assertThat(sut.get(0, 1)).isEqualTo(1L);
+        assertThat(sut.get(1, 0)).isEqualTo("null");
+        assertThat(sut.get(1, 1)).isEqualTo(new BigDecimal("2.5"));
+    }
+}
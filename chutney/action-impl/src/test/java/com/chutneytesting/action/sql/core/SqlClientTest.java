@@ -15,6 +15,8 @@ import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.tools.ChutneyMemoryInfo;
 import com.chutneytesting.tools.NotEnoughMemoryException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Date;
 import java.sql.SQLException;
 import java.sql.Time;
@@ -126,4 +128,47 @@ public class SqlClientTest {
                 "Query fetched 2 rows");
         }
     }
+
+    @Test
+    public void should_keep_only_first_rows_and_count_others() throws SQLException {
+        Target limitedTarget = TestTarget.TestTargetBuilder.builder()
+            .withTargetId("sql")
+            .withUrl("jdbc:h2:mem")
+            .withProperty("jdbcUrl", "jdbc:h2:mem:" + DB_NAME)
+            .withProperty("user", "sa")
+            .withProperty("maxRows", "2")
+            .build();
+        SqlClient sqlClient = new DefaultSqlClientFactory().create(limitedTarget);
+
+        Records actual = sqlClient.execute("select * from users order by id");
+
+        assertThat(actual.count()).isEqualTo(2);
+        assertThat(actual.totalRows).isEqualTo(3);
+        assertThat(actual.truncated()).isTrue();
+        assertThat(actual.overflowFile).isNull();
+        assertThat(actual.rows().get(1).get("NAME")).isEqualTo("carotte");
+    }
+
+    @Test
+    public void should_spill_rows_beyond_limit_to_temporary_file() throws Exception {
+        Target spillingTarget = TestTarget.TestTargetBuilder.builder()
+            .withTargetId("sql")
+            .withUrl("jdbc:h2:mem")
+            .withProperty("jdbcUrl", "jdbc:h2:mem:" + DB_NAME)
+            .withProperty("user", "sa")
+            .withProperty("maxRows", "1")
+            .withProperty("spillOverflowRows", "true")
+            .build();
+        SqlClient sqlClient = new DefaultSqlClientFactory().create(spillingTarget);
+
+        Records actual = sqlClient.execute("select * from users order by id");
+
+        assertThat(actual.count()).isEqualTo(1);
+        assertThat(actual.totalRows).isEqualTo(3);
+        assertThat(Files.readAllLines(Path.of(actual.overflowFile))).containsExactly(
+            "ID,NAME,EMAIL",
+            "2,carotte,kakarot@fake.db",
+            "3,tomate,null"
+        );
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.sql.core;
+
+import static com.chutneytesting.action.sql.core.SqlDataSourceRegistry.CONFIGURABLE_MAX_POOLS;
+import static com.chutneytesting.action.sql.core.SqlDataSourceRegistry.CONFIGURABLE_POOL_MAX_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.action.TestActionsConfiguration;
+import com.chutneytesting.action.TestTarget;
+import com.chutneytesting.action.common.ResourceCache;
+import com.chutneytesting.action.spi.injectable.Target;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+public class SqlDataSourceRegistryTest {
+
+    @Test
+    public void should_reuse_pool_of_same_target_connection() {
+        // Given
+        SqlDataSourceRegistry sut = new SqlDataSourceRegistry(new TestActionsConfiguration());
+
+        // When
+        HikariDataSource first = sut.dataSource(target("registry_reuse", "sa")).value();
+        HikariDataSource second = sut.dataSource(target("registry_reuse", "sa")).value();
+        HikariDataSource otherUser = sut.dataSource(target("registry_reuse", "other")).value();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(otherUser).isNotSameAs(first);
+        assertThat(sut.size()).isEqualTo(2);
+        sut.close();
+    }
+
+    @Test
+    public void should_close_evicted_pools() {
+        // Given
+        SqlDataSourceRegistry sut = new SqlDataSourceRegistry(singlePoolConfiguration());
+        ResourceCache.Lease<HikariDataSource> first = sut.dataSource(target("registry_evict_1", "sa"));
+        first.close();
+
+        // When
+        ResourceCache.Lease<HikariDataSource> second = sut.dataSource(target("registry_evict_2", "sa"));
+
+        // Then
+        assertThat(first.value().getMaximumPoolSize()).isEqualTo(2);
+        assertThat(first.value().isClosed()).isTrue();
+        assertThat(second.value().isClosed()).isFalse();
+        second.close();
+        sut.close();
+    }
+
+    @Test
+    public void should_close_evicted_pool_only_when_released() {
+        // Given
+        SqlDataSourceRegistry sut = new SqlDataSourceRegistry(singlePoolConfiguration());
+        ResourceCache.Lease<HikariDataSource> first = sut.dataSource(target("registry_in_use_1", "sa"));
+        ResourceCache.Lease<HikariDataSource> second = sut.dataSource(target("registry_in_use_2", "sa"));
+        assertThat(first.value().isClosed()).isFalse();
+
+        // When
+        first.close();
+
+        // Then
+        assertThat(first.value().isClosed()).isTrue();
+        assertThat(second.value().isClosed()).isFalse();
+        second.close();
+        sut.close();
+    }
+
+    @Test
+    public void should_close_pools_when_registry_is_closed() {
+        // Given
+        SqlDataSourceRegistry sut = new SqlDataSourceRegistry(new TestActionsConfiguration());
+        ResourceCache.Lease<HikariDataSource> lease = sut.dataSource(target("registry_shutdown", "sa"));
+        lease.close();
+
+        // When
+        sut.close();
+
+        // Then
+        assertThat(lease.value().isClosed()).isTrue();
+        try (ResourceCache.Lease<HikariDataSource> shared = SqlDataSourceRegistry.shared().dataSource(target("registry_shutdown", "sa"))) {
+            assertThat(shared.value().isClosed()).isFalse();
+        }
+    }
+
+    private TestActionsConfiguration singlePoolConfiguration() {
+        TestActionsConfiguration configuration = new TestActionsConfiguration();
+        configuration.configuration.put(CONFIGURABLE_MAX_POOLS, "1");
+        configuration.configuration.put(CONFIGURABLE_POOL_MAX_SIZE, "2");
+        return configuration;
+    }
+
+    private Target target(String dbName, String user) {
+        return TestTarget.TestTargetBuilder.builder()
+            .withTargetId("sql")
+            .withUrl("jdbc:h2:mem")
+            .withProperty("jdbcUrl", "jdbc:h2:mem:" + dbName)
+            .withProperty("user", user)
+            .build();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.ssh;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chutneytesting.action.TestTarget;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class ChannelPermitsTest {
+
+    @Test
+    void should_limit_channels_to_max_sessions_target_property() throws IOException {
+        // Given
+        Connection connection = Connection.from(TestTarget.TestTargetBuilder.builder()
+            .withTargetId("ssh")
+            .withUrl("ssh://localhost:2222")
+            .withProperty("maxSessions", "2")
+            .build());
+        ChannelPermits sut = new ChannelPermits(connection);
+        sut.acquire(10);
+        sut.acquire(10);
+
+        // When
+        assertThatThrownBy(() -> sut.acquire(10))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("2 are already opened");
+        sut.release();
+
+        // Then
+        sut.acquire(10);
+    }
+
+    @Test
+    void should_default_to_openssh_max_sessions() {
+        Connection connection = Connection.from(TestTarget.TestTargetBuilder.builder()
+            .withTargetId("ssh")
+            .withUrl("ssh://localhost:2222")
+            .build());
+
+        assertThat(connection.maxSessions).isEqualTo(10);
+    }
+}
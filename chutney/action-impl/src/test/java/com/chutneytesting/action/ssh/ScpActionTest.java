@@ -24,6 +24,7 @@ import java.util.List;
 import org.apache.sshd.server.SshServer;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledOnOs;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -91,6 +92,22 @@ public class ScpActionTest {
         assertThat(Files.exists(expectedFile)).isTrue();
     }
 
+    @Test
+    void should_transfer_files_over_one_shared_session() {
+        // Given
+        Target target = FakeTargetInfo.buildTargetWithPassword(credentialSshServer);
+        String srcFile = ScpActionTest.class.getResource(ScpActionTest.class.getSimpleName() + ".class").getPath();
+
+        // When
+        ActionExecutionResult firstResult = new ScpUploadAction(target, mock(Logger.class), srcFile, temporaryFolder.resolve("first").toString(), "10 s").execute();
+        ActionExecutionResult secondResult = new ScpUploadAction(target, mock(Logger.class), srcFile, temporaryFolder.resolve("second").toString(), "10 s").execute();
+
+        // Then
+        assertThat(firstResult.status).isEqualTo(Success);
+        assertThat(secondResult.status).isEqualTo(Success);
+        assertThat(credentialSshServer.getActiveSessions()).hasSize(1);
+    }
+
     public static List<Arguments> securedTargets() {
         return List.of(
             Arguments.of(FakeTargetInfo.buildTargetWithPassword(credentialSshServer)),
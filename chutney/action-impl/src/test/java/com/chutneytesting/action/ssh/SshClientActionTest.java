@@ -8,6 +8,7 @@
 package com.chutneytesting.action.ssh;
 
 import static com.chutneytesting.action.spi.ActionExecutionResult.Status.Failure;
+import static com.chutneytesting.action.spi.ActionExecutionResult.Status.Success;
 import static com.chutneytesting.action.ssh.fakes.FakeServerSsh.buildLocalSshServer;
 import static com.chutneytesting.action.ssh.fakes.FakeTargetInfo.buildTargetWithPassword;
 import static com.chutneytesting.action.ssh.fakes.FakeTargetInfo.buildTargetWithPrivateKeyWithPassphrase;
@@ -131,6 +132,26 @@ public class SshClientActionTest {
         assertThat(actualResult.status).isEqualTo(Failure);
     }
 
+    @Test
+    public void should_execute_consecutive_commands_over_one_shared_connection() throws IOException {
+        // Given
+        SshServer sshServer = buildLocalSshServer();
+        sshServer.start();
+        try {
+            Target target = buildTargetWithPassword(sshServer);
+            new SshClientAction(target, new TestLogger(), singletonList("echo Hello"), null).execute();
+
+            // When
+            ActionExecutionResult actualResult = new SshClientAction(target, new TestLogger(), List.of("echo Hello", "echo World"), null).execute();
+
+            // Then
+            assertThat(actualResult.status).isEqualTo(Success);
+            assertThat(sshServer.getActiveSessions()).hasSize(1);
+        } finally {
+            sshServer.stop();
+        }
+    }
+
     @Test
     void should_validate_all_input() {
         SshClientAction sshClientAction = new SshClientAction(null, null, null, null);
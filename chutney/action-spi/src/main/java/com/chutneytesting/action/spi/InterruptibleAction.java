@@ -0,0 +1,21 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.spi;
+
+/**
+ * Marking interface for an {@link Action} which only sleeps or waits on its executing thread,
+ * while any I/O is done by other threads (messages listeners, client threads...).<br>
+ * The executing thread of such an action is interrupted when its scenario execution is stopped,
+ * and the action should then return as soon as possible.
+ * <p>
+ * Other actions are never interrupted and run to completion on stop:
+ * interrupting a thread blocked in an I/O operation on a NIO channel closes the channel,
+ * which may be a connection shared with other executions.
+ */
+public interface InterruptibleAction extends Action {
+}
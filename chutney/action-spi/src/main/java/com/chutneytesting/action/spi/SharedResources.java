@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Resources kept by actions beyond a single execution (connection pools, clients, sessions...).
+ * <p>
+ * Actions register them once, the engine closes them all when it shuts down.
+ * Actions keep them in a {@link Lazy} holder, so they are created on first use and created again when used after the engine shut down.
+ */
+public final class SharedResources {
+
+    private static final List<AutoCloseable> RESOURCES = new CopyOnWriteArrayList<>();
+
+    private SharedResources() {
+    }
+
+    public static <T extends AutoCloseable> T register(T resource) {
+        RESOURCES.add(resource);
+        return resource;
+    }
+
+    /**
+     * @param isClosed tells whether the held resource has been closed and must be created again
+     */
+    public static <T> Lazy<T> lazy(Predicate<T> isClosed) {
+        return new Lazy<>(isClosed);
+    }
+
+    /**
+     * Close and forget all registered resources.
+     *
+     * @throws IllegalStateException when at least one resource failed to close, others are closed anyway
+     */
+    public static void closeAll() {
+        List<AutoCloseable> resources = new ArrayList<>(RESOURCES);
+        RESOURCES.removeAll(resources);
+        IllegalStateException failure = null;
+        for (AutoCloseable resource : resources) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = new IllegalStateException("Cannot close all shared resources");
+                }
+                failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Holder of a resource created on first {@link #get}, and created again by next {@link #get} once closed.
+     * Created resources are expected to register themselves, see {@link #register(AutoCloseable)}.
+     */
+    public static final class Lazy<T> {
+        private final Predicate<T> isClosed;
+        private T resource;
+
+        private Lazy(Predicate<T> isClosed) {
+            this.isClosed = isClosed;
+        }
+
+        /**
+         * @param factory creating the resource when there is none, or when it has been closed
+         */
+        public synchronized T get(Supplier<T> factory) {
+            if (resource == null || isClosed.test(resource)) {
+                resource = factory.get();
+            }
+            return resource;
+        }
+    }
+}
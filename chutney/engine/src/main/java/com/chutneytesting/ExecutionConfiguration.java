@@ -26,7 +26,9 @@ import com.chutneytesting.engine.domain.execution.ExecutionEngine;
 import com.chutneytesting.engine.domain.execution.ExecutionManager;
 import com.chutneytesting.engine.domain.execution.engine.DefaultExecutionEngine;
 import com.chutneytesting.engine.domain.execution.engine.DefaultStepExecutor;
+import com.chutneytesting.engine.domain.execution.engine.EnvironmentConcurrencyLimits;
 import com.chutneytesting.engine.domain.execution.engine.evaluation.StepDataEvaluator;
+import com.chutneytesting.engine.domain.execution.engine.step.SnapshotPolicy;
 import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctionCallback;
 import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctions;
 import com.chutneytesting.engine.domain.execution.strategies.StepExecutionStrategies;
@@ -43,6 +45,7 @@ import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.util.ReflectionUtils;
 
 public class ExecutionConfiguration {
@@ -57,13 +60,31 @@ public class ExecutionConfiguration {
     private final SpelFunctions spelFunctions;
     private final Set<StepExecutionStrategy> stepExecutionStrategies;
     private final Long reporterTTL;
+    private final int spelExpressionCacheSize;
+    private final SpelCompilerMode spelCompilerMode;
+    private final SnapshotPolicy snapshotPolicy;
 
     public ExecutionConfiguration() {
         this(5L, Executors.newFixedThreadPool(10), emptyMap(), null, null);
     }
 
     public ExecutionConfiguration(Long reporterTTL, ExecutorService actionExecutor, Map<String, String> actionsConfiguration, String user, String password) {
+        this(reporterTTL, actionExecutor, actionsConfiguration, user, password, StepDataEvaluator.DEFAULT_EXPRESSION_CACHE_SIZE, SpelCompilerMode.OFF);
+    }
+
+    public ExecutionConfiguration(Long reporterTTL, ExecutorService actionExecutor, Map<String, String> actionsConfiguration, String user, String password, int spelExpressionCacheSize, SpelCompilerMode spelCompilerMode) {
+        this(reporterTTL, actionExecutor, actionsConfiguration, user, password, spelExpressionCacheSize, spelCompilerMode, EnvironmentConcurrencyLimits.UNLIMITED);
+    }
+
+    public ExecutionConfiguration(Long reporterTTL, ExecutorService actionExecutor, Map<String, String> actionsConfiguration, String user, String password, int spelExpressionCacheSize, SpelCompilerMode spelCompilerMode, EnvironmentConcurrencyLimits environmentConcurrencyLimits) {
+        this(reporterTTL, actionExecutor, actionsConfiguration, user, password, spelExpressionCacheSize, spelCompilerMode, environmentConcurrencyLimits, SnapshotPolicy.UNLIMITED);
+    }
+
+    public ExecutionConfiguration(Long reporterTTL, ExecutorService actionExecutor, Map<String, String> actionsConfiguration, String user, String password, int spelExpressionCacheSize, SpelCompilerMode spelCompilerMode, EnvironmentConcurrencyLimits environmentConcurrencyLimits, SnapshotPolicy snapshotPolicy) {
         this.reporterTTL = reporterTTL;
+        this.snapshotPolicy = snapshotPolicy;
+        this.spelExpressionCacheSize = spelExpressionCacheSize;
+        this.spelCompilerMode = spelCompilerMode;
 
         ActionTemplateLoader actionTemplateLoaderV2 = createActionTemplateLoaderV2();
         spelFunctions = createSpelFunctions();
@@ -71,7 +92,7 @@ public class ExecutionConfiguration {
 
         actionTemplateRegistry = new DefaultActionTemplateRegistry(new ActionTemplateLoaders(singletonList(actionTemplateLoaderV2)));
         reporter = createReporter();
-        executionEngine = createExecutionEngine(actionExecutor, user, password);
+        executionEngine = createExecutionEngine(actionExecutor, user, password, environmentConcurrencyLimits);
         embeddedTestEngine = createEmbeddedTestEngine(new EngineActionsConfiguration(actionsConfiguration));
     }
 
@@ -126,17 +147,18 @@ public class ExecutionConfiguration {
         return new Reporter(reporterTTL);
     }
 
-    private ExecutionEngine createExecutionEngine(ExecutorService actionExecutor, String user, String password) {
+    private ExecutionEngine createExecutionEngine(ExecutorService actionExecutor, String user, String password, EnvironmentConcurrencyLimits environmentConcurrencyLimits) {
         return new DefaultExecutionEngine(
-            new StepDataEvaluator(spelFunctions),
-            new StepExecutionStrategies(stepExecutionStrategies),
+            new StepDataEvaluator(spelFunctions, spelExpressionCacheSize, spelCompilerMode),
+            new StepExecutionStrategies(stepExecutionStrategies, actionExecutor),
             new DelegationService(new DefaultStepExecutor(actionTemplateRegistry), new HttpClient(user, password)),
             reporter,
-            actionExecutor);
+            actionExecutor,
+            environmentConcurrencyLimits);
     }
 
     private TestEngine createEmbeddedTestEngine(ActionsConfiguration actionsConfiguration) {
-        return new EmbeddedTestEngine(executionEngine, reporter, new ExecutionManager(), actionsConfiguration);
+        return new EmbeddedTestEngine(executionEngine, reporter, new ExecutionManager(), actionsConfiguration, snapshotPolicy);
     }
 
     @SuppressWarnings("unchecked")
@@ -14,6 +14,7 @@ import com.chutneytesting.engine.domain.execution.ScenarioExecution;
 import com.chutneytesting.engine.domain.execution.StepDefinition;
 import com.chutneytesting.engine.domain.execution.engine.Dataset;
 import com.chutneytesting.engine.domain.execution.engine.Environment;
+import com.chutneytesting.engine.domain.execution.engine.step.SnapshotPolicy;
 import com.chutneytesting.engine.domain.report.Reporter;
 import io.reactivex.rxjava3.core.Observable;
 import java.util.Optional;
@@ -24,12 +25,18 @@ public final class EmbeddedTestEngine implements TestEngine {
     private final Reporter reporter;
     private final ExecutionManager executionManager;
     private final ActionsConfiguration actionsConfiguration;
+    private final SnapshotPolicy snapshotPolicy;
 
     public EmbeddedTestEngine(ExecutionEngine engine, Reporter reporter, ExecutionManager executionManager, ActionsConfiguration actionsConfiguration) {
+        this(engine, reporter, executionManager, actionsConfiguration, SnapshotPolicy.UNLIMITED);
+    }
+
+    public EmbeddedTestEngine(ExecutionEngine engine, Reporter reporter, ExecutionManager executionManager, ActionsConfiguration actionsConfiguration, SnapshotPolicy snapshotPolicy) {
         this.engine = engine;
         this.reporter = reporter;
         this.executionManager = executionManager;
         this.actionsConfiguration = actionsConfiguration;
+        this.snapshotPolicy = snapshotPolicy;
     }
 
     @Override
@@ -48,14 +55,16 @@ public final class EmbeddedTestEngine implements TestEngine {
         return engine.execute(
             stepDefinition,
             dataset,
-            ScenarioExecution.createScenarioExecution(actionsConfiguration),
+            ScenarioExecution.createScenarioExecution(actionsConfiguration, snapshotPolicy),
             environment);
     }
 
     @Override
     public Observable<StepExecutionReportDto> receiveNotification(Long executionId) {
-        return reporter.subscribeOnExecution(executionId)
-            .map(StepExecutionReportMapper::toDto);
+        return Observable.defer(() ->
+            reporter.subscribeOnExecution(executionId)
+                .map(new StepExecutionReportMapper.IncrementalMapper()::apply)
+        );
     }
 
     @Override
@@ -12,7 +12,9 @@ import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 class StepExecutionReportMapper {
@@ -21,6 +23,10 @@ class StepExecutionReportMapper {
     }
 
     static StepExecutionReportDto toDto(StepExecutionReport report) {
+        return toDto(report, StepExecutionReportMapper::toDto);
+    }
+
+    private static StepExecutionReportDto toDto(StepExecutionReport report, Function<StepExecutionReport, StepExecutionReportDto> subStepMapper) {
         return new StepExecutionReportDto(
             report.name,
             report.environment,
@@ -29,7 +35,7 @@ class StepExecutionReportMapper {
             StatusMapper.toDto(report.status),
             report.information,
             report.errors,
-            report.steps.stream().map(StepExecutionReportMapper::toDto).collect(Collectors.toList()),
+            report.steps.stream().map(subStepMapper).collect(Collectors.toList()),
             StepContextMapper.toDto(report.scenarioContext, report.evaluatedInputsSnapshot, report.stepResultsSnapshot),
             report.type,
             report.targetName,
@@ -38,6 +44,32 @@ class StepExecutionReportMapper {
         );
     }
 
+    /**
+     * Stateful mapper for successive reports of one execution.
+     * Sub reports already mapped from previous report are reused, only new ones are mapped.
+     */
+    static class IncrementalMapper implements Function<StepExecutionReport, StepExecutionReportDto> {
+
+        private Map<StepExecutionReport, StepExecutionReportDto> previousDtos = new IdentityHashMap<>();
+
+        @Override
+        public synchronized StepExecutionReportDto apply(StepExecutionReport report) {
+            Map<StepExecutionReport, StepExecutionReportDto> currentDtos = new IdentityHashMap<>();
+            StepExecutionReportDto dto = toDto(report, currentDtos);
+            previousDtos = currentDtos;
+            return dto;
+        }
+
+        private StepExecutionReportDto toDto(StepExecutionReport report, Map<StepExecutionReport, StepExecutionReportDto> currentDtos) {
+            StepExecutionReportDto dto = previousDtos.get(report);
+            if (dto == null) {
+                dto = StepExecutionReportMapper.toDto(report, subReport -> toDto(subReport, currentDtos));
+            }
+            currentDtos.put(report, dto);
+            return dto;
+        }
+    }
+
     static class StepContextMapper {
 
         @SuppressWarnings("unchecked")
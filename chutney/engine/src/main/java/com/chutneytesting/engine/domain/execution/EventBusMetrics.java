@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Live figures of {@link RxBus} dispatching.
+ */
+public class EventBusMetrics {
+
+    private final LongAdder dispatchedEvents = new LongAdder();
+    private final LongAdder dispatchTotalNanos = new LongAdder();
+    private final AtomicLong dispatchMaxNanos = new AtomicLong();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final IntSupplier activeExecutionChannels;
+
+    EventBusMetrics(IntSupplier activeExecutionChannels) {
+        this.activeExecutionChannels = activeExecutionChannels;
+    }
+
+    void eventQueued() {
+        queueDepth.incrementAndGet();
+    }
+
+    void eventDequeued() {
+        queueDepth.decrementAndGet();
+    }
+
+    void eventDispatched(long nanos) {
+        dispatchedEvents.increment();
+        dispatchTotalNanos.add(nanos);
+        dispatchMaxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * @return number of events waiting for their channel to be free
+     */
+    public long queueDepth() {
+        return queueDepth.get();
+    }
+
+    public long dispatchedEvents() {
+        return dispatchedEvents.sum();
+    }
+
+    public double dispatchTotalTime(TimeUnit unit) {
+        return (double) dispatchTotalNanos.sum() / unit.toNanos(1);
+    }
+
+    public double dispatchMaxTime(TimeUnit unit) {
+        return (double) dispatchMaxNanos.get() / unit.toNanos(1);
+    }
+
+    public int activeExecutionChannels() {
+        return activeExecutionChannels.getAsInt();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live figures of {@link ScenarioExecution} pause, resume and stop commands.
+ */
+public class ExecutionControlMetrics {
+
+    private final AtomicInteger pausedExecutions = new AtomicInteger();
+    private final LongAdder pauses = new LongAdder();
+    private final LongAdder stops = new LongAdder();
+    private final LongAdder interruptedActions = new LongAdder();
+
+    ExecutionControlMetrics() {
+    }
+
+    void executionPaused() {
+        pausedExecutions.incrementAndGet();
+        pauses.increment();
+    }
+
+    void executionResumed() {
+        pausedExecutions.decrementAndGet();
+    }
+
+    void executionStopped() {
+        stops.increment();
+    }
+
+    void actionInterrupted() {
+        interruptedActions.increment();
+    }
+
+    /**
+     * @return number of executions currently paused
+     */
+    public int pausedExecutions() {
+        return pausedExecutions.get();
+    }
+
+    public long pauses() {
+        return pauses.sum();
+    }
+
+    public long stops() {
+        return stops.sum();
+    }
+
+    /**
+     * @return number of actions interrupted by a stop request
+     */
+    public long interruptedActions() {
+        return interruptedActions.sum();
+    }
+}
@@ -14,37 +14,138 @@ import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.subjects.PublishSubject;
 import io.reactivex.rxjava3.subjects.Subject;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Events are routed by type and, for {@link Event}, by execution id.
+ * <ul>
+ *     <li>{@link #register(Class, Consumer)} subscribes to one event type, whatever the execution</li>
+ *     <li>{@link #registerOnExecutionId(Class, long, Consumer)} subscribes to one event type of one execution</li>
+ * </ul>
+ * Each channel dispatches its events sequentially to its subscribers, so concurrent executions do not contend on the same lock.
+ * Execution channels are created on first registration, and dropped with {@link #releaseExecution(long)}
+ * or when their last subscription is disposed.
+ */
 public class RxBus {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RxBus.class);
     private static final RxBus INSTANCE = new RxBus();
 
     public static RxBus getInstance() {
         return INSTANCE;
     }
 
-    private final Subject<Object> bus = PublishSubject.create().toSerialized();
+    private final Map<Class<?>, EventChannel> typeChannels = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Class<?>, EventChannel>> executionChannels = new ConcurrentHashMap<>();
+    private final Subject<Object> allEvents = PublishSubject.create().toSerialized();
+    private final EventBusMetrics metrics = new EventBusMetrics(executionChannels::size);
 
     public void post(Object event) {
-        bus.onNext(event);
+        long start = System.nanoTime();
+        Optional.ofNullable(typeChannels.get(event.getClass()))
+            .ifPresent(channel -> channel.publish(event));
+        if (event instanceof Event executionEvent) {
+            Optional.ofNullable(executionChannels.get(executionEvent.executionId()))
+                .map(channels -> channels.get(event.getClass()))
+                .ifPresent(channel -> channel.publish(event));
+        }
+        if (allEvents.hasObservers()) {
+            allEvents.onNext(event);
+        }
+        metrics.eventDispatched(System.nanoTime() - start);
     }
 
     public <T> Disposable register(final Class<T> eventClass, Consumer<T> onNext) {
-        return bus
-            .filter(event -> event.getClass().equals(eventClass))
-            .map(obj -> (T) obj)
+        return typeChannels
+            .computeIfAbsent(eventClass, c -> new EventChannel())
             .subscribe(onNext);
     }
 
+    @SuppressWarnings("unchecked")
     public <T extends Event> Disposable registerOnExecutionId(final Class<T> eventClass, long executionId, Consumer<? super Event> onNext) {
-        return bus
-            .filter(event -> event.getClass().equals(eventClass))
-            .map(obj -> (T) obj)
-            .filter(e -> e.executionId() == executionId)
-            .subscribe(onNext);
+        Consumer<Object> subscriber = (Consumer<Object>) onNext;
+        // Atomic with release and unregistration of the same execution, so no subscription is added to dropped channels
+        executionChannels.compute(executionId, (id, channels) -> {
+            Map<Class<?>, EventChannel> idChannels = channels != null ? channels : new ConcurrentHashMap<>();
+            idChannels.computeIfAbsent(eventClass, c -> new EventChannel()).add(subscriber);
+            return idChannels;
+        });
+        return Disposable.fromAction(() -> unregisterOnExecutionId(eventClass, executionId, subscriber));
+    }
+
+    private void unregisterOnExecutionId(Class<?> eventClass, long executionId, Consumer<Object> subscriber) {
+        executionChannels.computeIfPresent(executionId, (id, channels) -> {
+            Optional.ofNullable(channels.get(eventClass)).ifPresent(channel -> channel.remove(subscriber));
+            return channels.values().stream().allMatch(EventChannel::isEmpty) ? null : channels;
+        });
     }
 
+    /**
+     * Drop all channels of an execution.
+     * Events posted afterward for this execution only reach type subscribers.
+     */
+    public void releaseExecution(long executionId) {
+        executionChannels.remove(executionId);
+    }
+
+    /**
+     * Observe every posted event.
+     * Prefer typed registrations since this one sees events of all executions.
+     */
     public Observable<Object> toObservable() {
-        return bus;
+        return allEvents;
+    }
+
+    public EventBusMetrics metrics() {
+        return metrics;
+    }
+
+    private class EventChannel {
+
+        private final List<Consumer<Object>> subscribers = new CopyOnWriteArrayList<>();
+        private final ReentrantLock dispatchLock = new ReentrantLock();
+
+        @SuppressWarnings("unchecked")
+        private Disposable subscribe(Consumer<?> onNext) {
+            Consumer<Object> subscriber = (Consumer<Object>) onNext;
+            add(subscriber);
+            return Disposable.fromAction(() -> remove(subscriber));
+        }
+
+        private void add(Consumer<Object> subscriber) {
+            subscribers.add(subscriber);
+        }
+
+        private void remove(Consumer<Object> subscriber) {
+            subscribers.remove(subscriber);
+        }
+
+        private boolean isEmpty() {
+            return subscribers.isEmpty();
+        }
+
+        private void publish(Object event) {
+            metrics.eventQueued();
+            dispatchLock.lock();
+            try {
+                metrics.eventDequeued();
+                for (Consumer<Object> subscriber : subscribers) {
+                    try {
+                        subscriber.accept(event);
+                    } catch (Throwable t) {
+                        LOGGER.error("Event subscriber failed on {}", event.getClass().getSimpleName(), t);
+                    }
+                }
+            } finally {
+                dispatchLock.unlock();
+            }
+        }
     }
 }
@@ -12,32 +12,59 @@ import com.chutneytesting.action.spi.injectable.ActionsConfiguration;
 import com.chutneytesting.engine.domain.execution.command.PauseExecutionCommand;
 import com.chutneytesting.engine.domain.execution.command.ResumeExecutionCommand;
 import com.chutneytesting.engine.domain.execution.command.StopExecutionCommand;
+import com.chutneytesting.engine.domain.execution.engine.step.SnapshotPolicy;
 import com.chutneytesting.engine.domain.execution.event.EndScenarioExecutionEvent;
 import io.reactivex.rxjava3.disposables.Disposable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Execution of a scenario, controlled by pause, resume and stop commands received on {@link RxBus}.
+ * <p>
+ * Commands are handled with a lock and a condition signaled on each command, so that:
+ * <ul>
+ *     <li>Resume and stop wake up paused threads right away</li>
+ *     <li>Waiting threads are parked, releasing their carrier thread when running on virtual threads</li>
+ *     <li>Stop interrupts threads executing interruptible actions, see {@link #interruptibleOnStop()}</li>
+ * </ul>
+ */
 public class ScenarioExecution {
 
+    private static final ExecutionControlMetrics CONTROL_METRICS = new ExecutionControlMetrics();
+
     private final List<FinallyAction> finallyActions = new ArrayList<>();
     private final ActionsConfiguration actionConfiguration;
+    private final SnapshotPolicy snapshotPolicy;
     public final long executionId;
 
-    private boolean pause = false;
-    private boolean stop = false;
+    private final Lock controlLock = new ReentrantLock();
+    private final Condition controlChanged = controlLock.newCondition();
+    private final Set<Interruptible> interruptibles = ConcurrentHashMap.newKeySet();
+    private volatile boolean pause = false;
+    private volatile boolean stop = false;
 
     private Disposable endExecutionSubscriber;
 
     public static ScenarioExecution createScenarioExecution(ActionsConfiguration actionConfiguration) {
+        return createScenarioExecution(actionConfiguration, SnapshotPolicy.UNLIMITED);
+    }
+
+    public static ScenarioExecution createScenarioExecution(ActionsConfiguration actionConfiguration, SnapshotPolicy snapshotPolicy) {
         long executionId = UUID.randomUUID().getMostSignificantBits();
-        return new ScenarioExecution(executionId, actionConfiguration);
+        return new ScenarioExecution(executionId, actionConfiguration, snapshotPolicy);
     }
 
-    private ScenarioExecution(long executionId, ActionsConfiguration actionConfiguration) {
+    private ScenarioExecution(long executionId, ActionsConfiguration actionConfiguration, SnapshotPolicy snapshotPolicy) {
         this.executionId = executionId;
         this.actionConfiguration = actionConfiguration;
+        this.snapshotPolicy = snapshotPolicy;
 
         final Disposable pauseSubscriber = RxBus.getInstance()
             .registerOnExecutionId(PauseExecutionCommand.class, executionId, e -> this.pause());
@@ -47,10 +74,12 @@ public class ScenarioExecution {
             .registerOnExecutionId(ResumeExecutionCommand.class, executionId, e -> this.resume());
 
         endExecutionSubscriber = RxBus.getInstance().registerOnExecutionId(EndScenarioExecutionEvent.class, executionId, e -> {
+            this.resume();
             pauseSubscriber.dispose();
             stopSubscriber.dispose();
             resumeSubscriber.dispose();
             endExecutionSubscriber.dispose();
+            RxBus.getInstance().releaseExecution(executionId);
         });
     }
 
@@ -58,18 +87,75 @@ public class ScenarioExecution {
         finallyActions.add(finallyAction);
     }
 
+    public static ExecutionControlMetrics controlMetrics() {
+        return CONTROL_METRICS;
+    }
+
     public void initFinallyActionExecution() {
         this.stop = false; // In case of a stopped scenario, we should set it to false in order to execute finally actions
     }
 
+    /**
+     * Wait for the execution to be resumed or stopped.
+     */
     public void waitForRestart() {
-        while (pause) {
-            try {
-                TimeUnit.SECONDS.sleep(1);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+        controlLock.lock();
+        try {
+            while (pause && !stop) {
+                controlChanged.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Waiting for execution restart have been interrupted", e);
+        } finally {
+            controlLock.unlock();
+        }
+    }
+
+    /**
+     * Wait for the given delay unless execution is stopped before.
+     *
+     * @return true if the execution has been stopped
+     */
+    public boolean awaitStop(long delay, TimeUnit unit) {
+        long nanosLeft = unit.toNanos(delay);
+        controlLock.lock();
+        try {
+            while (!stop && nanosLeft > 0) {
+                nanosLeft = controlChanged.awaitNanos(nanosLeft);
+            }
+            return stop;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Waiting for execution stop have been interrupted", e);
+        } finally {
+            controlLock.unlock();
+        }
+    }
+
+    /**
+     * Register current thread to be interrupted if a stop is requested, until returned handle is closed.
+     * Interruption status set by the stop request is cleared on close.
+     */
+    public Interruptible interruptibleOnStop() {
+        Interruptible interruptible = new Interruptible(Thread.currentThread());
+        controlLock.lock();
+        try {
+            interruptibles.add(interruptible);
+            if (stop) {
+                interruptible.interrupt();
             }
+        } finally {
+            controlLock.unlock();
         }
+        return interruptible;
+    }
+
+    /**
+     * @return a handle for a thread which must not be interrupted by stop requests
+     */
+    public Interruptible notInterruptible() {
+        return new Interruptible(null);
     }
 
     public boolean hasToPause() {
@@ -81,22 +167,98 @@ public class ScenarioExecution {
     }
 
     private void pause() {
-        pause = true;
+        controlLock.lock();
+        try {
+            if (!pause) {
+                pause = true;
+                CONTROL_METRICS.executionPaused();
+            }
+            controlChanged.signalAll();
+        } finally {
+            controlLock.unlock();
+        }
     }
 
     private void stop() {
-        stop = true;
+        controlLock.lock();
+        try {
+            stop = true;
+            CONTROL_METRICS.executionStopped();
+            interruptibles.forEach(Interruptible::interrupt);
+            controlChanged.signalAll();
+        } finally {
+            controlLock.unlock();
+        }
     }
 
     private void resume() {
-        pause = false;
+        controlLock.lock();
+        try {
+            if (pause) {
+                pause = false;
+                CONTROL_METRICS.executionResumed();
+            }
+            controlChanged.signalAll();
+        } finally {
+            controlLock.unlock();
+        }
     }
 
     public ActionsConfiguration getActionsConfiguration() {
         return actionConfiguration;
     }
 
+    /**
+     * @return how steps inputs and outputs are captured at their end
+     */
+    public SnapshotPolicy snapshotPolicy() {
+        return snapshotPolicy;
+    }
+
     public List<FinallyAction> finallyActions() {
         return finallyActions;
     }
+
+    public class Interruptible implements AutoCloseable {
+
+        private final Thread thread;
+        private boolean interrupted = false;
+
+        private Interruptible(Thread thread) {
+            this.thread = thread;
+        }
+
+        private void interrupt() {
+            if (thread != null && !interrupted) {
+                interrupted = true;
+                CONTROL_METRICS.actionInterrupted();
+                thread.interrupt();
+            }
+        }
+
+        /**
+         * @return true if a stop request interrupted the thread
+         */
+        public boolean interrupted() {
+            controlLock.lock();
+            try {
+                return interrupted;
+            } finally {
+                controlLock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            controlLock.lock();
+            try {
+                interruptibles.remove(this);
+                if (interrupted) {
+                    Thread.interrupted();
+                }
+            } finally {
+                controlLock.unlock();
+            }
+        }
+    }
 }
@@ -15,6 +15,7 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 import com.chutneytesting.action.spi.FinallyAction;
+import com.chutneytesting.action.spi.SharedResources;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.engine.domain.delegation.DelegationService;
 import com.chutneytesting.engine.domain.execution.ExecutionEngine;
@@ -52,17 +53,28 @@ public class DefaultExecutionEngine implements ExecutionEngine {
     private final StepExecutionStrategies stepExecutionStrategies;
     private final DelegationService delegationService;
     private final Reporter reporter;
+    private final EnvironmentConcurrencyLimits environmentConcurrencyLimits;
 
     public DefaultExecutionEngine(StepDataEvaluator dataEvaluator,
                                   StepExecutionStrategies stepExecutionStrategies,
                                   DelegationService delegationService,
                                   Reporter reporter,
                                   ExecutorService actionExecutor) {
+        this(dataEvaluator, stepExecutionStrategies, delegationService, reporter, actionExecutor, EnvironmentConcurrencyLimits.UNLIMITED);
+    }
+
+    public DefaultExecutionEngine(StepDataEvaluator dataEvaluator,
+                                  StepExecutionStrategies stepExecutionStrategies,
+                                  DelegationService delegationService,
+                                  Reporter reporter,
+                                  ExecutorService actionExecutor,
+                                  EnvironmentConcurrencyLimits environmentConcurrencyLimits) {
         this.dataEvaluator = dataEvaluator;
         this.stepExecutionStrategies = stepExecutionStrategies != null ? stepExecutionStrategies : new StepExecutionStrategies();
         this.delegationService = delegationService;
         this.reporter = reporter;
         this.actionExecutor = actionExecutor;
+        this.environmentConcurrencyLimits = environmentConcurrencyLimits;
     }
 
     @Override
@@ -71,7 +83,8 @@ public class DefaultExecutionEngine implements ExecutionEngine {
         AtomicReference<Step> rootStep = new AtomicReference<>(Step.nonExecutable(stepDefinition));
         reporter.createPublisher(execution.executionId, rootStep.get());
 
-        actionExecutor.execute(() -> {
+        String environmentName = environment != null ? environment.name() : null;
+        environmentConcurrencyLimits.execute(environmentName, actionExecutor, () -> {
             final ScenarioContext scenarioContext = new ScenarioContextImpl();
             try {
                 try {
@@ -99,6 +112,10 @@ public class DefaultExecutionEngine implements ExecutionEngine {
             } finally {
                 RxBus.getInstance().post(new EndScenarioExecutionEvent(execution, rootStep.get()));
             }
+        }, rejection -> {
+            // Waited for a free slot of its environment, but cannot run anymore
+            rootStep.get().failure(rejection);
+            RxBus.getInstance().post(new EndScenarioExecutionEvent(execution, rootStep.get()));
         });
 
         return execution.executionId;
@@ -115,6 +132,11 @@ public class DefaultExecutionEngine implements ExecutionEngine {
     @Override
     public void shutdown() {
         actionExecutor.shutdown();
+        try {
+            SharedResources.closeAll();
+        } catch (IllegalStateException e) {
+            LOGGER.warn("Actions shared resources did not close properly !", e);
+        }
     }
 
     private Map<String, ?> evaluateDatasetConstants(Dataset dataset, ScenarioContext scenarioContext) {
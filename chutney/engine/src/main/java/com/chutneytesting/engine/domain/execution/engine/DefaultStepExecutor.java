@@ -14,6 +14,7 @@ import com.chutneytesting.action.domain.ActionTemplateRegistry;
 import com.chutneytesting.action.domain.parameter.ParameterResolver;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.InterruptibleAction;
 import com.chutneytesting.action.spi.injectable.ActionsConfiguration;
 import com.chutneytesting.action.spi.injectable.FinallyActionRegistry;
 import com.chutneytesting.action.spi.injectable.Logger;
@@ -50,18 +51,32 @@ public class DefaultStepExecutor implements StepExecutor {
             List<ParameterResolver> parameterResolvers = gatherResolvers(scenarioExecution, targetServer, step);
 
             ActionExecutionResult executionResult;
+            ScenarioExecution.Interruptible interruptible = scenarioExecution.notInterruptible();
             try {
                 Action action = matchedAction.get().create(parameterResolvers);
                 List<String> errors = action.validateInputs();
                 if (errors.isEmpty()) {
+                    if (action instanceof InterruptibleAction) {
+                        interruptible = scenarioExecution.interruptibleOnStop();
+                    }
                     executionResult = action.execute();
-                    step.updateContextFrom(executionResult);
+                    if (interruptible.interrupted()) {
+                        step.stopDuringExecution();
+                    } else {
+                        step.updateContextFrom(executionResult);
+                    }
                 } else {
                     step.failure(errors.toArray(new String[0]));
                 }
             } catch (Exception e) {
-                LOGGER.error("Cannot execute step: ", e);
-                step.failure("Action [" + type + "] failed: " + ofNullable(e.getMessage()).orElse(e.toString()));
+                if (interruptible.interrupted()) {
+                    step.stopDuringExecution();
+                } else {
+                    LOGGER.error("Cannot execute step: ", e);
+                    step.failure("Action [" + type + "] failed: " + ofNullable(e.getMessage()).orElse(e.toString()));
+                }
+            } finally {
+                interruptible.close();
             }
         } else if (type.isEmpty()) {
             step.success();
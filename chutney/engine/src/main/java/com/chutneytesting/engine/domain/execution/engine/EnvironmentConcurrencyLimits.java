@@ -0,0 +1,167 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine;
+
+import static java.util.Collections.emptyMap;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maximum number of scenarios executed at the same time on each environment.
+ * <p>
+ * A limit of zero or less means no limit.
+ * Scenarios over the limit are queued, without holding any executor thread, and dispatched in submission order
+ * when a scenario of the same environment ends.
+ * A waiting scenario rejected by the executor is given to its rejection handler, and the next waiting ones are dispatched.
+ */
+public class EnvironmentConcurrencyLimits {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnvironmentConcurrencyLimits.class);
+
+    public static final EnvironmentConcurrencyLimits UNLIMITED = new EnvironmentConcurrencyLimits(0, emptyMap());
+
+    private final int defaultLimit;
+    private final Map<String, Integer> environmentsLimits;
+    private final Map<String, Slots> slots = new ConcurrentHashMap<>();
+
+    public EnvironmentConcurrencyLimits(int defaultLimit, Map<String, Integer> environmentsLimits) {
+        this.defaultLimit = defaultLimit;
+        this.environmentsLimits = Map.copyOf(environmentsLimits);
+    }
+
+    /**
+     * Execute given task with given executor, now if the environment has a free slot, else when one is freed.
+     *
+     * @throws RejectedExecutionException when the executor rejects the task now
+     */
+    public void execute(String environment, Executor executor, Runnable task) {
+        execute(environment, executor, task, e -> {});
+    }
+
+    /**
+     * Execute given task with given executor, now if the environment has a free slot, else when one is freed.
+     *
+     * @param onRejection called instead of the task when it waited for a free slot and the executor then rejected it
+     * @throws RejectedExecutionException when the executor rejects the task now
+     */
+    public void execute(String environment, Executor executor, Runnable task, Consumer<RejectedExecutionException> onRejection) {
+        Optional<Slots> environmentSlots = slots(environment);
+        if (environmentSlots.isPresent()) {
+            environmentSlots.get().submit(executor, task, onRejection);
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    /**
+     * @return number of scenarios which could start right now on given environment, -1 when unlimited
+     */
+    public int available(String environment) {
+        return slots(environment).map(Slots::available).orElse(-1);
+    }
+
+    /**
+     * @return number of scenarios waiting for a free slot on given environment
+     */
+    public int waiting(String environment) {
+        return slots(environment).map(Slots::waiting).orElse(0);
+    }
+
+    private Optional<Slots> slots(String environment) {
+        if (environment == null) {
+            return Optional.empty();
+        }
+        int limit = environmentsLimits.getOrDefault(environment, defaultLimit);
+        if (limit <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(slots.computeIfAbsent(environment, e -> new Slots(limit)));
+    }
+
+    private static final class Slots {
+        private final int limit;
+        private final Queue<WaitingTask> waitingTasks = new ArrayDeque<>();
+        private int running = 0;
+
+        private Slots(int limit) {
+            this.limit = limit;
+        }
+
+        private void submit(Executor executor, Runnable task, Consumer<RejectedExecutionException> onRejection) {
+            Runnable releasingTask = () -> {
+                try {
+                    task.run();
+                } finally {
+                    release(executor);
+                }
+            };
+            synchronized (this) {
+                if (running >= limit) {
+                    waitingTasks.add(new WaitingTask(releasingTask, onRejection));
+                    return;
+                }
+                running++;
+            }
+            try {
+                executor.execute(releasingTask);
+            } catch (RejectedExecutionException e) {
+                release(executor);
+                throw e;
+            }
+        }
+
+        private void release(Executor executor) {
+            while (true) {
+                WaitingTask next;
+                synchronized (this) {
+                    next = waitingTasks.poll();
+                    if (next == null) {
+                        running--;
+                        return;
+                    }
+                }
+                // Freed slot is handed over to next waiting task, or to the following one when it is rejected
+                try {
+                    executor.execute(next.task());
+                    return;
+                } catch (RejectedExecutionException e) {
+                    LOGGER.warn("Waiting scenario rejected by executor", e);
+                    reject(next, e);
+                }
+            }
+        }
+
+        private static void reject(WaitingTask rejected, RejectedExecutionException e) {
+            try {
+                rejected.onRejection().accept(e);
+            } catch (RuntimeException re) {
+                LOGGER.warn("Rejection handler of waiting scenario failed", re);
+            }
+        }
+
+        private synchronized int available() {
+            return limit - running;
+        }
+
+        private synchronized int waiting() {
+            return waitingTasks.size();
+        }
+    }
+
+    private record WaitingTask(Runnable task, Consumer<RejectedExecutionException> onRejection) {
+    }
+}
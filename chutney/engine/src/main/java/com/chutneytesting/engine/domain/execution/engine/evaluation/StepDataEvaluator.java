@@ -12,35 +12,80 @@ import static com.chutneytesting.engine.domain.execution.engine.evaluation.Strin
 import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.engine.domain.environment.TargetImpl;
 import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.MethodResolver;
 import org.springframework.expression.ParseException;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.ReflectiveMethodResolver;
+import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.StandardTypeLocator;
 
+/**
+ * Evaluates SpEL expressions found in step data.
+ * <p>
+ * Parsed expressions are kept in a bounded cache keyed by their text, so the same expression used by many steps or
+ * iterations is parsed only once. When compilation is enabled ({@link SpelCompilerMode#MIXED}), hot expressions are
+ * compiled to bytecode by Spring after a number of interpreted runs.
+ * <p>
+ * Functions, method filters and resolvers are prepared once; each evaluation only creates a light context reading
+ * variables through the given context map, without copying it.
+ */
 public class StepDataEvaluator {
 
+    public static final int DEFAULT_EXPRESSION_CACHE_SIZE = 4096;
+
     private static final String EVALUATION_STRING_PREFIX = "${";
     private static final String EVALUATION_STRING_SUFFIX = "}";
     private static final String EVALUATION_STRING_ESCAPE = "\\";
     private static final Pattern EVALUATION_OBJECT_PATTERN = Pattern.compile("^(?:" + escapeForRegex(EVALUATION_STRING_ESCAPE) + ")?" + escapeForRegex(EVALUATION_STRING_PREFIX) + "(?:(?!" + escapeForRegex(EVALUATION_STRING_PREFIX) + ").)*" + escapeForRegex(EVALUATION_STRING_SUFFIX) + "$", Pattern.DOTALL);
 
 
-    private final SpelFunctions spelFunctions;
-    private final ExpressionParser parser = new SpelExpressionParser();
+    private final Map<String, Method> functions;
+    private final List<MethodResolver> methodResolvers;
+    private final List<PropertyAccessor> propertyAccessors;
+    private final StandardTypeLocator typeLocator;
+    private final ExpressionParser parser;
+    private final Cache<String, Expression> expressionCache;
 
     public StepDataEvaluator(SpelFunctions spelFunctions) {
-        this.spelFunctions = spelFunctions;
+        this(spelFunctions, DEFAULT_EXPRESSION_CACHE_SIZE, SpelCompilerMode.OFF);
+    }
+
+    public StepDataEvaluator(SpelFunctions spelFunctions, int expressionCacheSize, SpelCompilerMode compilerMode) {
+        this.functions = spelFunctions == null ? Map.of() : Map.copyOf(spelFunctions.stream()
+            .collect(Collectors.toMap(SpelFunctions.NamedFunctionLink::getName, SpelFunctions.NamedFunctionLink::getMethod, (first, last) -> last)));
+
+        ReflectiveMethodResolver methodResolver = new ReflectiveMethodResolver();
+        methodResolver.registerMethodFilter(Runtime.class, methods -> Collections.emptyList());
+        methodResolver.registerMethodFilter(ProcessBuilder.class, methods -> Collections.emptyList());
+        this.methodResolvers = List.of(methodResolver);
+        this.propertyAccessors = List.of(new ReflectivePropertyAccessor());
+        this.typeLocator = new StandardTypeLocator();
+
+        this.parser = new SpelExpressionParser(new SpelParserConfiguration(compilerMode, StepDataEvaluator.class.getClassLoader()));
+        this.expressionCache = CacheBuilder.newBuilder()
+            .maximumSize(expressionCacheSize)
+            .build();
     }
 
     public Map<String, Object> evaluateNamedDataWithContextVariables(final Map<String, Object> data, final Map<String, Object> contextVariables) throws EvaluationException {
@@ -83,14 +128,10 @@ public class StepDataEvaluator {
     }
 
     private StandardEvaluationContext buildEvaluationContext(Map<String, Object> contextVariables) {
-        StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
-        evaluationContext.registerMethodFilter(Runtime.class, methods -> Collections.emptyList());
-        evaluationContext.registerMethodFilter(ProcessBuilder.class, methods -> Collections.emptyList());
-
-        if (spelFunctions != null) {
-            spelFunctions.stream().forEach(f -> evaluationContext.registerFunction(f.getName(), f.getMethod()));
-        }
-        evaluationContext.setVariables(contextVariables);
+        StandardEvaluationContext evaluationContext = new ReadThroughEvaluationContext(contextVariables, functions);
+        evaluationContext.setMethodResolvers(methodResolvers);
+        evaluationContext.setPropertyAccessors(propertyAccessors);
+        evaluationContext.setTypeLocator(typeLocator);
         return evaluationContext;
     }
 
@@ -103,9 +144,9 @@ public class StepDataEvaluator {
         Object inputEvaluatedValue;
         if (object instanceof String stringValue) {
             if (hasOnlyOneSpel(stringValue)) {
-              inputEvaluatedValue = Strings.replaceExpression(stringValue, s -> evaluate(parser, evaluationContext, s), EVALUATION_STRING_PREFIX, EVALUATION_STRING_SUFFIX, EVALUATION_STRING_ESCAPE, silentResolve);
+              inputEvaluatedValue = Strings.replaceExpression(stringValue, s -> evaluate(evaluationContext, s), EVALUATION_STRING_PREFIX, EVALUATION_STRING_SUFFIX, EVALUATION_STRING_ESCAPE, silentResolve);
             } else {
-              inputEvaluatedValue = Strings.replaceExpressions(stringValue, s -> evaluate(parser, evaluationContext, s), EVALUATION_STRING_PREFIX, EVALUATION_STRING_SUFFIX, EVALUATION_STRING_ESCAPE, silentResolve);
+              inputEvaluatedValue = Strings.replaceExpressions(stringValue, s -> evaluate(evaluationContext, s), EVALUATION_STRING_PREFIX, EVALUATION_STRING_SUFFIX, EVALUATION_STRING_ESCAPE, silentResolve);
             }
         } else if (object instanceof Map map) {
             Map evaluatedMap = new LinkedHashMap();
@@ -138,8 +179,8 @@ public class StepDataEvaluator {
         return inputEvaluatedValue;
     }
 
-    private Object evaluate(ExpressionParser parser, final EvaluationContext evaluationContext, String expressionAsString) throws EvaluationException {
-        final Expression expression = parseExpression(parser, expressionAsString);
+    private Object evaluate(final EvaluationContext evaluationContext, String expressionAsString) throws EvaluationException {
+        final Expression expression = parseExpression(expressionAsString);
 
         try {
             Object result = expression.getValue(evaluationContext);
@@ -171,13 +212,53 @@ public class StepDataEvaluator {
         return EVALUATION_OBJECT_PATTERN.matcher(template.trim()).matches();
     }
 
-    private Expression parseExpression(ExpressionParser parser, String expressionAsString) {
-        Expression expression;
-        try {
-            expression = parser.parseExpression(expressionAsString);
-        } catch (ParseException e) {
-            throw new EvaluationException("Cannot parse " + expressionAsString + " , " + e.getMessage(), e);
+    private Expression parseExpression(String expressionAsString) {
+        Expression expression = expressionCache.getIfPresent(expressionAsString);
+        if (expression == null) {
+            try {
+                expression = parser.parseExpression(expressionAsString);
+            } catch (ParseException e) {
+                throw new EvaluationException("Cannot parse " + expressionAsString + " , " + e.getMessage(), e);
+            }
+            expressionCache.put(expressionAsString, expression);
         }
         return expression;
     }
+
+    /**
+     * Evaluation context reading variables through the given context instead of copying them all.
+     * Variables are looked up in this order, so that the most specific one wins:
+     * <ol>
+     *     <li>variables set during evaluation</li>
+     *     <li>context variables, hiding functions with the same name</li>
+     *     <li>functions, shared by all evaluations</li>
+     * </ol>
+     */
+    private static class ReadThroughEvaluationContext extends StandardEvaluationContext {
+
+        private final Map<String, Object> contextVariables;
+        private final Map<String, Method> functions;
+        private final Map<String, Object> evaluationVariables = new HashMap<>();
+
+        private ReadThroughEvaluationContext(Map<String, Object> contextVariables, Map<String, Method> functions) {
+            this.contextVariables = contextVariables;
+            this.functions = functions;
+        }
+
+        @Override
+        public void setVariable(String name, Object value) {
+            evaluationVariables.put(name, value);
+        }
+
+        @Override
+        public Object lookupVariable(String name) {
+            if (evaluationVariables.containsKey(name)) {
+                return evaluationVariables.get(name);
+            }
+            if (contextVariables != null && contextVariables.containsKey(name)) {
+                return contextVariables.get(name);
+            }
+            return functions.get(name);
+        }
+    }
 }
@@ -7,17 +7,15 @@
 
 package com.chutneytesting.engine.domain.execution.engine.evaluation;
 
-import static java.util.Optional.ofNullable;
-
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 abstract class Strings {
 
-    private static final Map<String, Pattern> PATTERN_CACHE = new HashMap<>();
+    private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
 
     private Strings() {
     }
@@ -75,10 +73,6 @@ abstract class Strings {
     }
 
     private static Pattern cachePattern(String pattern) {
-        return ofNullable(PATTERN_CACHE.get(pattern)).orElseGet(() -> {
-            Pattern compiledPattern = Pattern.compile(pattern, Pattern.DOTALL);
-            PATTERN_CACHE.put(pattern, compiledPattern);
-            return compiledPattern;
-        });
+        return PATTERN_CACHE.computeIfAbsent(pattern, p -> Pattern.compile(p, Pattern.DOTALL));
     }
 }
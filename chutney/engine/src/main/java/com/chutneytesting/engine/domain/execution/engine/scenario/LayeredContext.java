@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine.scenario;
+
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read only view over context layers, such as scenario, iteration and step contexts.
+ * <p>
+ * A key is read from the last layer holding it, as if layers were copied one over another in the given order,
+ * without copying them. Layers are read live, so later writes on one of them are visible through the view.
+ * <p>
+ * Lookups cost depends on the number of layers, not on their size. Only iterating over the view merges its layers.
+ */
+public final class LayeredContext extends AbstractMap<String, Object> {
+
+    private final List<Map<String, ?>> layers;
+
+    private LayeredContext(List<Map<String, ?>> layers) {
+        this.layers = layers;
+    }
+
+    /**
+     * @param layers from the lowest priority to the highest one, null layers are ignored
+     */
+    @SafeVarargs
+    public static Map<String, Object> of(Map<String, ?>... layers) {
+        List<Map<String, ?>> flattenLayers = new ArrayList<>(layers.length);
+        for (Map<String, ?> layer : layers) {
+            if (layer instanceof LayeredContext layeredContext) {
+                flattenLayers.addAll(layeredContext.layers);
+            } else if (layer != null) {
+                flattenLayers.add(layer);
+            }
+        }
+        return new LayeredContext(flattenLayers);
+    }
+
+    @Override
+    public Object get(Object key) {
+        for (int i = layers.size() - 1; i >= 0; i--) {
+            Map<String, ?> layer = layers.get(i);
+            Object value = layer.get(key);
+            if (value != null || layer.containsKey(key)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        for (int i = layers.size() - 1; i >= 0; i--) {
+            if (layers.get(i).containsKey(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return merge().size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return unmodifiableSet(merge().entrySet());
+    }
+
+    private Map<String, Object> merge() {
+        Map<String, Object> merged = new LinkedHashMap<>();
+        layers.forEach(merged::putAll);
+        return merged;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine.scenario;
+
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copy on write scenario context over a base one.
+ * <p>
+ * Reads go through to the base context until a key is written, writes and removals are kept in the overlay
+ * and can later be applied to the base context with {@link #applyWritesTo(Map)}.
+ * The base context is never modified, so it can be shared by concurrent overlays as long as nobody else writes it.
+ */
+public class ScenarioContextOverlay extends AbstractMap<String, Object> implements ScenarioContext {
+
+    private static final Object REMOVED = new Object();
+
+    private final Map<String, Object> base;
+    private final Map<String, Object> writes = new LinkedHashMap<>();
+
+    public ScenarioContextOverlay(Map<String, Object> base) {
+        this.base = base;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (writes.containsKey(key)) {
+            Object value = writes.get(key);
+            return value == REMOVED ? null : value;
+        }
+        return base.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (writes.containsKey(key)) {
+            return writes.get(key) != REMOVED;
+        }
+        return base.containsKey(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getOrDefault(String key, T defaultValue) {
+        return containsKey(key) ? (T) get(key) : defaultValue;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        writes.put(key, value);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+        if (key instanceof String stringKey) {
+            writes.put(stringKey, REMOVED);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        merge().keySet().forEach(key -> writes.put(key, REMOVED));
+    }
+
+    @Override
+    public int size() {
+        return merge().size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return unmodifiableSet(merge().entrySet());
+    }
+
+    /**
+     * Apply writes and removals made on this overlay, in order.
+     */
+    public void applyWritesTo(Map<String, Object> target) {
+        writes.forEach((key, value) -> {
+            if (value == REMOVED) {
+                target.remove(key);
+            } else {
+                target.put(key, value);
+            }
+        });
+    }
+
+    private Map<String, Object> merge() {
+        Map<String, Object> merged = new LinkedHashMap<>(base);
+        applyWritesTo(merged);
+        return merged;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine.step;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Out-of-line storage of step inputs and outputs too large to be inlined in reports.
+ * Identifiers are derived from content, so storing the same content twice gives the same identifier.
+ * Storing again some content refreshes its storage instant, so attachments still referenced by recent reports are kept on purge.
+ */
+public interface SnapshotAttachmentStore {
+
+    /**
+     * @return identifier of stored content
+     */
+    String store(byte[] content);
+
+    Optional<byte[]> load(String attachmentId);
+
+    /**
+     * @return number of deleted attachments, last stored before given instant
+     */
+    int deleteStoredBefore(Instant instant);
+}
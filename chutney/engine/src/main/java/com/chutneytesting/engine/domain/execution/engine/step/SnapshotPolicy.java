@@ -0,0 +1,442 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine.step;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.chutneytesting.engine.domain.execution.engine.step.jackson.ReportObjectMapperConfiguration;
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * How step inputs and outputs are captured in reports.
+ * Values are serialized to json trees at step end, so later changes to them are not captured.
+ * <ul>
+ *     <li>Values which texts, field names and scalar values fit in max value length UTF-8 bytes are inlined</li>
+ *     <li>Larger ones are stored as attachments and referenced as {@code {"attachment": <id>, "length": <json bytes length>}} when an attachment store is given</li>
+ *     <li>Otherwise they are truncated, keeping their json structure: serialization stops at max value length,
+ *     the text being written is cut on code points boundaries and ends with {@link #TRUNCATION_MARKER},
+ *     and every array or object left open ends with a {@link #TRUNCATION_MARKER} element or field</li>
+ * </ul>
+ */
+public class SnapshotPolicy {
+
+    public static final SnapshotPolicy UNLIMITED = new SnapshotPolicy(0, null);
+    public static final String TRUNCATION_MARKER = "...[truncated]";
+    public static final String ATTACHMENT_FIELD = "attachment";
+    public static final String LENGTH_FIELD = "length";
+
+    private final int maxValueLength;
+    private final SnapshotAttachmentStore attachmentStore;
+
+    /**
+     * @param maxValueLength  max length in bytes of inlined json values, no limit when not positive
+     * @param attachmentStore store of values exceeding max length, truncated when null
+     */
+    public SnapshotPolicy(int maxValueLength, SnapshotAttachmentStore attachmentStore) {
+        this.maxValueLength = maxValueLength;
+        this.attachmentStore = attachmentStore;
+    }
+
+    public boolean unlimited() {
+        return maxValueLength <= 0;
+    }
+
+    public Optional<SnapshotAttachmentStore> attachmentStore() {
+        return Optional.ofNullable(attachmentStore);
+    }
+
+    /**
+     * Capture value as it is now, whatever later changes to it.
+     *
+     * @return json tree of value, truncated or referencing its attachment when exceeding max value length
+     */
+    Object snapshot(Object value) {
+        ObjectMapper reportObjectMapper = ReportObjectMapperConfiguration.reportObjectMapper();
+        TokenBuffer buffer = new TokenBuffer(reportObjectMapper, false);
+        try {
+            if (unlimited()) {
+                reportObjectMapper.writeValue(buffer, value);
+            } else {
+                CappedGenerator generator = new CappedGenerator(buffer, maxValueLength);
+                try {
+                    reportObjectMapper.writeValue(generator, value);
+                } catch (IOException | RuntimeException e) {
+                    if (!generator.limitReached) {
+                        throw e;
+                    }
+                    if (attachmentStore != null) {
+                        return attachmentReference(reportObjectMapper, reportObjectMapper.writeValueAsBytes(value));
+                    }
+                    closeTruncated(buffer);
+                }
+            }
+            try (JsonParser parser = buffer.asParser()) {
+                return reportObjectMapper.readTree(parser);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ObjectNode attachmentReference(ObjectMapper reportObjectMapper, byte[] json) {
+        ObjectNode reference = reportObjectMapper.createObjectNode();
+        reference.put(ATTACHMENT_FIELD, attachmentStore.store(json));
+        reference.put(LENGTH_FIELD, json.length);
+        return reference;
+    }
+
+    private static void closeTruncated(TokenBuffer buffer) throws IOException {
+        JsonStreamContext context = buffer.getOutputContext();
+        while (!context.inRoot()) {
+            if (context.inArray()) {
+                buffer.writeString(TRUNCATION_MARKER);
+                buffer.writeEndArray();
+            } else {
+                buffer.writeNullField(TRUNCATION_MARKER);
+                buffer.writeEndObject();
+            }
+            context = buffer.getOutputContext();
+        }
+    }
+
+    private static int utf8Length(String text) {
+        return text.codePoints().map(SnapshotPolicy::utf8Length).sum();
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+
+    /**
+     * Generator stopping serialization once max length bytes of texts, field names and scalar values have been written.
+     * A field name which does not fit is not written, a text which does not fit is cut, numbers and booleans are never cut.
+     */
+    private static final class CappedGenerator extends JsonGeneratorDelegate {
+        private int remaining;
+        private boolean limitReached = false;
+
+        private CappedGenerator(JsonGenerator delegate, int maxLength) {
+            super(delegate, false);
+            this.remaining = maxLength;
+        }
+
+        @Override
+        public void writeFieldName(String name) throws IOException {
+            checkLimit();
+            int length = utf8Length(name);
+            if (length > remaining) {
+                stop();
+            }
+            remaining -= length;
+            super.writeFieldName(name);
+        }
+
+        @Override
+        public void writeFieldName(SerializableString name) throws IOException {
+            writeFieldName(name.getValue());
+        }
+
+        @Override
+        public void writeFieldId(long id) throws IOException {
+            writeFieldName(Long.toString(id));
+        }
+
+        @Override
+        public void writeString(String text) throws IOException {
+            checkLimit();
+            if (text == null) {
+                writeNull();
+                return;
+            }
+            int length = utf8Length(text);
+            if (length <= remaining) {
+                remaining -= length;
+                super.writeString(text);
+                return;
+            }
+            StringBuilder kept = new StringBuilder();
+            for (int i = 0; i < text.length(); ) {
+                int codePoint = text.codePointAt(i);
+                int codePointLength = utf8Length(codePoint);
+                if (codePointLength > remaining) {
+                    break;
+                }
+                kept.appendCodePoint(codePoint);
+                remaining -= codePointLength;
+                i += Character.charCount(codePoint);
+            }
+            super.writeString(kept + TRUNCATION_MARKER);
+            stop();
+        }
+
+        @Override
+        public void writeString(char[] text, int offset, int len) throws IOException {
+            writeString(new String(text, offset, len));
+        }
+
+        @Override
+        public void writeString(SerializableString text) throws IOException {
+            writeString(text.getValue());
+        }
+
+        @Override
+        public void writeString(Reader reader, int len) throws IOException {
+            char[] text = new char[len];
+            writeString(text, 0, Math.max(0, reader.read(text, 0, len)));
+        }
+
+        @Override
+        public void writeRawUTF8String(byte[] text, int offset, int length) throws IOException {
+            writeString(new String(text, offset, length, UTF_8));
+        }
+
+        @Override
+        public void writeUTF8String(byte[] text, int offset, int length) throws IOException {
+            writeString(new String(text, offset, length, UTF_8));
+        }
+
+        @Override
+        public void writeBinary(Base64Variant variant, byte[] data, int offset, int len) throws IOException {
+            writeString(variant.encode(Arrays.copyOfRange(data, offset, offset + len)));
+        }
+
+        @Override
+        public void writeArray(int[] array, int offset, int length) throws IOException {
+            writeStartArray(array, length);
+            for (int i = offset; i < offset + length; i++) {
+                writeNumber(array[i]);
+            }
+            writeEndArray();
+        }
+
+        @Override
+        public void writeArray(long[] array, int offset, int length) throws IOException {
+            writeStartArray(array, length);
+            for (int i = offset; i < offset + length; i++) {
+                writeNumber(array[i]);
+            }
+            writeEndArray();
+        }
+
+        @Override
+        public void writeArray(double[] array, int offset, int length) throws IOException {
+            writeStartArray(array, length);
+            for (int i = offset; i < offset + length; i++) {
+                writeNumber(array[i]);
+            }
+            writeEndArray();
+        }
+
+        @Override
+        public void writeArray(String[] array, int offset, int length) throws IOException {
+            writeStartArray(array, length);
+            for (int i = offset; i < offset + length; i++) {
+                writeString(array[i]);
+            }
+            writeEndArray();
+        }
+
+        @Override
+        public void writeStartArray() throws IOException {
+            checkLimit();
+            super.writeStartArray();
+        }
+
+        @Override
+        public void writeStartArray(int size) throws IOException {
+            checkLimit();
+            super.writeStartArray(size);
+        }
+
+        @Override
+        public void writeStartArray(Object forValue) throws IOException {
+            checkLimit();
+            super.writeStartArray(forValue);
+        }
+
+        @Override
+        public void writeStartArray(Object forValue, int size) throws IOException {
+            checkLimit();
+            super.writeStartArray(forValue, size);
+        }
+
+        @Override
+        public void writeEndArray() throws IOException {
+            checkLimit();
+            super.writeEndArray();
+        }
+
+        @Override
+        public void writeStartObject() throws IOException {
+            checkLimit();
+            super.writeStartObject();
+        }
+
+        @Override
+        public void writeStartObject(Object forValue) throws IOException {
+            checkLimit();
+            super.writeStartObject(forValue);
+        }
+
+        @Override
+        public void writeStartObject(Object forValue, int size) throws IOException {
+            checkLimit();
+            super.writeStartObject(forValue, size);
+        }
+
+        @Override
+        public void writeEndObject() throws IOException {
+            checkLimit();
+            super.writeEndObject();
+        }
+
+        @Override
+        public void writeNumber(short value) throws IOException {
+            checkLimit();
+            super.writeNumber(value);
+            consume(Short.toString(value));
+        }
+
+        @Override
+        public void writeNumber(int value) throws IOException {
+            checkLimit();
+            super.writeNumber(value);
+            consume(Integer.toString(value));
+        }
+
+        @Override
+        public void writeNumber(long value) throws IOException {
+            checkLimit();
+            super.writeNumber(value);
+            consume(Long.toString(value));
+        }
+
+        @Override
+        public void writeNumber(BigInteger value) throws IOException {
+            checkLimit();
+            super.writeNumber(value);
+            consume(String.valueOf(value));
+        }
+
+        @Override
+        public void writeNumber(double value) throws IOException {
+            checkLimit();
+            super.writeNumber(value);
+            consume(Double.toString(value));
+        }
+
+        @Override
+        public void writeNumber(float value) throws IOException {
+            checkLimit();
+            super.writeNumber(value);
+            consume(Float.toString(value));
+        }
+
+        @Override
+        public void writeNumber(BigDecimal value) throws IOException {
+            checkLimit();
+            super.writeNumber(value);
+            consume(String.valueOf(value));
+        }
+
+        @Override
+        public void writeNumber(String encodedValue) throws IOException {
+            checkLimit();
+            super.writeNumber(encodedValue);
+            consume(String.valueOf(encodedValue));
+        }
+
+        @Override
+        public void writeNumber(char[] encodedValue, int offset, int len) throws IOException {
+            writeNumber(new String(encodedValue, offset, len));
+        }
+
+        @Override
+        public void writeBoolean(boolean state) throws IOException {
+            checkLimit();
+            super.writeBoolean(state);
+            consume(Boolean.toString(state));
+        }
+
+        @Override
+        public void writeNull() throws IOException {
+            checkLimit();
+            super.writeNull();
+            consume("null");
+        }
+
+        @Override
+        public void writeRawValue(String text) throws IOException {
+            checkLimit();
+            super.writeRawValue(text);
+            consume(text);
+        }
+
+        @Override
+        public void writeRawValue(String text, int offset, int len) throws IOException {
+            writeRawValue(text.substring(offset, offset + len));
+        }
+
+        @Override
+        public void writeRawValue(char[] text, int offset, int len) throws IOException {
+            writeRawValue(new String(text, offset, len));
+        }
+
+        @Override
+        public void writeEmbeddedObject(Object object) throws IOException {
+            writeObject(object);
+        }
+
+        private void consume(String written) throws IOException {
+            int length = written.length();
+            if (length > remaining) {
+                remaining = 0;
+                stop();
+            }
+            remaining -= length;
+        }
+
+        private void checkLimit() throws IOException {
+            if (limitReached) {
+                throw new LimitReachedException();
+            }
+        }
+
+        private void stop() throws IOException {
+            limitReached = true;
+            throw new LimitReachedException();
+        }
+    }
+
+    private static final class LimitReachedException extends IOException {
+        private LimitReachedException() {
+            super("Snapshot max value length reached", null);
+        }
+    }
+}
@@ -9,6 +9,7 @@ package com.chutneytesting.engine.domain.execution.engine.step;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Optional.ofNullable;
 
@@ -20,6 +21,7 @@ import com.chutneytesting.engine.domain.execution.ScenarioExecution;
 import com.chutneytesting.engine.domain.execution.StepDefinition;
 import com.chutneytesting.engine.domain.execution.engine.StepExecutor;
 import com.chutneytesting.engine.domain.execution.engine.evaluation.StepDataEvaluator;
+import com.chutneytesting.engine.domain.execution.engine.scenario.LayeredContext;
 import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
 import com.chutneytesting.engine.domain.execution.event.BeginStepExecutionEvent;
 import com.chutneytesting.engine.domain.execution.event.EndStepExecutionEvent;
@@ -32,10 +34,10 @@ import com.google.common.collect.Lists;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,6 +57,8 @@ public class Step {
     private final StepExecutor executor;
     private final StepDataEvaluator dataEvaluator;
     private StepContext stepContext;
+    private final AtomicLong version = new AtomicLong();
+    private Step parent;
 
     public Step(StepDataEvaluator dataEvaluator, StepDefinition definition, StepExecutor executor, List<Step> steps) {
         this.dataEvaluator = dataEvaluator;
@@ -64,6 +68,7 @@ public class Step {
         this.steps = steps;
         this.state = new StepState(definition.name);
         this.stepContext = new StepContext();
+        this.steps.forEach(step -> step.parent = this);
     }
 
     public static Step nonExecutable(StepDefinition definition) {
@@ -103,7 +108,8 @@ public class Step {
                     if (Status.SUCCESS.equals(this.state.status())) {
                         executeStepValidations(stepContextExecuted);
                     }
-                    this.stepContext = stepContextExecuted.copy();
+                    this.stepContext = stepContextExecuted.copy(scenarioExecution.snapshotPolicy());
+                    touch();
                 })
                 .ifFailed(this::failure);
         } catch (RuntimeException e) {
@@ -117,22 +123,32 @@ public class Step {
 
     public void beginExecution(ScenarioExecution scenarioExecution) {
         state.beginExecution();
+        touch();
         RxBus.getInstance().post(new BeginStepExecutionEvent(scenarioExecution, this));
     }
 
     public void endExecution(ScenarioExecution scenarioExecution) {
         state.endExecution(isParentStep());
+        touch();
         RxBus.getInstance().post(new EndStepExecutionEvent(scenarioExecution, this));
     }
 
     public void stopExecution(ScenarioExecution scenarioExecution) {
         state.addInformation("Stop requested before executing this step");
         state.stopExecution();
+        touch();
         RxBus.getInstance().post(new EndStepExecutionEvent(scenarioExecution, this));
     }
 
+    public void stopDuringExecution() {
+        state.addInformation("Stop requested while executing this step");
+        state.stopExecution();
+        touch();
+    }
+
     public void pauseExecution(ScenarioExecution scenarioExecution) {
         state.pauseExecution();
+        touch();
         RxBus.getInstance().post(new PauseStepExecutionEvent(scenarioExecution, this));
     }
 
@@ -142,6 +158,7 @@ public class Step {
 
     public void resolveName(Map<String, Object> context) {
         this.state.setName(dataEvaluator.silentEvaluateString(state.name(), context));
+        touch();
     }
 
     public Status status() {
@@ -170,10 +187,12 @@ public class Step {
 
     public void addInformation(String... info) {
         state.addInformation(info);
+        touch();
     }
 
     public void addErrorMessage(String... errors) {
         state.addErrors(errors);
+        touch();
     }
 
     public void failure(Throwable e) {
@@ -182,23 +201,28 @@ public class Step {
 
     public void failure(String... message) {
         state.errorOccurred(message);
+        touch();
     }
 
     public void success(String... message) {
         state.successOccurred(message);
+        touch();
     }
 
     public void resetExecution() {
         state.reset();
         steps.forEach(Step::resetExecution);
+        touch();
     }
 
     public void startWatch() {
         state.startWatch();
+        touch();
     }
 
     public void stopWatch() {
         state.stopWatch();
+        touch();
     }
 
     public Duration duration() {
@@ -259,11 +283,7 @@ public class Step {
     }
 
     private Map<String, Object> buildEvaluationContext(ScenarioContext scenarioContext, Map<String, Object> localContext) {
-        Map<String, Object> evaluationContext = new HashMap<>();
-        evaluationContext.putAll(scenarioContext);
-        evaluationContext.putAll(localContext);
-        evaluationContext.put("target", target);
-        return evaluationContext;
+        return LayeredContext.of(scenarioContext, localContext, singletonMap("target", target));
     }
 
     private void updateContextWith(ActionExecutionResult.Status status, Map<String, Object> actionOutputs, List<String> information, List<String> errors) {
@@ -313,6 +333,8 @@ public class Step {
 
     public void addStepExecution(Step step) {
         this.steps.add(step);
+        step.parent = this;
+        touch();
     }
 
     public Map<String, Object> getEvaluatedInputs() {
@@ -337,6 +359,22 @@ public class Step {
 
     public void removeStepExecution() {
         this.steps.clear();
+        touch();
+    }
+
+    /**
+     * Version of this step state, incremented on each change of the step or of one of its sub steps.
+     * Used to know if a previously generated report of the step is still up to date.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    private void touch() {
+        version.incrementAndGet();
+        if (parent != null) {
+            parent.touch();
+        }
     }
 
 }
@@ -12,9 +12,9 @@ import static java.util.Collections.unmodifiableMap;
 import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.engine.domain.execution.engine.evaluation.EvaluationException;
+import com.chutneytesting.engine.domain.execution.engine.scenario.LayeredContext;
 import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
 import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContextImpl;
-import com.google.common.collect.Maps;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -42,8 +42,8 @@ class StepContext {
         this.stepContextSnapshot = new StepContextSnapshot();
     }
 
-    private StepContext copySnapshotsInputOutput() {
-        this.stepContextSnapshot = new StepContextSnapshot(evaluatedInputs, stepOutputs);
+    private StepContext copySnapshotsInputOutput(SnapshotPolicy snapshotPolicy) {
+        this.stepContextSnapshot = new StepContextSnapshot(evaluatedInputs, stepOutputs, snapshotPolicy);
         return this;
     }
 
@@ -52,10 +52,7 @@ class StepContext {
     }
 
     Map<String, Object> evaluationContext() {
-        final Map<String, Object> allResults = Maps.newLinkedHashMap(scenarioContext);
-        allResults.putAll(localContext);
-        allResults.putAll(stepOutputs);
-        return allResults;
+        return LayeredContext.of(scenarioContext, localContext, stepOutputs);
     }
 
     ScenarioContext getScenarioContext() {
@@ -82,7 +79,7 @@ class StepContext {
         return ofNullable(stepOutputs).orElse(emptyMap());
     }
 
-    StepContext copy() {
-        return new StepContext(scenarioContext.unmodifiable(), unmodifiableMap(localContext), unmodifiableMap(evaluatedInputs), unmodifiableMap(stepOutputs)).copySnapshotsInputOutput();
+    StepContext copy(SnapshotPolicy snapshotPolicy) {
+        return new StepContext(scenarioContext.unmodifiable(), unmodifiableMap(localContext), unmodifiableMap(evaluatedInputs), unmodifiableMap(stepOutputs)).copySnapshotsInputOutput(snapshotPolicy);
     }
 }
@@ -10,11 +10,12 @@ package com.chutneytesting.engine.domain.execution.engine.step;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableMap;
 
-import com.chutneytesting.engine.domain.execution.engine.step.jackson.ReportObjectMapperConfiguration;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+/**
+ * Step inputs and outputs as seen at step end, captured by the {@link SnapshotPolicy} so later changes to them are not captured.
+ */
 class StepContextSnapshot {
     private final Map<String, Object> inputsSnapshot;
     private final Map<String, Object> outputsSnapshot;
@@ -24,30 +25,22 @@ class StepContextSnapshot {
         this.outputsSnapshot = emptyMap();
     }
 
-    public StepContextSnapshot(Map<String, Object> inputsSnapshot, Map<String, Object> outputsSnapshot) {
-        this.inputsSnapshot = mapStringObjectToString(inputsSnapshot);
-        this.outputsSnapshot = mapStringObjectToString(outputsSnapshot);
+    public StepContextSnapshot(Map<String, Object> inputsSnapshot, Map<String, Object> outputsSnapshot, SnapshotPolicy snapshotPolicy) {
+        this.inputsSnapshot = snapshot(inputsSnapshot, snapshotPolicy);
+        this.outputsSnapshot = snapshot(outputsSnapshot, snapshotPolicy);
     }
 
     public Map<String, Object> getInputsSnapshot() {
-        return unmodifiableMap(inputsSnapshot);
+        return inputsSnapshot;
     }
 
     public Map<String, Object> getOutputsSnapshot() {
-        return unmodifiableMap(outputsSnapshot);
+        return outputsSnapshot;
     }
 
-    private Map<String, Object> mapStringObjectToString(Map<String, Object> originalMap) {
-        Map<String, Object> stringMap = new HashMap<>();
-        originalMap.forEach((key, value) -> {
-            try {
-                String stringObject = ReportObjectMapperConfiguration.reportObjectMapper().writeValueAsString(value);
-                Object jsonObject = ReportObjectMapperConfiguration.reportObjectMapper().readTree(stringObject);
-                stringMap.put(key, jsonObject);
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
-            }
-        });
-        return stringMap;
+    private static Map<String, Object> snapshot(Map<String, Object> originalMap, SnapshotPolicy snapshotPolicy) {
+        Map<String, Object> snapshotMap = new LinkedHashMap<>();
+        originalMap.forEach((key, value) -> snapshotMap.put(key, snapshotPolicy.snapshot(value)));
+        return unmodifiableMap(snapshotMap);
     }
 }
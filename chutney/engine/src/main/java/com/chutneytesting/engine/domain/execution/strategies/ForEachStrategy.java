@@ -14,14 +14,15 @@ import com.chutneytesting.engine.domain.execution.StepDefinition;
 import com.chutneytesting.engine.domain.execution.StepDefinitionBuilder;
 import com.chutneytesting.engine.domain.execution.engine.StepExecutor;
 import com.chutneytesting.engine.domain.execution.engine.evaluation.StepDataEvaluator;
+import com.chutneytesting.engine.domain.execution.engine.scenario.LayeredContext;
 import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
 import com.chutneytesting.engine.domain.execution.engine.step.Step;
 import com.chutneytesting.engine.domain.execution.report.Status;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -47,8 +48,7 @@ public class ForEachStrategy implements StepExecutionStrategy {
         final String indexName = (String) Optional.ofNullable(strategyDefinition.strategyProperties.get("index")).orElse("i");
         step.beginExecution(scenarioExecution);
         AtomicInteger index = new AtomicInteger(0);
-        Map<String, Object> context = new HashMap<>(scenarioContext);
-        context.putAll(localContext);
+        Map<String, Object> context = LayeredContext.of(scenarioContext, localContext);
         step.resolveName(context);
         if (step.isParentStep()) {
             List<Step> subSteps = List.copyOf(step.subSteps());
@@ -59,11 +59,12 @@ public class ForEachStrategy implements StepExecutionStrategy {
                 .peek(p -> step.addStepExecution(p.getLeft()))
                 .toList();
 
-            iterations.forEach(it -> {
-                Map<String, Object> mergedContext = new HashMap<>(localContext);
-                mergedContext.putAll(it.getRight());
-                DefaultStepExecutionStrategy.instance.execute(scenarioExecution, it.getLeft(), scenarioContext, mergedContext, strategies);
-            });
+            executeIterations(strategyDefinition, scenarioContext, localContext, strategies, iterations.stream()
+                .map(it -> (BiFunction<ScenarioContext, Map<String, Object>, Status>) (iterationScenarioContext, iterationLocalContext) -> {
+                    Map<String, Object> mergedContext = LayeredContext.of(iterationLocalContext, it.getRight());
+                    return DefaultStepExecutionStrategy.instance.execute(scenarioExecution, it.getLeft(), iterationScenarioContext, mergedContext, strategies);
+                })
+                .toList());
 
         } else {
             List<Pair<Step, Map<String, Object>>> iterations = dataset.stream()
@@ -71,16 +72,28 @@ public class ForEachStrategy implements StepExecutionStrategy {
                 .peek(e -> step.addStepExecution(e.getKey()))
                 .toList();
 
-            iterations.forEach(it -> {
-                Map<String, Object> mergedContext = new HashMap<>(localContext);
-                mergedContext.putAll(it.getRight());
-                it.getLeft().execute(scenarioExecution, scenarioContext, mergedContext);
-            });
+            executeIterations(strategyDefinition, scenarioContext, localContext, strategies, iterations.stream()
+                .map(it -> (BiFunction<ScenarioContext, Map<String, Object>, Status>) (iterationScenarioContext, iterationLocalContext) -> {
+                    Map<String, Object> mergedContext = LayeredContext.of(iterationLocalContext, it.getRight());
+                    return it.getLeft().execute(scenarioExecution, iterationScenarioContext, mergedContext);
+                })
+                .toList());
         }
         step.endExecution(scenarioExecution);
         return step.status();
     }
 
+    /**
+     * Execute iterations one after another on the scenario and local contexts.
+     */
+    protected void executeIterations(StepStrategyDefinition strategyDefinition,
+                                     ScenarioContext scenarioContext,
+                                     Map<String, Object> localContext,
+                                     StepExecutionStrategies strategies,
+                                     List<BiFunction<ScenarioContext, Map<String, Object>, Status>> iterations) {
+        iterations.forEach(iteration -> iteration.apply(scenarioContext, localContext));
+    }
+
     private static List<Map<String, Object>> getDataset(Step step, ScenarioContext scenarioContext, StepStrategyDefinition strategyDefinition, StepDataEvaluator evaluator) {
         List<Map<String, Object>> dataset = (List<Map<String, Object>>) step.dataEvaluator().evaluate(strategyDefinition.strategyProperties.get("dataset"), scenarioContext);
         if (dataset.isEmpty()) {
@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.strategies;
+
+import static java.util.Optional.ofNullable;
+
+import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
+import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContextOverlay;
+import com.chutneytesting.engine.domain.execution.report.Status;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+/**
+ * Execute branches concurrently, at most maxConcurrency at a time.
+ * <ul>
+ *     <li>Each branch works on its own copy on write overlays of the scenario context and of the local context.
+ *     Once all branches are done, their context writes are merged in branches order, so last branch wins as in sequential execution</li>
+ *     <li>When fail fast, branches not started yet are skipped after a first failure</li>
+ * </ul>
+ * The calling thread executes branches too, helped by at most maxConcurrency - 1 workers submitted to the engine executor.
+ * Workers not started when the calling thread is done are cancelled, so nested parallel steps cannot starve a bounded executor.
+ */
+class ParallelBranches {
+
+    static final String MAX_CONCURRENCY_PROPERTY = "maxConcurrency";
+    static final String FAIL_FAST_PROPERTY = "failFast";
+    static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final boolean failFast;
+
+    ParallelBranches(Executor executor, int maxConcurrency, boolean failFast) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Parameter '" + MAX_CONCURRENCY_PROPERTY + "' must be strictly positive");
+        }
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.failFast = failFast;
+    }
+
+    static ParallelBranches from(StepStrategyDefinition strategyDefinition, StepExecutionStrategies strategies) {
+        StrategyProperties properties = strategyDefinition.strategyProperties;
+        return new ParallelBranches(
+            strategies.branchesExecutor(),
+            ofNullable(properties.get(MAX_CONCURRENCY_PROPERTY)).map(String::valueOf).map(Integer::parseInt).orElse(DEFAULT_MAX_CONCURRENCY),
+            ofNullable(properties.get(FAIL_FAST_PROPERTY)).map(String::valueOf).map(Boolean::parseBoolean).orElse(false)
+        );
+    }
+
+    /**
+     * @return worst status of executed branches
+     * @throws IllegalStateException when interrupted while waiting for branches
+     */
+    Status execute(ScenarioContext scenarioContext, Map<String, Object> localContext, List<BiFunction<ScenarioContext, Map<String, Object>, Status>> branches) {
+        final int size = branches.size();
+        final List<ScenarioContextOverlay> branchScenarioContexts = new ArrayList<>(size);
+        final List<ScenarioContextOverlay> branchLocalContexts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            branchScenarioContexts.add(new ScenarioContextOverlay(scenarioContext));
+            branchLocalContexts.add(new ScenarioContextOverlay(localContext));
+        }
+
+        final Status[] statuses = new Status[size];
+        Arrays.fill(statuses, Status.NOT_EXECUTED);
+        final AtomicInteger nextBranch = new AtomicInteger();
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final AtomicReference<RuntimeException> firstError = new AtomicReference<>();
+
+        Runnable worker = () -> {
+            int i;
+            while (!(failFast && failed.get()) && (i = nextBranch.getAndIncrement()) < size) {
+                try {
+                    statuses[i] = branches.get(i).apply(branchScenarioContexts.get(i), branchLocalContexts.get(i));
+                } catch (RuntimeException e) {
+                    firstError.compareAndSet(null, e);
+                    statuses[i] = Status.FAILURE;
+                }
+                if (statuses[i] == Status.FAILURE) {
+                    failed.set(true);
+                }
+            }
+        };
+
+        final List<Helper> helpers = new ArrayList<>();
+        for (int w = 1; w < Math.min(maxConcurrency, size); w++) {
+            Helper helper = new Helper(worker);
+            try {
+                executor.execute(helper.task);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+            helpers.add(helper);
+        }
+        worker.run();
+        awaitStarted(helpers);
+
+        for (int i = 0; i < size; i++) {
+            branchScenarioContexts.get(i).applyWritesTo(scenarioContext);
+            branchLocalContexts.get(i).applyWritesTo(localContext);
+        }
+
+        ofNullable(firstError.get()).ifPresent(e -> {
+            throw e;
+        });
+        return Status.worst(Arrays.asList(statuses));
+    }
+
+    private static void awaitStarted(List<Helper> helpers) {
+        try {
+            for (Helper helper : helpers) {
+                // A helper not started yet is claimed back, there is no branch left for it anyway
+                if (!helper.claim()) {
+                    helper.task.get();
+                }
+            }
+        } catch (InterruptedException e) {
+            helpers.forEach(helper -> helper.task.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Waiting for parallel executions have been interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class Helper {
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+        private final FutureTask<Void> task;
+
+        private Helper(Runnable worker) {
+            this.task = new FutureTask<>(() -> {
+                if (claim()) {
+                    worker.run();
+                }
+            }, null);
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.strategies;
+
+import com.chutneytesting.engine.domain.execution.ScenarioExecution;
+import com.chutneytesting.engine.domain.execution.engine.scenario.LayeredContext;
+import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
+import com.chutneytesting.engine.domain.execution.engine.step.Step;
+import com.chutneytesting.engine.domain.execution.report.Status;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Execute concurrently the iterations of a step when given a dataset (as {@link ForEachStrategy} does sequentially),
+ * or its sub steps otherwise.
+ * Expects following optional strategy properties:
+ * - dataset: iterations dataset, same as "for" strategy
+ * - index: iteration index name, same as "for" strategy
+ * - maxConcurrency: maximum number of iterations or sub steps executed at the same time (default to 8)
+ * - failFast: when true, iterations or sub steps not started yet are not executed after a first failure (default to false)
+ * <p>
+ * Reports keep the declared order. Each iteration or sub step has its own scenario and local context layers,
+ * which writes are merged in the declared order once all are done, see {@link ParallelBranches}.
+ * Branches run on the engine executor, see {@link StepExecutionStrategies#branchesExecutor()}.
+ */
+public class ParallelStrategy extends ForEachStrategy {
+
+    private static final String TYPE = "parallel";
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelStrategy.class);
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public Status execute(ScenarioExecution scenarioExecution,
+                          Step step,
+                          ScenarioContext scenarioContext,
+                          Map<String, Object> localContext,
+                          StepExecutionStrategies strategies) {
+
+        StepStrategyDefinition strategyDefinition = step.strategy().orElseThrow(
+            () -> new IllegalArgumentException("Strategy definition cannot be empty")
+        );
+
+        if (strategyDefinition.strategyProperties.containsKey("dataset")) {
+            return super.execute(scenarioExecution, step, scenarioContext, localContext, strategies);
+        }
+
+        if (!step.isParentStep()) {
+            return step.execute(scenarioExecution, scenarioContext, localContext);
+        }
+
+        step.beginExecution(scenarioExecution);
+        try {
+            Map<String, Object> context = LayeredContext.of(scenarioContext, localContext);
+            step.resolveName(context);
+            List<BiFunction<ScenarioContext, Map<String, Object>, Status>> subStepsExecutions = step.subSteps().stream()
+                .map(subStep -> (BiFunction<ScenarioContext, Map<String, Object>, Status>) (subStepScenarioContext, subStepLocalContext) -> {
+                    try {
+                        return strategies.buildStrategyFrom(subStep).execute(scenarioExecution, subStep, subStepScenarioContext, subStepLocalContext, strategies);
+                    } catch (RuntimeException e) {
+                        subStep.failure(e);
+                        LOGGER.warn("Intercepted exception!", e);
+                        return Status.FAILURE;
+                    }
+                })
+                .toList();
+            return ParallelBranches.from(strategyDefinition, strategies).execute(scenarioContext, localContext, subStepsExecutions);
+        } catch (RuntimeException e) {
+            step.failure(e);
+            LOGGER.warn("Intercepted exception!", e);
+        } finally {
+            step.endExecution(scenarioExecution);
+        }
+        return step.status();
+    }
+
+    @Override
+    protected void executeIterations(StepStrategyDefinition strategyDefinition,
+                                     ScenarioContext scenarioContext,
+                                     Map<String, Object> localContext,
+                                     StepExecutionStrategies strategies,
+                                     List<BiFunction<ScenarioContext, Map<String, Object>, Status>> iterations) {
+        ParallelBranches.from(strategyDefinition, strategies).execute(scenarioContext, localContext, iterations);
+    }
+}
@@ -82,9 +82,10 @@ public class RetryWithTimeOutStrategy implements StepExecutionStrategy {
             if (st == Status.FAILURE) {
                 try {
                     step.startWatch();
-                    TimeUnit.MILLISECONDS.sleep(retryDelayMs);
-                } catch (InterruptedException e) {
-                    throw new IllegalStateException("Sleeping between executions have been interrupted", e);
+                    if (scenarioExecution.awaitStop(retryDelayMs, TimeUnit.MILLISECONDS)) {
+                        step.stopExecution(scenarioExecution);
+                        return Status.STOPPED;
+                    }
                 } finally {
                     step.stopWatch();
                 }
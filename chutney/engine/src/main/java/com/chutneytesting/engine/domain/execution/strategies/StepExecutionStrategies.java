@@ -7,23 +7,35 @@
 
 package com.chutneytesting.engine.domain.execution.strategies;
 
+import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.engine.domain.execution.engine.step.Step;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class StepExecutionStrategies {
     private final Map<String, StepExecutionStrategy> strategies;
+    private final Executor branchesExecutor;
 
     public StepExecutionStrategies() {
         this(new HashSet<>());
     }
 
     public StepExecutionStrategies(Set<StepExecutionStrategy> strategies) {
+        this(strategies, Runnable::run);
+    }
+
+    /**
+     * @param branchesExecutor executor of concurrent branches of strategies like {@link ParallelStrategy}.
+     *                         Owned by the engine, which shuts it down.
+     */
+    public StepExecutionStrategies(Set<StepExecutionStrategy> strategies, Executor branchesExecutor) {
+        this.branchesExecutor = requireNonNull(branchesExecutor);
 
         if (strategies == null) {
             strategies = new HashSet<>();
@@ -36,6 +48,13 @@ public class StepExecutionStrategies {
             }));
     }
 
+    /**
+     * @return executor of concurrent branches, executing them on the calling thread when none given at creation
+     */
+    public Executor branchesExecutor() {
+        return branchesExecutor;
+    }
+
     public StepExecutionStrategy buildStrategyFrom(Step step) {
         return step.strategy()
             .map(this::findStrategy)
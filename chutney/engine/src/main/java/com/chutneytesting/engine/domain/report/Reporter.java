@@ -26,6 +26,7 @@ import com.chutneytesting.engine.domain.execution.strategies.StepStrategyDefinit
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.subjects.ReplaySubject;
 import io.reactivex.rxjava3.subjects.Subject;
 import java.util.List;
@@ -46,6 +47,8 @@ public class Reporter {
 
     private final Map<Long, Subject<StepExecutionReport>> reportsPublishers = new ConcurrentHashMap<>();
     private final Map<Long, Step> rootSteps = new ConcurrentHashMap<>();
+    private final Map<Long, StepReportCache> reportsCaches = new ConcurrentHashMap<>();
+    private final Map<Long, List<Disposable>> busRegistrations = new ConcurrentHashMap<>();
     private long retentionDelaySeconds;
 
     public Reporter() {
@@ -54,7 +57,6 @@ public class Reporter {
 
     public Reporter(long retentionDelaySeconds) {
         this.retentionDelaySeconds = retentionDelaySeconds;
-        busRegistration();
     }
 
     public Observable<StepExecutionReport> subscribeOnExecution(Long executionId) {
@@ -71,12 +73,15 @@ public class Reporter {
         LOGGER.trace("Create publisher for execution {}", executionId);
         reportsPublishers.put(executionId, ReplaySubject.<StepExecutionReport>createWithSize(1).toSerialized());
         rootSteps.put(executionId, rootStep);
+        reportsCaches.put(executionId, new StepReportCache());
+        busRegistration(executionId);
         LOGGER.debug("Publishers map size : {}", reportsPublishers.size());
     }
 
     private void storeRootStepAndPublishReport(StartScenarioExecutionEvent event) {
         LOGGER.trace("Store root step for execution {}", event.executionId());
         rootSteps.put(event.executionId(), event.step);
+        reportsCaches.putIfAbsent(event.executionId(), new StepReportCache());
         publishReport(event);
     }
 
@@ -107,7 +112,30 @@ public class Reporter {
         } else {
             finalStatus = calculatedRootStepStatus;
         }
-        return generateReport(step, s -> finalStatus, getEnvironment(step));
+        StepReportCache reportCache = reportsCaches.computeIfAbsent(executionId, id -> new StepReportCache());
+        String env = getEnvironment(step);
+        return generateReport(step, s -> finalStatus, env, subStep -> generateCachedReport(subStep, env, reportCache));
+    }
+
+    /**
+     * Reuse sub steps' reports which did not change since last generation.
+     * Only the path from changed steps to root is built again, so each event costs the size of this path instead of the whole scenario.
+     * Fallback reports of failed generations are never kept, neither are reports of their parents, so they are generated again next time.
+     */
+    private StepExecutionReport generateCachedReport(Step step, String env, StepReportCache reportCache) {
+        return reportCache.get(step).orElseGet(() -> {
+            long version = step.version();
+            StepExecutionReport report;
+            try {
+                report = buildReport(step, Step::status, env, subStep -> generateCachedReport(subStep, env, reportCache));
+            } catch (Exception e) {
+                return fallbackReport(step, e);
+            }
+            if (step.subSteps().stream().allMatch(reportCache::contains)) {
+                reportCache.put(step, version, report);
+            }
+            return report;
+        });
     }
 
     private StepExecutionReport generateLastReport(long executionId) {
@@ -123,36 +151,49 @@ public class Reporter {
     }
 
     StepExecutionReport generateReport(Step step, Function<Step, Status> statusSupplier, String env) {
+        return generateReport(step, statusSupplier, env, subStep -> generateReport(subStep, Step::status, env));
+    }
+
+    private StepExecutionReport generateReport(Step step, Function<Step, Status> statusSupplier, String env, Function<Step, StepExecutionReport> subStepReportGenerator) {
         try {
-            return new StepExecutionReportBuilder()
-                .setName(step.name())
-                .setEnvironment(env)
-                .setDuration(step.duration().toMillis())
-                .setStartDate(step.startDate())
-                .setStatus(statusSupplier.apply(step))
-                .setInformation(step.informations())
-                .setErrors(step.errors())
-                .setSteps(step.subSteps().stream().map(subStep -> generateReport(subStep, Step::status, env)).collect(Collectors.toList()))
-                .setEvaluatedInputs(step.getEvaluatedInputs())
-                .setStepResults(step.getStepOutputs())
-                .setEvaluatedInputsSnapshot(step.getStepContextInputSnapshot())
-                .setStepResultsSnapshot(step.getStepContextOutputSnapshot())
-                .setScenarioContext(step.getScenarioContext())
-                .setType(step.type())
-                .setTarget(step.target())
-                .setStrategy(guardNullStrategy(step.strategy()))
-                .createStepExecutionReport();
+            return buildReport(step, statusSupplier, env, subStepReportGenerator);
         } catch (Exception e) {
-            String error = "Cannot generate step report: " + e.getMessage();
-            LOGGER.error(error, e);
-            return new StepExecutionReportBuilder()
-                .setName(step.name())
-                .setStatus(Status.FAILURE)
-                .setErrors(List.of(error))
-                .createStepExecutionReport();
+            return fallbackReport(step, e);
         }
     }
 
+    private StepExecutionReport buildReport(Step step, Function<Step, Status> statusSupplier, String env, Function<Step, StepExecutionReport> subStepReportGenerator) {
+        return new StepExecutionReportBuilder()
+            .setName(step.name())
+            .setEnvironment(env)
+            .setDuration(step.duration().toMillis())
+            .setStartDate(step.startDate())
+            .setStatus(statusSupplier.apply(step))
+            .setInformation(step.informations())
+            .setErrors(step.errors())
+            .setSteps(step.subSteps().stream().map(subStepReportGenerator).collect(Collectors.toList()))
+            .setEvaluatedInputs(step.getEvaluatedInputs())
+            .setStepResults(step.getStepOutputs())
+            .setEvaluatedInputsSnapshot(step.getStepContextInputSnapshot())
+            .setStepResultsSnapshot(step.getStepContextOutputSnapshot())
+            .setScenarioContext(step.getScenarioContext())
+            .setType(step.type())
+            .setTarget(step.target())
+            .setStrategy(guardNullStrategy(step.strategy()))
+            .createStepExecutionReport();
+    }
+
+    private static StepExecutionReport fallbackReport(Step step, Exception e) {
+        String error = "Cannot generate step report: " + e.getMessage();
+        LOGGER.error(error, e);
+        return new StepExecutionReportBuilder()
+            .setName(step.name())
+            .setStatus(Status.FAILURE)
+            .setErrors(List.of(error))
+            .setEvaluatedInputs(Map.of()) // Errors of a report without inputs are not kept
+            .createStepExecutionReport();
+    }
+
     /* TODO mbb - hack - remove me when core module domain is decouple from lite-engine domain & API */
     private String guardNullStrategy(Optional<StepStrategyDefinition> strategy) {
         return strategy.map(stepStrategyDefinition -> stepStrategyDefinition.type).orElse(null);
@@ -161,15 +202,18 @@ public class Reporter {
     private void completePublisher(long executionId, Observer<StepExecutionReport> observer) {
         LOGGER.trace("Complete publisher for execution {}", executionId);
         observer.onComplete();
+        busRelease(executionId);
         if (retentionDelaySeconds > 0) {
             Completable.timer(retentionDelaySeconds, TimeUnit.SECONDS)
                 .subscribe(() -> {
                     rootSteps.remove(executionId);
+                    reportsCaches.remove(executionId);
                     reportsPublishers.remove(executionId);
                     LOGGER.trace("Remove publisher for execution {}", executionId);
                 }, throwable -> LOGGER.error("Cannot remove publisher for execution {}", executionId, throwable));
         } else {
             rootSteps.remove(executionId);
+            reportsCaches.remove(executionId);
             reportsPublishers.remove(executionId);
         }
     }
@@ -179,12 +223,21 @@ public class Reporter {
             .ifPresent(consumer);
     }
 
-    private void busRegistration() {
+    private void busRegistration(long executionId) {
         RxBus bus = RxBus.getInstance();
-        bus.register(StartScenarioExecutionEvent.class, this::storeRootStepAndPublishReport);
-        bus.register(BeginStepExecutionEvent.class, this::publishReport);
-        bus.register(EndStepExecutionEvent.class, this::publishReport);
-        bus.register(PauseStepExecutionEvent.class, this::publishReport);
-        bus.register(EndScenarioExecutionEvent.class, this::publishReportAndCompletePublisher);
+        List<Disposable> registrations = List.of(
+            bus.registerOnExecutionId(StartScenarioExecutionEvent.class, executionId, e -> storeRootStepAndPublishReport((StartScenarioExecutionEvent) e)),
+            bus.registerOnExecutionId(BeginStepExecutionEvent.class, executionId, this::publishReport),
+            bus.registerOnExecutionId(EndStepExecutionEvent.class, executionId, this::publishReport),
+            bus.registerOnExecutionId(PauseStepExecutionEvent.class, executionId, this::publishReport),
+            bus.registerOnExecutionId(EndScenarioExecutionEvent.class, executionId, this::publishReportAndCompletePublisher)
+        );
+        Optional.ofNullable(busRegistrations.put(executionId, registrations))
+            .ifPresent(previous -> previous.forEach(Disposable::dispose));
+    }
+
+    private void busRelease(long executionId) {
+        Optional.ofNullable(busRegistrations.remove(executionId))
+            .ifPresent(registrations -> registrations.forEach(Disposable::dispose));
     }
 }
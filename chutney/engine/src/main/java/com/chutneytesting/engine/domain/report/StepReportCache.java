@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.report;
+
+import static com.chutneytesting.engine.domain.execution.report.Status.PAUSED;
+import static com.chutneytesting.engine.domain.execution.report.Status.RUNNING;
+
+import com.chutneytesting.engine.domain.execution.engine.step.Step;
+import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keep last generated reports of an execution's steps.
+ * A report is reused as long as its step (and sub steps) did not change, i.e. {@link Step#version()} is the same.
+ * Running or paused steps reports are never kept since their duration keeps changing.
+ */
+class StepReportCache {
+
+    private final Map<Step, VersionedReport> reports = new ConcurrentHashMap<>();
+
+    Optional<StepExecutionReport> get(Step step) {
+        return Optional.ofNullable(reports.get(step))
+            .filter(versionedReport -> versionedReport.version == step.version())
+            .map(VersionedReport::report);
+    }
+
+    boolean contains(Step step) {
+        return get(step).isPresent();
+    }
+
+    void put(Step step, long version, StepExecutionReport report) {
+        if (report.status == RUNNING || report.status == PAUSED || version != step.version()) {
+            reports.remove(step);
+        } else {
+            reports.put(step, new VersionedReport(version, report));
+        }
+    }
+
+    private record VersionedReport(long version, StepExecutionReport report) {
+    }
+}
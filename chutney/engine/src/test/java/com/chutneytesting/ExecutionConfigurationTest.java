@@ -101,8 +101,8 @@ public class ExecutionConfigurationTest {
         assertThat(finalReport).hasFieldOrPropertyWithValue("status", StatusDto.STOPPED);
         // check first step status
         assertThat(finalReport.steps.get(0)).hasFieldOrPropertyWithValue("status", StatusDto.SUCCESS);
-        // check second step status
-        assertThat(finalReport.steps.get(1)).hasFieldOrPropertyWithValue("status", StatusDto.SUCCESS);
+        // check second step status, interrupted by stop while sleeping
+        assertThat(finalReport.steps.get(1)).hasFieldOrPropertyWithValue("status", StatusDto.STOPPED);
         // check third step status
         assertThat(finalReport.steps.get(2)).hasFieldOrPropertyWithValue("status", StatusDto.STOPPED);
         assertThat(finalReport.environment).isEqualTo(FAKE_ENV.name());
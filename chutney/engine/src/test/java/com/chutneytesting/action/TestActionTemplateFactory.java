@@ -14,8 +14,14 @@ import com.chutneytesting.action.domain.parameter.Parameter;
 import com.chutneytesting.action.domain.parameter.ParameterResolver;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.InterruptibleAction;
 import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.time.Duration;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -153,7 +159,7 @@ public abstract class TestActionTemplateFactory {
         }
     }
 
-    public static class SleepAction implements Action {
+    public static class SleepAction implements InterruptibleAction {
 
         private final Duration duration;
 
@@ -172,6 +178,30 @@ public abstract class TestActionTemplateFactory {
         }
     }
 
+    public static class HttpGetAction implements Action {
+
+        private static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
+
+        private final URI uri;
+
+        public HttpGetAction(@Input("uri") String uri) {
+            this.uri = URI.create(uri);
+        }
+
+        @Override
+        public ActionExecutionResult execute() {
+            try {
+                HttpResponse<Void> response = HTTP_CLIENT.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding());
+                return response.statusCode() == 200 ? ActionExecutionResult.ok() : ActionExecutionResult.ko();
+            } catch (IOException e) {
+                return ActionExecutionResult.ko();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ActionExecutionResult.ko();
+            }
+        }
+    }
+
     public static class ContextPutAction implements Action {
 
         private final Map<String, Object> entries;
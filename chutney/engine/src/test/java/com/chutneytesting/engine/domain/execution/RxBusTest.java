@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.engine.domain.execution.command.PauseExecutionCommand;
+import com.chutneytesting.engine.domain.execution.command.StopExecutionCommand;
+import com.chutneytesting.engine.domain.execution.event.Event;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class RxBusTest {
+
+    private final RxBus sut = RxBus.getInstance();
+
+    @Test
+    public void should_route_events_by_type_and_execution_id() {
+        long executionId = newExecutionId();
+        long otherExecutionId = newExecutionId();
+        List<Event> executionEvents = new ArrayList<>();
+        List<PauseExecutionCommand> typeEvents = new ArrayList<>();
+        Disposable executionSubscription = sut.registerOnExecutionId(PauseExecutionCommand.class, executionId, executionEvents::add);
+        Disposable typeSubscription = sut.register(PauseExecutionCommand.class, typeEvents::add);
+
+        sut.post(new PauseExecutionCommand(executionId));
+        sut.post(new PauseExecutionCommand(otherExecutionId));
+        sut.post(new StopExecutionCommand(executionId));
+
+        assertThat(executionEvents).hasSize(1);
+        assertThat(executionEvents.get(0).executionId()).isEqualTo(executionId);
+        assertThat(typeEvents).extracting(Event::executionId).contains(executionId, otherExecutionId);
+
+        executionSubscription.dispose();
+        typeSubscription.dispose();
+    }
+
+    @Test
+    public void should_not_dispatch_execution_events_once_released() {
+        long executionId = newExecutionId();
+        List<Event> executionEvents = new ArrayList<>();
+        sut.registerOnExecutionId(StopExecutionCommand.class, executionId, executionEvents::add);
+
+        sut.releaseExecution(executionId);
+        sut.post(new StopExecutionCommand(executionId));
+
+        assertThat(executionEvents).isEmpty();
+    }
+
+    @Test
+    public void should_drop_execution_channels_registered_after_release_when_disposed() {
+        long executionId = newExecutionId();
+        int activeChannelsBefore = sut.metrics().activeExecutionChannels();
+        Disposable endSubscription = sut.registerOnExecutionId(StopExecutionCommand.class, executionId, e -> {});
+        sut.releaseExecution(executionId);
+
+        Disposable lateSubscription = sut.registerOnExecutionId(PauseExecutionCommand.class, executionId, e -> {});
+        assertThat(sut.metrics().activeExecutionChannels()).isEqualTo(activeChannelsBefore + 1);
+
+        endSubscription.dispose();
+        lateSubscription.dispose();
+        assertThat(sut.metrics().activeExecutionChannels()).isEqualTo(activeChannelsBefore);
+    }
+
+    @Test
+    public void should_dispatch_to_all_subscribers_even_when_one_fails() {
+        long executionId = newExecutionId();
+        List<Event> executionEvents = new ArrayList<>();
+        sut.registerOnExecutionId(StopExecutionCommand.class, executionId, e -> {
+            throw new IllegalStateException("boom");
+        });
+        sut.registerOnExecutionId(StopExecutionCommand.class, executionId, executionEvents::add);
+
+        sut.post(new StopExecutionCommand(executionId));
+        sut.post(new StopExecutionCommand(executionId));
+
+        assertThat(executionEvents).hasSize(2);
+        sut.releaseExecution(executionId);
+    }
+
+    @Test
+    public void should_count_dispatched_events() {
+        long dispatchedBefore = sut.metrics().dispatchedEvents();
+
+        sut.post(new StopExecutionCommand(newExecutionId()));
+
+        assertThat(sut.metrics().dispatchedEvents()).isGreaterThan(dispatchedBefore);
+        assertThat(sut.metrics().queueDepth()).isGreaterThanOrEqualTo(0);
+    }
+
+    private static long newExecutionId() {
+        return UUID.randomUUID().getMostSignificantBits();
+    }
+}
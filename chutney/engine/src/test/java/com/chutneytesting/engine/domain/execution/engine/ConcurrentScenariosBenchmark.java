@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+
+import com.chutneytesting.ExecutionConfiguration;
+import com.chutneytesting.engine.api.execution.DatasetDto;
+import com.chutneytesting.engine.api.execution.EnvironmentDto;
+import com.chutneytesting.engine.api.execution.ExecutionRequestDto;
+import com.chutneytesting.engine.api.execution.ExecutionRequestDto.StepDefinitionRequestDto;
+import com.chutneytesting.engine.api.execution.StatusDto;
+import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
+import com.chutneytesting.engine.api.execution.TestEngine;
+import com.chutneytesting.tools.ThreadPerTaskExecutors;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.expression.spel.SpelCompilerMode;
+
+/**
+ * Time needed to run a batch of scenarios submitted at once, each one calling a stub server answering after 100 ms.
+ * <p>
+ * Compare engine executor fixed pool (previous behavior, 20 threads as server default) with a thread per scenario executor.
+ * With the pool, a batch takes about (scenarios / 20) * 100 ms, whereas a thread per scenario keeps it near 100 ms.
+ * <p>
+ * Run with main method from IDE, or with {@code java -cp <test classpath> org.openjdk.jmh.Main ConcurrentScenariosBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ConcurrentScenariosBenchmark {
+
+    private static final int STUB_LATENCY_MS = 100;
+    private static final int POOL_SIZE = 20;
+
+    @Param({"pool", "thread-per-task"})
+    public String executor;
+
+    @Param({"100", "1000"})
+    public int scenarios;
+
+    private HttpServer stubServer;
+    private ExecutorService engineExecutor;
+    private TestEngine testEngine;
+    private ExecutionRequestDto request;
+
+    @Setup
+    public void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 1000);
+        stubServer.setExecutor(ThreadPerTaskExecutors.newThreadPerTaskExecutor("stub-server"));
+        stubServer.createContext("/", exchange -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(STUB_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        stubServer.start();
+
+        engineExecutor = "pool".equals(executor) ? Executors.newFixedThreadPool(POOL_SIZE) : ThreadPerTaskExecutors.newThreadPerTaskExecutor("engine-executor");
+        testEngine = new ExecutionConfiguration(5L, engineExecutor, emptyMap(), null, null, 4096, SpelCompilerMode.OFF).embeddedTestEngine();
+
+        String stubUrl = "http://localhost:" + stubServer.getAddress().getPort() + "/";
+        StepDefinitionRequestDto step = new StepDefinitionRequestDto("call stub", null, null, "http-get", Map.of("uri", stubUrl), emptyList(), emptyMap(), emptyMap());
+        request = new ExecutionRequestDto(step, new EnvironmentDto("BENCH", emptyMap()), new DatasetDto(emptyMap(), emptyList()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        engineExecutor.shutdownNow();
+        stubServer.stop(0);
+    }
+
+    @Benchmark
+    public int executeConcurrentScenarios() {
+        List<Long> executionIds = new ArrayList<>(scenarios);
+        for (int i = 0; i < scenarios; i++) {
+            executionIds.add(testEngine.executeAsync(request));
+        }
+        int succeeded = 0;
+        for (Long executionId : executionIds) {
+            StepExecutionReportDto report = testEngine.receiveNotification(executionId).blockingLast();
+            if (report.status == StatusDto.SUCCESS) {
+                succeeded++;
+            }
+        }
+        return succeeded;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(ConcurrentScenariosBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class EnvironmentConcurrencyLimitsTest {
+
+    private final List<Runnable> dispatched = new ArrayList<>();
+    private final Executor executor = dispatched::add;
+
+    @Test
+    void should_not_limit_when_no_limit_configured() {
+        // Given
+        EnvironmentConcurrencyLimits sut = new EnvironmentConcurrencyLimits(0, Map.of("PROD", 0));
+
+        // When
+        sut.execute("DEV", executor, () -> {});
+        sut.execute("PROD", executor, () -> {});
+        sut.execute(null, executor, () -> {});
+
+        // Then
+        assertThat(dispatched).hasSize(3);
+        assertThat(sut.available("DEV")).isEqualTo(-1);
+        assertThat(sut.available("PROD")).isEqualTo(-1);
+    }
+
+    @Test
+    void should_apply_environment_limit_over_default_one() {
+        // Given
+        EnvironmentConcurrencyLimits sut = new EnvironmentConcurrencyLimits(3, Map.of("PROD", 1));
+
+        // When
+        sut.execute("DEV", executor, () -> {});
+        sut.execute("PROD", executor, () -> {});
+        sut.execute("PROD", executor, () -> {});
+
+        // Then
+        assertThat(dispatched).hasSize(2);
+        assertThat(sut.available("DEV")).isEqualTo(2);
+        assertThat(sut.available("PROD")).isZero();
+        assertThat(sut.waiting("PROD")).isEqualTo(1);
+    }
+
+    @Test
+    void should_queue_tasks_over_limit_without_dispatching_them() {
+        // Given
+        EnvironmentConcurrencyLimits sut = new EnvironmentConcurrencyLimits(1, Map.of());
+        List<String> executed = new ArrayList<>();
+        sut.execute("ENV", executor, () -> executed.add("first"));
+        sut.execute("ENV", executor, () -> executed.add("second"));
+        sut.execute("OTHER", executor, () -> executed.add("other"));
+        assertThat(dispatched).hasSize(2);
+
+        // When
+        dispatched.get(0).run();
+
+        // Then
+        assertThat(dispatched).hasSize(3);
+        assertThat(sut.waiting("ENV")).isZero();
+        assertThat(sut.available("ENV")).isZero();
+
+        dispatched.get(1).run();
+        dispatched.get(2).run();
+        assertThat(executed).containsExactly("first", "other", "second");
+        assertThat(sut.available("ENV")).isEqualTo(1);
+        assertThat(sut.available("OTHER")).isEqualTo(1);
+    }
+
+    @Test
+    void should_free_slot_when_task_fails() {
+        // Given
+        EnvironmentConcurrencyLimits sut = new EnvironmentConcurrencyLimits(1, Map.of());
+        sut.execute("ENV", executor, () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // When
+        try {
+            dispatched.get(0).run();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        // Then
+        assertThat(sut.available("ENV")).isEqualTo(1);
+    }
+
+    @Test
+    void should_hand_rejected_waiting_task_to_its_handler_and_dispatch_next_one() {
+        // Given
+        EnvironmentConcurrencyLimits sut = new EnvironmentConcurrencyLimits(1, Map.of());
+        AtomicInteger rejections = new AtomicInteger(1);
+        Executor rejectingOnce = task -> {
+            if (dispatched.size() > 0 && rejections.getAndDecrement() > 0) {
+                throw new RejectedExecutionException("rejected");
+            }
+            dispatched.add(task);
+        };
+        List<String> executed = new ArrayList<>();
+        List<String> rejected = new ArrayList<>();
+        sut.execute("ENV", rejectingOnce, () -> executed.add("first"), e -> rejected.add("first"));
+        sut.execute("ENV", rejectingOnce, () -> executed.add("second"), e -> rejected.add("second"));
+        sut.execute("ENV", rejectingOnce, () -> executed.add("third"), e -> rejected.add("third"));
+
+        // When
+        dispatched.get(0).run();
+
+        // Then
+        assertThat(rejected).containsExactly("second");
+        assertThat(dispatched).hasSize(2);
+        assertThat(sut.waiting("ENV")).isZero();
+        assertThat(sut.available("ENV")).isZero();
+
+        dispatched.get(1).run();
+        assertThat(executed).containsExactly("first", "third");
+        assertThat(sut.available("ENV")).isEqualTo(1);
+    }
+
+    @Test
+    void should_free_slot_when_all_waiting_tasks_are_rejected() {
+        // Given
+        EnvironmentConcurrencyLimits sut = new EnvironmentConcurrencyLimits(1, Map.of());
+        AtomicBoolean shutdown = new AtomicBoolean(false);
+        Executor shuttingDown = task -> {
+            if (shutdown.get()) {
+                throw new RejectedExecutionException("shutdown");
+            }
+            dispatched.add(task);
+        };
+        List<String> rejected = new ArrayList<>();
+        sut.execute("ENV", shuttingDown, () -> shutdown.set(true), e -> rejected.add("first"));
+        sut.execute("ENV", shuttingDown, () -> {}, e -> {
+            rejected.add("second");
+            throw new IllegalStateException("handler failure");
+        });
+        sut.execute("ENV", shuttingDown, () -> {}, e -> rejected.add("third"));
+
+        // When
+        dispatched.get(0).run();
+
+        // Then
+        assertThat(rejected).containsExactly("second", "third");
+        assertThat(sut.waiting("ENV")).isZero();
+        assertThat(sut.available("ENV")).isEqualTo(1);
+    }
+}
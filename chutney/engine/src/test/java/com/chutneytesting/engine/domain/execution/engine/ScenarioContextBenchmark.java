@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+
+import com.chutneytesting.ExecutionConfiguration;
+import com.chutneytesting.engine.api.execution.DatasetDto;
+import com.chutneytesting.engine.api.execution.EnvironmentDto;
+import com.chutneytesting.engine.api.execution.ExecutionRequestDto;
+import com.chutneytesting.engine.api.execution.ExecutionRequestDto.StepDefinitionRequestDto;
+import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
+import com.chutneytesting.engine.api.execution.TestEngine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.expression.spel.SpelCompilerMode;
+
+/**
+ * Time needed to run a scenario whose steps each add a 1 KB value to the scenario context, reading the previous one.
+ * <p>
+ * Scenario context grows with each step. With a layered context, evaluating a step does not copy the context anymore,
+ * so time per step stays the same whatever the number of steps: 10 000 steps take about 10 times as long as 1 000.
+ * <p>
+ * Run with main method from IDE, or with {@code java -cp <test classpath> org.openjdk.jmh.Main ScenarioContextBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class ScenarioContextBenchmark {
+
+    @Param({"1000", "10000"})
+    public int steps;
+
+    private ExecutorService engineExecutor;
+    private TestEngine testEngine;
+    private ExecutionRequestDto request;
+
+    @Setup
+    public void setUp() {
+        engineExecutor = Executors.newFixedThreadPool(2);
+        testEngine = new ExecutionConfiguration(5L, engineExecutor, emptyMap(), null, null, 4096, SpelCompilerMode.OFF).embeddedTestEngine();
+
+        List<StepDefinitionRequestDto> subSteps = new ArrayList<>(steps);
+        subSteps.add(contextPutStep(0, "x".repeat(1024)));
+        for (int i = 1; i < steps; i++) {
+            subSteps.add(contextPutStep(i, "${#key" + (i - 1) + "}"));
+        }
+        StepDefinitionRequestDto scenario = new StepDefinitionRequestDto("scenario", null, null, null, emptyMap(), subSteps, emptyMap(), emptyMap());
+        request = new ExecutionRequestDto(scenario, new EnvironmentDto("BENCH", emptyMap()), new DatasetDto(emptyMap(), emptyList()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        engineExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public StepExecutionReportDto executeScenario() {
+        return testEngine.execute(request);
+    }
+
+    private static StepDefinitionRequestDto contextPutStep(int index, String value) {
+        return new StepDefinitionRequestDto("put " + index, null, null, "context-put", Map.of("entries", Map.of("key" + index, value)), emptyList(), emptyMap(), emptyMap());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(ScenarioContextBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -8,6 +8,7 @@
 package com.chutneytesting.engine.domain.execution.engine;
 
 import static com.chutneytesting.engine.domain.execution.RxBus.getInstance;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -16,6 +17,8 @@ import com.chutneytesting.engine.domain.execution.ScenarioExecution;
 import com.chutneytesting.engine.domain.execution.command.PauseExecutionCommand;
 import com.chutneytesting.engine.domain.execution.command.ResumeExecutionCommand;
 import com.chutneytesting.engine.domain.execution.command.StopExecutionCommand;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.Test;
 
 public class ScenarioExecutionTest {
@@ -52,4 +55,81 @@ public class ScenarioExecutionTest {
             }
         );
     }
+
+    @Test
+    public void resume_should_wake_up_paused_execution_right_away() {
+        // Given
+        ScenarioExecution scenarioExecution = ScenarioExecution.createScenarioExecution(null);
+        getInstance().post(new PauseExecutionCommand(scenarioExecution.executionId));
+        await().atMost(1, SECONDS).until(scenarioExecution::hasToPause);
+        CompletableFuture<Void> waitingForRestart = CompletableFuture.runAsync(scenarioExecution::waitForRestart);
+        assertThat(waitingForRestart).failsWithin(200, MILLISECONDS).withThrowableOfType(TimeoutException.class);
+
+        // When
+        getInstance().post(new ResumeExecutionCommand(scenarioExecution.executionId));
+
+        // Then
+        assertThat(waitingForRestart).succeedsWithin(200, MILLISECONDS);
+    }
+
+    @Test
+    public void stop_should_wake_up_paused_execution() {
+        // Given
+        ScenarioExecution scenarioExecution = ScenarioExecution.createScenarioExecution(null);
+        getInstance().post(new PauseExecutionCommand(scenarioExecution.executionId));
+        await().atMost(1, SECONDS).until(scenarioExecution::hasToPause);
+        CompletableFuture<Void> waitingForRestart = CompletableFuture.runAsync(scenarioExecution::waitForRestart);
+
+        // When
+        getInstance().post(new StopExecutionCommand(scenarioExecution.executionId));
+
+        // Then
+        assertThat(waitingForRestart).succeedsWithin(200, MILLISECONDS);
+        assertThat(scenarioExecution.hasToStop()).isTrue();
+    }
+
+    @Test
+    public void stop_should_interrupt_registered_threads_only() {
+        // Given
+        ScenarioExecution scenarioExecution = ScenarioExecution.createScenarioExecution(null);
+        CompletableFuture<Boolean> interruptedAction = CompletableFuture.supplyAsync(() -> {
+            try (ScenarioExecution.Interruptible interruptible = scenarioExecution.interruptibleOnStop()) {
+                SECONDS.sleep(10);
+                return false;
+            } catch (InterruptedException e) {
+                return true;
+            }
+        });
+        long stopsBefore = ScenarioExecution.controlMetrics().stops();
+
+        // When
+        getInstance().post(new StopExecutionCommand(scenarioExecution.executionId));
+
+        // Then
+        assertThat(interruptedAction).succeedsWithin(1, SECONDS).isEqualTo(true);
+        assertThat(ScenarioExecution.controlMetrics().stops()).isGreaterThan(stopsBefore);
+        assertThat(scenarioExecution.awaitStop(10, SECONDS)).isTrue();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    public void stop_should_not_interrupt_not_interruptible_threads() {
+        // Given
+        ScenarioExecution scenarioExecution = ScenarioExecution.createScenarioExecution(null);
+        CompletableFuture<Boolean> notInterruptedAction = CompletableFuture.supplyAsync(() -> {
+            try (ScenarioExecution.Interruptible interruptible = scenarioExecution.notInterruptible()) {
+                scenarioExecution.awaitStop(10, SECONDS);
+                MILLISECONDS.sleep(100);
+                return interruptible.interrupted();
+            } catch (InterruptedException e) {
+                return true;
+            }
+        });
+
+        // When
+        getInstance().post(new StopExecutionCommand(scenarioExecution.executionId));
+
+        // Then
+        assertThat(notInterruptedAction).succeedsWithin(1, SECONDS).isEqualTo(false);
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine.evaluation;
+
+import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctions;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.expression.spel.SpelCompilerMode;
+
+/**
+ * Compare step data evaluation throughput without expression cache (previous behavior), with cache, and with compilation.
+ * <p>
+ * Run with main method from IDE, or with {@code java -cp <test classpath> org.openjdk.jmh.Main StepDataEvaluatorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StepDataEvaluatorBenchmark {
+
+    @Param({"0", "4096"})
+    public int expressionCacheSize;
+
+    @Param({"OFF", "MIXED"})
+    public SpelCompilerMode compilerMode;
+
+    private StepDataEvaluator sut;
+    private Map<String, Object> inputs;
+    private Map<String, Object> context;
+
+    @Setup
+    public void setUp() {
+        sut = new StepDataEvaluator(new SpelFunctions(), expressionCacheSize, compilerMode);
+
+        context = new HashMap<>();
+        context.put("index", 42);
+        context.put("name", "chutney");
+        context.put("items", List.of("a", "b", "c"));
+        context.put("body", Map.of("id", 12, "label", "label"));
+
+        inputs = new LinkedHashMap<>();
+        inputs.put("uri", "/api/items/${#index}");
+        inputs.put("name", "${#name.toUpperCase()}");
+        inputs.put("size", "${#items.size() + #index}");
+        inputs.put("label", "${#body['label']} - ${#body['id']}");
+        inputs.put("headers", Map.of("X-Name", "${#name}", "X-Index", "${#index * 2}"));
+    }
+
+    @Benchmark
+    public Map<String, Object> evaluateNamedData() {
+        return sut.evaluateNamedDataWithContextVariables(inputs, context);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(StepDataEvaluatorBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -12,15 +12,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContextImpl;
 import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctions;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.expression.spel.SpelCompilerMode;
 
 @SuppressWarnings("unchecked")
 public class StepDataEvaluatorTest {
@@ -254,6 +257,65 @@ public class StepDataEvaluatorTest {
         assertThat(((Map)evaluatedInputs.get("objectWithSpaceBeforePrefix")).get("k5")).isEqualTo("value5");
     }
 
+    @ParameterizedTest()
+    @ValueSource(strings = {"OFF", "MIXED", "IMMEDIATE"})
+    public void should_evaluate_same_expression_many_times_whatever_the_compiler_mode(SpelCompilerMode compilerMode) {
+        // Given
+        StepDataEvaluator evaluator = new StepDataEvaluator(new SpelFunctions(), 10, compilerMode);
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            Map<String, Object> context = Map.of("index", i, "name", "name" + i);
+            Object result = evaluator.evaluate("${#name + '-' + (#index * 2)}", context);
+
+            // Then
+            assertThat(result).isEqualTo("name" + i + "-" + (i * 2));
+        }
+    }
+
+    @Test
+    public void should_evaluate_with_cache_disabled() {
+        // Given
+        StepDataEvaluator evaluator = new StepDataEvaluator(new SpelFunctions(), 0, SpelCompilerMode.OFF);
+
+        // When
+        Object first = evaluator.evaluate("${#toto}", Map.of("toto", "titi"));
+        Object second = evaluator.evaluate("${#toto}", Map.of("toto", "tata"));
+
+        // Then
+        assertThat(first).isEqualTo("titi");
+        assertThat(second).isEqualTo("tata");
+    }
+
+    @Test
+    public void context_variables_should_hide_functions_with_same_name() throws NoSuchMethodException {
+        // Given
+        Method dateFunction = StepDataEvaluatorTest.class.getMethod("date");
+        SpelFunctions spelFunctions = new SpelFunctions() {
+            @Override
+            public Stream<NamedFunctionLink> stream() {
+                return Stream.of(new NamedFunctionLink("date", dateFunction));
+            }
+        };
+        StepDataEvaluator evaluator = new StepDataEvaluator(spelFunctions);
+
+        // When
+        Object shadowed = evaluator.evaluate("${#date}", Map.of("date", "2024-01-01"));
+        Object function = evaluator.evaluate("${#date()}", Map.of("other", "value"));
+        Map<String, Object> namedData = evaluator.evaluateNamedDataWithContextVariables(
+            Map.of("date", "${#date + '_set'}"), Map.of("date", "2024-01-01")
+        );
+
+        // Then
+        assertThat(shadowed).isEqualTo("2024-01-01");
+        assertThat(function).isEqualTo("function result");
+        assertThat(namedData).containsEntry("date", "2024-01-01_set");
+    }
+
+    public static String date() {
+        return "function result";
+    }
+
     private class TestObject {
         private String attribute;
         public TestObject(String attribute) {
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine.scenario;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class LayeredContextTest {
+
+    @Test
+    void should_read_keys_from_last_layer_holding_them() {
+        // Given
+        Map<String, Object> scenario = new HashMap<>(Map.of("a", "scenario", "b", "scenario"));
+        Map<String, Object> iteration = new HashMap<>(Map.of("b", "iteration"));
+        Map<String, Object> step = singletonMap("c", null);
+
+        // When
+        Map<String, Object> sut = LayeredContext.of(scenario, iteration, step);
+
+        // Then
+        assertThat(sut.get("a")).isEqualTo("scenario");
+        assertThat(sut.get("b")).isEqualTo("iteration");
+        assertThat(sut.containsKey("c")).isTrue();
+        assertThat(sut.get("c")).isNull();
+        assertThat(sut.containsKey("d")).isFalse();
+        assertThat(sut).containsExactly(entry("a", "scenario"), entry("b", "iteration"), entry("c", null));
+    }
+
+    @Test
+    void should_see_layers_writes_without_copying_them() {
+        // Given
+        Map<String, Object> scenario = new HashMap<>();
+        Map<String, Object> sut = LayeredContext.of(scenario, LayeredContext.of(new HashMap<>(), null));
+
+        // When
+        scenario.put("a", "written later");
+
+        // Then
+        assertThat(sut.get("a")).isEqualTo("written later");
+        assertThatThrownBy(() -> sut.put("a", "value")).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
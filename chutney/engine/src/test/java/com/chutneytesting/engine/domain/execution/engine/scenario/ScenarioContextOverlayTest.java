@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine.scenario;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.junit.jupiter.api.Test;
+
+class ScenarioContextOverlayTest {
+
+    @Test
+    void should_keep_writes_in_overlay_until_applied() {
+        // Given
+        ScenarioContext base = new ScenarioContextImpl();
+        base.put("kept", "base");
+        base.put("overridden", "base");
+        base.put("removed", "base");
+        ScenarioContextOverlay sut = new ScenarioContextOverlay(base);
+
+        // When
+        sut.put("overridden", "overlay");
+        sut.put("added", "overlay");
+        sut.remove("removed");
+
+        // Then
+        assertThat(sut).containsOnly(entry("kept", "base"), entry("overridden", "overlay"), entry("added", "overlay"));
+        assertThat(sut.containsKey("removed")).isFalse();
+        assertThat(base).containsOnly(entry("kept", "base"), entry("overridden", "base"), entry("removed", "base"));
+
+        sut.applyWritesTo(base);
+        assertThat(base).containsOnly(entry("kept", "base"), entry("overridden", "overlay"), entry("added", "overlay"));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine.step;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class SnapshotPolicyTest {
+
+    private static final String LARGE_VALUE = "0123456789".repeat(10);
+
+    @Test
+    void should_inline_values_when_unlimited() {
+        // When
+        Object snapshot = SnapshotPolicy.UNLIMITED.snapshot(LARGE_VALUE);
+
+        // Then
+        assertThat(((JsonNode) snapshot).asText()).isEqualTo(LARGE_VALUE);
+    }
+
+    @Test
+    void should_inline_values_fitting_max_length() {
+        // Given
+        SnapshotPolicy sut = new SnapshotPolicy(20, null);
+
+        // When
+        Object snapshot = sut.snapshot(Map.of("key", "value"));
+
+        // Then
+        assertThat(snapshot.toString()).isEqualTo("{\"key\":\"value\"}");
+    }
+
+    @Test
+    void should_truncate_values_exceeding_max_length() {
+        // Given
+        SnapshotPolicy sut = new SnapshotPolicy(20, null);
+
+        // When
+        Object snapshot = sut.snapshot(LARGE_VALUE);
+
+        // Then
+        assertThat(((JsonNode) snapshot).isTextual()).isTrue();
+        assertThat(((JsonNode) snapshot).textValue()).isEqualTo("01234567890123456789" + SnapshotPolicy.TRUNCATION_MARKER);
+    }
+
+    @Test
+    void should_truncate_values_on_code_points_boundaries_counting_utf8_bytes() {
+        // Given
+        SnapshotPolicy sut = new SnapshotPolicy(6, null);
+        String emojis = "\uD83D\uDE00\uD83D\uDE01\uD83D\uDE02";
+
+        // When
+        Object snapshot = sut.snapshot("é" + emojis);
+
+        // Then
+        assertThat(((JsonNode) snapshot).textValue()).isEqualTo("é\uD83D\uDE00" + SnapshotPolicy.TRUNCATION_MARKER);
+    }
+
+    @Test
+    void should_keep_structure_of_truncated_values() {
+        // Given
+        SnapshotPolicy sut = new SnapshotPolicy(18, null);
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("id", 42);
+        value.put("items", List.of("first", "second", "third"));
+        value.put("other", "value");
+
+        // When
+        JsonNode snapshot = (JsonNode) sut.snapshot(value);
+
+        // Then
+        assertThat(snapshot.isObject()).isTrue();
+        assertThat(snapshot.get("id").intValue()).isEqualTo(42);
+        assertThat(snapshot.get("items").isArray()).isTrue();
+        assertThat(snapshot.get("items").get(0).textValue()).isEqualTo("first");
+        assertThat(snapshot.get("items").get(1).textValue()).isEqualTo("seco" + SnapshotPolicy.TRUNCATION_MARKER);
+        assertThat(snapshot.get("items").get(2).textValue()).isEqualTo(SnapshotPolicy.TRUNCATION_MARKER);
+        assertThat(snapshot.has(SnapshotPolicy.TRUNCATION_MARKER)).isTrue();
+        assertThat(snapshot.has("other")).isFalse();
+    }
+
+    @Test
+    void should_reference_attachment_of_values_exceeding_max_length() {
+        // Given
+        InMemoryAttachmentStore attachmentStore = new InMemoryAttachmentStore();
+        SnapshotPolicy sut = new SnapshotPolicy(20, attachmentStore);
+
+        // When
+        JsonNode snapshot = (JsonNode) sut.snapshot(LARGE_VALUE);
+
+        // Then
+        String attachmentId = snapshot.get(SnapshotPolicy.ATTACHMENT_FIELD).asText();
+        assertThat(snapshot.get(SnapshotPolicy.LENGTH_FIELD).asInt()).isEqualTo(LARGE_VALUE.length() + 2);
+        assertThat(attachmentStore.load(attachmentId)).hasValueSatisfying(content ->
+            assertThat(new String(content, UTF_8)).isEqualTo("\"" + LARGE_VALUE + "\"")
+        );
+    }
+
+    @Test
+    void should_stop_serialization_at_max_length() {
+        // Given
+        SnapshotPolicy sut = new SnapshotPolicy(20, null);
+        List<Object> value = List.of(LARGE_VALUE, new NotSerializable());
+
+        // When
+        JsonNode snapshot = (JsonNode) sut.snapshot(value);
+
+        // Then
+        assertThat(snapshot.get(0).textValue()).isEqualTo("01234567890123456789" + SnapshotPolicy.TRUNCATION_MARKER);
+        assertThat(snapshot.get(1).textValue()).isEqualTo(SnapshotPolicy.TRUNCATION_MARKER);
+        assertThat(snapshot.size()).isEqualTo(2);
+    }
+
+    @Test
+    void should_store_attachments_once_at_step_end() {
+        // Given
+        InMemoryAttachmentStore attachmentStore = new InMemoryAttachmentStore();
+        SnapshotPolicy sut = new SnapshotPolicy(20, attachmentStore);
+
+        // When
+        StepContextSnapshot stepContextSnapshot = new StepContextSnapshot(Map.of("input", LARGE_VALUE), Map.of(), sut);
+
+        // Then
+        assertThat(attachmentStore.stores).isEqualTo(1);
+        assertThat(stepContextSnapshot.getInputsSnapshot()).isSameAs(stepContextSnapshot.getInputsSnapshot());
+        assertThat(attachmentStore.stores).isEqualTo(1);
+    }
+
+    @Test
+    void should_capture_step_context_values_as_they_were_at_step_end() {
+        // Given
+        List<String> output = new ArrayList<>(List.of("at step end"));
+        StepContextSnapshot stepContextSnapshot = new StepContextSnapshot(Map.of(), Map.of("output", output), SnapshotPolicy.UNLIMITED);
+
+        // When
+        output.add("changed later");
+        Map<String, Object> snapshot = stepContextSnapshot.getOutputsSnapshot();
+
+        // Then
+        assertThat(snapshot.get("output").toString()).isEqualTo("[\"at step end\"]");
+    }
+
+    private static class NotSerializable {
+        public String getValue() {
+            throw new IllegalStateException("Should not be serialized");
+        }
+    }
+
+    private static class InMemoryAttachmentStore implements SnapshotAttachmentStore {
+        private final Map<String, byte[]> attachments = new HashMap<>();
+        private final Map<String, Instant> storageInstants = new HashMap<>();
+        private int stores = 0;
+
+        @Override
+        public String store(byte[] content) {
+            stores++;
+            String attachmentId = String.valueOf(new String(content, UTF_8).hashCode());
+            attachments.put(attachmentId, content);
+            storageInstants.put(attachmentId, Instant.now());
+            return attachmentId;
+        }
+
+        @Override
+        public Optional<byte[]> load(String attachmentId) {
+            return Optional.ofNullable(attachments.get(attachmentId));
+        }
+
+        @Override
+        public int deleteStoredBefore(Instant instant) {
+            int size = attachments.size();
+            storageInstants.entrySet().removeIf(stored -> stored.getValue().isBefore(instant));
+            attachments.keySet().retainAll(storageInstants.keySet());
+            return size - attachments.size();
+        }
+    }
+}
@@ -23,7 +23,7 @@ public class StepContextSnapshotTest {
         ObjectMapper objectMapper = ReportObjectMapperConfiguration.reportObjectMapper();
         Map<String, Object> mapStringObject = Map.of("inputObject", "inputValue");
 
-        StepContextSnapshot stepContextSnapshot = new StepContextSnapshot(mapStringObject, mapStringObject);
+        StepContextSnapshot stepContextSnapshot = new StepContextSnapshot(mapStringObject, mapStringObject, SnapshotPolicy.UNLIMITED);
 
         // When
         String serializedInput = objectMapper.writeValueAsString(stepContextSnapshot.getInputsSnapshot());
@@ -40,7 +40,7 @@ public class StepContextSnapshotTest {
         ObjectMapper objectMapper = ReportObjectMapperConfiguration.reportObjectMapper();
         Map<String, Object> mapStringObject = Map.of("inputObject", Map.of("inputValue1", Map.of("inputValue2",Map.of("inputValue3","value"))));
 
-        StepContextSnapshot stepContextSnapshot = new StepContextSnapshot(mapStringObject, mapStringObject);
+        StepContextSnapshot stepContextSnapshot = new StepContextSnapshot(mapStringObject, mapStringObject, SnapshotPolicy.UNLIMITED);
 
         // When
         String serializedInput = objectMapper.writeValueAsString(stepContextSnapshot.getInputsSnapshot());
@@ -0,0 +1,175 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.strategies;
+
+import static com.chutneytesting.engine.api.execution.StatusDto.FAILURE;
+import static com.chutneytesting.engine.api.execution.StatusDto.NOT_EXECUTED;
+import static com.chutneytesting.engine.api.execution.StatusDto.SUCCESS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.ExecutionConfiguration;
+import com.chutneytesting.engine.api.execution.ExecutionRequestDto;
+import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
+import com.chutneytesting.engine.api.execution.TestEngine;
+import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
+import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContextImpl;
+import com.chutneytesting.engine.domain.execution.report.Status;
+import com.chutneytesting.tools.Jsons;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ParallelStrategyTest {
+
+    private final TestEngine testEngine = new ExecutionConfiguration().embeddedTestEngine();
+
+    @Test
+    public void should_execute_iterations_concurrently_and_merge_context_in_order() {
+        // G
+        ExecutionRequestDto requestDto = Jsons.loadJsonFromClasspath("scenarios_examples/parallelStrategy/parallel_iterations.json", ExecutionRequestDto.class);
+
+        // W
+        StepExecutionReportDto result = testEngine.execute(requestDto);
+
+        // T
+        assertThat(result).hasFieldOrPropertyWithValue("status", SUCCESS);
+        StepExecutionReportDto iterations = result.steps.get(0);
+        assertThat(iterations.steps).extracting(s -> s.name)
+            .containsExactly("0 - sleep and put", "1 - sleep and put", "2 - sleep and put", "3 - sleep and put");
+        assertThat(iterations.duration).isLessThan(4 * 500);
+    }
+
+    @Test
+    public void should_not_start_remaining_sub_steps_after_failure_when_fail_fast() {
+        // G
+        ExecutionRequestDto requestDto = Jsons.loadJsonFromClasspath("scenarios_examples/parallelStrategy/parallel_substeps_fail_fast.json", ExecutionRequestDto.class);
+
+        // W
+        StepExecutionReportDto result = testEngine.execute(requestDto);
+
+        // T
+        assertThat(result).hasFieldOrPropertyWithValue("status", FAILURE);
+        assertThat(result.steps.get(0).steps).extracting(s -> s.status)
+            .containsExactly(SUCCESS, FAILURE, NOT_EXECUTED);
+    }
+
+    @Test
+    public void should_execute_all_sub_steps_whatever_failures_by_default() {
+        // G
+        ExecutionRequestDto requestDto = Jsons.loadJsonFromClasspath("scenarios_examples/parallelStrategy/parallel_substeps_collect_all.json", ExecutionRequestDto.class);
+
+        // W
+        StepExecutionReportDto result = testEngine.execute(requestDto);
+
+        // T
+        assertThat(result).hasFieldOrPropertyWithValue("status", FAILURE);
+        assertThat(result.steps.get(0).steps).extracting(s -> s.status)
+            .containsExactly(FAILURE, SUCCESS, SUCCESS);
+    }
+
+    @Test
+    public void should_give_each_branch_its_own_local_context_and_merge_them_in_order() {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        Map<String, Object> localContext = new HashMap<>(Map.of("shared", "init"));
+        List<Object> seenSharedValues = new CopyOnWriteArrayList<>();
+        List<BiFunction<ScenarioContext, Map<String, Object>, Status>> branches = IntStream.range(0, 3)
+            .<BiFunction<ScenarioContext, Map<String, Object>, Status>>mapToObj(i -> (scenarioContext, branchLocalContext) -> {
+                branchLocalContext.put("shared", i);
+                branchLocalContext.put("branch_" + i, i);
+                sleep(50);
+                seenSharedValues.add(branchLocalContext.get("shared"));
+                return Status.SUCCESS;
+            })
+            .toList();
+
+        // When
+        try {
+            new ParallelBranches(executor, 3, false).execute(new ScenarioContextImpl(), localContext, branches);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(seenSharedValues).containsExactlyInAnyOrder(0, 1, 2);
+        assertThat(localContext).containsEntry("shared", 2)
+            .containsEntry("branch_0", 0).containsEntry("branch_1", 1).containsEntry("branch_2", 2);
+    }
+
+    @Test
+    public void should_run_at_most_max_concurrency_branches_on_given_executor() {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<BiFunction<ScenarioContext, Map<String, Object>, Status>> branches = IntStream.range(0, 6)
+            .<BiFunction<ScenarioContext, Map<String, Object>, Status>>mapToObj(i -> (scenarioContext, branchLocalContext) -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                threads.add(Thread.currentThread().getName());
+                sleep(50);
+                running.decrementAndGet();
+                return Status.SUCCESS;
+            })
+            .toList();
+
+        // When
+        Status status;
+        try {
+            status = new ParallelBranches(executor, 2, false).execute(new ScenarioContextImpl(), new HashMap<>(), branches);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(status).isEqualTo(Status.SUCCESS);
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(threads).hasSize(2).contains(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void should_execute_branches_on_calling_thread_when_executor_rejects_them() {
+        // Given
+        Executor rejectingExecutor = command -> {
+            throw new RejectedExecutionException("shut down");
+        };
+        List<String> threads = new CopyOnWriteArrayList<>();
+        List<BiFunction<ScenarioContext, Map<String, Object>, Status>> branches = IntStream.range(0, 3)
+            .<BiFunction<ScenarioContext, Map<String, Object>, Status>>mapToObj(i -> (scenarioContext, branchLocalContext) -> {
+                threads.add(Thread.currentThread().getName());
+                return Status.SUCCESS;
+            })
+            .toList();
+
+        // When
+        Status status = new ParallelBranches(rejectingExecutor, 3, false).execute(new ScenarioContextImpl(), new HashMap<>(), branches);
+
+        // Then
+        assertThat(status).isEqualTo(Status.SUCCESS);
+        assertThat(threads).hasSize(3).containsOnly(Thread.currentThread().getName());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
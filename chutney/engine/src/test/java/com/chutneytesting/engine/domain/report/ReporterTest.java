@@ -7,6 +7,7 @@
 
 package com.chutneytesting.engine.domain.report;
 
+import static com.chutneytesting.engine.domain.execution.report.Status.FAILURE;
 import static com.chutneytesting.engine.domain.execution.report.Status.PAUSED;
 import static com.chutneytesting.engine.domain.execution.report.Status.RUNNING;
 import static com.chutneytesting.engine.domain.execution.report.Status.SUCCESS;
@@ -32,6 +33,7 @@ import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
 import io.reactivex.rxjava3.observers.TestObserver;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -180,6 +182,85 @@ public class ReporterTest {
         assertThat(step.status()).isEqualTo(SUCCESS);
     }
 
+    @Test
+    public void should_reuse_report_of_unchanged_steps_while_running() {
+        Step subStep1 = step.subSteps().get(0);
+        Step subStep11 = step.subSteps().get(0).subSteps().get(0);
+        Step subStep12 = step.subSteps().get(0).subSteps().get(1);
+        Step subStep2 = step.subSteps().get(1);
+
+        sut.createPublisher(scenarioExecution.executionId, step);
+        TestObserver<StepExecutionReport> observer = sut.subscribeOnExecution(scenarioExecution.executionId).test();
+        RxBus.getInstance().post(new StartScenarioExecutionEvent(scenarioExecution, step));//1
+
+        step.beginExecution(scenarioExecution);//2
+        subStep1.beginExecution(scenarioExecution);//3
+        subStep11.beginExecution(scenarioExecution);//4
+        subStep11.success();
+        subStep11.endExecution(scenarioExecution);//5
+        subStep12.beginExecution(scenarioExecution);//6
+        subStep12.success();
+        subStep12.endExecution(scenarioExecution);//7
+        subStep1.endExecution(scenarioExecution);//8
+        subStep2.beginExecution(scenarioExecution);//9
+        subStep2.success();
+        subStep2.endExecution(scenarioExecution);//10
+        step.endExecution(scenarioExecution);//11
+
+        RxBus.getInstance().post(new EndScenarioExecutionEvent(scenarioExecution, step));//12
+        observer.awaitCount(12);
+
+        List<StepExecutionReport> reports = observer.values();
+        // Ended step report is not generated again
+        assertThat(reports.get(5).steps.get(0).steps.get(0)).isSameAs(reports.get(6).steps.get(0).steps.get(0));
+        assertThat(reports.get(7).steps.get(0)).isSameAs(reports.get(8).steps.get(0));
+        assertThat(reports.get(8).steps.get(0)).isSameAs(reports.get(9).steps.get(0));
+        // Running step report is generated again
+        assertThat(reports.get(6).steps.get(0)).isNotSameAs(reports.get(7).steps.get(0));
+        assertThat(reports.get(8).steps.get(1).status).isEqualTo(RUNNING);
+        assertThat(reports.get(9).steps.get(1).status).isEqualTo(SUCCESS);
+        // Last report is fully generated
+        assertThat(reports.get(11).status).isEqualTo(SUCCESS);
+        assertThat(reports.get(11).steps.get(0)).isNotSameAs(reports.get(10).steps.get(0));
+        assertThat(reports.get(11).steps.get(0).steps).extracting(r -> r.status).containsExactly(SUCCESS, SUCCESS);
+    }
+
+    @Test
+    public void should_not_reuse_fallback_report_of_failed_generation() {
+        StepDefinition failingOnceDefinition = new StepDefinition("failingOnce", fakeTarget, "actionType", null, null, null, null, null);
+        AtomicInteger endedGenerations = new AtomicInteger();
+        Step failingOnce = new Step(dataEvaluator, failingOnceDefinition, null, List.of()) {
+            @Override
+            public List<String> informations() {
+                if (status() == SUCCESS && endedGenerations.incrementAndGet() == 1) {
+                    throw new IllegalStateException("first generation fails");
+                }
+                return super.informations();
+            }
+        };
+        StepDefinition rootDefinition = new StepDefinition("root", fakeTarget, "actionType", null, null, List.of(failingOnceDefinition), null, null);
+        StepDefinition runningDefinition = new StepDefinition("running", fakeTarget, "actionType", null, null, null, null, null);
+        Step running = new Step(dataEvaluator, runningDefinition, null, List.of());
+        Step root = new Step(dataEvaluator, rootDefinition, null, List.of(failingOnce, running));
+
+        sut.createPublisher(scenarioExecution.executionId, root);
+        TestObserver<StepExecutionReport> observer = sut.subscribeOnExecution(scenarioExecution.executionId).test();
+        RxBus.getInstance().post(new StartScenarioExecutionEvent(scenarioExecution, root));//1
+        root.beginExecution(scenarioExecution);//2
+        failingOnce.beginExecution(scenarioExecution);//3
+        failingOnce.success();
+        failingOnce.endExecution(scenarioExecution);//4 first generation of ended step fails
+        running.beginExecution(scenarioExecution);//5
+        observer.awaitCount(5);
+
+        List<StepExecutionReport> reports = observer.values();
+        assertThat(reports.get(3).steps.get(0).status).isEqualTo(FAILURE);
+        assertThat(reports.get(3).steps.get(0).errors).containsExactly("Cannot generate step report: first generation fails");
+        // Fallback report is not reused, report is generated again
+        assertThat(reports.get(4).steps.get(0).status).isEqualTo(SUCCESS);
+        assertThat(reports.get(4).steps.get(0).errors).isEmpty();
+    }
+
     private Step buildFakeScenario() {
         List<StepDefinition> subSubSteps = new ArrayList<>();
         StepDefinition subSubStepDef1 = new StepDefinition("fakeStep1", fakeTarget, "actionType", null, null, null, null, null);
@@ -16,7 +16,9 @@ import com.chutneytesting.environment.domain.exception.EnvVariableNotFoundExcept
 import com.chutneytesting.environment.domain.exception.TargetNotFoundException;
 import com.chutneytesting.environment.domain.exception.VariableAlreadyExistingException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -27,12 +29,15 @@ public class Environment {
     public final String description;
     public final Set<Target> targets;
     public final Set<EnvironmentVariable> variables;
+    private final Map<String, Target> targetsByName;
 
     private Environment(String name, String description, Set<Target> targets, Set<EnvironmentVariable> variables) {
         this.name = name;
         this.description = description;
         this.targets = targets;
         this.variables = variables;
+        this.targetsByName = new HashMap<>(targets.size());
+        targets.forEach(target -> targetsByName.putIfAbsent(target.name, target));
     }
 
     public static EnvironmentBuilder builder() {
@@ -56,7 +61,7 @@ public class Environment {
     }
 
     Target getTarget(String targetName) {
-        return targets.stream().filter(t -> t.name.equals(targetName)).findFirst().orElseThrow(() -> new TargetNotFoundException("Target [" + targetName + "] not found in environment [" + name + "]"));
+        return ofNullable(targetsByName.get(targetName)).orElseThrow(() -> new TargetNotFoundException("Target [" + targetName + "] not found in environment [" + name + "]"));
     }
 
     Environment deleteTarget(String targetName) {
@@ -8,6 +8,7 @@
 package com.chutneytesting.environment.infra;
 
 import static com.chutneytesting.tools.file.FileUtils.initFolder;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
 import static java.util.stream.Collectors.toList;
 
 import com.chutneytesting.environment.domain.Environment;
@@ -20,6 +21,7 @@ import com.chutneytesting.environment.domain.exception.InvalidEnvironmentNameExc
 import com.chutneytesting.environment.domain.exception.TargetAlreadyExistsException;
 import com.chutneytesting.environment.domain.exception.VariableAlreadyExistingException;
 import com.chutneytesting.tools.file.FileUtils;
+import com.chutneytesting.tools.file.FolderWatcher;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -28,17 +30,30 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
-public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
+/**
+ * Environments are cached once read, until next change.
+ * Changes are the ones made through this repository, and the ones made directly on files, seen by watching the store folder.
+ * Files written by this repository are seen by the watcher too, they are ignored while they are as this repository left them.
+ */
+public class JsonFilesEnvironmentRepository implements EnvironmentRepository, AutoCloseable {
 
     private static final String JSON_FILE_EXT = ".json";
 
     private final Path storeFolderPath;
+    private final AtomicLong version = new AtomicLong();
+    private final Map<String, CachedEnvironment> cache = new ConcurrentHashMap<>();
+    private final Map<Path, FileState> ownChanges = new ConcurrentHashMap<>();
+    private final FolderWatcher folderWatcher;
     private final ObjectMapper objectMapper = new ObjectMapper()
         .findAndRegisterModules()
         .enable(SerializationFeature.INDENT_OUTPUT)
@@ -47,15 +62,34 @@ public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
     public JsonFilesEnvironmentRepository(String storeFolderPath) throws UncheckedIOException {
         this.storeFolderPath = Paths.get(storeFolderPath).toAbsolutePath();
         initFolder(this.storeFolderPath);
+        this.folderWatcher = FolderWatcher.watch(this.storeFolderPath, "environments", this::onFolderChanges);
     }
 
     @Override
     public synchronized void save(Environment environment) throws UnsupportedOperationException, InvalidEnvironmentNameException {
-        doSave(environment);
+        try {
+            doSave(environment);
+        } finally {
+            invalidateCache();
+        }
     }
 
+    /**
+     * @return the cached environment, shared by all callers until next change
+     */
     @Override
     public Environment findByName(String name) throws EnvironmentNotFoundException {
+        CachedEnvironment cached = cache.get(name);
+        long currentVersion = version.get();
+        if (cached != null && cached.version() == currentVersion) {
+            return cached.environment();
+        }
+        Environment environment = readEnvironment(name);
+        cache.put(name, new CachedEnvironment(currentVersion, environment));
+        return environment;
+    }
+
+    private Environment readEnvironment(String name) throws EnvironmentNotFoundException {
         Path environmentPath = getEnvironmentPath(name);
         if (!Files.exists(environmentPath)) {
             throw new EnvironmentNotFoundException("Configuration file not found: " + environmentPath);
@@ -88,7 +122,7 @@ public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
     }
 
     @Override
-    public void delete(String name) {
+    public synchronized void delete(String name) {
         Path environmentPath = getEnvironmentPath(name);
         if (!Files.exists(environmentPath)) {
             throw new EnvironmentNotFoundException("Configuration file not found: " + environmentPath);
@@ -96,11 +130,19 @@ public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
         try {
             Path backupPath = Paths.get(environmentPath.toString() + UUID.randomUUID().getMostSignificantBits() + ".backup");
             Files.move(environmentPath, backupPath);
+            recordOwnChange(environmentPath);
         } catch (IOException e) {
             throw new CannotDeleteEnvironmentException("Cannot delete configuration file: " + environmentPath, e);
+        } finally {
+            invalidateCache();
         }
     }
 
+    @Override
+    public void close() throws IOException {
+        folderWatcher.close();
+    }
+
     private void doSave(Environment environment) {
         Path environmentPath = getEnvironmentPath(environment.name);
         checkTargetNameUnicity(environment.targets);
@@ -109,6 +151,7 @@ public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
             byte[] bytes = objectMapper.writeValueAsBytes(JsonEnvironment.from(environment));
             try {
                 Files.write(environmentPath, bytes);
+                recordOwnChange(environmentPath);
             } catch (IOException e) {
                 throw new UnsupportedOperationException("Cannot write in configuration directory: " + storeFolderPath, e);
             }
@@ -148,4 +191,61 @@ public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
     public Path getEnvironmentPath(String name) {
         return storeFolderPath.resolve(name + JSON_FILE_EXT);
     }
+
+    private void recordOwnChange(Path environmentPath) {
+        try {
+            ownChanges.put(environmentPath, FileState.of(environmentPath));
+        } catch (IOException e) {
+            ownChanges.remove(environmentPath);
+        }
+    }
+
+    private void invalidateCache() {
+        version.incrementAndGet();
+        cache.clear();
+    }
+
+    private void onFolderChanges(List<WatchEvent<?>> events) {
+        // Waits for a save or delete in progress, so its file state is recorded
+        synchronized (this) {
+            if (events.stream().anyMatch(this::isExternalChange)) {
+                invalidateCache();
+            }
+        }
+    }
+
+    private boolean isExternalChange(WatchEvent<?> event) {
+        if (event.kind() == OVERFLOW) {
+            return true;
+        }
+        Path path = storeFolderPath.resolve((Path) event.context());
+        if (!isJsonFile(path)) {
+            // Deleted environments backups
+            return false;
+        }
+        FileState ownChange = ownChanges.get(path);
+        try {
+            return ownChange == null || !ownChange.equals(FileState.of(path));
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * @param lastModified null when file does not exist
+     */
+    private record FileState(FileTime lastModified, long size) {
+        private static FileState of(Path path) throws IOException {
+            if (!Files.exists(path)) {
+                return new FileState(null, -1);
+            }
+            return new FileState(Files.getLastModifiedTime(path), Files.size(path));
+        }
+    }
+
+    /**
+     * @param version of the cache when environment was read, to ignore it when changed since
+     */
+    private record CachedEnvironment(long version, Environment environment) {
+    }
 }
@@ -7,11 +7,12 @@
 
 package com.chutneytesting.environment.infra;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
 import com.chutneytesting.environment.domain.Environment;
-import com.chutneytesting.environment.domain.EnvironmentRepository;
 import com.chutneytesting.environment.domain.EnvironmentVariable;
 import com.chutneytesting.environment.domain.Target;
 import com.chutneytesting.environment.domain.exception.EnvironmentNotFoundException;
@@ -32,15 +33,16 @@ public class JsonFilesEnvironmentRepositoryTest {
 
     private static final Path CONFIGURATION_FOLDER = Paths.get("target", "conf");
 
-    private final EnvironmentRepository sut = new JsonFilesEnvironmentRepository(CONFIGURATION_FOLDER.toString());
+    private final JsonFilesEnvironmentRepository sut = new JsonFilesEnvironmentRepository(CONFIGURATION_FOLDER.toString());
 
     @AfterEach
-    public void after() {
+    public void after() throws IOException {
         try (Stream<Path> confStream = Files.list(CONFIGURATION_FOLDER)) {
             confStream.forEach(ThrowingConsumer.toUnchecked(Files::delete));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+        sut.close();
     }
 
     @Test
@@ -159,6 +161,51 @@ public class JsonFilesEnvironmentRepositoryTest {
             .isInstanceOf(EnvironmentNotFoundException.class);
     }
 
+    @Test
+    void should_read_environment_file_once_until_it_changes() {
+        // Given
+        sut.save(Environment.builder().withName("TEST").withDescription("some description").build());
+        Environment first = sut.findByName("TEST");
+
+        // When
+        Environment second = sut.findByName("TEST");
+        sut.save(Environment.builder().withName("TEST").withDescription("some other description").build());
+        Environment afterSave = sut.findByName("TEST");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(afterSave.description).isEqualTo("some other description");
+    }
+
+    @Test
+    void should_not_find_deleted_environment() {
+        // Given
+        sut.save(Environment.builder().withName("TEST").build());
+        sut.findByName("TEST");
+
+        // When
+        sut.delete("TEST");
+
+        // Then
+        assertThatThrownBy(() -> sut.findByName("TEST"))
+            .isInstanceOf(EnvironmentNotFoundException.class);
+    }
+
+    @Test
+    void should_read_environment_again_when_its_file_is_modified_outside_repository() throws IOException {
+        // Given
+        sut.save(Environment.builder().withName("TEST").withDescription("some description").build());
+        assertThat(sut.findByName("TEST").description).isEqualTo("some description");
+
+        // When
+        Files.writeString(sut.getEnvironmentPath("TEST"), "{\"name\": \"TEST\", \"description\": \"modified\"}");
+
+        // Then
+        await().atMost(30, SECONDS).untilAsserted(() ->
+            assertThat(sut.findByName("TEST").description).isEqualTo("modified")
+        );
+    }
+
     @Test
     void should_throws_exception_when_find_missing_environment() {
         assertThatThrownBy(() -> sut.findByName("MISSING_ENV"))
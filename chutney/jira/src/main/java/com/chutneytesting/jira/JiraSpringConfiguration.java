@@ -10,6 +10,7 @@ package com.chutneytesting.jira;
 import com.chutneytesting.jira.api.JiraXrayEmbeddedApi;
 import com.chutneytesting.jira.domain.JiraRepository;
 import com.chutneytesting.jira.domain.JiraXrayClientFactory;
+import com.chutneytesting.jira.domain.JiraXrayPublisher;
 import com.chutneytesting.jira.domain.JiraXrayService;
 import com.chutneytesting.jira.infra.JiraFileRepository;
 import com.chutneytesting.jira.infra.JiraXrayFactoryImpl;
@@ -21,11 +22,15 @@ import org.springframework.context.annotation.Configuration;
 public class JiraSpringConfiguration {
 
     public static final String CONFIGURATION_FOLDER_SPRING_VALUE = "${chutney.jira.configuration-folder:~/.chutney/conf/jira}";
+    public static final String XRAY_PUBLISHER_QUEUE_CAPACITY_SPRING_VALUE = "${chutney.jira.xray.publisher.queue-capacity:1000}";
+    public static final String XRAY_PUBLISHER_MAX_BATCH_SIZE_SPRING_VALUE = "${chutney.jira.xray.publisher.max-batch-size:50}";
+    public static final String XRAY_PUBLISHER_MAX_ATTEMPTS_SPRING_VALUE = "${chutney.jira.xray.publisher.max-attempts:3}";
+    public static final String XRAY_PUBLISHER_BACKOFF_SPRING_VALUE = "${chutney.jira.xray.publisher.backoff:1000}";
 
     // api Bean
     @Bean
-    JiraXrayEmbeddedApi jiraXrayEmbeddedApi(JiraXrayService jiraXrayService) {
-        return new JiraXrayEmbeddedApi(jiraXrayService);
+    JiraXrayEmbeddedApi jiraXrayEmbeddedApi(JiraXrayService jiraXrayService, JiraXrayPublisher jiraXrayPublisher) {
+        return new JiraXrayEmbeddedApi(jiraXrayService, jiraXrayPublisher);
     }
 
     // domain Bean
@@ -34,6 +39,15 @@ public class JiraSpringConfiguration {
         return new JiraXrayService(jiraRepository, jiraXrayFactory);
     }
 
+    @Bean
+    JiraXrayPublisher jiraXrayPublisher(JiraXrayService jiraXrayService,
+                                        @Value(XRAY_PUBLISHER_QUEUE_CAPACITY_SPRING_VALUE) int queueCapacity,
+                                        @Value(XRAY_PUBLISHER_MAX_BATCH_SIZE_SPRING_VALUE) int maxBatchSize,
+                                        @Value(XRAY_PUBLISHER_MAX_ATTEMPTS_SPRING_VALUE) int maxAttempts,
+                                        @Value(XRAY_PUBLISHER_BACKOFF_SPRING_VALUE) long backoffMillis) {
+        return new JiraXrayPublisher(jiraXrayService, queueCapacity, maxBatchSize, maxAttempts, backoffMillis);
+    }
+
     // infra Bean
     @Bean
     JiraXrayClientFactory jiraXrayFactory() {
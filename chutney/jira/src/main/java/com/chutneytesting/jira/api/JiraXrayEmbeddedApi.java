@@ -9,16 +9,27 @@ package com.chutneytesting.jira.api;
 
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
+import com.chutneytesting.jira.domain.JiraXrayPublisher;
 import com.chutneytesting.jira.domain.JiraXrayService;
 import com.chutneytesting.jira.xrayapi.XrayTestExecTest;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class JiraXrayEmbeddedApi {
 
     private final JiraXrayService jiraXrayService;
+    private final JiraXrayPublisher jiraXrayPublisher;
 
     public JiraXrayEmbeddedApi(JiraXrayService jiraXrayService) {
+        this(jiraXrayService, null);
+    }
+
+    /**
+     * @param jiraXrayPublisher publisher of test executions updates, updates being made in caller thread when null
+     */
+    public JiraXrayEmbeddedApi(JiraXrayService jiraXrayService, JiraXrayPublisher jiraXrayPublisher) {
         this.jiraXrayService = jiraXrayService;
+        this.jiraXrayPublisher = jiraXrayPublisher;
     }
 
     public void updateTestExecution(Long campaignId, Long campaignExecutionId, String scenarioId, String datasetId, ReportForJira report) {
@@ -27,6 +38,19 @@ public class JiraXrayEmbeddedApi {
         }
     }
 
+    /**
+     * Update test execution asynchronously, report being computed only when published.
+     */
+    public void publishTestExecution(Long campaignId, Long campaignExecutionId, String scenarioId, String datasetId, Supplier<ReportForJira> report) {
+        if (isNotEmpty(scenarioId) && campaignId != null) {
+            if (jiraXrayPublisher == null) {
+                updateTestExecution(campaignId, campaignExecutionId, scenarioId, datasetId, report.get());
+            } else {
+                jiraXrayPublisher.submit(campaignId, campaignExecutionId, scenarioId, datasetId, report);
+            }
+        }
+    }
+
     public List<XrayTestExecTest> getTestStatusInTestExec(String testExec) { // TODO - Only used in a test ?
         return jiraXrayService.getTestExecutionScenarios(testExec);
     }
@@ -0,0 +1,190 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.jira.domain;
+
+import com.chutneytesting.jira.api.ReportForJira;
+import com.chutneytesting.jira.domain.exception.NoJiraConfigurationException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publish scenario executions results to Xray out of campaign executions threads.
+ * <ul>
+ *     <li>Publications wait in a bounded queue, new ones being rejected when it is full</li>
+ *     <li>A single worker takes pending publications, up to max batch size, and sends one import request per test execution</li>
+ *     <li>Failed import requests are retried with exponential backoff</li>
+ *     <li>Test executions resolution is not retried, since it may create a test execution</li>
+ * </ul>
+ * Reports are only computed by the worker, when publishing.
+ */
+public class JiraXrayPublisher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JiraXrayPublisher.class);
+    private static final long CLOSE_TIMEOUT_MILLIS = 10_000;
+
+    private final JiraXrayService jiraXrayService;
+    private final BlockingQueue<Publication> publications;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Thread worker;
+    private volatile boolean closed = false;
+
+    private final LongAdder publishedTests = new LongAdder();
+    private final LongAdder failedPublications = new LongAdder();
+    private final LongAdder rejectedPublications = new LongAdder();
+
+    public JiraXrayPublisher(JiraXrayService jiraXrayService, int queueCapacity, int maxBatchSize, int maxAttempts, long backoffMillis) {
+        this.jiraXrayService = jiraXrayService;
+        this.publications = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.worker = new Thread(this::publishPendingPublications, "jira-xray-publisher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * @return false if publication queue is full
+     */
+    public boolean submit(Long campaignId, Long campaignExecutionId, String scenarioId, String datasetId, Supplier<ReportForJira> report) {
+        Publication publication = new Publication(campaignId, campaignExecutionId, scenarioId, datasetId, report, System.nanoTime());
+        if (closed || !publications.offer(publication)) {
+            rejectedPublications.increment();
+            LOGGER.warn("Xray publication of scenario {} for campaign execution {} rejected, publication queue is full", scenarioId, campaignExecutionId);
+            return false;
+        }
+        return true;
+    }
+
+    public int pendingPublications() {
+        return publications.size();
+    }
+
+    /**
+     * @return waiting time of oldest pending publication
+     */
+    public long lag(TimeUnit unit) {
+        Publication oldest = publications.peek();
+        return oldest == null ? 0 : unit.convert(System.nanoTime() - oldest.submittedAt(), TimeUnit.NANOSECONDS);
+    }
+
+    public long publishedTests() {
+        return publishedTests.sum();
+    }
+
+    public long failedPublications() {
+        return failedPublications.sum();
+    }
+
+    public long rejectedPublications() {
+        return rejectedPublications.sum();
+    }
+
+    /**
+     * Stop accepting publications and let pending ones be published for a while.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            worker.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            LOGGER.warn("{} Xray publications not sent", publications.size());
+            worker.interrupt();
+        }
+    }
+
+    private void publishPendingPublications() {
+        List<Publication> batch = new ArrayList<>(maxBatchSize);
+        while (!closed || !publications.isEmpty()) {
+            try {
+                Publication first = publications.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                publications.drainTo(batch, maxBatchSize - 1);
+                publish(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                LOGGER.error("Unexpected error while publishing to Xray", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void publish(List<Publication> batch) throws InterruptedException {
+        Map<String, List<XrayTestUpdate>> updatesByTestExecution = new LinkedHashMap<>();
+        for (Publication publication : batch) {
+            try {
+                ReportForJira report = publication.report().get();
+                if (report == null) {
+                    continue;
+                }
+                jiraXrayService.prepareTestExecutionUpdate(publication.campaignId(), publication.campaignExecutionId(), publication.scenarioId(), publication.datasetId(), report)
+                    .ifPresent(update -> updatesByTestExecution.computeIfAbsent(update.testExecutionKey(), k -> new ArrayList<>()).add(update));
+            } catch (NoJiraConfigurationException e) { // Silent
+            } catch (RuntimeException e) {
+                failedPublications.increment();
+                LOGGER.warn("Update JIRA failed for scenario {} of campaign execution {}", publication.scenarioId(), publication.campaignExecutionId(), e);
+            }
+        }
+
+        for (Map.Entry<String, List<XrayTestUpdate>> testExecutionUpdates : updatesByTestExecution.entrySet()) {
+            try {
+                withRetry(() -> {
+                    jiraXrayService.updateTestExecution(testExecutionUpdates.getKey(), testExecutionUpdates.getValue());
+                    return null;
+                });
+                publishedTests.add(testExecutionUpdates.getValue().size());
+            } catch (NoJiraConfigurationException e) { // Silent
+            } catch (RuntimeException e) {
+                failedPublications.add(testExecutionUpdates.getValue().size());
+                LOGGER.warn("Update JIRA failed for test execution {}", testExecutionUpdates.getKey(), e);
+            }
+        }
+    }
+
+    private <T> T withRetry(Supplier<T> jiraCall) throws InterruptedException {
+        long backoff = backoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return jiraCall.get();
+            } catch (NoJiraConfigurationException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                LOGGER.debug("Jira call failed (attempt {}/{}), retry in {} ms", attempt, maxAttempts, backoff, e);
+                TimeUnit.MILLISECONDS.sleep(backoff);
+                backoff *= 2;
+            }
+        }
+    }
+
+    private record Publication(Long campaignId, Long campaignExecutionId, String scenarioId, String datasetId, Supplier<ReportForJira> report, long submittedAt) {
+    }
+}
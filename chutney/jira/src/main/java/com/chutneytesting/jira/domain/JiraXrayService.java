@@ -35,7 +35,9 @@ public class JiraXrayService {
 
     private final JiraRepository jiraRepository;
     private final JiraXrayClientFactory jiraXrayImplFactory;
+    private final Object testExecutionCreationLock = new Object();
     private JiraServerConfiguration jiraServerConfiguration;
+    private SharedJiraXrayApi jiraXrayApi;
 
     public JiraXrayService(JiraRepository jiraRepository, JiraXrayClientFactory jiraXrayImplFactory) {
         this.jiraRepository = jiraRepository;
@@ -44,64 +46,104 @@ public class JiraXrayService {
     }
 
     public void updateTestExecution(Long campaignId, Long campaignExecutionId, String scenarioId, String datasetId, ReportForJira report) {
-        JiraXrayApi jiraXrayApi = createHttpJiraXrayImpl();
+        prepareTestExecutionUpdate(campaignId, campaignExecutionId, scenarioId, datasetId, report)
+            .ifPresent(update -> updateTestExecution(update.testExecutionKey(), List.of(update)));
+    }
 
-        String testExecutionKey = jiraRepository.getByCampaignId(campaignId.toString());
+    /**
+     * Resolve Xray test and test execution of given scenario execution, creating test execution from campaign's test plan if needed.<br>
+     * A created test execution is saved right away, so it is created only once per campaign execution.
+     * Creation is not idempotent: callers should not retry this method.
+     *
+     * @return Xray test update, empty if scenario or campaign is not linked to Xray
+     */
+    public Optional<XrayTestUpdate> prepareTestExecutionUpdate(Long campaignId, Long campaignExecutionId, String scenarioId, String datasetId, ReportForJira report) {
+        String testExecutionKey;
+        try (SharedJiraXrayApi client = leaseJiraXrayApi()) {
+            testExecutionKey = testExecutionKey(client.api(), campaignId, campaignExecutionId);
+        }
         String testKey = jiraRepository.getAllLinkedScenariosWithDataset()
             .getOrDefault(scenarioId, Collections.emptyMap())
             .getOrDefault(datasetId, jiraRepository.getByScenarioId(scenarioId));
 
-        if (jiraXrayApi.isTestPlan(testExecutionKey)) {
-            String newTestExecutionKey = jiraRepository.getByCampaignExecutionId(campaignExecutionId.toString());
-            if (newTestExecutionKey.isEmpty()) {
-                newTestExecutionKey = jiraXrayApi.createTestExecution(testExecutionKey);
-            }
-            testExecutionKey = newTestExecutionKey;
-        }
-
-        if (!testKey.isEmpty() && !testExecutionKey.isEmpty()) {
-            LOGGER.info("Update xray test {} of test execution {}", testKey, testExecutionKey);
-            jiraRepository.saveForCampaignExecution(campaignExecutionId.toString(), testExecutionKey);
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZZZZZ");
-            XrayTest xrayTest = new XrayTest(
-                testKey,
-                report.startDate.atZone(ZoneId.systemDefault()).format(formatter),
-                report.startDate.plusNanos(report.duration * 1000000).atZone(ZoneId.systemDefault()).format(formatter),
-                getErrors(report).toString(),
-                report.status.equals("SUCCESS") ? PASS.value : FAIL.value
-            );
+        if (testKey.isEmpty() || testExecutionKey.isEmpty()) {
+            return Optional.empty();
+        }
+        jiraRepository.saveForCampaignExecution(campaignExecutionId.toString(), testExecutionKey);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZZZZZ");
+        XrayTest xrayTest = new XrayTest(
+            testKey,
+            report.startDate.atZone(ZoneId.systemDefault()).format(formatter),
+            report.startDate.plusNanos(report.duration * 1000000).atZone(ZoneId.systemDefault()).format(formatter),
+            getErrors(report).toString(),
+            report.status.equals("SUCCESS") ? PASS.value : FAIL.value
+        );
+        xrayTest.setEvidences(getEvidences(report.rootStep, ""));
+        return Optional.of(new XrayTestUpdate(testExecutionKey, xrayTest, report.environment));
+    }
 
-            xrayTest.setEvidences(getEvidences(report.rootStep, ""));
-            XrayInfo info = new XrayInfo(Collections.singletonList(report.environment));
-            Xray xray = new Xray(testExecutionKey, Collections.singletonList(xrayTest), info);
-            jiraXrayApi.updateRequest(xray);
+    /**
+     * Send all given tests updates of a test execution in one Xray import request.
+     */
+    public void updateTestExecution(String testExecutionKey, List<XrayTestUpdate> updates) {
+        List<XrayTest> xrayTests = updates.stream().map(XrayTestUpdate::test).toList();
+        List<String> environments = updates.stream().map(XrayTestUpdate::environment).distinct().toList();
+        LOGGER.info("Update xray tests {} of test execution {}", xrayTests.stream().map(XrayTest::getTestKey).toList(), testExecutionKey);
+        try (SharedJiraXrayApi client = leaseJiraXrayApi()) {
+            client.api().updateRequest(new Xray(testExecutionKey, xrayTests, new XrayInfo(environments)));
         }
     }
 
     public List<XrayTestExecTest> getTestExecutionScenarios(String testExecutionId) {
-        JiraXrayApi jiraXrayApi = createHttpJiraXrayImpl();
-
-        return jiraXrayApi.getTestExecutionScenarios(testExecutionId);
+        try (SharedJiraXrayApi client = leaseJiraXrayApi()) {
+            return client.api().getTestExecutionScenarios(testExecutionId);
+        }
     }
 
     public void updateScenarioStatus(String testExecId, String chutneyId, String executionStatus) {
-        JiraXrayApi jiraXrayApi = createHttpJiraXrayImpl();
-
         String scenarioJiraId = jiraRepository.getByScenarioId(chutneyId);
 
         List<XrayTestExecTest> testExecutionScenarios = getTestExecutionScenarios(testExecId);
         Optional<XrayTestExecTest> foundTest = testExecutionScenarios.stream().filter(test -> scenarioJiraId.equals(test.getKey())).findFirst();
         foundTest.ifPresent(xrayTestExecTest -> {
             LOGGER.info("Update xray test execution {} status to {}", testExecId, executionStatus);
-            jiraXrayApi.updateStatusByTestRunId(xrayTestExecTest.getId(), executionStatus);
+            try (SharedJiraXrayApi client = leaseJiraXrayApi()) {
+                client.api().updateStatusByTestRunId(xrayTestExecTest.getId(), executionStatus);
+            }
         });
     }
 
-    private JiraXrayApi createHttpJiraXrayImpl() {
+    private String testExecutionKey(JiraXrayApi api, Long campaignId, Long campaignExecutionId) {
+        String testExecutionKey = jiraRepository.getByCampaignId(campaignId.toString());
+        if (!api.isTestPlan(testExecutionKey)) {
+            return testExecutionKey;
+        }
+        synchronized (testExecutionCreationLock) {
+            String newTestExecutionKey = jiraRepository.getByCampaignExecutionId(campaignExecutionId.toString());
+            if (newTestExecutionKey.isEmpty()) {
+                newTestExecutionKey = api.createTestExecution(testExecutionKey);
+                jiraRepository.saveForCampaignExecution(campaignExecutionId.toString(), newTestExecutionKey);
+            }
+            return newTestExecutionKey;
+        }
+    }
+
+    /**
+     * Client is created once per server configuration, then shared.<br>
+     * When configuration changes, previous client is closed once released by all its users.
+     */
+    private synchronized SharedJiraXrayApi leaseJiraXrayApi() {
         if (!loadJiraServerConfiguration()) {
             throw new NoJiraConfigurationException();
         }
-        return jiraXrayImplFactory.create(jiraServerConfiguration);
+        if (jiraXrayApi == null || !jiraServerConfiguration.equals(jiraXrayApi.configuration)) {
+            if (jiraXrayApi != null) {
+                jiraXrayApi.retire();
+            }
+            jiraXrayApi = new SharedJiraXrayApi(jiraXrayImplFactory.create(jiraServerConfiguration), jiraServerConfiguration);
+        }
+        jiraXrayApi.acquire();
+        return jiraXrayApi;
     }
 
     private List<String> getErrors(ReportForJira report) {
@@ -160,4 +202,49 @@ public class JiraXrayService {
         }
         return isConfigurationValid;
     }
+
+    /**
+     * Jira client counting its users, closing it is releasing it.
+     */
+    private static final class SharedJiraXrayApi implements AutoCloseable {
+
+        private final JiraXrayApi api;
+        private final JiraServerConfiguration configuration;
+        private int users = 0;
+        private boolean retired = false;
+
+        private SharedJiraXrayApi(JiraXrayApi api, JiraServerConfiguration configuration) {
+            this.api = api;
+            this.configuration = configuration;
+        }
+
+        private JiraXrayApi api() {
+            return api;
+        }
+
+        private synchronized void acquire() {
+            users++;
+        }
+
+        private synchronized void retire() {
+            retired = true;
+            closeIfUnused();
+        }
+
+        @Override
+        public synchronized void close() {
+            users--;
+            closeIfUnused();
+        }
+
+        private void closeIfUnused() {
+            if (retired && users == 0 && api instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    LOGGER.warn("Cannot close previous Jira client", e);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,16 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.jira.domain;
+
+import com.chutneytesting.jira.xrayapi.XrayTest;
+
+/**
+ * Result of one scenario execution to send to an Xray test execution.
+ */
+public record XrayTestUpdate(String testExecutionKey, XrayTest test, String environment) {
+}
@@ -26,6 +26,7 @@ import com.chutneytesting.jira.infra.atlassian.jira.rest.client.internal.async.A
 import com.chutneytesting.jira.xrayapi.JiraIssueType;
 import com.chutneytesting.jira.xrayapi.Xray;
 import com.chutneytesting.jira.xrayapi.XrayTestExecTest;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.GeneralSecurityException;
@@ -39,8 +40,8 @@ import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLContext;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
-import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
@@ -60,13 +61,15 @@ import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-public class HttpJiraXrayImpl implements JiraXrayApi {
+public class HttpJiraXrayImpl implements JiraXrayApi, AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpJiraXrayImpl.class);
 
     private static final int MS_TIMEOUT = 10 * 1000; // 10 s
 
     private final JiraServerConfiguration jiraServerConfiguration;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
 
     public HttpJiraXrayImpl(JiraServerConfiguration jiraServerConfiguration) {
         this.jiraServerConfiguration = jiraServerConfiguration;
@@ -79,7 +82,7 @@ public class HttpJiraXrayImpl implements JiraXrayApi {
     public void updateRequest(Xray xray) {
         String updateUri = jiraServerConfiguration.url() + "/rest/raven/1.0/import/execution";
 
-        RestTemplate restTemplate = buildRestTemplate();
+        RestTemplate restTemplate = restTemplate();
 
         try {
             ResponseEntity<String> response = restTemplate.postForEntity(updateUri, xray, String.class);
@@ -101,7 +104,7 @@ public class HttpJiraXrayImpl implements JiraXrayApi {
         String uriTemplate = jiraServerConfiguration.url() + "/rest/raven/1.0/api/%s/%s/test";
         String uri = String.format(uriTemplate, isTestPlan(xrayId) ? "testplan" : "testexec", xrayId);
 
-        RestTemplate restTemplate = buildRestTemplate();
+        RestTemplate restTemplate = restTemplate();
         try {
             ResponseEntity<XrayTestExecTest[]> response = restTemplate.getForEntity(uri, XrayTestExecTest[].class);
             if (response.getStatusCode().equals(HttpStatus.OK) && response.getBody() != null) {
@@ -121,7 +124,7 @@ public class HttpJiraXrayImpl implements JiraXrayApi {
         String uriTemplate = jiraServerConfiguration.url() + "/rest/raven/1.0/api/testrun/%s/status?status=%s";
         String uri = String.format(uriTemplate, testRuntId, executionStatus);
 
-        RestTemplate restTemplate = buildRestTemplate();
+        RestTemplate restTemplate = restTemplate();
         try {
             restTemplate.put(uri, null);
         } catch (RestClientException e) {
@@ -134,7 +137,7 @@ public class HttpJiraXrayImpl implements JiraXrayApi {
         String uriTemplate = jiraServerConfiguration.url() + "/rest/raven/1.0/api/testplan/%s/testexecution";
         String uri = String.format(uriTemplate, testPlanId);
 
-        RestTemplate restTemplate = buildRestTemplate();
+        RestTemplate restTemplate = restTemplate();
         try {
             ResponseEntity<String> response = restTemplate.postForEntity(uri, Map.of("add", List.of(testExecutionId)), String.class);
             if (response.getStatusCode().equals(HttpStatus.OK)) {
@@ -186,7 +189,7 @@ public class HttpJiraXrayImpl implements JiraXrayApi {
         String uri = jiraServerConfiguration.url() + "/rest/api/latest/issuetype";
         Optional<JiraIssueType> issueTypeOptional = Optional.empty();
 
-        RestTemplate restTemplate = buildRestTemplate();
+        RestTemplate restTemplate = restTemplate();
         try {
             ResponseEntity<JiraIssueType[]> response = restTemplate.getForEntity(uri, JiraIssueType[].class);
             if (response.getStatusCode().equals(HttpStatus.OK) && response.getBody() != null) {
@@ -202,17 +205,37 @@ public class HttpJiraXrayImpl implements JiraXrayApi {
         return issueTypeOptional.orElseThrow(() -> new RuntimeException("Unable to get issue type [" + issueTypeName + "]"));
     }
 
-    private RestTemplate buildRestTemplate() {
-        try {
-            var requestFactory = new HttpComponentsClientHttpRequestFactory(buildHttpClient());
-            requestFactory.setConnectTimeout(MS_TIMEOUT);
-            return new RestTemplate(requestFactory);
-        } catch (Exception e) {
-            throw new RuntimeException("Cannot build rest template.", e);
+    @Override
+    public synchronized void close() {
+        if (httpClient != null) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                LOGGER.warn("Cannot close Jira http client", e);
+            }
+            httpClient = null;
+            restTemplate = null;
+        }
+    }
+
+    /**
+     * Rest template built on first use and kept along with its pooled http client.
+     */
+    private synchronized RestTemplate restTemplate() {
+        if (restTemplate == null) {
+            try {
+                httpClient = buildHttpClient();
+                var requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+                requestFactory.setConnectTimeout(MS_TIMEOUT);
+                restTemplate = new RestTemplate(requestFactory);
+            } catch (Exception e) {
+                throw new RuntimeException("Cannot build rest template.", e);
+            }
         }
+        return restTemplate;
     }
 
-    private HttpClient buildHttpClient() throws URISyntaxException {
+    private CloseableHttpClient buildHttpClient() throws URISyntaxException {
         HttpHost httpHost = HttpHost.create(new URI(jiraServerConfiguration.url()));
         HttpHost proxyHttpHost = null;
         if (!jiraServerConfiguration.urlProxy().isBlank()) {
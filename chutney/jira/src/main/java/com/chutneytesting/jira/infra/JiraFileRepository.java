@@ -20,8 +20,11 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class JiraFileRepository implements JiraRepository {
@@ -40,6 +43,8 @@ public class JiraFileRepository implements JiraRepository {
         .enable(SerializationFeature.INDENT_OUTPUT)
         .setSerializationInclusion(JsonInclude.Include.NON_NULL);
 
+    private final Map<Path, CachedContent> readCache = new ConcurrentHashMap<>();
+
     public JiraFileRepository(String storeFolderPath) throws UncheckedIOException {
         this.storeFolderPath = Paths.get(storeFolderPath);
         initFolder(this.storeFolderPath);
@@ -146,16 +151,8 @@ public class JiraFileRepository implements JiraRepository {
         if (!Files.exists(configurationFilePath)) {
             return new JiraTargetConfigurationDto();
         }
-        try {
-            byte[] bytes = Files.readAllBytes(configurationFilePath);
-            try {
-                return objectMapper.readValue(bytes, JiraTargetConfigurationDto.class);
-            } catch (IOException e) {
-                throw new UnsupportedOperationException("Cannot deserialize configuration file: " + configurationFilePath, e);
-            }
-        } catch (IOException e) {
-            throw new UnsupportedOperationException("Cannot read configuration file: " + configurationFilePath, e);
-        }
+        return readCached(configurationFilePath, new TypeReference<>() {
+        });
     }
 
     private String getById(String filePath, String id) {
@@ -167,17 +164,8 @@ public class JiraFileRepository implements JiraRepository {
         if (!Files.exists(resolvedFilePath)) {
             return new HashMap<>();
         }
-        try {
-            byte[] bytes = Files.readAllBytes(resolvedFilePath);
-            try {
-                return objectMapper.readValue(bytes, new TypeReference<>() {
-                });
-            } catch (IOException e) {
-                throw new UnsupportedOperationException("Cannot deserialize configuration file: " + resolvedFilePath, e);
-            }
-        } catch (IOException e) {
-            throw new UnsupportedOperationException("Cannot read configuration file: " + resolvedFilePath, e);
-        }
+        return new HashMap<>(readCached(resolvedFilePath, new TypeReference<>() {
+        }));
     }
 
     private Map<String, Map<String, String>> getAllByDataset() {
@@ -185,17 +173,8 @@ public class JiraFileRepository implements JiraRepository {
         if (!Files.exists(resolvedFilePath)) {
             return new HashMap<>();
         }
-        try {
-            byte[] bytes = Files.readAllBytes(resolvedFilePath);
-            try {
-                return objectMapper.readValue(bytes, new TypeReference<>() {
-                });
-            } catch (IOException e) {
-                throw new UnsupportedOperationException("Cannot deserialize configuration file: " + resolvedFilePath, e);
-            }
-        } catch (IOException e) {
-            throw new UnsupportedOperationException("Cannot read configuration file: " + resolvedFilePath, e);
-        }
+        return new HashMap<>(readCached(resolvedFilePath, new TypeReference<>() {
+        }));
     }
 
     private void save(String filePath, String chutneyId, String jiraId) {
@@ -226,6 +205,7 @@ public class JiraFileRepository implements JiraRepository {
             byte[] bytes = objectMapper.writeValueAsBytes(map);
             try {
                 Files.write(path, bytes);
+                readCache.remove(path);
             } catch (IOException e) {
                 throw new UnsupportedOperationException("Cannot write in configuration directory: " + storeFolderPath, e);
             }
@@ -234,6 +214,30 @@ public class JiraFileRepository implements JiraRepository {
         }
     }
 
+    /**
+     * Parsed content of given file, read again only when file modification time or size change.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T readCached(Path path, TypeReference<T> type) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            CachedContent cached = readCache.get(path);
+            if (cached != null && cached.lastModifiedTime().equals(attributes.lastModifiedTime()) && cached.size() == attributes.size()) {
+                return (T) cached.content();
+            }
+            byte[] bytes = Files.readAllBytes(path);
+            try {
+                T content = objectMapper.readValue(bytes, type);
+                readCache.put(path, new CachedContent(attributes.lastModifiedTime(), attributes.size(), content));
+                return content;
+            } catch (IOException e) {
+                throw new UnsupportedOperationException("Cannot deserialize configuration file: " + path, e);
+            }
+        } catch (IOException e) {
+            throw new UnsupportedOperationException("Cannot read configuration file: " + path, e);
+        }
+    }
+
     private void remove(String filePath, String chutneyId) {
         Path resolvedFilePath = storeFolderPath.resolve(filePath);
         try {
@@ -252,4 +256,6 @@ public class JiraFileRepository implements JiraRepository {
         }
     }
 
+    private record CachedContent(FileTime lastModifiedTime, long size, Object content) {
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.jira.domain;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static java.util.List.of;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.chutneytesting.jira.api.ReportForJira;
+import com.chutneytesting.jira.infra.JiraFileRepository;
+import com.chutneytesting.jira.infra.JiraXrayFactoryImpl;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class JiraXrayPublisherTest {
+
+    private static final String IMPORT_EXECUTION_PATH = "/rest/raven/1.0/import/execution";
+
+    @RegisterExtension
+    static WireMockExtension jiraStub = WireMockExtension.newInstance()
+        .options(wireMockConfig().dynamicPort())
+        .build();
+
+    private JiraRepository jiraRepository;
+    private JiraXrayPublisher sut;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jiraRepository = new JiraFileRepository(Files.createTempDirectory("jira").toString());
+        jiraRepository.saveServerConfiguration(new JiraServerConfiguration(jiraStub.baseUrl(), "user", "password", "", "", ""));
+        jiraRepository.saveForCampaign("20", "JIRA-20");
+        jiraRepository.saveForScenario("1", "SCE-1");
+        jiraRepository.saveForScenario("2", "SCE-2");
+        jiraRepository.saveForScenario("3", "SCE-3");
+        stubTestExecutionIssue("JIRA-20");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sut != null) {
+            sut.close();
+        }
+    }
+
+    @Test
+    void should_publish_pending_results_in_one_request_per_test_execution() {
+        // Given
+        jiraStub.stubFor(post(urlPathEqualTo(IMPORT_EXECUTION_PATH)).willReturn(okJson("{}").withFixedDelay(500)));
+        sut = new JiraXrayPublisher(new JiraXrayService(jiraRepository, new JiraXrayFactoryImpl()), 10, 10, 1, 0);
+
+        // When
+        sut.submit(20L, 1L, "1", "", this::report);
+        sut.submit(20L, 1L, "2", "", this::report);
+        sut.submit(20L, 1L, "3", "", this::report);
+
+        // Then
+        await().atMost(5, SECONDS).until(() -> sut.publishedTests() == 3);
+        assertThat(jiraStub.findAll(postRequestedFor(urlPathEqualTo(IMPORT_EXECUTION_PATH)))).hasSizeLessThan(3);
+        assertThat(sut.failedPublications()).isZero();
+        assertThat(sut.pendingPublications()).isZero();
+    }
+
+    @Test
+    void should_retry_failed_jira_calls() {
+        // Given
+        jiraStub.stubFor(post(urlPathEqualTo(IMPORT_EXECUTION_PATH)).inScenario("jira down")
+            .whenScenarioStateIs(STARTED)
+            .willReturn(aResponse().withStatus(503))
+            .willSetStateTo("jira up"));
+        jiraStub.stubFor(post(urlPathEqualTo(IMPORT_EXECUTION_PATH)).inScenario("jira down")
+            .whenScenarioStateIs("jira up")
+            .willReturn(okJson("{}")));
+        sut = new JiraXrayPublisher(new JiraXrayService(jiraRepository, new JiraXrayFactoryImpl()), 10, 10, 3, 10);
+
+        // When
+        sut.submit(20L, 1L, "1", "", this::report);
+
+        // Then
+        await().atMost(5, SECONDS).until(() -> sut.publishedTests() == 1);
+        jiraStub.verify(2, postRequestedFor(urlPathEqualTo(IMPORT_EXECUTION_PATH)));
+        assertThat(sut.failedPublications()).isZero();
+    }
+
+    @Test
+    void should_reject_publications_when_queue_is_full() {
+        // Given
+        jiraStub.stubFor(post(urlPathEqualTo(IMPORT_EXECUTION_PATH)).willReturn(okJson("{}").withFixedDelay(1000)));
+        sut = new JiraXrayPublisher(new JiraXrayService(jiraRepository, new JiraXrayFactoryImpl()), 1, 1, 1, 0);
+        sut.submit(20L, 1L, "1", "", this::report);
+        await().atMost(5, SECONDS).until(() -> sut.pendingPublications() == 0);
+
+        // When
+        boolean secondSubmitted = sut.submit(20L, 1L, "2", "", this::report);
+        boolean thirdSubmitted = sut.submit(20L, 1L, "3", "", this::report);
+
+        // Then
+        assertThat(secondSubmitted).isTrue();
+        assertThat(thirdSubmitted).isFalse();
+        assertThat(sut.rejectedPublications()).isEqualTo(1);
+    }
+
+    private ReportForJira report() {
+        ReportForJira.Step rootStep = new ReportForJira.Step("rootStep", of(), of());
+        return new ReportForJira(Instant.parse("2021-05-19T11:22:33.00Z"), 10000L, "SUCCESS", rootStep, "env");
+    }
+
+    private void stubTestExecutionIssue(String issueKey) {
+        jiraStub.stubFor(
+            get(urlPathMatching("/rest/api/latest/issue/" + issueKey + ".*"))
+                .willReturn(okJson("""
+                    {
+                        "self": "...",
+                        "key": "%s",
+                        "id": 1234,
+                        "expand": "one,two",
+                        "fields": {
+                            "summary": "",
+                            "issuetype": {
+                                "self": "...",
+                                "id": 456,
+                                "name": "Test Execution",
+                                "subtask": false
+                            },
+                            "created": "2024-01-01T00:00:00.000Z",
+                            "updated": "2024-01-01T00:00:00.000Z",
+                            "project": {
+                                "self": "...",
+                                "key": ""
+                            },
+                            "status": {
+                                "self": "...",
+                                "name": "",
+                                "description": "",
+                                "iconUrl": "http://host/icon"
+                            }
+                        },
+                        "names": {
+                        },
+                        "schema": {
+                        }
+                    }
+                    """.formatted(issueKey).stripIndent()
+                ))
+        );
+        jiraStub.stubFor(
+            get(urlPathMatching("/rest/api/latest/issuetype"))
+                .willReturn(okJson("""
+                    [
+                        {
+                            "self": "...",
+                            "id": 456,
+                            "name": "Test Execution",
+                            "subtask": false
+                        },
+                        {
+                            "self": "...",
+                            "id": 123,
+                            "name": "Test Plan",
+                            "subtask": false
+                        }
+                    ]
+                    """.stripIndent()
+                ))
+        );
+    }
+}
@@ -11,11 +11,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
+import com.chutneytesting.jira.api.ReportForJira;
 import com.chutneytesting.jira.domain.exception.NoJiraConfigurationException;
+import com.chutneytesting.jira.xrayapi.XrayTestExecTest;
 import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 class JiraXrayServiceTest {
@@ -49,4 +58,74 @@ class JiraXrayServiceTest {
         assertThat(jiraConfigurationField.get(sut)).isEqualTo(newJiraConfiguration);
         verify(jiraXrayApi).getTestExecutionScenarios("NOP-666");
     }
+
+    @Test
+    void save_created_test_execution_before_resolving_scenario_test() {
+        // Given
+        var jiraRepository = mock(JiraRepository.class);
+        when(jiraRepository.loadServerConfiguration()).thenReturn(new JiraServerConfiguration("http://jira.server", "", "", null, null, null));
+        when(jiraRepository.getByCampaignId("1")).thenReturn("PLAN-1");
+        when(jiraRepository.getByCampaignExecutionId("10")).thenReturn("");
+        when(jiraRepository.getByScenarioId("scenario")).thenReturn("");
+
+        var jiraXrayClientFactory = mock(JiraXrayClientFactory.class);
+        var jiraXrayApi = mock(JiraXrayApi.class);
+        when(jiraXrayClientFactory.create(any())).thenReturn(jiraXrayApi);
+        when(jiraXrayApi.isTestPlan("PLAN-1")).thenReturn(true);
+        when(jiraXrayApi.createTestExecution("PLAN-1")).thenReturn("EXEC-1");
+
+        JiraXrayService sut = new JiraXrayService(jiraRepository, jiraXrayClientFactory);
+
+        // When
+        var update = sut.prepareTestExecutionUpdate(1L, 10L, "scenario", "", report());
+
+        // Then
+        assertThat(update).isEmpty();
+        verify(jiraRepository).saveForCampaignExecution("10", "EXEC-1");
+    }
+
+    @Test
+    void close_previous_client_once_released_when_configuration_changes() throws Exception {
+        // Given
+        var jiraRepository = mock(JiraRepository.class);
+        var firstConfiguration = new JiraServerConfiguration("http://jira.server", "", "", null, null, null);
+        var secondConfiguration = new JiraServerConfiguration("http://new.jira.server", "", "", null, null, null);
+        when(jiraRepository.loadServerConfiguration()).thenReturn(firstConfiguration);
+
+        var jiraXrayClientFactory = mock(JiraXrayClientFactory.class);
+        var firstJiraXrayApi = mock(JiraXrayApi.class, withSettings().extraInterfaces(AutoCloseable.class));
+        var secondJiraXrayApi = mock(JiraXrayApi.class, withSettings().extraInterfaces(AutoCloseable.class));
+        when(jiraXrayClientFactory.create(firstConfiguration)).thenReturn(firstJiraXrayApi);
+        when(jiraXrayClientFactory.create(secondConfiguration)).thenReturn(secondJiraXrayApi);
+
+        CountDownLatch firstCallStarted = new CountDownLatch(1);
+        CountDownLatch firstCallEnd = new CountDownLatch(1);
+        when(firstJiraXrayApi.getTestExecutionScenarios("NOP-666")).then(invocation -> {
+            firstCallStarted.countDown();
+            firstCallEnd.await(5, TimeUnit.SECONDS);
+            return List.<XrayTestExecTest>of();
+        });
+
+        JiraXrayService sut = new JiraXrayService(jiraRepository, jiraXrayClientFactory);
+        CompletableFuture<List<XrayTestExecTest>> firstCall = CompletableFuture.supplyAsync(() -> sut.getTestExecutionScenarios("NOP-666"));
+        assertThat(firstCallStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        when(jiraRepository.loadServerConfiguration()).thenReturn(secondConfiguration);
+        sut.getTestExecutionScenarios("NOP-667");
+
+        // Then
+        verify(secondJiraXrayApi).getTestExecutionScenarios("NOP-667");
+        verify((AutoCloseable) firstJiraXrayApi, never()).close();
+
+        firstCallEnd.countDown();
+        firstCall.get(5, TimeUnit.SECONDS);
+        verify((AutoCloseable) firstJiraXrayApi).close();
+        verify((AutoCloseable) secondJiraXrayApi, never()).close();
+    }
+
+    private ReportForJira report() {
+        ReportForJira.Step rootStep = new ReportForJira.Step("rootStep", List.of(), List.of());
+        return new ReportForJira(Instant.parse("2021-05-19T11:22:33.00Z"), 10000L, "SUCCESS", rootStep, "env");
+    }
 }
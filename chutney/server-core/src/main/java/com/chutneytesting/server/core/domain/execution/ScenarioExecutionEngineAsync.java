@@ -13,6 +13,7 @@ import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryWriteBehind;
 import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.processor.TestCasePreProcessors;
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
@@ -36,6 +37,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -54,6 +56,7 @@ public class ScenarioExecutionEngineAsync {
     private final ExecutionStateRepository executionStateRepository;
     private final ChutneyMetrics metrics;
     private final TestCasePreProcessors testCasePreProcessors;
+    private final ExecutionHistoryWriteBehind historyWriteBehind;
 
     private final Map<Long, Pair<Observable<ScenarioExecutionReport>, Long>> scenarioExecutions = new ConcurrentHashMap<>();
     private long retentionDelaySeconds;
@@ -76,6 +79,22 @@ public class ScenarioExecutionEngineAsync {
                                         ObjectMapper reportObjectMapper,
                                         long retentionDelaySeconds,
                                         long debounceMilliSeconds) {
+        this(executionHistoryRepository, executionEngine, executionStateRepository, metrics, testCasePreProcessors, reportObjectMapper, retentionDelaySeconds, debounceMilliSeconds, new ExecutionHistoryWriteBehind(executionHistoryRepository, 0));
+    }
+
+    /**
+     * @param historyWriteBehind when coalescing, full report of a running execution is only written when its status changes and when it ends,
+     *                           otherwise it is written on each report
+     */
+    public ScenarioExecutionEngineAsync(ExecutionHistoryRepository executionHistoryRepository,
+                                        ServerTestEngine executionEngine,
+                                        ExecutionStateRepository executionStateRepository,
+                                        ChutneyMetrics metrics,
+                                        TestCasePreProcessors testCasePreProcessors,
+                                        ObjectMapper reportObjectMapper,
+                                        long retentionDelaySeconds,
+                                        long debounceMilliSeconds,
+                                        ExecutionHistoryWriteBehind historyWriteBehind) {
         this.executionHistoryRepository = executionHistoryRepository;
         this.executionEngine = executionEngine;
         this.executionStateRepository = executionStateRepository;
@@ -84,6 +103,7 @@ public class ScenarioExecutionEngineAsync {
         this.reportObjectMapper = reportObjectMapper;
         this.retentionDelaySeconds = retentionDelaySeconds;
         this.debounceMilliSeconds = debounceMilliSeconds;
+        this.historyWriteBehind = historyWriteBehind;
     }
 
     /**
@@ -151,6 +171,9 @@ public class ScenarioExecutionEngineAsync {
         if (debounceMilliSeconds > 0) {
             replayer = replayer.throttleLatest(debounceMilliSeconds, TimeUnit.MILLISECONDS, true);
         }
+        // Last report with its full content not written yet, and last written status
+        final AtomicReference<ScenarioExecutionReport> unwrittenReport = new AtomicReference<>();
+        final AtomicReference<ServerReportStatus> writtenStatus = new AtomicReference<>();
         return replayer
             .doOnSubscribe(disposable -> notifyExecutionStart(executionId, executionRequest.testCase))
 
@@ -168,8 +191,18 @@ public class ScenarioExecutionEngineAsync {
                 );
             })
 
-            .doOnNext(report -> updateHistory(executionId, executionRequest, report))
+            .doOnNext(report -> {
+                if (!historyWriteBehind.coalescing() || report.report.status != writtenStatus.get()) {
+                    unwrittenReport.set(null);
+                    writtenStatus.set(report.report.status);
+                    updateHistory(executionId, executionRequest, report);
+                } else {
+                    unwrittenReport.set(report);
+                    updateHistorySummary(executionId, executionRequest, report);
+                }
+            })
 
+            .doOnTerminate(() -> ofNullable(unwrittenReport.getAndSet(null)).ifPresent(report -> updateHistory(executionId, executionRequest, report)))
             .doOnTerminate(() -> notifyExecutionEnd(executionId, executionRequest.testCase))
             .doOnTerminate(() -> sendMetrics(executionId, executionRequest.testCase))
             .doOnTerminate(() -> cleanExecutionId(executionId))
@@ -278,13 +311,17 @@ public class ScenarioExecutionEngineAsync {
      * @param scenarioReport report to summarize
      */
     private ExecutionHistory.DetachedExecution summarize(ScenarioExecutionReport scenarioReport, ExecutionRequest executionRequest) {
+        return summarize(scenarioReport, executionRequest, serialize(scenarioReport));
+    }
+
+    private ExecutionHistory.DetachedExecution summarize(ScenarioExecutionReport scenarioReport, ExecutionRequest executionRequest, String serializedReport) {
         return ImmutableExecutionHistory.DetachedExecution.builder()
             .time(scenarioReport.report.startDate.atZone(ZoneId.systemDefault()).toLocalDateTime())
             .duration(scenarioReport.report.duration)
             .status(scenarioReport.report.status)
             .info(joinAndTruncateMessages(searchInfo(scenarioReport.report)))
             .error(searchErrors(scenarioReport.report).stream().findFirst().orElse(""))
-            .report(serialize(scenarioReport)) // TODO - type me and move serialization to infra
+            .report(serializedReport) // TODO - type me and move serialization to infra
             .testCaseTitle(scenarioReport.scenarioName)
             .environment(executionRequest.environment)
             .user(executionRequest.userId)
@@ -336,12 +373,21 @@ public class ScenarioExecutionEngineAsync {
     private void updateHistory(long executionId, ExecutionRequest executionRequest, ScenarioExecutionReport report) {
         LOGGER.trace("Update history for execution {}", executionId);
         try {
-            executionHistoryRepository.update(executionRequest.testCase.id(), summarize(report, executionRequest).attach(executionId, executionRequest.testCase.id()));
+            historyWriteBehind.write(summarize(report, executionRequest).attach(executionId, executionRequest.testCase.id()));
         } catch (Exception e) {
             LOGGER.error("Update history for execution {} failed", executionId, e);
         }
     }
 
+    private void updateHistorySummary(long executionId, ExecutionRequest executionRequest, ScenarioExecutionReport report) {
+        LOGGER.trace("Update history summary for execution {}", executionId);
+        try {
+            historyWriteBehind.writeSummary(summarize(report, executionRequest, "").attach(executionId, executionRequest.testCase.id()).summary());
+        } catch (Exception e) {
+            LOGGER.error("Update history summary for execution {} failed", executionId, e);
+        }
+    }
+
     private void notifyExecutionEnd(long executionId, TestCase testCase) {
         LOGGER.trace("Notify end for execution {}", executionId);
         executionStateRepository.notifyExecutionEnd(testCase.id());
@@ -10,8 +10,10 @@ package com.chutneytesting.server.core.domain.execution.history;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.ExecutionSummary;
 import com.chutneytesting.server.core.domain.execution.report.ReportNotFoundException;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -34,11 +36,22 @@ public interface ExecutionHistoryRepository {
     Map<String, ExecutionSummary> getLastExecutions(List<String> scenarioIds);
 
     /**
-     * @return last reports of the indicated scenario.
+     * Maximum number of executions returned by {@link #getExecutions(String)}.
+     */
+    int DEFAULT_EXECUTIONS_LIMIT = 500;
+
+    /**
+     * @return last {@value #DEFAULT_EXECUTIONS_LIMIT} reports of the indicated scenario, most recent first.
+     * Older ones are read with {@link #getExecutions(String, Long, int)}.
      **/
     List<ExecutionSummary> getExecutions(String scenarioId);
 
-    List<ExecutionSummary> getExecutions();
+    /**
+     * @param beforeExecutionId when given, only executions older than this one are returned
+     * @param limit             maximum number of executions returned
+     * @return a page of last reports of the indicated scenario, most recent first.
+     **/
+    List<ExecutionSummary> getExecutions(String scenarioId, Long beforeExecutionId, int limit);
 
     ExecutionSummary getExecutionSummary(Long executionId);
 
@@ -54,9 +67,19 @@ public interface ExecutionHistoryRepository {
      */
     void update(String scenarioId, ExecutionHistory.Execution updatedExecution);
 
+    /**
+     * Override duration, status, information and error of previously stored executions, leaving their reports untouched.
+     */
+    void updateSummaries(List<ExecutionSummary> summaries);
+
     int setAllRunningExecutionsToKO();
 
     List<ExecutionSummary> getExecutionsWithStatus(ServerReportStatus status);
 
     void deleteExecutions(Set<Long> executionsIds);
+
+    /**
+     * @return start instant of the oldest stored execution, empty when there is none
+     */
+    Optional<Instant> oldestExecutionInstant();
 }
@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution.history;
+
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.Execution;
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.ExecutionSummary;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistence stage of running executions history.
+ * <ul>
+ *     <li>Full executions, with their reports, are written right away</li>
+ *     <li>When coalescing, summaries are kept in memory, only the last one of each execution being written
+ *     along with other executions' ones in a single batch at each flush interval</li>
+ *     <li>Otherwise summaries are written right away</li>
+ * </ul>
+ * Writes are serialized, so a pending summary cannot override a more recent full execution.
+ */
+public class ExecutionHistoryWriteBehind implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionHistoryWriteBehind.class);
+
+    private final ExecutionHistoryRepository executionHistoryRepository;
+    private final long flushIntervalMilliSeconds;
+    private final Map<Long, ExecutionSummary> pendingSummaries = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final ScheduledExecutorService flusher;
+
+    public ExecutionHistoryWriteBehind(ExecutionHistoryRepository executionHistoryRepository, long flushIntervalMilliSeconds) {
+        this.executionHistoryRepository = executionHistoryRepository;
+        this.flushIntervalMilliSeconds = flushIntervalMilliSeconds;
+        if (coalescing()) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "execution-history-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flush, flushIntervalMilliSeconds, flushIntervalMilliSeconds, TimeUnit.MILLISECONDS);
+        } else {
+            flusher = null;
+        }
+    }
+
+    public boolean coalescing() {
+        return flushIntervalMilliSeconds > 0;
+    }
+
+    /**
+     * Write execution summary and report, discarding pending summary of the same execution.
+     */
+    public void write(Execution execution) {
+        synchronized (writeLock) {
+            pendingSummaries.remove(execution.executionId());
+            executionHistoryRepository.update(execution.scenarioId(), execution);
+        }
+    }
+
+    /**
+     * Write execution summary on next flush when coalescing, right away otherwise.
+     */
+    public void writeSummary(ExecutionSummary summary) {
+        if (coalescing()) {
+            pendingSummaries.put(summary.executionId(), summary);
+        } else {
+            synchronized (writeLock) {
+                executionHistoryRepository.updateSummaries(List.of(summary));
+            }
+        }
+    }
+
+    /**
+     * Write pending summaries in one batch.
+     * On failure, summaries are kept for next flush unless more recent ones have been submitted in between.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            if (pendingSummaries.isEmpty()) {
+                return;
+            }
+            List<ExecutionSummary> summaries = new ArrayList<>(pendingSummaries.size());
+            pendingSummaries.keySet().forEach(executionId -> summaries.add(pendingSummaries.remove(executionId)));
+            try {
+                executionHistoryRepository.updateSummaries(summaries);
+                LOGGER.trace("Flushed {} execution summaries", summaries.size());
+            } catch (Exception e) {
+                LOGGER.warn("Cannot flush {} execution summaries, will retry", summaries.size(), e);
+                summaries.forEach(summary -> pendingSummaries.putIfAbsent(summary.executionId(), summary));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flush();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution.processor;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Replace {@code **key**} placeholders of a text in a single pass.
+ * <p>
+ * Text is scanned once from left to right, each candidate key being looked up in values map,
+ * so cost depends on text length and not on the number of values.<br>
+ * Placeholders are replaced leftmost first and never overlap. Replacement values are not scanned again.<br>
+ * Candidates not found in values map are kept as is.
+ */
+public final class Placeholders {
+
+    private static final String DELIMITER = "**";
+
+    private Placeholders() {
+    }
+
+    public static String replace(String text, Map<String, String> values) {
+        return replace(text, values, Function.identity());
+    }
+
+    public static String replace(String text, Map<String, String> values, Function<String, String> escapeValueFunction) {
+        if (text == null || values.isEmpty()) {
+            return text;
+        }
+        int open = text.indexOf(DELIMITER);
+        if (open < 0) {
+            return text;
+        }
+
+        StringBuilder result = null;
+        int copiedUntil = 0;
+        while (open >= 0) {
+            int close = text.indexOf(DELIMITER, open + DELIMITER.length());
+            if (close < 0) {
+                break;
+            }
+            String value = values.get(text.substring(open + DELIMITER.length(), close));
+            if (value != null) {
+                if (result == null) {
+                    result = new StringBuilder(text.length() + 16);
+                }
+                result.append(text, copiedUntil, open).append(escapeValueFunction.apply(value));
+                copiedUntil = close + DELIMITER.length();
+                open = text.indexOf(DELIMITER, copiedUntil);
+            } else {
+                // Unknown key, next placeholder may start on any following star
+                open = text.indexOf(DELIMITER, open + 1);
+            }
+        }
+
+        if (result == null) {
+            return text;
+        }
+        return result.append(text, copiedUntil, text.length()).toString();
+    }
+}
@@ -24,13 +24,6 @@ public interface TestCasePreProcessor<T extends TestCase> {
     }
 
     default String replaceParams(Map<String, String> dataSet, String concreteString, Function<String, String> escapeValueFunction) {
-        String stringReplaced = concreteString;
-        for (Map.Entry<String, String> entry : dataSet.entrySet()) {
-            String stringToReplace = "**" + entry.getKey() + "**";
-            if (stringReplaced.contains(stringToReplace)) {
-                stringReplaced = stringReplaced.replace(stringToReplace, escapeValueFunction.apply(entry.getValue()));
-            }
-        }
-        return stringReplaced;
+        return Placeholders.replace(concreteString, dataSet, escapeValueFunction);
     }
 }
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.when;
 import com.chutneytesting.server.core.domain.dataset.DataSet;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryWriteBehind;
 import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.processor.TestCasePreProcessors;
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
@@ -179,6 +180,51 @@ public class ScenarioExecutionEngineAsyncTest {
         testObserver.dispose();
     }
 
+    @Test
+    public void should_write_full_report_on_status_change_and_end_only_when_history_write_behind_coalesces() {
+        // Given
+        final TestCase testCase = emptyTestCase();
+        final String scenarioId = testCase.id();
+        final Long executionId = 4L;
+
+        stubHistoryExecution(scenarioId, executionId);
+        final Triple<Pair<Observable<StepExecutionReportCore>, Long>, List<StepExecutionReportCore>, TestScheduler> engineStub = stubEngineExecution(100);
+        RxJavaPlugins.setIoSchedulerHandler(scheduler -> engineStub.getRight());
+
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            testCasePreProcessors,
+            om,
+            1,
+            0,
+            new ExecutionHistoryWriteBehind(executionHistoryRepository, TimeUnit.HOURS.toMillis(1))
+        );
+
+        // When
+        TestObserver<ScenarioExecutionReport> testObserver = sut.buildScenarioExecutionReportObservable(new ExecutionRequest(emptyTestCase(), "", ""), executionId, engineStub.getLeft()).test();
+
+        // Then
+        engineStub.getRight().advanceTimeBy(100, TimeUnit.MILLISECONDS); // NOT_EXECUTED
+        verify(executionHistoryRepository, times(1)).update(eq(scenarioId), any());
+
+        engineStub.getRight().advanceTimeBy(100, TimeUnit.MILLISECONDS); // RUNNING
+        verify(executionHistoryRepository, times(2)).update(eq(scenarioId), any());
+
+        engineStub.getRight().advanceTimeBy(100, TimeUnit.MILLISECONDS); // still RUNNING
+        verify(executionHistoryRepository, times(2)).update(eq(scenarioId), any());
+
+        engineStub.getRight().advanceTimeBy(100, TimeUnit.MILLISECONDS); // SUCCESS
+        ArgumentCaptor<ExecutionHistory.Execution> lastWrite = ArgumentCaptor.forClass(ExecutionHistory.Execution.class);
+        verify(executionHistoryRepository, times(3)).update(eq(scenarioId), lastWrite.capture());
+        assertThat(lastWrite.getValue().status()).isEqualTo(ServerReportStatus.SUCCESS);
+        verify(executionHistoryRepository, times(0)).updateSummaries(any());
+
+        testObserver.dispose();
+    }
+
     @Test
     public void should_observe_reports_when_follow_execution() {
         // Given
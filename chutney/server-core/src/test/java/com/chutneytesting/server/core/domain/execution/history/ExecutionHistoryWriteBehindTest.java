@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution.history;
+
+import static java.time.LocalDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.ExecutionSummary;
+import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ExecutionHistoryWriteBehindTest {
+
+    private final ExecutionHistoryRepository executionHistoryRepository = mock(ExecutionHistoryRepository.class);
+    private final ExecutionHistoryWriteBehind sut = new ExecutionHistoryWriteBehind(executionHistoryRepository, TimeUnit.HOURS.toMillis(1));
+
+    @Test
+    void should_batch_last_summary_of_each_execution_on_flush() {
+        // Given
+        sut.writeSummary(execution(1L, 10L).summary());
+        sut.writeSummary(execution(1L, 20L).summary());
+        sut.writeSummary(execution(2L, 30L).summary());
+        verify(executionHistoryRepository, never()).updateSummaries(any());
+
+        // When
+        sut.flush();
+
+        // Then
+        List<ExecutionSummary> summaries = captureUpdatedSummaries(1).get(0);
+        assertThat(summaries).extracting(ExecutionSummary::executionId, ExecutionSummary::duration)
+            .containsExactlyInAnyOrder(tuple(1L, 20L), tuple(2L, 30L));
+    }
+
+    @Test
+    void should_discard_pending_summary_when_writing_full_execution() {
+        // Given
+        sut.writeSummary(execution(1L, 10L).summary());
+
+        // When
+        sut.write(execution(1L, 20L));
+        sut.flush();
+
+        // Then
+        verify(executionHistoryRepository).update(eq("scenario"), any());
+        verify(executionHistoryRepository, never()).updateSummaries(any());
+    }
+
+    @Test
+    void should_keep_summaries_for_next_flush_when_write_fails() {
+        // Given
+        sut.writeSummary(execution(1L, 10L).summary());
+        doThrow(new IllegalStateException("database down")).doNothing().when(executionHistoryRepository).updateSummaries(any());
+
+        // When
+        sut.flush();
+        sut.flush();
+
+        // Then
+        List<List<ExecutionSummary>> summaries = captureUpdatedSummaries(2);
+        assertThat(summaries.get(1)).extracting(ExecutionSummary::executionId).containsExactly(1L);
+    }
+
+    @Test
+    void should_write_summaries_right_away_when_not_coalescing() {
+        // Given
+        ExecutionHistoryWriteBehind writeThrough = new ExecutionHistoryWriteBehind(executionHistoryRepository, 0);
+
+        // When
+        writeThrough.writeSummary(execution(1L, 10L).summary());
+
+        // Then
+        assertThat(writeThrough.coalescing()).isFalse();
+        verify(executionHistoryRepository).updateSummaries(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<ExecutionSummary>> captureUpdatedSummaries(int times) {
+        ArgumentCaptor<List<ExecutionSummary>> captor = ArgumentCaptor.forClass(List.class);
+        verify(executionHistoryRepository, times(times)).updateSummaries(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private ExecutionHistory.Execution execution(long executionId, long duration) {
+        return ImmutableExecutionHistory.Execution.builder()
+            .executionId(executionId)
+            .scenarioId("scenario")
+            .time(now())
+            .duration(duration)
+            .status(ServerReportStatus.RUNNING)
+            .report("")
+            .testCaseTitle("title")
+            .environment("env")
+            .user("user")
+            .build();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution.processor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.text.StringEscapeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compare placeholders replacement looking for each value in text (previous behavior) with single pass replacement.
+ * <p>
+ * Run with main method from IDE, or with {@code java -cp <test classpath> org.openjdk.jmh.Main PlaceholdersBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlaceholdersBenchmark {
+
+    @Param({"100", "5000"})
+    public int valuesCount;
+
+    @Param({"50", "1000"})
+    public int stepsCount;
+
+    private Map<String, String> values;
+    private String scenario;
+
+    @Setup
+    public void setUp() {
+        values = new HashMap<>();
+        for (int i = 0; i < valuesCount; i++) {
+            values.put("env.service" + i + ".url", "http://host" + i + ":8080/path");
+        }
+
+        StringBuilder builder = new StringBuilder("{\"when\": {\"sentence\": \"main\"}, \"thens\": [");
+        for (int i = 0; i < stepsCount; i++) {
+            builder.append("{\"sentence\": \"step ").append(i).append(" with **env.service").append(i % valuesCount).append(".url**\", ")
+                .append("\"implementation\": {\"type\": \"http-get\", \"target\": \"**unknown.target**\", ")
+                .append("\"inputs\": {\"uri\": \"/api/items/").append(i).append("\", \"headers\": {\"X-Index\": \"${#index}\"}}}},");
+        }
+        scenario = builder.append("{}]}").toString();
+    }
+
+    @Benchmark
+    public String valueByValue() {
+        String replaced = scenario;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String placeholder = "**" + entry.getKey() + "**";
+            if (replaced.contains(placeholder)) {
+                replaced = replaced.replace(placeholder, StringEscapeUtils.escapeJson(entry.getValue()));
+            }
+        }
+        return replaced;
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return Placeholders.replace(scenario, values, StringEscapeUtils::escapeJson);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(PlaceholdersBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution.processor;
+
+import static org.apache.commons.text.StringEscapeUtils.escapeJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class PlaceholdersTest {
+
+    private static final Map<String, String> VALUES = Map.of(
+        "key", "value",
+        "key.sub", "sub value",
+        "other", "**key**",
+        "", "empty"
+    );
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "no placeholder                   | no placeholder",
+        "**key**                          | value",
+        "a **key** and **key.sub**        | a value and sub value",
+        "**key****key**                   | valuevalue",
+        "**unknown** **key**              | **unknown** value",
+        "***key**                         | *value",
+        "**key                            | **key",
+        "a ** b **key**                   | a ** b value",
+        "**unknown **key**                | **unknown value",
+        "****                             | empty",
+    })
+    public void should_replace_known_placeholders(String text, String expected) {
+        assertThat(Placeholders.replace(text, VALUES)).isEqualTo(expected);
+    }
+
+    @Test
+    public void should_not_replace_placeholders_of_replacement_values() {
+        assertThat(Placeholders.replace("**other**", VALUES)).isEqualTo("**key**");
+    }
+
+    @Test
+    public void should_escape_replacement_values() {
+        // Given
+        Map<String, String> values = Map.of("key", "first line \n \"quoted\"");
+
+        // When
+        String result = Placeholders.replace("{\"a\": \"**key**\"}", values, input -> escapeJson(input));
+
+        // Then
+        assertThat(result).isEqualTo("{\"a\": \"" + escapeJson("first line \n \"quoted\"") + "\"}");
+    }
+
+    @Test
+    public void should_return_same_text_when_nothing_replaced() {
+        String text = "a **unknown** text";
+        assertThat(Placeholders.replace(text, VALUES)).isSameAs(text);
+    }
+}
@@ -15,6 +15,7 @@ import com.chutneytesting.environment.domain.exception.EnvironmentNotFoundExcept
 import com.chutneytesting.environment.domain.exception.InvalidEnvironmentNameException;
 import com.chutneytesting.environment.domain.exception.SingleEnvironmentException;
 import com.chutneytesting.environment.domain.exception.TargetNotFoundException;
+import com.chutneytesting.execution.domain.ReportAttachmentNotFoundException;
 import com.chutneytesting.execution.domain.campaign.CampaignAlreadyRunningException;
 import com.chutneytesting.execution.domain.campaign.CampaignEmptyExecutionException;
 import com.chutneytesting.execution.domain.campaign.CampaignExecutionNotFoundException;
@@ -86,6 +87,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         DataSetNotFoundException.class,
         EnvironmentNotFoundException.class,
         GlobalVarNotFoundException.class,
+        ReportAttachmentNotFoundException.class,
         ReportNotFoundException.class,
         ScenarioNotFoundException.class,
         ScenarioNotRunningException.class,
@@ -7,6 +7,7 @@
 
 package com.chutneytesting;
 
+import static com.chutneytesting.ServerConfigurationValues.EXECUTORS_VIRTUAL_THREADS_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.SCHEDULED_CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.SCHEDULED_PURGE_MAX_CAMPAIGN_EXECUTIONS_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.SCHEDULED_PURGE_MAX_SCENARIO_EXECUTIONS_SPRING_VALUE;
@@ -14,6 +15,7 @@ import static com.chutneytesting.execution.domain.purge.PurgeServiceImpl.ONE_DAY
 
 import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
 import com.chutneytesting.campaign.domain.CampaignRepository;
+import com.chutneytesting.engine.domain.execution.engine.step.SnapshotAttachmentStore;
 import com.chutneytesting.execution.api.schedule.ScheduleCampaign;
 import com.chutneytesting.execution.domain.purge.PurgeServiceImpl;
 import com.chutneytesting.execution.domain.schedule.CampaignScheduler;
@@ -88,7 +90,11 @@ public class SchedulingConfiguration implements AsyncConfigurer {
      * @see CampaignScheduler#executeScheduledCampaigns()
      */
     @Bean
-    public ExecutorService scheduledCampaignsExecutor(@Value(SCHEDULED_CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForScheduledCampaigns) {
+    public ExecutorService scheduledCampaignsExecutor(@Value(SCHEDULED_CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForScheduledCampaigns,
+                                                      @Value(EXECUTORS_VIRTUAL_THREADS_SPRING_VALUE) boolean virtualThreads) {
+        if (virtualThreads) {
+            return ServerConfiguration.threadPerTaskExecutor("scheduled-campaigns-executor");
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(threadForScheduledCampaigns);
         executor.setMaxPoolSize(threadForScheduledCampaigns);
@@ -105,7 +111,8 @@ public class SchedulingConfiguration implements AsyncConfigurer {
         CampaignRepository campaignRepository,
         CampaignExecutionRepository campaignExecutionRepository,
         @Value(SCHEDULED_PURGE_MAX_SCENARIO_EXECUTIONS_SPRING_VALUE) Integer maxScenarioExecutionsConfig,
-        @Value(SCHEDULED_PURGE_MAX_CAMPAIGN_EXECUTIONS_SPRING_VALUE) Integer maxCampaignExecutionsConfig
+        @Value(SCHEDULED_PURGE_MAX_CAMPAIGN_EXECUTIONS_SPRING_VALUE) Integer maxCampaignExecutionsConfig,
+        SnapshotAttachmentStore snapshotAttachmentStore
     ) {
         return new PurgeServiceImpl(
             testCaseRepository,
@@ -115,7 +122,8 @@ public class SchedulingConfiguration implements AsyncConfigurer {
             maxScenarioExecutionsConfig,
             ONE_DAY_MILLIS,
             maxCampaignExecutionsConfig,
-            ONE_DAY_MILLIS
+            ONE_DAY_MILLIS,
+            snapshotAttachmentStore
         );
     }
 }
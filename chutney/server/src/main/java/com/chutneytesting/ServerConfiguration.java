@@ -7,16 +7,35 @@
 
 package com.chutneytesting;
 
+import static com.chutneytesting.ServerConfigurationValues.ACTIONS_CONFIGURATION_PREFIX;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_CLUSTER_ENABLED;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_CLUSTER_LEASE_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_CLUSTER_NODE_CAPACITY_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_CLUSTER_NODE_ID_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_CLUSTER_POLL_INTERVAL_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_SCHEDULER_ENVIRONMENTS_MAX_CONCURRENCY_PREFIX;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_SCHEDULER_MAX_CONCURRENCY_PER_ENVIRONMENT;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_SCHEDULER_MAX_CONCURRENCY_PER_CAMPAIGN_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_SCHEDULER_MAX_CONCURRENCY_PER_ENVIRONMENT_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_DELEGATION_PASSWORD_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_DELEGATION_USER_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.ENGINE_EXECUTOR_ENVIRONMENTS_MAX_CONCURRENCY_PREFIX;
+import static com.chutneytesting.ServerConfigurationValues.ENGINE_EXECUTOR_MAX_CONCURRENCY_PER_ENVIRONMENT_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_EXECUTOR_POOL_SIZE_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_REPORTER_PUBLISHER_TTL_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.ENGINE_REPORTER_SNAPSHOT_ATTACHMENTS_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.ENGINE_REPORTER_SNAPSHOT_MAX_VALUE_LENGTH_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.ENGINE_SPEL_COMPILER_MODE_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.ENGINE_SPEL_EXPRESSION_CACHE_SIZE_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.EXECUTION_ASYNC_PUBLISHER_TTL_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.EXECUTION_HISTORY_FLUSH_INTERVAL_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.EXECUTORS_VIRTUAL_THREADS_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.SERVER_PORT_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.TASK_SQL_NB_LOGGED_ROW;
 import static com.chutneytesting.ServerConfigurationValues.TASK_SQL_NB_LOGGED_ROW_SPRING_VALUE;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import com.chutneytesting.action.api.EmbeddedActionEngine;
 import com.chutneytesting.campaign.domain.CampaignEnvironmentUpdateHandler;
@@ -27,7 +46,13 @@ import com.chutneytesting.dataset.domain.DataSetRepository;
 import com.chutneytesting.design.domain.editionlock.TestCaseEditions;
 import com.chutneytesting.design.domain.editionlock.TestCaseEditionsService;
 import com.chutneytesting.engine.api.execution.TestEngine;
+import com.chutneytesting.engine.domain.execution.engine.EnvironmentConcurrencyLimits;
+import com.chutneytesting.engine.domain.execution.engine.step.SnapshotAttachmentStore;
+import com.chutneytesting.engine.domain.execution.engine.step.SnapshotPolicy;
 import com.chutneytesting.execution.domain.campaign.CampaignExecutionEngine;
+import com.chutneytesting.execution.domain.campaign.CampaignExecutionSharding;
+import com.chutneytesting.execution.domain.campaign.CampaignScenarioScheduler;
+import com.chutneytesting.execution.domain.campaign.CampaignWorkQueue;
 import com.chutneytesting.execution.infra.execution.ExecutionRequestMapper;
 import com.chutneytesting.execution.infra.execution.ServerTestEngineJavaImpl;
 import com.chutneytesting.jira.api.JiraXrayEmbeddedApi;
@@ -36,10 +61,12 @@ import com.chutneytesting.server.core.domain.execution.ScenarioExecutionEngine;
 import com.chutneytesting.server.core.domain.execution.ScenarioExecutionEngineAsync;
 import com.chutneytesting.server.core.domain.execution.ServerTestEngine;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryWriteBehind;
 import com.chutneytesting.server.core.domain.execution.processor.TestCasePreProcessor;
 import com.chutneytesting.server.core.domain.execution.processor.TestCasePreProcessors;
 import com.chutneytesting.server.core.domain.execution.state.ExecutionStateRepository;
 import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
+import com.chutneytesting.tools.ThreadPerTaskExecutors;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -47,9 +74,12 @@ import jakarta.annotation.PostConstruct;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import javax.sql.DataSource;
 import liquibase.integration.spring.SpringLiquibase;
 import org.slf4j.Logger;
@@ -57,12 +87,18 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jms.activemq.ActiveMQAutoConfiguration;
 import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
 import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.core.task.support.ExecutorServiceAdapter;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @SpringBootApplication(exclude = {LiquibaseAutoConfiguration.class, ActiveMQAutoConfiguration.class, MongoAutoConfiguration.class})
@@ -96,7 +132,11 @@ public class ServerConfiguration {
      * For com.chutneytesting.ServerConfiguration#campaignExecutionEngine()
      */
     @Bean
-    public TaskExecutor campaignExecutor(@Value(CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForCampaigns) {
+    public TaskExecutor campaignExecutor(@Value(CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForCampaigns,
+                                         @Value(EXECUTORS_VIRTUAL_THREADS_SPRING_VALUE) boolean virtualThreads) {
+        if (virtualThreads) {
+            return new TaskExecutorAdapter(threadPerTaskExecutor("campaign-executor"));
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(threadForCampaigns);
         executor.setMaxPoolSize(threadForCampaigns);
@@ -112,11 +152,37 @@ public class ServerConfiguration {
         @Qualifier("engineExecutor") ThreadPoolTaskExecutor engineExecutor,
         @Value(TASK_SQL_NB_LOGGED_ROW_SPRING_VALUE) String nbLoggedRow,
         @Value(ENGINE_DELEGATION_USER_SPRING_VALUE) String delegateUser,
-        @Value(ENGINE_DELEGATION_PASSWORD_SPRING_VALUE) String delegatePassword
+        @Value(ENGINE_DELEGATION_PASSWORD_SPRING_VALUE) String delegatePassword,
+        @Value(ENGINE_SPEL_EXPRESSION_CACHE_SIZE_SPRING_VALUE) Integer spelExpressionCacheSize,
+        @Value(ENGINE_SPEL_COMPILER_MODE_SPRING_VALUE) SpelCompilerMode spelCompilerMode,
+        @Value(ENGINE_EXECUTOR_MAX_CONCURRENCY_PER_ENVIRONMENT_SPRING_VALUE) Integer maxConcurrencyPerEnvironment,
+        @Value(EXECUTORS_VIRTUAL_THREADS_SPRING_VALUE) boolean virtualThreads,
+        @Value(ENGINE_REPORTER_SNAPSHOT_MAX_VALUE_LENGTH_SPRING_VALUE) Integer snapshotMaxValueLength,
+        @Value(ENGINE_REPORTER_SNAPSHOT_ATTACHMENTS_SPRING_VALUE) boolean snapshotAttachments,
+        SnapshotAttachmentStore snapshotAttachmentStore,
+        Environment environment
     ) {
         Map<String, String> actionsConfiguration = new HashMap<>();
+        Binder.get(environment)
+            .bind(ACTIONS_CONFIGURATION_PREFIX, Bindable.mapOf(String.class, String.class))
+            .ifBound(properties -> properties.forEach((key, value) -> actionsConfiguration.put(ACTIONS_CONFIGURATION_PREFIX + "." + key, value)));
         actionsConfiguration.put(TASK_SQL_NB_LOGGED_ROW, nbLoggedRow);
-        return new ExecutionConfiguration(reporterTTL, engineExecutor.getThreadPoolExecutor(), actionsConfiguration, delegateUser, delegatePassword);
+        EnvironmentConcurrencyLimits environmentConcurrencyLimits = new EnvironmentConcurrencyLimits(
+            maxConcurrencyPerEnvironment,
+            Binder.get(environment)
+                .bind(ENGINE_EXECUTOR_ENVIRONMENTS_MAX_CONCURRENCY_PREFIX, Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of())
+        );
+        SnapshotPolicy snapshotPolicy = new SnapshotPolicy(snapshotMaxValueLength, snapshotAttachments ? snapshotAttachmentStore : null);
+        ExecutorService executor = virtualThreads ? threadPerTaskExecutor("engine-executor") : engineExecutor.getThreadPoolExecutor();
+        return new ExecutionConfiguration(reporterTTL, executor, actionsConfiguration, delegateUser, delegatePassword, spelExpressionCacheSize, spelCompilerMode, environmentConcurrencyLimits, snapshotPolicy);
+    }
+
+    static ExecutorService threadPerTaskExecutor(String threadNamePrefix) {
+        if (!ThreadPerTaskExecutors.virtualThreadsSupported()) {
+            LOGGER.warn("Virtual threads are not supported by running JVM, {} will use platform threads created on demand", threadNamePrefix);
+        }
+        return ThreadPerTaskExecutors.newThreadPerTaskExecutor(threadNamePrefix);
     }
 
     @Bean
@@ -138,6 +204,12 @@ public class ServerConfiguration {
             executionEngineAsync);
     }
 
+    @Bean
+    ExecutionHistoryWriteBehind executionHistoryWriteBehind(ExecutionHistoryRepository executionHistoryRepository,
+                                                            @Value(EXECUTION_HISTORY_FLUSH_INTERVAL_SPRING_VALUE) long flushIntervalMilliSeconds) {
+        return new ExecutionHistoryWriteBehind(executionHistoryRepository, flushIntervalMilliSeconds);
+    }
+
     @Bean
     ScenarioExecutionEngineAsync scenarioExecutionEngineAsync(ExecutionHistoryRepository executionHistoryRepository,
                                                               ServerTestEngine executionEngine,
@@ -146,7 +218,8 @@ public class ServerConfiguration {
                                                               TestCasePreProcessors testCasePreProcessors,
                                                               @Qualifier("reportObjectMapper") ObjectMapper objectMapper,
                                                               @Value(EXECUTION_ASYNC_PUBLISHER_TTL_SPRING_VALUE) long replayerRetention,
-                                                              @Value(EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE) long debounceMilliSeconds) {
+                                                              @Value(EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE) long debounceMilliSeconds,
+                                                              ExecutionHistoryWriteBehind executionHistoryWriteBehind) {
         return new ScenarioExecutionEngineAsync(
             executionHistoryRepository,
             executionEngine,
@@ -155,7 +228,8 @@ public class ServerConfiguration {
             testCasePreProcessors,
             objectMapper,
             replayerRetention,
-            debounceMilliSeconds);
+            debounceMilliSeconds,
+            executionHistoryWriteBehind);
     }
 
     @Bean
@@ -172,10 +246,11 @@ public class ServerConfiguration {
                                                     TestCaseRepositoryAggregator testCaseRepository,
                                                     JiraXrayEmbeddedApi jiraXrayEmbeddedApi,
                                                     ChutneyMetrics metrics,
-                                                    @Qualifier("campaignExecutor") TaskExecutor campaignExecutor,
+                                                    CampaignScenarioScheduler campaignScenarioScheduler,
+                                                    Optional<CampaignExecutionSharding> campaignExecutionSharding,
                                                     DataSetRepository datasetRepository,
                                                     ObjectMapper objectMapper) { // TODO - Choose explicitly which mapper to use
-        return new CampaignExecutionEngine(
+        CampaignExecutionEngine campaignExecutionEngine = new CampaignExecutionEngine(
             campaignRepository,
             campaignExecutionRepository,
             scenarioExecutionEngine,
@@ -184,10 +259,54 @@ public class ServerConfiguration {
             testCaseRepository,
             jiraXrayEmbeddedApi,
             metrics,
-            new ExecutorServiceAdapter(campaignExecutor),
+            campaignScenarioScheduler,
+            campaignExecutionSharding.orElse(null),
             datasetRepository,
             objectMapper
         );
+        campaignExecutionSharding.ifPresent(sharding -> sharding.start(campaignExecutionEngine::executeWorkItem));
+        return campaignExecutionEngine;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = CAMPAIGNS_CLUSTER_ENABLED, havingValue = "true")
+    CampaignExecutionSharding campaignExecutionSharding(CampaignWorkQueue campaignWorkQueue,
+                                                        @Qualifier("campaignExecutor") TaskExecutor campaignExecutor,
+                                                        @Value(CAMPAIGNS_CLUSTER_NODE_ID_SPRING_VALUE) String nodeId,
+                                                        @Value(CAMPAIGNS_CLUSTER_NODE_CAPACITY_SPRING_VALUE) Integer nodeCapacity,
+                                                        @Value(CAMPAIGNS_CLUSTER_LEASE_SPRING_VALUE) Long lease,
+                                                        @Value(CAMPAIGNS_CLUSTER_POLL_INTERVAL_SPRING_VALUE) Long pollInterval) throws UnknownHostException {
+        return new CampaignExecutionSharding(
+            campaignWorkQueue,
+            isNotBlank(nodeId) ? nodeId : InetAddress.getLocalHost().getCanonicalHostName() + ":" + port,
+            new ExecutorServiceAdapter(campaignExecutor),
+            nodeCapacity,
+            Duration.ofMillis(lease),
+            Duration.ofMillis(pollInterval)
+        );
+    }
+
+    @Bean
+    CampaignScenarioScheduler campaignScenarioScheduler(@Qualifier("campaignExecutor") TaskExecutor campaignExecutor,
+                                                        @Value(CAMPAIGNS_SCHEDULER_MAX_CONCURRENCY_PER_ENVIRONMENT_SPRING_VALUE) Integer maxConcurrencyPerEnvironment,
+                                                        @Value(CAMPAIGNS_SCHEDULER_MAX_CONCURRENCY_PER_CAMPAIGN_SPRING_VALUE) Integer maxConcurrencyPerCampaign,
+                                                        Environment environment) {
+        // Campaigns scenarios are limited as engine executions are, unless scheduler limits are configured
+        Map<String, Integer> environmentsLimits = new HashMap<>();
+        if (!environment.containsProperty(CAMPAIGNS_SCHEDULER_MAX_CONCURRENCY_PER_ENVIRONMENT)) {
+            Binder.get(environment)
+                .bind(ENGINE_EXECUTOR_ENVIRONMENTS_MAX_CONCURRENCY_PREFIX, Bindable.mapOf(String.class, Integer.class))
+                .ifBound(environmentsLimits::putAll);
+        }
+        Binder.get(environment)
+            .bind(CAMPAIGNS_SCHEDULER_ENVIRONMENTS_MAX_CONCURRENCY_PREFIX, Bindable.mapOf(String.class, Integer.class))
+            .ifBound(environmentsLimits::putAll);
+        return new CampaignScenarioScheduler(
+            new ExecutorServiceAdapter(campaignExecutor),
+            maxConcurrencyPerEnvironment,
+            environmentsLimits,
+            maxConcurrencyPerCampaign
+        );
     }
 
     @Bean
@@ -14,11 +14,25 @@ public final class ServerConfigurationValues {
     public static final String SERVER_HTTP_INTERFACE_SPRING_VALUE = "${server.http.interface}";
     public static final String CONFIGURATION_FOLDER_SPRING_VALUE = "${chutney.configuration-folder:~/.chutney/conf}";
     public static final String ENGINE_REPORTER_PUBLISHER_TTL_SPRING_VALUE = "${chutney.engine.reporter.publisher.ttl:5}";
+    public static final String ENGINE_REPORTER_SNAPSHOT_MAX_VALUE_LENGTH_SPRING_VALUE = "${chutney.engine.reporter.snapshot.max-value-length:65536}";
+    public static final String ENGINE_REPORTER_SNAPSHOT_ATTACHMENTS_SPRING_VALUE = "${chutney.engine.reporter.snapshot.attachments:false}";
+    public static final String ENGINE_SPEL_EXPRESSION_CACHE_SIZE_SPRING_VALUE = "${chutney.engine.spel.expression-cache-size:4096}";
+    public static final String ENGINE_SPEL_COMPILER_MODE_SPRING_VALUE = "${chutney.engine.spel.compiler-mode:OFF}";
     public static final String ENGINE_DELEGATION_USER_SPRING_VALUE = "${chutney.engine.delegation.user:#{null}}";
     public static final String ENGINE_DELEGATION_PASSWORD_SPRING_VALUE = "${chutney.engine.delegation.password:#{null}}";
     public static final String EXECUTION_ASYNC_PUBLISHER_TTL_SPRING_VALUE = "${chutney.server.execution.async.publisher.ttl:5}";
     public static final String EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE = "${chutney.server.execution.async.publisher.debounce:250}";
+    public static final String EXECUTION_HISTORY_FLUSH_INTERVAL_SPRING_VALUE = "${chutney.server.execution.history.flush-interval:1000}";
     public static final String CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE = "${chutney.server.campaigns.executor.pool-size:20}";
+    public static final String CAMPAIGNS_SCHEDULER_MAX_CONCURRENCY_PER_ENVIRONMENT = "chutney.server.campaigns.scheduler.max-concurrency-per-environment";
+    public static final String CAMPAIGNS_SCHEDULER_MAX_CONCURRENCY_PER_ENVIRONMENT_SPRING_VALUE = "${chutney.server.campaigns.scheduler.max-concurrency-per-environment:${chutney.engine.executor.max-concurrency-per-environment:0}}";
+    public static final String CAMPAIGNS_SCHEDULER_ENVIRONMENTS_MAX_CONCURRENCY_PREFIX = "chutney.server.campaigns.scheduler.max-concurrency";
+    public static final String CAMPAIGNS_SCHEDULER_MAX_CONCURRENCY_PER_CAMPAIGN_SPRING_VALUE = "${chutney.server.campaigns.scheduler.max-concurrency-per-campaign:0}";
+    public static final String CAMPAIGNS_CLUSTER_ENABLED = "chutney.server.campaigns.cluster.enabled";
+    public static final String CAMPAIGNS_CLUSTER_NODE_ID_SPRING_VALUE = "${chutney.server.campaigns.cluster.node-id:}";
+    public static final String CAMPAIGNS_CLUSTER_NODE_CAPACITY_SPRING_VALUE = "${chutney.server.campaigns.cluster.node-capacity:10}";
+    public static final String CAMPAIGNS_CLUSTER_LEASE_SPRING_VALUE = "${chutney.server.campaigns.cluster.lease:30000}";
+    public static final String CAMPAIGNS_CLUSTER_POLL_INTERVAL_SPRING_VALUE = "${chutney.server.campaigns.cluster.poll-interval:1000}";
     public static final String SCHEDULED_CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE = "${chutney.server.schedule-campaigns.executor.pool-size:20}";
     public static final String SCHEDULED_CAMPAIGNS_FIXED_RATE_SPRING_VALUE = "${chutney.server.schedule-campaigns.fixed-rate:60000}";
     public static final String SCHEDULED_PURGE_CRON_SPRING_VALUE = "${chutney.server.schedule-purge.cron:0 0 1 * * *}";
@@ -27,11 +41,15 @@ public final class ServerConfigurationValues {
     public static final String SCHEDULED_PURGE_MAX_SCENARIO_EXECUTIONS_SPRING_VALUE = "${chutney.server.schedule-purge.max-scenario-executions:10}";
     public static final String SCHEDULED_PURGE_MAX_CAMPAIGN_EXECUTIONS_SPRING_VALUE = "${chutney.server.schedule-purge.max-campaign-executions:10}";
     public static final String ENGINE_EXECUTOR_POOL_SIZE_SPRING_VALUE = "${chutney.engine.executor.pool-size:20}";
+    public static final String ENGINE_EXECUTOR_MAX_CONCURRENCY_PER_ENVIRONMENT_SPRING_VALUE = "${chutney.engine.executor.max-concurrency-per-environment:0}";
+    public static final String ENGINE_EXECUTOR_ENVIRONMENTS_MAX_CONCURRENCY_PREFIX = "chutney.engine.executor.max-concurrency";
+    public static final String EXECUTORS_VIRTUAL_THREADS_SPRING_VALUE = "${chutney.executors.virtual-threads:false}";
     public static final String AGENT_NETWORK_CONNECTION_CHECK_TIMEOUT_SPRING_VALUE = "${chutney.server.agent.network.connection-checker-timeout:1000}";
     public static final String LOCAL_AGENT_DEFAULT_NAME_SPRING_VALUE = "${chutney.server.agent.name:#{null}}";
     public static final String LOCAL_AGENT_DEFAULT_HOSTNAME_SPRING_VALUE = "${chutney.server.agent.hostname:#{null}}";
     public static final String EDITIONS_TTL_VALUE_SPRING_VALUE = "${chutney.server.editions.ttl.value:6}";
     public static final String EDITIONS_TTL_UNIT_SPRING_VALUE = "${chutney.server.editions.ttl.unit:HOURS}";
+    public static final String ACTIONS_CONFIGURATION_PREFIX = "chutney.actions";
     public static final String TASK_SQL_NB_LOGGED_ROW = "chutney.actions.sql.max-logged-rows";
     public static final String TASK_SQL_NB_LOGGED_ROW_SPRING_VALUE = "${" + TASK_SQL_NB_LOGGED_ROW + ":30}";
 }
@@ -10,8 +10,11 @@ package com.chutneytesting.campaign.infra;
 import com.chutneytesting.campaign.infra.jpa.CampaignExecutionEntity;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CampaignExecutionJpaRepository extends JpaRepository<CampaignExecutionEntity, Long>, JpaSpecificationExecutor<CampaignExecutionEntity> {
 
@@ -20,4 +23,7 @@ public interface CampaignExecutionJpaRepository extends JpaRepository<CampaignEx
     List<CampaignExecutionEntity> findAllByCampaignId(Long campaignId);
 
     Optional<CampaignExecutionEntity> findFirstByCampaignIdOrderByIdDesc(Long campaignId);
+
+    @Query("SELECT DISTINCT ce FROM CAMPAIGN_EXECUTIONS ce LEFT JOIN FETCH ce.scenarioExecutions WHERE ce.id IN :ids")
+    List<CampaignExecutionEntity> findAllWithScenarioExecutionsByIdIn(@Param("ids") Set<Long> ids);
 }
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.campaign.infra;
+
+import com.chutneytesting.campaign.infra.jpa.CampaignWorkItemEntity;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CampaignWorkItemJpaRepository extends JpaRepository<CampaignWorkItemEntity, Long> {
+
+    List<CampaignWorkItemEntity> findByCampaignExecutionIdOrderByIdAsc(Long campaignExecutionId);
+
+    /**
+     * Items which can be leased, oldest campaign executions first, longest scenarios first.
+     */
+    @Query("""
+            SELECT cwi.id
+            FROM CAMPAIGN_WORK_ITEMS cwi
+            WHERE cwi.stopRequested = false
+                AND (cwi.status = 'PENDING' OR (cwi.status = 'LEASED' AND cwi.leaseExpiration < :now))
+            ORDER BY cwi.campaignExecutionId ASC, cwi.expectedDuration DESC, cwi.id ASC
+            """)
+    List<Long> findClaimableIds(@Param("now") Long now, Limit limit);
+
+    /**
+     * Lease an item if still claimable, concurrent nodes cannot lease the same one.
+     *
+     * @return 1 if item has been leased, 0 otherwise
+     */
+    @Modifying
+    @Query("""
+            UPDATE CAMPAIGN_WORK_ITEMS cwi
+            SET cwi.status = 'LEASED', cwi.owner = :owner, cwi.leaseExpiration = :leaseExpiration
+            WHERE cwi.id = :id
+                AND (cwi.status = 'PENDING' OR (cwi.status = 'LEASED' AND cwi.leaseExpiration < :now))
+            """)
+    int lease(@Param("id") Long id, @Param("owner") String owner, @Param("now") Long now, @Param("leaseExpiration") Long leaseExpiration);
+
+    @Modifying
+    @Query("""
+            UPDATE CAMPAIGN_WORK_ITEMS cwi
+            SET cwi.leaseExpiration = :leaseExpiration
+            WHERE cwi.id IN :ids AND cwi.owner = :owner AND cwi.status = 'LEASED'
+            """)
+    int renewLeases(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("leaseExpiration") Long leaseExpiration);
+
+    @Modifying
+    @Query("""
+            UPDATE CAMPAIGN_WORK_ITEMS cwi
+            SET cwi.status = 'DONE', cwi.scenarioExecutionId = :scenarioExecutionId, cwi.leaseExpiration = NULL
+            WHERE cwi.id = :id AND cwi.owner = :owner AND cwi.status = 'LEASED'
+            """)
+    int complete(@Param("id") Long id, @Param("owner") String owner, @Param("scenarioExecutionId") Long scenarioExecutionId);
+
+    /**
+     * Cancel pending items, and leased ones whose owner did not renew its lease.
+     */
+    @Modifying
+    @Query("""
+            UPDATE CAMPAIGN_WORK_ITEMS cwi
+            SET cwi.status = 'CANCELLED', cwi.leaseExpiration = NULL
+            WHERE cwi.campaignExecutionId = :campaignExecutionId
+                AND (cwi.status = 'PENDING' OR (cwi.status = 'LEASED' AND cwi.leaseExpiration < :now))
+            """)
+    int cancelPending(@Param("campaignExecutionId") Long campaignExecutionId, @Param("now") Long now);
+
+    @Modifying
+    @Query("UPDATE CAMPAIGN_WORK_ITEMS cwi SET cwi.stopRequested = true WHERE cwi.campaignExecutionId = :campaignExecutionId")
+    int requestStop(@Param("campaignExecutionId") Long campaignExecutionId);
+
+    boolean existsByCampaignExecutionIdAndStopRequestedTrue(Long campaignExecutionId);
+
+    @Modifying
+    @Query("UPDATE CAMPAIGN_WORK_ITEMS cwi SET cwi.coordinationExpiration = :coordinationExpiration WHERE cwi.campaignExecutionId = :campaignExecutionId")
+    int renewCoordination(@Param("campaignExecutionId") Long campaignExecutionId, @Param("coordinationExpiration") Long coordinationExpiration);
+
+    @Modifying
+    @Query("DELETE FROM CAMPAIGN_WORK_ITEMS cwi WHERE cwi.coordinationExpiration < :now")
+    int deleteAbandoned(@Param("now") Long now);
+
+    @Modifying
+    @Query("DELETE FROM CAMPAIGN_WORK_ITEMS cwi WHERE cwi.campaignExecutionId = :campaignExecutionId")
+    int deleteByCampaignExecution(@Param("campaignExecutionId") Long campaignExecutionId);
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.campaign.infra;
+
+import com.chutneytesting.campaign.infra.jpa.CampaignWorkItemEntity;
+import com.chutneytesting.execution.domain.campaign.CampaignWorkItem;
+import com.chutneytesting.execution.domain.campaign.CampaignWorkQueue;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Leases are taken with conditional updates, so nodes sharing the database never lease the same item.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class DatabaseCampaignWorkQueue implements CampaignWorkQueue {
+
+    private final CampaignWorkItemJpaRepository campaignWorkItemJpaRepository;
+    private final Clock clock;
+
+    public DatabaseCampaignWorkQueue(CampaignWorkItemJpaRepository campaignWorkItemJpaRepository) {
+        this(campaignWorkItemJpaRepository, Clock.systemUTC());
+    }
+
+    DatabaseCampaignWorkQueue(CampaignWorkItemJpaRepository campaignWorkItemJpaRepository, Clock clock) {
+        this.campaignWorkItemJpaRepository = campaignWorkItemJpaRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(List<CampaignWorkItem> items, Duration coordination) {
+        long coordinationExpiration = clock.millis() + coordination.toMillis();
+        campaignWorkItemJpaRepository.saveAll(items.stream().map(item -> CampaignWorkItemEntity.fromDomain(item, coordinationExpiration)).toList());
+    }
+
+    @Override
+    @Transactional
+    public void renewCoordination(Long campaignExecutionId, Duration coordination) {
+        campaignWorkItemJpaRepository.renewCoordination(campaignExecutionId, clock.millis() + coordination.toMillis());
+    }
+
+    @Override
+    @Transactional
+    public List<CampaignWorkItem> claim(String nodeId, int maxItems, Duration lease) {
+        long now = clock.millis();
+        long leaseExpiration = now + lease.toMillis();
+        // Candidates may be taken by other nodes in the meantime, ask for some more
+        List<Long> candidates = campaignWorkItemJpaRepository.findClaimableIds(now, Limit.of(maxItems * 2));
+        List<Long> leased = new ArrayList<>(maxItems);
+        for (Long id : candidates) {
+            if (leased.size() >= maxItems) {
+                break;
+            }
+            if (campaignWorkItemJpaRepository.lease(id, nodeId, now, leaseExpiration) == 1) {
+                leased.add(id);
+            }
+        }
+        return campaignWorkItemJpaRepository.findAllById(leased).stream()
+            .map(CampaignWorkItemEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public void renewLeases(String nodeId, Collection<Long> itemIds, Duration lease) {
+        campaignWorkItemJpaRepository.renewLeases(itemIds, nodeId, clock.millis() + lease.toMillis());
+    }
+
+    @Override
+    @Transactional
+    public boolean complete(Long itemId, String nodeId, Long scenarioExecutionId) {
+        return campaignWorkItemJpaRepository.complete(itemId, nodeId, scenarioExecutionId) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void cancelPending(Long campaignExecutionId) {
+        campaignWorkItemJpaRepository.cancelPending(campaignExecutionId, clock.millis());
+    }
+
+    @Override
+    @Transactional
+    public boolean requestStop(Long campaignExecutionId) {
+        if (campaignWorkItemJpaRepository.requestStop(campaignExecutionId) == 0) {
+            return false;
+        }
+        campaignWorkItemJpaRepository.cancelPending(campaignExecutionId, clock.millis());
+        return true;
+    }
+
+    @Override
+    public boolean isStopRequested(Long campaignExecutionId) {
+        return campaignWorkItemJpaRepository.existsByCampaignExecutionIdAndStopRequestedTrue(campaignExecutionId);
+    }
+
+    @Override
+    public List<CampaignWorkItem> items(Long campaignExecutionId) {
+        return campaignWorkItemJpaRepository.findByCampaignExecutionIdOrderByIdAsc(campaignExecutionId).stream()
+            .map(CampaignWorkItemEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long campaignExecutionId) {
+        campaignWorkItemJpaRepository.deleteByCampaignExecution(campaignExecutionId);
+    }
+
+    @Override
+    @Transactional
+    public int deleteAbandoned() {
+        return campaignWorkItemJpaRepository.deleteAbandoned(clock.millis());
+    }
+}
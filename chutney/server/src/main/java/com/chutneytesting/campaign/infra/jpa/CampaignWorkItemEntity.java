@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.campaign.infra.jpa;
+
+import com.chutneytesting.execution.domain.campaign.CampaignWorkItem;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+@Entity(name = "CAMPAIGN_WORK_ITEMS")
+public class CampaignWorkItemEntity {
+    @Id
+    @Column(name = "ID")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "CAMPAIGN_ID")
+    private Long campaignId;
+
+    @Column(name = "CAMPAIGN_EXECUTION_ID")
+    private Long campaignExecutionId;
+
+    @Column(name = "SCENARIO_ID")
+    private String scenarioId;
+
+    @Column(name = "DATASET_ID")
+    private String datasetId;
+
+    @Column(name = "EXPECTED_DURATION")
+    private Long expectedDuration;
+
+    @Column(name = "STATUS")
+    @Enumerated(EnumType.STRING)
+    private CampaignWorkItem.Status status;
+
+    @Column(name = "OWNER")
+    private String owner;
+
+    @Column(name = "LEASE_EXPIRATION")
+    private Long leaseExpiration;
+
+    @Column(name = "SCENARIO_EXECUTION_ID")
+    private Long scenarioExecutionId;
+
+    @Column(name = "COORDINATION_EXPIRATION")
+    private Long coordinationExpiration;
+
+    @Column(name = "STOP_REQUESTED")
+    private Boolean stopRequested;
+
+    public CampaignWorkItemEntity() {
+    }
+
+    public static CampaignWorkItemEntity fromDomain(CampaignWorkItem item, Long coordinationExpiration) {
+        CampaignWorkItemEntity entity = new CampaignWorkItemEntity();
+        entity.id = item.id();
+        entity.campaignId = item.campaignId();
+        entity.campaignExecutionId = item.campaignExecutionId();
+        entity.scenarioId = item.scenarioId();
+        entity.datasetId = item.datasetId();
+        entity.expectedDuration = item.expectedDuration();
+        entity.status = item.status();
+        entity.owner = item.owner();
+        entity.scenarioExecutionId = item.scenarioExecutionId();
+        entity.coordinationExpiration = coordinationExpiration;
+        entity.stopRequested = false;
+        return entity;
+    }
+
+    public Long id() {
+        return id;
+    }
+
+    public CampaignWorkItem toDomain() {
+        return new CampaignWorkItem(id, campaignId, campaignExecutionId, scenarioId, datasetId, expectedDuration, status, owner, scenarioExecutionId);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.api;
+
+import com.chutneytesting.execution.domain.campaign.CampaignScenarioScheduler;
+import com.chutneytesting.execution.domain.campaign.CampaignScenarioScheduler.SchedulerState;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@CrossOrigin(origins = "*")
+class CampaignScenarioSchedulerController {
+
+    private final CampaignScenarioScheduler campaignScenarioScheduler;
+
+    CampaignScenarioSchedulerController(CampaignScenarioScheduler campaignScenarioScheduler) {
+        this.campaignScenarioScheduler = campaignScenarioScheduler;
+    }
+
+    /**
+     * Scenarios of running campaigns, running or waiting for their environment or campaign to be under its limit.
+     */
+    @PreAuthorize("hasAuthority('CAMPAIGN_READ')")
+    @GetMapping(path = "/api/ui/campaign/execution/queue/v1", produces = MediaType.APPLICATION_JSON_VALUE)
+    public SchedulerState getQueue() {
+        return campaignScenarioScheduler.state();
+    }
+}
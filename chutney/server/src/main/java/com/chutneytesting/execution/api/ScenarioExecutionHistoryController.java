@@ -7,6 +7,8 @@
 
 package com.chutneytesting.execution.api;
 
+import com.chutneytesting.engine.domain.execution.engine.step.SnapshotAttachmentStore;
+import com.chutneytesting.execution.domain.ReportAttachmentNotFoundException;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
 import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory;
@@ -19,18 +21,26 @@ import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @CrossOrigin(origins = "*")
 class ScenarioExecutionHistoryController {
 
+    static final int MAX_EXECUTIONS_PAGE_SIZE = 500;
+
     private final ExecutionHistoryRepository executionHistoryRepository;
+    private final SnapshotAttachmentStore snapshotAttachmentStore;
 
-    ScenarioExecutionHistoryController(ExecutionHistoryRepository executionHistoryRepository) {
+    ScenarioExecutionHistoryController(ExecutionHistoryRepository executionHistoryRepository, SnapshotAttachmentStore snapshotAttachmentStore) {
         this.executionHistoryRepository = executionHistoryRepository;
+        this.snapshotAttachmentStore = snapshotAttachmentStore;
     }
 
+    /**
+     * Last executions only, most recent first, see {@link ExecutionHistoryRepository#getExecutions(String)}.
+     */
     @PreAuthorize("hasAuthority('SCENARIO_READ')")
     @GetMapping(path = "/api/ui/scenario/{scenarioId}/execution/v1", produces = MediaType.APPLICATION_JSON_VALUE)
     public List<ExecutionSummaryDto> listExecutions(@PathVariable("scenarioId") String scenarioId) {
@@ -38,6 +48,24 @@ class ScenarioExecutionHistoryController {
             executionHistoryRepository.getExecutions(scenarioId));
     }
 
+    /**
+     * Keyset paginated executions, most recent first.
+     * Next page is requested with the id of the last execution received as {@code before} parameter.
+     */
+    @PreAuthorize("hasAuthority('SCENARIO_READ')")
+    @GetMapping(path = "/api/ui/scenario/{scenarioId}/execution/v2", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<ExecutionSummaryDto> listExecutions(
+        @PathVariable("scenarioId") String scenarioId,
+        @RequestParam(name = "before", required = false) Long beforeExecutionId,
+        @RequestParam(name = "limit", defaultValue = "50") int limit
+    ) {
+        if (limit < 1 || limit > MAX_EXECUTIONS_PAGE_SIZE) {
+            throw new IllegalArgumentException("Executions page size must be between 1 and " + MAX_EXECUTIONS_PAGE_SIZE);
+        }
+        return ExecutionSummaryDto.toDto(
+            executionHistoryRepository.getExecutions(scenarioId, beforeExecutionId, limit));
+    }
+
     @PreAuthorize("hasAuthority('SCENARIO_READ')")
     @GetMapping(path = "/api/ui/scenario/execution/{executionId}/summary/v1", produces = MediaType.APPLICATION_JSON_VALUE)
     public ExecutionSummaryDto getExecutionSummary(@PathVariable("executionId") Long executionId) {
@@ -57,6 +85,16 @@ class ScenarioExecutionHistoryController {
         return execution;
     }
 
+    /**
+     * Step input or output value too large to be inlined in execution report, as json.
+     */
+    @PreAuthorize("hasAuthority('SCENARIO_READ')")
+    @GetMapping(path = "/api/ui/scenario/execution/attachment/{attachmentId}/v1", produces = MediaType.APPLICATION_JSON_VALUE)
+    public byte[] getExecutionReportAttachment(@PathVariable("attachmentId") String attachmentId) {
+        return snapshotAttachmentStore.load(attachmentId)
+            .orElseThrow(() -> new ReportAttachmentNotFoundException(attachmentId));
+    }
+
     @PreAuthorize("hasAuthority('SCENARIO_EXECUTE')")
     @DeleteMapping(path = "/api/ui/scenario/execution/{executionId}")
     public void deleteExecution(@PathVariable("executionId") Long executionId) {
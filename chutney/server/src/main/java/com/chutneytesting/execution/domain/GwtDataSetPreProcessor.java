@@ -8,21 +8,30 @@
 package com.chutneytesting.execution.domain;
 
 import com.chutneytesting.scenario.domain.gwt.GwtScenario;
+import com.chutneytesting.scenario.domain.gwt.GwtStep;
+import com.chutneytesting.scenario.domain.gwt.GwtStepImplementation;
 import com.chutneytesting.scenario.domain.gwt.GwtTestCase;
+import com.chutneytesting.scenario.domain.gwt.Strategy;
 import com.chutneytesting.server.core.domain.execution.ExecutionRequest;
+import com.chutneytesting.server.core.domain.execution.processor.Placeholders;
 import com.chutneytesting.server.core.domain.execution.processor.TestCasePreProcessor;
 import com.chutneytesting.server.core.domain.globalvar.GlobalvarRepository;
-import org.apache.commons.text.StringEscapeUtils;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
+/**
+ * Replace global variables placeholders in all texts of a scenario, walking through its steps.<br>
+ * Values are set as is, since no serialization is involved.
+ */
 @Component
 public class GwtDataSetPreProcessor implements TestCasePreProcessor<GwtTestCase> {
 
     private final GlobalvarRepository globalvarRepository;
-    private final GwtScenarioMarshaller marshaller;
 
-    public GwtDataSetPreProcessor(GwtScenarioMarshaller marshaller, GlobalvarRepository globalvarRepository) {
-        this.marshaller = marshaller;
+    public GwtDataSetPreProcessor(GlobalvarRepository globalvarRepository) {
         this.globalvarRepository = globalvarRepository;
     }
 
@@ -31,13 +40,65 @@ public class GwtDataSetPreProcessor implements TestCasePreProcessor<GwtTestCase>
         GwtTestCase testCase = (GwtTestCase) executionRequest.testCase;
         return GwtTestCase.builder()
             .withMetadata(testCase.metadata)
-            .withScenario(replaceParams(testCase.scenario))
+            .withScenario(replaceParams(testCase.scenario, globalvarRepository.getFlatMap()))
+            .build();
+    }
+
+    private GwtScenario replaceParams(GwtScenario scenario, Map<String, String> values) {
+        return GwtScenario.builder()
+            .withTitle(scenario.title)
+            .withDescription(scenario.description)
+            .withGivens(replaceParams(scenario.givens, values))
+            .withWhen(replaceParams(scenario.when, values))
+            .withThens(replaceParams(scenario.thens, values))
+            .build();
+    }
+
+    private List<GwtStep> replaceParams(List<GwtStep> steps, Map<String, String> values) {
+        return steps.stream().map(step -> replaceParams(step, values)).toList();
+    }
+
+    private GwtStep replaceParams(GwtStep step, Map<String, String> values) {
+        return GwtStep.builder()
+            .withDescription(Placeholders.replace(step.description, values))
+            .withXRef(step.xRef.map(xRef -> Placeholders.replace(xRef, values)).orElse(null))
+            .withSubSteps(replaceParams(step.subSteps, values))
+            .withImplementation(step.implementation.map(implementation -> replaceParams(implementation, values)).orElse(null))
+            .withStrategy(step.strategy.map(strategy -> new Strategy(Placeholders.replace(strategy.type, values), replaceParams(strategy.parameters, values))).orElse(null))
             .build();
     }
 
-    private GwtScenario replaceParams(GwtScenario scenario) {
-        String blob = marshaller.serialize(scenario);
-        return marshaller.deserialize(scenario.title, scenario.description, replaceParams(globalvarRepository.getFlatMap(), blob, StringEscapeUtils::escapeJson));
+    private GwtStepImplementation replaceParams(GwtStepImplementation implementation, Map<String, String> values) {
+        return new GwtStepImplementation(
+            Placeholders.replace(implementation.type, values),
+            Placeholders.replace(implementation.target, values),
+            replaceParams(implementation.inputs, values),
+            replaceParams(implementation.outputs, values),
+            replaceParams(implementation.validations, values),
+            Placeholders.replace(implementation.xRef, values)
+        );
     }
 
+    private Map<String, Object> replaceParams(Map<String, Object> map, Map<String, String> values) {
+        Map<String, Object> replaced = new LinkedHashMap<>();
+        map.forEach((key, value) -> replaced.put(Placeholders.replace(key, values), replaceValue(value, values)));
+        return replaced;
+    }
+
+    private Object replaceValue(Object value, Map<String, String> values) {
+        if (value instanceof String s) {
+            return Placeholders.replace(s, values);
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> replaced = new LinkedHashMap<>();
+            map.forEach((key, v) -> replaced.put(replaceValue(key, values), replaceValue(v, values)));
+            return replaced;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> replaced = new ArrayList<>(list.size());
+            list.forEach(v -> replaced.add(replaceValue(v, values)));
+            return replaced;
+        }
+        return value;
+    }
 }
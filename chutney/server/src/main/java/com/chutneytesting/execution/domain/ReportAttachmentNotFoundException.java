@@ -0,0 +1,16 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain;
+
+@SuppressWarnings("serial")
+public class ReportAttachmentNotFoundException extends RuntimeException {
+
+    public ReportAttachmentNotFoundException(String attachmentId) {
+        super("Unable to find report attachment " + attachmentId);
+    }
+}
@@ -9,7 +9,6 @@
 package com.chutneytesting.execution.domain.campaign;
 
 import static java.util.Collections.emptyList;
-import static java.util.Collections.singleton;
 import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
@@ -38,15 +37,12 @@ import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecution
 import com.chutneytesting.server.core.domain.scenario.campaign.TestCaseDataset;
 import com.chutneytesting.tools.Try;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.Lists;
-import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -60,7 +56,8 @@ public class CampaignExecutionEngine {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Campaign.class);
 
-    private final ExecutorService executor;
+    private final CampaignScenarioScheduler scenarioScheduler;
+    private final CampaignExecutionSharding campaignExecutionSharding;
     private final CampaignRepository campaignRepository;
     private final CampaignExecutionRepository campaignExecutionRepository;
     private final ScenarioExecutionEngine scenarioExecutionEngine;
@@ -84,6 +81,24 @@ public class CampaignExecutionEngine {
                                    ChutneyMetrics metrics,
                                    ExecutorService executorService,
                                    DataSetRepository datasetRepository, ObjectMapper objectMapper) {
+        this(campaignRepository, campaignExecutionRepository, scenarioExecutionEngine, scenarioExecutionEngineAsync, executionHistoryRepository,
+            testCaseRepository, jiraXrayEmbeddedApi, metrics, new CampaignScenarioScheduler(executorService), null, datasetRepository, objectMapper);
+    }
+
+    /**
+     * @param campaignExecutionSharding shards parallel campaigns scenarios across cluster nodes, null to execute them on this node only
+     */
+    public CampaignExecutionEngine(CampaignRepository campaignRepository,
+                                   CampaignExecutionRepository campaignExecutionRepository,
+                                   ScenarioExecutionEngine scenarioExecutionEngine,
+                                   ScenarioExecutionEngineAsync scenarioExecutionEngineAsync,
+                                   ExecutionHistoryRepository executionHistoryRepository,
+                                   TestCaseRepository testCaseRepository,
+                                   JiraXrayEmbeddedApi jiraXrayEmbeddedApi,
+                                   ChutneyMetrics metrics,
+                                   CampaignScenarioScheduler scenarioScheduler,
+                                   CampaignExecutionSharding campaignExecutionSharding,
+                                   DataSetRepository datasetRepository, ObjectMapper objectMapper) {
         this.campaignRepository = campaignRepository;
         this.campaignExecutionRepository = campaignExecutionRepository;
         this.scenarioExecutionEngine = scenarioExecutionEngine;
@@ -92,7 +107,8 @@ public class CampaignExecutionEngine {
         this.testCaseRepository = testCaseRepository;
         this.jiraXrayEmbeddedApi = jiraXrayEmbeddedApi;
         this.metrics = metrics;
-        this.executor = executorService;
+        this.scenarioScheduler = scenarioScheduler;
+        this.campaignExecutionSharding = campaignExecutionSharding;
         this.datasetRepository = datasetRepository;
         this.objectMapper = objectMapper;
     }
@@ -139,8 +155,12 @@ public class CampaignExecutionEngine {
 
     public void stopExecution(Long executionId) {
         LOGGER.trace("Stop requested for {}", executionId);
-        ofNullable(currentCampaignExecutionsStopRequests.computeIfPresent(executionId, (aLong, aBoolean) -> Boolean.TRUE))
-            .orElseThrow(() -> new CampaignExecutionNotFoundException(null, executionId));
+        boolean startedHere = currentCampaignExecutionsStopRequests.computeIfPresent(executionId, (aLong, aBoolean) -> Boolean.TRUE) != null;
+        // Sharded campaign executions may have been started by another node
+        boolean sharded = campaignExecutionSharding != null && campaignExecutionSharding.requestStop(executionId);
+        if (!startedHere && !sharded) {
+            throw new CampaignExecutionNotFoundException(null, executionId);
+        }
 
         stopScenarioExecutions(executionId);
     }
@@ -242,16 +262,17 @@ public class CampaignExecutionEngine {
 
         campaignExecution.addScenarioExecution(testCaseDatasets, campaign.executionEnvironment());
         try {
-            if (campaign.parallelRun) {
-                Collection<Callable<Object>> toExecute = Lists.newArrayList();
-                for (TestCaseDataset t : testCaseDatasets) {
-                    toExecute.add(Executors.callable(() -> executeScenarioInCampaign(campaign, campaignExecution).accept(t)));
-                }
-                executor.invokeAll(toExecute);
+            if (campaign.parallelRun && campaignExecutionSharding != null) {
+                executeSharded(campaign, campaignExecution, testCaseDatasets);
             } else {
-                for (TestCaseDataset t : testCaseDatasets) {
-                    executor.invokeAll(singleton(Executors.callable(() -> executeScenarioInCampaign(campaign, campaignExecution).accept(t))));
-                }
+                Map<String, Long> expectedDurations = campaign.parallelRun ? expectedDurations(testCaseDatasets) : Map.of();
+                List<CampaignScenarioScheduler.ScenarioTask> tasks = testCaseDatasets.stream()
+                    .map(t -> new CampaignScenarioScheduler.ScenarioTask(
+                        t.testcase().id(),
+                        expectedDurations.getOrDefault(t.testcase().id(), 0L),
+                        () -> executeScenarioInCampaign(campaign, campaignExecution).accept(t)))
+                    .toList();
+                scenarioScheduler.executeAll(campaign.id, campaignExecution.executionId, campaign.executionEnvironment(), campaign.parallelRun, tasks);
             }
         } catch (InterruptedException e) {
             LOGGER.error("Error ", e);
@@ -261,6 +282,82 @@ public class CampaignExecutionEngine {
         return campaignExecution;
     }
 
+    /**
+     * Scenarios are executed by any node of the cluster, campaign execution report being updated from their stored executions.
+     */
+    private void executeSharded(Campaign campaign, CampaignExecution campaignExecution, List<TestCaseDataset> testCaseDatasets) throws InterruptedException {
+        // Other nodes read user and dataset from stored campaign execution
+        campaignExecutionRepository.saveCampaignExecution(campaign.id, campaignExecution);
+        Map<Campaign.CampaignScenario, TestCaseDataset> testCaseDatasetsByScenario = new LinkedHashMap<>();
+        testCaseDatasets.forEach(tcd -> testCaseDatasetsByScenario.putIfAbsent(
+            new Campaign.CampaignScenario(tcd.testcase().id(), ofNullable(tcd.dataset()).map(ds -> ds.id).orElse(null)), tcd)
+        );
+        Map<String, Long> expectedDurations = expectedDurations(testCaseDatasets);
+        List<CampaignWorkItem> items = testCaseDatasetsByScenario.keySet().stream()
+            .map(cs -> CampaignWorkItem.pending(campaign.id, campaignExecution.executionId, cs, expectedDurations.getOrDefault(cs.scenarioId(), 0L)))
+            .toList();
+        campaignExecutionSharding.executeAll(
+            items,
+            () -> currentCampaignExecutionsStopRequests.getOrDefault(campaignExecution.executionId, Boolean.FALSE),
+            item -> campaignExecution.startScenarioExecution(testCaseDatasetsByScenario.get(item.campaignScenario()), campaign.executionEnvironment()),
+            item -> endShardedScenarioExecution(campaign, campaignExecution, testCaseDatasetsByScenario.get(item.campaignScenario()), item)
+        );
+    }
+
+    private void endShardedScenarioExecution(Campaign campaign, CampaignExecution campaignExecution, TestCaseDataset testCaseDataset, CampaignWorkItem item) {
+        try {
+            ScenarioExecutionCampaign scenarioExecution;
+            if (item.status() == CampaignWorkItem.Status.CANCELLED) {
+                scenarioExecution = generateNotExecutedScenarioExecutionAndReport(campaign, testCaseDataset, campaignExecution);
+            } else if (item.scenarioExecutionId() != null) {
+                ExecutionHistory.Execution execution = executionHistoryRepository.getExecution(item.scenarioId(), item.scenarioExecutionId());
+                scenarioExecution = new ScenarioExecutionCampaign(item.scenarioId(), testCaseDataset.testcase().metadata().title(), execution.summary());
+            } else {
+                return;
+            }
+            campaignExecution.endScenarioExecution(scenarioExecution);
+            updateJira(campaign, campaignExecution, scenarioExecution);
+        } catch (Exception e) {
+            LOGGER.error("Error in scenario {} execution for campaign execution {}", item.scenarioId(), campaignExecution.executionId, e);
+        }
+    }
+
+    /**
+     * Execute a scenario of a sharded campaign execution, wherever it has been started.
+     *
+     * @return the scenario execution id, null if scenario could not be executed or campaign execution stop has been requested
+     */
+    public Long executeWorkItem(CampaignWorkItem item) {
+        Campaign campaign = campaignRepository.findById(item.campaignId());
+        CampaignExecution campaignExecution = campaignExecutionRepository.getCampaignExecutionById(item.campaignExecutionId());
+        campaign.executionEnvironment(campaignExecution.executionEnvironment);
+        return testCaseRepository.findExecutableById(item.scenarioId())
+            .map(tc -> new TestCaseDataset(tc, resolveDataset(item.campaignScenario(), campaignExecution)))
+            .filter(testCaseDataset -> !campaignExecutionSharding.isStopRequested(item.campaignExecutionId()))
+            .map(testCaseDataset -> {
+                ScenarioExecutionCampaign scenarioExecution = executeScenario(campaign, testCaseDataset, campaignExecution);
+                // Retry one time if failed
+                if (scenarioExecution != null && campaign.retryAuto && ServerReportStatus.FAILURE.equals(scenarioExecution.status())
+                    && !campaignExecutionSharding.isStopRequested(item.campaignExecutionId())) {
+                    scenarioExecution = executeScenario(campaign, testCaseDataset, campaignExecution);
+                }
+                return scenarioExecution;
+            })
+            .map(scenarioExecution -> scenarioExecution.execution().executionId())
+            .orElse(null);
+    }
+
+    private Map<String, Long> expectedDurations(List<TestCaseDataset> testCaseDatasets) {
+        List<String> scenarioIds = testCaseDatasets.stream().map(t -> t.testcase().id()).distinct().toList();
+        try {
+            return executionHistoryRepository.getLastExecutions(scenarioIds).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().duration()));
+        } catch (Exception e) {
+            LOGGER.warn("Cannot load scenarios last executions, they will be executed in campaign order", e);
+            return Map.of();
+        }
+    }
+
     private Consumer<TestCaseDataset> executeScenarioInCampaign(Campaign campaign, CampaignExecution campaignExecution) {
         return testCaseDataset -> {
             try {
@@ -283,8 +380,7 @@ public class CampaignExecutionEngine {
                     .ifPresent(serc -> {
                         campaignExecution.endScenarioExecution(serc);
                         // update xray test
-                        ExecutionHistory.Execution execution = executionHistoryRepository.getExecution(serc.scenarioId(), serc.execution().executionId());
-                        updateJira(campaign, campaignExecution, serc, execution);
+                        updateJira(campaign, campaignExecution, serc);
                     });
             } catch (Exception e) {
                 LOGGER.error("Error in scenario execution for campaign execution {}", campaignExecution.executionId, e);
@@ -292,13 +388,16 @@ public class CampaignExecutionEngine {
         };
     }
 
-    private void updateJira(Campaign campaign, CampaignExecution campaignExecution, ScenarioExecutionCampaign serc, ExecutionHistory.Execution execution) {
+    private void updateJira(Campaign campaign, CampaignExecution campaignExecution, ScenarioExecutionCampaign serc) {
         try {
             String datasetId = serc.execution()
                 .dataset()
                 .map(dataset -> ofNullable(dataset.id).orElse(""))
                 .orElse("");
-            jiraXrayEmbeddedApi.updateTestExecution(campaign.id, campaignExecution.executionId, serc.scenarioId(), datasetId, JiraReportMapper.from(execution.report(), objectMapper));
+            jiraXrayEmbeddedApi.publishTestExecution(campaign.id, campaignExecution.executionId, serc.scenarioId(), datasetId, () -> {
+                ExecutionHistory.Execution execution = executionHistoryRepository.getExecution(serc.scenarioId(), serc.execution().executionId());
+                return JiraReportMapper.from(execution.report(), objectMapper);
+            });
         } catch (NoJiraConfigurationException e) { // Silent
         } catch (Exception e) {
             LOGGER.warn("Update JIRA failed", e);
@@ -0,0 +1,212 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import com.chutneytesting.execution.domain.campaign.CampaignWorkItem.Status;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Execute parallel campaigns scenarios on all nodes of a cluster sharing the same database.
+ * <ul>
+ *     <li>The node running a campaign execution queues its scenarios in the {@link CampaignWorkQueue}, then follows their progress until all of them are done</li>
+ *     <li>Every node, including this one, polls the queue and executes queued scenarios up to its capacity</li>
+ *     <li>Leases of running scenarios are renewed at each poll, so scenarios of a lost node are executed again by another one</li>
+ *     <li>The starting node renews its coordination of the campaign execution while following it, so scenarios of a lost starting node are deleted by the next polling node</li>
+ *     <li>Stop requests are recorded in the queue, so they are seen by all nodes whichever received them</li>
+ * </ul>
+ * As the queue gives longest expected scenarios first and nodes pull work as soon as they have capacity, shards are balanced by duration.
+ */
+public class CampaignExecutionSharding implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CampaignExecutionSharding.class);
+
+    private final CampaignWorkQueue workQueue;
+    private final String nodeId;
+    private final ExecutorService executor;
+    private final int nodeCapacity;
+    private final Duration lease;
+    private final Duration pollInterval;
+    private final Set<Long> runningItems = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService worker;
+
+    public CampaignExecutionSharding(CampaignWorkQueue workQueue, String nodeId, ExecutorService executor, int nodeCapacity, Duration lease, Duration pollInterval) {
+        if (lease.compareTo(pollInterval.multipliedBy(2)) < 0) {
+            throw new IllegalArgumentException("Lease [" + lease + "] must be at least twice the poll interval [" + pollInterval + "]");
+        }
+        this.workQueue = workQueue;
+        this.nodeId = nodeId;
+        this.executor = executor;
+        this.nodeCapacity = Math.max(1, nodeCapacity);
+        this.lease = lease;
+        this.pollInterval = pollInterval;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Start polling the queue.
+     *
+     * @param workItemExecution executes a scenario and returns its execution id, null if it could not be executed
+     */
+    public synchronized void start(Function<CampaignWorkItem, Long> workItemExecution) {
+        if (worker != null) {
+            throw new IllegalStateException("Campaign cluster worker already started");
+        }
+        worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "campaign-cluster-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.scheduleWithFixedDelay(() -> poll(workItemExecution), 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        LOGGER.info("Campaign cluster node {} started with capacity {}", nodeId, nodeCapacity);
+    }
+
+    /**
+     * Queue scenarios of a campaign execution and wait for all of them to be done, wherever they are executed.
+     * Pending scenarios are cancelled when stop is requested, on any node, or waiting thread interrupted.
+     *
+     * @param stopRequested stop requests received by this node
+     * @param onStarted     called once for each scenario leased by a node, before onEnded
+     * @param onEnded       called once for each scenario done or cancelled
+     */
+    public void executeAll(List<CampaignWorkItem> items, BooleanSupplier stopRequested, Consumer<CampaignWorkItem> onStarted, Consumer<CampaignWorkItem> onEnded) throws InterruptedException {
+        if (items.isEmpty()) {
+            return;
+        }
+        Long campaignExecutionId = items.get(0).campaignExecutionId();
+        workQueue.enqueue(items, lease);
+
+        Set<Long> startedItems = new HashSet<>();
+        Set<Long> endedItems = new HashSet<>();
+        boolean stopped = false;
+        try {
+            while (true) {
+                workQueue.renewCoordination(campaignExecutionId, lease);
+                stopped = stopped || stopRequested.getAsBoolean() || workQueue.isStopRequested(campaignExecutionId);
+                if (stopped) {
+                    // Also cancels items of nodes lost since previous poll
+                    workQueue.requestStop(campaignExecutionId);
+                }
+                List<CampaignWorkItem> currentItems = workQueue.items(campaignExecutionId);
+                for (CampaignWorkItem item : currentItems) {
+                    // An item can be leased and done between two polls
+                    if ((item.status() == Status.LEASED || item.status() == Status.DONE) && startedItems.add(item.id())) {
+                        onStarted.accept(item);
+                    }
+                    if (item.status().isFinal() && endedItems.add(item.id())) {
+                        onEnded.accept(item);
+                    }
+                }
+                if (currentItems.stream().allMatch(item -> item.status().isFinal())) {
+                    return;
+                }
+                TimeUnit.MILLISECONDS.sleep(pollInterval.toMillis());
+            }
+        } catch (InterruptedException e) {
+            workQueue.requestStop(campaignExecutionId);
+            throw e;
+        } finally {
+            try {
+                workQueue.delete(campaignExecutionId);
+            } catch (Exception e) {
+                LOGGER.warn("Cannot delete work items of campaign execution {}", campaignExecutionId, e);
+            }
+        }
+    }
+
+    /**
+     * Record a stop request seen by all nodes: pending scenarios are cancelled, running ones are not executed again.
+     *
+     * @return false if campaign execution is not sharded or already ended
+     */
+    public boolean requestStop(Long campaignExecutionId) {
+        return workQueue.requestStop(campaignExecutionId);
+    }
+
+    public boolean isStopRequested(Long campaignExecutionId) {
+        return workQueue.isStopRequested(campaignExecutionId);
+    }
+
+    public int runningItems() {
+        return runningItems.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (worker != null) {
+            worker.shutdownNow();
+            worker = null;
+        }
+    }
+
+    private void poll(Function<CampaignWorkItem, Long> workItemExecution) {
+        try {
+            int abandonedItems = workQueue.deleteAbandoned();
+            if (abandonedItems > 0) {
+                LOGGER.warn("Campaign cluster node {} deleted {} scenarios of campaign executions whose starting node is lost", nodeId, abandonedItems);
+            }
+            if (!runningItems.isEmpty()) {
+                workQueue.renewLeases(nodeId, Set.copyOf(runningItems), lease);
+            }
+            int capacity = nodeCapacity - runningItems.size();
+            if (capacity > 0) {
+                workQueue.claim(nodeId, capacity, lease).forEach(item -> execute(item, workItemExecution));
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Campaign cluster node {} cannot poll work queue", nodeId, e);
+        }
+    }
+
+    private void execute(CampaignWorkItem item, Function<CampaignWorkItem, Long> workItemExecution) {
+        runningItems.add(item.id());
+        try {
+            executor.execute(() -> {
+                Long scenarioExecutionId = null;
+                try {
+                    scenarioExecutionId = workItemExecution.apply(item);
+                } catch (Exception e) {
+                    LOGGER.error("Error executing scenario {} of campaign execution {}", item.scenarioId(), item.campaignExecutionId(), e);
+                } finally {
+                    complete(item, scenarioExecutionId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Lease will expire and item be claimed again
+            LOGGER.warn("Campaign cluster node {} cannot execute scenario {} of campaign execution {}", nodeId, item.scenarioId(), item.campaignExecutionId(), e);
+            runningItems.remove(item.id());
+        }
+    }
+
+    private void complete(CampaignWorkItem item, Long scenarioExecutionId) {
+        try {
+            if (!workQueue.complete(item.id(), nodeId, scenarioExecutionId)) {
+                LOGGER.warn("Lease lost by node {} on scenario {} of campaign execution {}, execution {} ignored", nodeId, item.scenarioId(), item.campaignExecutionId(), scenarioExecutionId);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Cannot complete scenario {} of campaign execution {}", item.scenarioId(), item.campaignExecutionId(), e);
+        } finally {
+            runningItems.remove(item.id());
+        }
+    }
+}
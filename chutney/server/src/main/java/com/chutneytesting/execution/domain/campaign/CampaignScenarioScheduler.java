@@ -0,0 +1,215 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingLong;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsFirst;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Single queue of scenarios executions of all running campaigns.
+ * <ul>
+ *     <li>A scenario starts only if its environment and its campaign execution run fewer scenarios than their limits</li>
+ *     <li>Sequential campaigns are limited to one scenario at a time, run in campaign order</li>
+ *     <li>Scenarios of parallel campaigns are queued longest first, according to their expected duration</li>
+ *     <li>Campaign executions are served in submission order, but a queued scenario held by a limit never holds back
+ *     the following ones: any free capacity goes to the first queued scenario which can use it</li>
+ * </ul>
+ * A limit of zero or less means no limit.
+ */
+public class CampaignScenarioScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CampaignScenarioScheduler.class);
+
+    private final ExecutorService executor;
+    private final int defaultEnvironmentLimit;
+    private final Map<String, Integer> environmentsLimits;
+    private final int campaignLimit;
+
+    private final Object lock = new Object();
+    private final List<ScheduledScenario> queue = new ArrayList<>();
+    private final Set<ScheduledScenario> running = new LinkedHashSet<>();
+    private final Map<String, Integer> runningByEnvironment = new HashMap<>();
+    private final Map<Long, Integer> runningByCampaignExecution = new HashMap<>();
+
+    public CampaignScenarioScheduler(ExecutorService executor) {
+        this(executor, 0, emptyMap(), 0);
+    }
+
+    /**
+     * @param defaultEnvironmentLimit max number of campaigns scenarios running at the same time on an environment
+     * @param environmentsLimits      limits of specific environments, overriding default one
+     * @param campaignLimit           max number of scenarios running at the same time for a parallel campaign execution
+     */
+    public CampaignScenarioScheduler(ExecutorService executor, int defaultEnvironmentLimit, Map<String, Integer> environmentsLimits, int campaignLimit) {
+        this.executor = executor;
+        this.defaultEnvironmentLimit = defaultEnvironmentLimit;
+        this.environmentsLimits = Map.copyOf(environmentsLimits);
+        this.campaignLimit = campaignLimit;
+    }
+
+    public record ScenarioTask(String scenarioId, long expectedDuration, Runnable execution) {
+    }
+
+    /**
+     * Queue all scenarios of a campaign execution and wait for them to be executed.
+     * When interrupted, scenarios not started yet are removed from queue.
+     */
+    public void executeAll(Long campaignId, Long campaignExecutionId, String environment, boolean parallel, List<ScenarioTask> tasks) throws InterruptedException {
+        List<ScenarioTask> orderedTasks = new ArrayList<>(tasks);
+        if (parallel) {
+            orderedTasks.sort(comparingLong(ScenarioTask::expectedDuration).reversed());
+        }
+        int limit = parallel ? campaignLimit : 1;
+        CountDownLatch done = new CountDownLatch(orderedTasks.size());
+        Instant now = Instant.now();
+        synchronized (lock) {
+            orderedTasks.forEach(task -> queue.add(new ScheduledScenario(campaignId, campaignExecutionId, environment, limit, task, done, now)));
+        }
+        dispatch();
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            synchronized (lock) {
+                queue.removeIf(scheduled -> scheduled.campaignExecutionId.equals(campaignExecutionId));
+            }
+            throw e;
+        }
+    }
+
+    public SchedulerState state() {
+        synchronized (lock) {
+            Map<String, EnvironmentState> environments = new HashMap<>();
+            queue.forEach(scheduled -> environments.merge(scheduled.environment, new EnvironmentState(scheduled.environment, 0, 1, environmentLimit(scheduled.environment)), EnvironmentState::add));
+            running.forEach(scheduled -> environments.merge(scheduled.environment, new EnvironmentState(scheduled.environment, 1, 0, environmentLimit(scheduled.environment)), EnvironmentState::add));
+            return new SchedulerState(
+                environments.values().stream().sorted(comparing(EnvironmentState::environment, nullsFirst(naturalOrder()))).toList(),
+                running.stream().map(ScheduledScenario::toState).toList(),
+                queue.stream().map(ScheduledScenario::toState).toList()
+            );
+        }
+    }
+
+    private void dispatch() {
+        List<ScheduledScenario> toStart = new ArrayList<>();
+        synchronized (lock) {
+            Iterator<ScheduledScenario> queued = queue.iterator();
+            while (queued.hasNext()) {
+                ScheduledScenario scheduled = queued.next();
+                if (hasCapacity(scheduled)) {
+                    queued.remove();
+                    running.add(scheduled.start());
+                    runningByEnvironment.merge(scheduled.environment, 1, Integer::sum);
+                    runningByCampaignExecution.merge(scheduled.campaignExecutionId, 1, Integer::sum);
+                    toStart.add(scheduled);
+                }
+            }
+        }
+        toStart.forEach(this::start);
+    }
+
+    private void start(ScheduledScenario scheduled) {
+        try {
+            executor.execute(() -> {
+                try {
+                    scheduled.task.execution().run();
+                } finally {
+                    end(scheduled);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.error("Cannot execute scenario {} of campaign execution {}", scheduled.task.scenarioId(), scheduled.campaignExecutionId, e);
+            end(scheduled);
+        }
+    }
+
+    private void end(ScheduledScenario scheduled) {
+        synchronized (lock) {
+            running.remove(scheduled);
+            runningByEnvironment.computeIfPresent(scheduled.environment, (env, count) -> count > 1 ? count - 1 : null);
+            runningByCampaignExecution.computeIfPresent(scheduled.campaignExecutionId, (id, count) -> count > 1 ? count - 1 : null);
+        }
+        scheduled.done.countDown();
+        dispatch();
+    }
+
+    private boolean hasCapacity(ScheduledScenario scheduled) {
+        int environmentLimit = environmentLimit(scheduled.environment);
+        if (environmentLimit > 0 && runningByEnvironment.getOrDefault(scheduled.environment, 0) >= environmentLimit) {
+            return false;
+        }
+        return scheduled.campaignLimit <= 0 || runningByCampaignExecution.getOrDefault(scheduled.campaignExecutionId, 0) < scheduled.campaignLimit;
+    }
+
+    private int environmentLimit(String environment) {
+        return environment == null ? 0 : environmentsLimits.getOrDefault(environment, defaultEnvironmentLimit);
+    }
+
+    /**
+     * @param limit max number of scenarios running at the same time on environment, 0 when unlimited
+     */
+    public record EnvironmentState(String environment, int running, int queued, int limit) {
+        private EnvironmentState add(EnvironmentState other) {
+            return new EnvironmentState(environment, running + other.running, queued + other.queued, limit);
+        }
+    }
+
+    /**
+     * @param since queuing time of queued scenarios, start time of running ones
+     */
+    public record ScenarioState(Long campaignId, Long campaignExecutionId, String environment, String scenarioId, long expectedDuration, Instant since) {
+    }
+
+    public record SchedulerState(List<EnvironmentState> environments, List<ScenarioState> running, List<ScenarioState> queued) {
+    }
+
+    private static final class ScheduledScenario {
+        private final Long campaignId;
+        private final Long campaignExecutionId;
+        private final String environment;
+        private final int campaignLimit;
+        private final ScenarioTask task;
+        private final CountDownLatch done;
+        private Instant since;
+
+        private ScheduledScenario(Long campaignId, Long campaignExecutionId, String environment, int campaignLimit, ScenarioTask task, CountDownLatch done, Instant queuedAt) {
+            this.campaignId = campaignId;
+            this.campaignExecutionId = campaignExecutionId;
+            this.environment = environment;
+            this.campaignLimit = campaignLimit;
+            this.task = task;
+            this.done = done;
+            this.since = queuedAt;
+        }
+
+        private ScheduledScenario start() {
+            since = Instant.now();
+            return this;
+        }
+
+        private ScenarioState toState() {
+            return new ScenarioState(campaignId, campaignExecutionId, environment, task.scenarioId(), task.expectedDuration(), since);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
+
+/**
+ * A scenario of a sharded campaign execution, to be executed by any node of the cluster.
+ *
+ * @param owner               node executing or having executed the scenario
+ * @param scenarioExecutionId execution stored by owner, null if scenario could not be executed
+ */
+public record CampaignWorkItem(
+    Long id,
+    Long campaignId,
+    Long campaignExecutionId,
+    String scenarioId,
+    String datasetId,
+    long expectedDuration,
+    Status status,
+    String owner,
+    Long scenarioExecutionId
+) {
+
+    public enum Status {
+        PENDING, LEASED, DONE, CANCELLED;
+
+        public boolean isFinal() {
+            return this == DONE || this == CANCELLED;
+        }
+    }
+
+    public static CampaignWorkItem pending(Long campaignId, Long campaignExecutionId, Campaign.CampaignScenario campaignScenario, long expectedDuration) {
+        return new CampaignWorkItem(null, campaignId, campaignExecutionId, campaignScenario.scenarioId(), campaignScenario.datasetId(), expectedDuration, Status.PENDING, null, null);
+    }
+
+    public Campaign.CampaignScenario campaignScenario() {
+        return new Campaign.CampaignScenario(scenarioId, datasetId);
+    }
+}
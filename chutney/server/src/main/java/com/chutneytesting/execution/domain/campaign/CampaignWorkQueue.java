@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Scenarios of sharded campaign executions, shared by all nodes of the cluster.
+ * A node leases the items it executes, and must renew its leases until it completes them.
+ * Items with an expired lease are given to the next node asking for work.
+ * <p>
+ * The node which queued a campaign execution items coordinates it, and must renew its coordination until all items are done.
+ * Items of a campaign execution whose coordination expired are abandoned, they can be deleted by any node.
+ */
+public interface CampaignWorkQueue {
+
+    /**
+     * @param coordination time given to the calling node to renew its coordination of these items
+     */
+    void enqueue(List<CampaignWorkItem> items, Duration coordination);
+
+    void renewCoordination(Long campaignExecutionId, Duration coordination);
+
+    /**
+     * Lease pending or abandoned items, oldest campaign executions first, longest scenarios first.
+     */
+    List<CampaignWorkItem> claim(String nodeId, int maxItems, Duration lease);
+
+    void renewLeases(String nodeId, Collection<Long> itemIds, Duration lease);
+
+    /**
+     * @return false if lease was lost, the item being already completed or leased by another node
+     */
+    boolean complete(Long itemId, String nodeId, Long scenarioExecutionId);
+
+    /**
+     * Cancel pending items, and items leased by a node which did not renew its lease.
+     */
+    void cancelPending(Long campaignExecutionId);
+
+    /**
+     * Record a stop request, seen by all nodes, and cancel pending items.
+     *
+     * @return false if campaign execution has no item
+     */
+    boolean requestStop(Long campaignExecutionId);
+
+    boolean isStopRequested(Long campaignExecutionId);
+
+    List<CampaignWorkItem> items(Long campaignExecutionId);
+
+    void delete(Long campaignExecutionId);
+
+    /**
+     * Delete items of campaign executions whose coordination expired.
+     *
+     * @return number of deleted items
+     */
+    int deleteAbandoned();
+}
@@ -19,6 +19,7 @@ import static java.util.stream.Collectors.toSet;
 
 import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
 import com.chutneytesting.campaign.domain.CampaignRepository;
+import com.chutneytesting.engine.domain.execution.engine.step.SnapshotAttachmentStore;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.ExecutionSummary;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
 import com.chutneytesting.server.core.domain.execution.history.PurgeService;
@@ -28,7 +29,9 @@ import com.chutneytesting.server.core.domain.scenario.TestCaseRepository;
 import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -45,9 +48,12 @@ import org.slf4j.LoggerFactory;
 
 public class PurgeServiceImpl implements PurgeService {
     private static final Logger LOGGER = LoggerFactory.getLogger(PurgeServiceImpl.class);
+    static final int EXECUTIONS_PAGE_SIZE = 500;
     public static final int ONE_DAY_MILLIS = Long.valueOf(Duration.ofDays(1).toMillis()).intValue();
     private final PurgeExecutionService<Campaign, Long, CampaignExecution> campaignPurgeService;
     private final PurgeExecutionService<TestCaseMetadata, String, ExecutionSummary> scenarioPurgeService;
+    private final ExecutionHistoryRepository executionsRepository;
+    private final SnapshotAttachmentStore attachmentStore;
 
     PurgeServiceImpl(
         TestCaseRepository testCaseRepository,
@@ -77,6 +83,33 @@ public class PurgeServiceImpl implements PurgeService {
         int maxCampaignExecutionsConfiguration,
         int beforeNowMinusOffsetCampaignExecutionsConfiguration
     ) {
+        this(testCaseRepository,
+            executionsRepository,
+            campaignRepository,
+            campaignExecutionRepository,
+            maxScenarioExecutionsConfiguration,
+            beforeNowMinusOffsetScenarioExecutionsConfiguration,
+            maxCampaignExecutionsConfiguration,
+            beforeNowMinusOffsetCampaignExecutionsConfiguration,
+            null);
+    }
+
+    /**
+     * @param attachmentStore store of reports attachments, which ones not referenced anymore are deleted after executions, may be null
+     */
+    public PurgeServiceImpl(
+        TestCaseRepository testCaseRepository,
+        ExecutionHistoryRepository executionsRepository,
+        CampaignRepository campaignRepository,
+        CampaignExecutionRepository campaignExecutionRepository,
+        int maxScenarioExecutionsConfiguration,
+        int beforeNowMinusOffsetScenarioExecutionsConfiguration,
+        int maxCampaignExecutionsConfiguration,
+        int beforeNowMinusOffsetCampaignExecutionsConfiguration,
+        SnapshotAttachmentStore attachmentStore
+    ) {
+        this.executionsRepository = executionsRepository;
+        this.attachmentStore = attachmentStore;
         int maxScenarioExecutions = checkPositiveOrDefault(maxScenarioExecutionsConfiguration, "maxScenarioExecutions", 10);
         int maxCampaignExecutions = checkPositiveOrDefault(maxCampaignExecutionsConfiguration, "maxCampaignExecutions", 10);
         int scenarioBeforeHoursTimeExecutions = checkPositiveOrDefault(beforeNowMinusOffsetScenarioExecutionsConfiguration, "beforeNowMinusOffsetScenarioExecutions", ONE_DAY_MILLIS);
@@ -108,7 +141,7 @@ public class PurgeServiceImpl implements PurgeService {
             maxScenarioExecutions,
             testCaseRepository::findAll,
             TestCaseMetadata::id,
-            executionsRepository::getExecutions,
+            scenarioId -> allExecutions(executionsRepository, scenarioId),
             isScenarioExecutionLinkedWithCampaignExecution.and(isExecutionDateBeforeNowMinusOffset(ExecutionSummary::time, beforeHoursTimeExecutions)),
             ExecutionSummary::executionId,
             ExecutionSummary::time,
@@ -118,6 +151,22 @@ public class PurgeServiceImpl implements PurgeService {
         );
     }
 
+    /**
+     * Whole history of the scenario, read by pages so that no query is unbounded.
+     */
+    private static List<ExecutionSummary> allExecutions(ExecutionHistoryRepository executionsRepository, String scenarioId) {
+        List<ExecutionSummary> executions = new ArrayList<>();
+        Long beforeExecutionId = null;
+        while (true) {
+            List<ExecutionSummary> page = executionsRepository.getExecutions(scenarioId, beforeExecutionId, EXECUTIONS_PAGE_SIZE);
+            executions.addAll(page);
+            if (page.size() < EXECUTIONS_PAGE_SIZE) {
+                return executions;
+            }
+            beforeExecutionId = page.get(page.size() - 1).executionId();
+        }
+    }
+
     private PurgeExecutionService<Campaign, Long, CampaignExecution> buildCampaignService(
         CampaignRepository campaignRepository,
         CampaignExecutionRepository campaignExecutionRepository,
@@ -185,9 +234,27 @@ public class PurgeServiceImpl implements PurgeService {
         Set<Long> purgedCampaignsExecutionsIds = campaignPurgeService.purgeExecutions();
         Set<Long> purgedScenariosExecutionsIds = scenarioPurgeService.purgeExecutions();
         LOGGER.info("Purge report : {} scenarios' executions deleted - {} campaigns' executions deleted", purgedScenariosExecutionsIds.size(), purgedCampaignsExecutionsIds.size());
+        purgeAttachments();
         return new PurgeReport(purgedScenariosExecutionsIds, purgedCampaignsExecutionsIds);
     }
 
+    /**
+     * Attachments are refreshed each time they are stored, so those stored before the oldest remaining execution
+     * cannot be referenced anymore.
+     */
+    private void purgeAttachments() {
+        if (attachmentStore == null) {
+            return;
+        }
+        try {
+            Instant oldestExecutionInstant = executionsRepository.oldestExecutionInstant().orElseGet(Instant::now);
+            int deletedAttachments = attachmentStore.deleteStoredBefore(oldestExecutionInstant);
+            LOGGER.info("Purge report : {} reports' attachments deleted", deletedAttachments);
+        } catch (Exception e) {
+            LOGGER.error("Cannot purge reports' attachments", e);
+        }
+    }
+
     /**
      * Core logic to purge executions.
      *
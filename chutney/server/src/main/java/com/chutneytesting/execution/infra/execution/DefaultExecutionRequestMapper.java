@@ -36,6 +36,7 @@ import com.chutneytesting.server.core.domain.execution.ExecutionRequest;
 import com.chutneytesting.server.core.domain.execution.ScenarioConversionException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -72,40 +73,41 @@ public class DefaultExecutionRequestMapper implements ExecutionRequestMapper {
     }
 
     private StepDefinitionRequestDto convertToStepDef(ExecutionRequest executionRequest) { // TODO - shameless green - might be refactored later
+        ExecutionTargets targets = new ExecutionTargets(executionRequest.environment);
         if (executionRequest.testCase instanceof RawTestCase) {
-            return convertRaw(executionRequest);
+            return convertRaw(executionRequest, targets);
         }
 
         if (executionRequest.testCase instanceof GwtTestCase) {
-            return convertGwt(executionRequest);
+            return convertGwt(executionRequest, targets);
         }
 
         throw new ScenarioConversionException(executionRequest.testCase.metadata().id(),
             "Cannot create an executable StepDefinition from a " + executionRequest.testCase.getClass().getCanonicalName());
     }
 
-    private StepDefinitionRequestDto convertRaw(ExecutionRequest executionRequest) {
+    private StepDefinitionRequestDto convertRaw(ExecutionRequest executionRequest, ExecutionTargets targets) {
         RawTestCase rawTestCase = (RawTestCase) executionRequest.testCase;
         try {
             ScenarioContent scenarioContent = objectMapper.readValue(JsonValue.readHjson(rawTestCase.scenario).toString(), ScenarioContent.class);
-            return getStepDefinitionRequestFromStepDef(scenarioContent.scenario, executionRequest.environment);
+            return getStepDefinitionRequestFromStepDef(scenarioContent.scenario, targets);
         } catch (IOException e) {
             throw new ScenarioConversionException(rawTestCase.metadata().id(), e);
         }
     }
 
-    private StepDefinitionRequestDto getStepDefinitionRequestFromStepDef(UnmarshalledStepDefinition definition, String env) {
+    private StepDefinitionRequestDto getStepDefinitionRequestFromStepDef(UnmarshalledStepDefinition definition, ExecutionTargets targets) {
         final ExecutionRequestDto.StepStrategyDefinitionRequestDto retryStrategy = ofNullable(definition.strategy)
             .map(s -> new ExecutionRequestDto.StepStrategyDefinitionRequestDto(s.type, s.parameters))
             .orElse(null);
 
         List<StepDefinitionRequestDto> steps = definition.steps.stream()
-            .map(d -> getStepDefinitionRequestFromStepDef(d, env))
+            .map(d -> getStepDefinitionRequestFromStepDef(d, targets))
             .collect(toList());
 
         return new StepDefinitionRequestDto(
             definition.name,
-            toExecutionTargetDto(getTargetForExecution(env, definition.target), env),
+            targets.get(definition.target),
             retryStrategy,
             definition.type,
             definition.inputs,
@@ -114,7 +116,7 @@ public class DefaultExecutionRequestMapper implements ExecutionRequestMapper {
             definition.validations);
     }
 
-    private StepDefinitionRequestDto convertGwt(ExecutionRequest executionRequest) {
+    private StepDefinitionRequestDto convertGwt(ExecutionRequest executionRequest, ExecutionTargets targets) {
         GwtTestCase gwtTestCase = (GwtTestCase) executionRequest.testCase;
         return new StepDefinitionRequestDto(
             gwtTestCase.metadata.title,
@@ -122,26 +124,26 @@ public class DefaultExecutionRequestMapper implements ExecutionRequestMapper {
             null,
             null,
             emptyMap(),
-            convert(gwtTestCase.scenario.steps(), executionRequest.environment),
+            convert(gwtTestCase.scenario.steps(), targets),
             emptyMap(),
             emptyMap()
         );
     }
 
-    private List<StepDefinitionRequestDto> convert(List<GwtStep> steps, String env) {
+    private List<StepDefinitionRequestDto> convert(List<GwtStep> steps, ExecutionTargets targets) {
         return steps.stream()
-            .map(s -> convert(s, env))
+            .map(s -> convert(s, targets))
             .collect(toList());
     }
 
-    private StepDefinitionRequestDto convert(GwtStep step, String env) {
+    private StepDefinitionRequestDto convert(GwtStep step, ExecutionTargets targets) {
         return new StepDefinitionRequestDto(
             step.description,
-            step.implementation.map(i -> toExecutionTargetDto(getTargetForExecution(env, i.target), env)).orElse(toExecutionTargetDto(NO_TARGET_DTO, env)),
+            targets.get(step.implementation.map(i -> i.target).orElse(null)),
             step.strategy.map(this::mapStrategy).orElse(null),
             step.implementation.map(i -> i.type).orElse(""),
             step.implementation.map(i -> i.inputs).orElse(emptyMap()),
-            convert(step.subSteps, env),
+            convert(step.subSteps, targets),
             step.implementation.map(i -> i.outputs).orElse(emptyMap()),
             step.implementation.map(i -> i.validations).orElse(emptyMap())
         );
@@ -183,4 +185,20 @@ public class DefaultExecutionRequestMapper implements ExecutionRequestMapper {
         }
         return nhaps;
     }
+
+    /**
+     * Targets of an execution request, each one resolved once whatever the number of steps using it.
+     */
+    private class ExecutionTargets {
+        private final String env;
+        private final Map<String, TargetExecutionDto> targets = new HashMap<>();
+
+        private ExecutionTargets(String env) {
+            this.env = env;
+        }
+
+        private TargetExecutionDto get(String targetName) {
+            return targets.computeIfAbsent(isBlank(targetName) ? "" : targetName, name -> toExecutionTargetDto(getTargetForExecution(env, name), env));
+        }
+    }
 }
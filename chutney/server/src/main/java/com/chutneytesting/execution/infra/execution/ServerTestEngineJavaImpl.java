@@ -39,7 +39,10 @@ public class ServerTestEngineJavaImpl implements ServerTestEngine {
         ExecutionRequestDto executionRequestDto = executionRequestMapper.toDto(executionRequest);
         Long executionId = executionEngine.executeAsync(executionRequestDto);
         return Pair.of(
-            executionEngine.receiveNotification(executionId).map(StepExecutionReportMapperCore::fromDto),
+            Observable.defer(() ->
+                executionEngine.receiveNotification(executionId)
+                    .map(new StepExecutionReportMapperCore.IncrementalMapper()::apply)
+            ),
             executionId
         );
     }
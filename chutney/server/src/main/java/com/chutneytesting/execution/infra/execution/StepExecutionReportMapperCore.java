@@ -14,6 +14,9 @@ import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCoreBuilder;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 class StepExecutionReportMapperCore {
@@ -22,6 +25,10 @@ class StepExecutionReportMapperCore {
     }
 
     static StepExecutionReportCore fromDto(StepExecutionReportDto reportDto) {
+        return fromDto(reportDto, StepExecutionReportMapperCore::fromDto);
+    }
+
+    private static StepExecutionReportCore fromDto(StepExecutionReportDto reportDto, Function<StepExecutionReportDto, StepExecutionReportCore> subStepMapper) {
         return new StepExecutionReportCoreBuilder()
             .setName(reportDto.name)
             .setDuration(reportDto.duration)
@@ -29,7 +36,7 @@ class StepExecutionReportMapperCore {
             .setStatus(ReportStatusMapper.fromDto(reportDto.status))
             .setInformation(reportDto.information)
             .setErrors(reportDto.errors)
-            .setSteps(reportDto.steps.stream().map(StepExecutionReportMapperCore::fromDto).collect(Collectors.toList()))
+            .setSteps(reportDto.steps.stream().map(subStepMapper).collect(Collectors.toList()))
             .setEvaluatedInputs(reportDto.context != null ? reportDto.context.evaluatedInputs : EMPTY_MAP)
             .setStepOutputs(reportDto.context != null ? reportDto.context.stepResults : EMPTY_MAP)
             .setType(reportDto.type)
@@ -39,6 +46,32 @@ class StepExecutionReportMapperCore {
             .createStepExecutionReport();
     }
 
+    /**
+     * Stateful mapper for successive reports of one execution.
+     * Sub reports already mapped from previous report are reused, only new ones are mapped.
+     */
+    static class IncrementalMapper implements Function<StepExecutionReportDto, StepExecutionReportCore> {
+
+        private Map<StepExecutionReportDto, StepExecutionReportCore> previousReports = new IdentityHashMap<>();
+
+        @Override
+        public synchronized StepExecutionReportCore apply(StepExecutionReportDto reportDto) {
+            Map<StepExecutionReportDto, StepExecutionReportCore> currentReports = new IdentityHashMap<>();
+            StepExecutionReportCore report = fromDto(reportDto, currentReports);
+            previousReports = currentReports;
+            return report;
+        }
+
+        private StepExecutionReportCore fromDto(StepExecutionReportDto reportDto, Map<StepExecutionReportDto, StepExecutionReportCore> currentReports) {
+            StepExecutionReportCore report = previousReports.get(reportDto);
+            if (report == null) {
+                report = StepExecutionReportMapperCore.fromDto(reportDto, subReportDto -> fromDto(subReportDto, currentReports));
+            }
+            currentReports.put(reportDto, report);
+            return report;
+        }
+    }
+
     private static class ReportStatusMapper {
         public static ServerReportStatus fromDto(StatusDto status) {
             return ServerReportStatus.valueOf(status.name());
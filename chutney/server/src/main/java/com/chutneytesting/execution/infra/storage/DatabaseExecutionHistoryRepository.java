@@ -14,6 +14,7 @@ import static java.util.Optional.ofNullable;
 import com.chutneytesting.campaign.infra.CampaignExecutionJpaRepository;
 import com.chutneytesting.campaign.infra.CampaignJpaRepository;
 import com.chutneytesting.campaign.infra.jpa.CampaignExecutionEntity;
+import com.chutneytesting.execution.infra.storage.jpa.ReportFormat;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
 import com.chutneytesting.server.core.domain.dataset.DataSet;
@@ -30,8 +31,15 @@ import com.chutneytesting.server.core.domain.scenario.TestCaseRepository;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Tuple;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -39,6 +47,10 @@ import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -52,7 +64,14 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
     private final CampaignExecutionJpaRepository campaignExecutionJpaRepository;
     private final TestCaseRepository testCaseRepository;
     private final ObjectMapper objectMapper;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
     private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseExecutionHistoryRepository.class);
+    private static final String UPDATE_SUMMARY_QUERY = "UPDATE SCENARIO_EXECUTIONS " +
+        "SET DURATION = :duration, STATUS = :status, INFORMATION = :information, ERROR = :error, VERSION = VERSION + 1 " +
+        "WHERE ID = :id";
+    private static final int REPORT_MATCH_QUERY_LIMIT = 100;
+    private static final int COMPRESSED_REPORTS_SEARCH_LIMIT = 1000;
+    private static final int COMPRESSED_REPORTS_PAGE_SIZE = 50;
 
 
     DatabaseExecutionHistoryRepository(
@@ -60,13 +79,15 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         ScenarioExecutionReportJpaRepository scenarioExecutionReportJpaRepository,
         CampaignJpaRepository campaignJpaRepository, TestCaseRepository testCaseRepository,
         CampaignExecutionJpaRepository campaignExecutionJpaRepository,
-        @Qualifier("reportObjectMapper") ObjectMapper objectMapper) {
+        @Qualifier("reportObjectMapper") ObjectMapper objectMapper,
+        NamedParameterJdbcTemplate jdbcTemplate) {
         this.scenarioExecutionsJpaRepository = scenarioExecutionsJpaRepository;
         this.scenarioExecutionReportJpaRepository = scenarioExecutionReportJpaRepository;
         this.campaignJpaRepository = campaignJpaRepository;
         this.testCaseRepository = testCaseRepository;
         this.campaignExecutionJpaRepository = campaignExecutionJpaRepository;
         this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -81,19 +102,43 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
 
     @Override
     public List<ExecutionSummary> getExecutions(String scenarioId) {
+        return getExecutions(scenarioId, null, DEFAULT_EXECUTIONS_LIMIT);
+    }
+
+    @Override
+    public List<ExecutionSummary> getExecutions(String scenarioId, Long beforeExecutionId, int limit) {
         if (invalidScenarioId(scenarioId)) {
             return emptyList();
         }
-        List<ScenarioExecutionEntity> scenarioExecutions = scenarioExecutionsJpaRepository.findByScenarioIdOrderByIdDesc(scenarioId);
-        return scenarioExecutions.stream()
-            .map(this::scenarioExecutionToExecutionSummary)
-            .toList();
+        return toExecutionSummaries(
+            scenarioExecutionsJpaRepository.findWithCampaignTitleByScenarioId(scenarioId, ofNullable(beforeExecutionId).orElse(Long.MAX_VALUE), Limit.of(limit))
+        );
     }
 
-    @Override
-    public List<ExecutionSummary> getExecutions() {
-        return scenarioExecutionsJpaRepository.findAll().stream()
-            .map(this::scenarioExecutionToExecutionSummary)
+    /**
+     * Map executions fetched along with their campaign title.
+     * Campaign executions' scenario executions are fetched in one query, and each campaign execution is mapped once.
+     * Dataset is read from executions' columns only, reports are never loaded.
+     */
+    private List<ExecutionSummary> toExecutionSummaries(List<Tuple> scenarioExecutionsWithCampaignTitle) {
+        Set<Long> campaignExecutionsIds = scenarioExecutionsWithCampaignTitle.stream()
+            .map(t -> t.get(0, ScenarioExecutionEntity.class).campaignExecution())
+            .filter(Objects::nonNull)
+            .map(CampaignExecutionEntity::id)
+            .collect(Collectors.toSet());
+        if (!campaignExecutionsIds.isEmpty()) {
+            campaignExecutionJpaRepository.findAllWithScenarioExecutionsByIdIn(campaignExecutionsIds);
+        }
+
+        Map<Long, CampaignExecution> campaignExecutions = new HashMap<>();
+        return scenarioExecutionsWithCampaignTitle.stream()
+            .map(t -> {
+                ScenarioExecutionEntity scenarioExecution = t.get(0, ScenarioExecutionEntity.class);
+                CampaignExecution campaignExecution = ofNullable(scenarioExecution.campaignExecution())
+                    .map(ce -> campaignExecutions.computeIfAbsent(ce.id(), id -> ce.toDomain(t.get(1, String.class))))
+                    .orElse(null);
+                return scenarioExecution.toDomain(campaignExecution);
+            })
             .toList();
     }
 
@@ -110,12 +155,20 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         CampaignExecution campaignExecution = ofNullable(scenarioExecution.campaignExecution())
             .map(ce -> ce.toDomain(campaignJpaRepository.findById(ce.campaignId()).get().title()))
             .orElse(null);
-        ScenarioExecutionReportEntity scenarioExecutionReportEntity = scenarioExecutionReportJpaRepository.findByScenarioExecutionId(scenarioExecution.id());
-        DataSet dataset = ofNullable(scenarioExecutionReportEntity).flatMap(scenarioExecutionReport -> scenarioExecutionReport.toDomain().dataset())
-            .orElse(null);
+        DataSet dataset = scenarioExecution.dataset() != null ? null : legacyReportDataset(scenarioExecution.id());
         return scenarioExecution.toDomain(campaignExecution, dataset);
     }
 
+    /**
+     * Dataset of executions stored before dataset values had their own columns are only found in their json report.
+     * Only read for a single execution, lists of summaries never load reports.
+     */
+    private DataSet legacyReportDataset(Long executionId) {
+        return scenarioExecutionReportJpaRepository.findReportByScenarioExecutionIdAndReportFormat(executionId, ReportFormat.JSON)
+            .map(ScenarioExecutionReportEntity::getDatasetFromReport)
+            .orElse(null);
+    }
+
     @Override
     @Transactional
     public Execution store(String scenarioId, DetachedExecution detachedExecution) throws IllegalStateException {
@@ -147,11 +200,45 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
 
     @Override
     public List<ExecutionSummary> getExecutionReportMatchQuery(String query) {
-        return scenarioExecutionsJpaRepository
-            .getExecutionReportMatchQuery(query)
-            .stream()
-            .map(this::scenarioExecutionToExecutionSummary)
-            .toList();
+        List<Tuple> matches = new ArrayList<>(scenarioExecutionsJpaRepository.getExecutionReportMatchQuery(query));
+        Set<Long> matchesIds = matches.stream().map(t -> t.get(0, ScenarioExecutionEntity.class).id()).collect(Collectors.toSet());
+        // Older compressed reports cannot rank among results when database already found enough newer matches
+        long oldestRankedId = matches.size() < REPORT_MATCH_QUERY_LIMIT ? 0 : Collections.min(matchesIds);
+        List<Long> compressedMatches = compressedReportsMatchQuery(query, matchesIds, oldestRankedId);
+        if (!compressedMatches.isEmpty()) {
+            matches.addAll(scenarioExecutionsJpaRepository.findWithCampaignTitleByIdIn(compressedMatches));
+        }
+        return toExecutionSummaries(matches.stream()
+            .sorted(Comparator.comparing((Tuple t) -> t.get(0, ScenarioExecutionEntity.class).id()).reversed())
+            .limit(REPORT_MATCH_QUERY_LIMIT)
+            .toList());
+    }
+
+    /**
+     * Compressed reports cannot be searched by database, so they are decompressed page by page, most recent first.
+     * Only the {@value #COMPRESSED_REPORTS_SEARCH_LIMIT} most recent ones are searched, bounding the cost of a search.
+     */
+    private List<Long> compressedReportsMatchQuery(String query, Set<Long> excludedIds, long oldestRankedId) {
+        List<Long> matches = new ArrayList<>();
+        long beforeExecutionId = Long.MAX_VALUE;
+        int searched = 0;
+        while (searched < COMPRESSED_REPORTS_SEARCH_LIMIT && matches.size() < REPORT_MATCH_QUERY_LIMIT) {
+            List<Tuple> page = scenarioExecutionReportJpaRepository.findCompressedReportsOfActivatedScenarios(beforeExecutionId, Limit.of(COMPRESSED_REPORTS_PAGE_SIZE));
+            for (Tuple report : page) {
+                beforeExecutionId = report.get(0, Long.class);
+                if (beforeExecutionId <= oldestRankedId) {
+                    return matches;
+                }
+                if (!excludedIds.contains(beforeExecutionId) && ReportFormat.decompress(report.get(1, byte[].class)).contains(query)) {
+                    matches.add(beforeExecutionId);
+                }
+            }
+            searched += page.size();
+            if (page.size() < COMPRESSED_REPORTS_PAGE_SIZE) {
+                break;
+            }
+        }
+        return matches;
     }
 
     @Override
@@ -163,6 +250,23 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         update(updatedExecution);
     }
 
+    @Override
+    @Transactional
+    public void updateSummaries(List<ExecutionSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] parameters = summaries.stream()
+            .map(summary -> new MapSqlParameterSource()
+                .addValue("id", summary.executionId())
+                .addValue("duration", summary.duration())
+                .addValue("status", summary.status().name())
+                .addValue("information", summary.info().map(ScenarioExecutionEntity::truncateExecutionTrace).orElse(null))
+                .addValue("error", summary.error().map(ScenarioExecutionEntity::truncateExecutionTrace).orElse(null)))
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPDATE_SUMMARY_QUERY, parameters);
+    }
+
     private void update(Execution updatedExecution) throws ReportNotFoundException {
         ScenarioExecutionEntity execution = scenarioExecutionsJpaRepository.findById(updatedExecution.executionId()).orElseThrow(
             () -> new ReportNotFoundException(updatedExecution.executionId())
@@ -208,13 +312,17 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         scenarioExecutionsJpaRepository.deleteAllByIdInBatch(executionsIds);
     }
 
+    @Override
+    public Optional<Instant> oldestExecutionInstant() {
+        return ofNullable(scenarioExecutionsJpaRepository.findOldestExecutionTime()).map(Instant::ofEpochMilli);
+    }
+
     private Set<Long> getCampaignExecutionsWithOnlyOneScenarioExecution(Set<Long> executionsIds) {
-        return executionsIds.stream()
-            .map(this::getExecutionSummary)
-            .map(ExecutionSummary::campaignReport)
-            .flatMap(Optional::stream)
-            .filter(campaignExecution -> campaignExecution.scenarioExecutionReports().size() == 1)
-            .map(campaignExecution -> campaignExecution.executionId)
+        return StreamSupport.stream(scenarioExecutionsJpaRepository.findAllById(executionsIds).spliterator(), false)
+            .map(ScenarioExecutionEntity::campaignExecution)
+            .filter(Objects::nonNull)
+            .filter(campaignExecution -> campaignExecution.scenarioExecutions().size() == 1)
+            .map(CampaignExecutionEntity::id)
             .collect(Collectors.toSet());
     }
 
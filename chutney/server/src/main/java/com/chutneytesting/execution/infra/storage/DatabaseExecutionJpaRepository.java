@@ -10,7 +10,9 @@ package com.chutneytesting.execution.infra.storage;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import jakarta.persistence.Tuple;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -22,6 +24,35 @@ public interface DatabaseExecutionJpaRepository extends JpaRepository<ScenarioEx
 
     List<ScenarioExecutionEntity> findByScenarioIdOrderByIdDesc(String scenarioId);
 
+    /**
+     * Keyset paginated executions of a scenario, most recent first.
+     *
+     * @param scenarioId        The scenario to find executions of.
+     * @param beforeExecutionId Only executions with a lower id are returned.
+     * @param limit             The page size.
+     * @return A list of tuples representing the execution, with its campaign execution fetched, and the campaign title if any.
+     */
+    @Query("""
+            SELECT se, c.title
+            FROM SCENARIO_EXECUTIONS se
+                LEFT JOIN FETCH se.campaignExecution ce
+                LEFT JOIN CAMPAIGN c ON c.id = ce.campaignId
+            WHERE se.scenarioId = :scenarioId
+                AND se.id < :beforeExecutionId
+            ORDER BY se.id DESC
+            """)
+    List<Tuple> findWithCampaignTitleByScenarioId(@Param("scenarioId") String scenarioId, @Param("beforeExecutionId") Long beforeExecutionId, Limit limit);
+
+    @Query("""
+            SELECT se, c.title
+            FROM SCENARIO_EXECUTIONS se
+                LEFT JOIN FETCH se.campaignExecution ce
+                LEFT JOIN CAMPAIGN c ON c.id = ce.campaignId
+            WHERE se.id IN :ids
+            ORDER BY se.id DESC
+            """)
+    List<Tuple> findWithCampaignTitleByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Finds the last executions with the specified status <b>if available</b>, otherwise the last executions.
      *
@@ -48,14 +79,38 @@ public interface DatabaseExecutionJpaRepository extends JpaRepository<ScenarioEx
 
     List<ScenarioExecutionEntity> findAllByScenarioId(String scenarioId);
 
+    /**
+     * @return Execution time, as epoch milliseconds, of the oldest execution, null when there is none.
+     */
+    @Query("SELECT MIN(se.executionTime) FROM SCENARIO_EXECUTIONS se")
+    Long findOldestExecutionTime();
+
+    /**
+     * Legacy json reports are searched as is, executions of other report formats through their summary columns only.
+     *
+     * @return A list of tuples representing the execution and the campaign title if any, most recent first.
+     */
     @Query(value = """
-                select se from SCENARIO s, SCENARIO_EXECUTIONS_REPORTS ser
+                select se, c.title from SCENARIO s, SCENARIO_EXECUTIONS_REPORTS ser
                   inner join ser.scenarioExecution se
+                  left join se.campaignExecution ce
+                  left join CAMPAIGN c on c.id = ce.campaignId
                 where s.activated = true
                   and cast(s.id as string) = se.scenarioId
-                  and ser.report like '%' || :query || '%'
+                  and (
+                    (ser.reportFormat = com.chutneytesting.execution.infra.storage.jpa.ReportFormat.JSON and ser.report like '%' || :query || '%')
+                    or se.scenarioTitle like '%' || :query || '%'
+                    or se.information like '%' || :query || '%'
+                    or se.error like '%' || :query || '%'
+                    or se.environment like '%' || :query || '%'
+                    or se.userId like '%' || :query || '%'
+                    or se.tags like '%' || :query || '%'
+                    or se.datasetId like '%' || :query || '%'
+                    or se.datasetConstants like '%' || :query || '%'
+                    or se.datasetDatatable like '%' || :query || '%'
+                  )
                 order by se.id desc
                 limit 100
         """)
-    List<ScenarioExecutionEntity> getExecutionReportMatchQuery(@Param("query") String query);
+    List<Tuple> getExecutionReportMatchQuery(@Param("query") String query);
 }
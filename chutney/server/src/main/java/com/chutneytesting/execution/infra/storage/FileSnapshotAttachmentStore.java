@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.infra.storage;
+
+import static com.chutneytesting.ServerConfigurationValues.CONFIGURATION_FOLDER_SPRING_VALUE;
+import static com.chutneytesting.tools.file.FileUtils.initFolder;
+
+import com.chutneytesting.engine.domain.execution.engine.step.SnapshotAttachmentStore;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content addressed storage of report attachments, each one being a file named after the SHA-256 of its content.
+ * Files last modification time is their last storage instant.
+ */
+@Component
+public class FileSnapshotAttachmentStore implements SnapshotAttachmentStore {
+
+    static final Path ROOT_DIRECTORY_NAME = Paths.get("report_attachments");
+    private static final Pattern ATTACHMENT_ID_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path storeFolderPath;
+    // Storages share the read lock, so a purge cannot delete a file between its existence check and its refresh
+    private final ReadWriteLock purgeLock = new ReentrantReadWriteLock();
+
+    FileSnapshotAttachmentStore(@Value(CONFIGURATION_FOLDER_SPRING_VALUE) String storeFolderPath) throws UncheckedIOException {
+        this.storeFolderPath = Paths.get(storeFolderPath).resolve(ROOT_DIRECTORY_NAME);
+        initFolder(this.storeFolderPath);
+    }
+
+    @Override
+    public String store(byte[] content) {
+        String attachmentId = sha256(content);
+        Path attachmentPath = storeFolderPath.resolve(attachmentId);
+        purgeLock.readLock().lock();
+        try {
+            if (Files.exists(attachmentPath)) {
+                Files.setLastModifiedTime(attachmentPath, FileTime.from(Instant.now()));
+                return attachmentId;
+            }
+            Path tmpPath = Files.createTempFile(storeFolderPath, attachmentId, ".tmp");
+            Files.write(tmpPath, content);
+            try {
+                Files.move(tmpPath, attachmentPath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                Files.deleteIfExists(tmpPath);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write report attachment " + attachmentPath.toUri(), e);
+        } finally {
+            purgeLock.readLock().unlock();
+        }
+        return attachmentId;
+    }
+
+    @Override
+    public Optional<byte[]> load(String attachmentId) {
+        if (attachmentId == null || !ATTACHMENT_ID_PATTERN.matcher(attachmentId).matches()) {
+            return Optional.empty();
+        }
+        Path attachmentPath = storeFolderPath.resolve(attachmentId);
+        try {
+            return Optional.of(Files.readAllBytes(attachmentPath));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read report attachment " + attachmentPath.toUri(), e);
+        }
+    }
+
+    @Override
+    public int deleteStoredBefore(Instant instant) {
+        purgeLock.writeLock().lock();
+        try (Stream<Path> files = Files.list(storeFolderPath)) {
+            List<Path> storedBefore = files.filter(file -> lastModifiedTime(file).toInstant().isBefore(instant)).toList();
+            int deleted = 0;
+            for (Path file : storedBefore) {
+                if (Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            }
+            return deleted;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete report attachments of " + storeFolderPath.toUri(), e);
+        } finally {
+            purgeLock.writeLock().unlock();
+        }
+    }
+
+    private static FileTime lastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read report attachment " + file.toUri(), e);
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
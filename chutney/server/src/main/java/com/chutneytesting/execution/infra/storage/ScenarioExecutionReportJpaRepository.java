@@ -7,10 +7,36 @@
 
 package com.chutneytesting.execution.infra.storage;
 
+import com.chutneytesting.execution.infra.storage.jpa.ReportFormat;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
+import jakarta.persistence.Tuple;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ScenarioExecutionReportJpaRepository extends JpaRepository<ScenarioExecutionReportEntity, Long>, JpaSpecificationExecutor<ScenarioExecutionReportEntity> {
     ScenarioExecutionReportEntity findByScenarioExecutionId(Long scenarioExecutionId);
+
+    @Query("select ser.report from SCENARIO_EXECUTIONS_REPORTS ser where ser.scenarioExecutionId = :id and ser.reportFormat = :format")
+    Optional<String> findReportByScenarioExecutionIdAndReportFormat(@Param("id") Long scenarioExecutionId, @Param("format") ReportFormat reportFormat);
+
+    /**
+     * Keyset paginated compressed reports of activated scenarios, most recent first.
+     *
+     * @return A list of tuples representing the execution id and its compressed report.
+     */
+    @Query("""
+            select ser.scenarioExecutionId, ser.compressedReport from SCENARIO s, SCENARIO_EXECUTIONS_REPORTS ser
+              inner join ser.scenarioExecution se
+            where s.activated = true
+              and cast(s.id as string) = se.scenarioId
+              and ser.reportFormat <> com.chutneytesting.execution.infra.storage.jpa.ReportFormat.JSON
+              and ser.scenarioExecutionId < :beforeExecutionId
+            order by ser.scenarioExecutionId desc
+            """)
+    List<Tuple> findCompressedReportsOfActivatedScenarios(@Param("beforeExecutionId") Long beforeExecutionId, Limit limit);
 }
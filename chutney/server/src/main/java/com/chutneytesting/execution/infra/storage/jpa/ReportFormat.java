@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.infra.storage.jpa;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Storage format of scenario execution reports.
+ * <ul>
+ *     <li>JSON : legacy format, plain json text in REPORT column</li>
+ *     <li>GZIP_JSON : gzip compressed json in COMPRESSED_REPORT column</li>
+ * </ul>
+ */
+public enum ReportFormat {
+    JSON,
+    GZIP_JSON;
+
+    public static final ReportFormat CURRENT = GZIP_JSON;
+
+    static byte[] compress(String report) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(32, report.length() / 8));
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(report.getBytes(UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compress report", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static String decompress(byte[] compressedReport) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressedReport))) {
+            return new String(gzip.readAllBytes(), UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot decompress report", e);
+        }
+    }
+}
@@ -7,6 +7,9 @@
 
 package com.chutneytesting.execution.infra.storage.jpa;
 
+import static com.chutneytesting.execution.infra.execution.DatasetEntityMapper.datasetConstantsToString;
+import static com.chutneytesting.execution.infra.execution.DatasetEntityMapper.datasetDatatableToString;
+import static com.chutneytesting.execution.infra.execution.DatasetEntityMapper.getDataset;
 import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.campaign.infra.jpa.CampaignExecutionEntity;
@@ -77,6 +80,12 @@ public class ScenarioExecutionEntity {
     @Column(name = "DATASET_ID")
     private String datasetId;
 
+    @Column(name = "DATASET_CONSTANTS")
+    private String datasetConstants;
+
+    @Column(name = "DATASET_DATATABLE")
+    private String datasetDatatable;
+
     @Column(name = "VERSION")
     @Version
     private Integer version;
@@ -180,6 +189,10 @@ public class ScenarioExecutionEntity {
         return tags;
     }
 
+    public DataSet dataset() {
+        return getDataset(datasetId, datasetConstants, datasetDatatable);
+    }
+
     public Long getId() {
         return id;
     }
@@ -189,7 +202,7 @@ public class ScenarioExecutionEntity {
     }
 
     public static ScenarioExecutionEntity fromDomain(String scenarioId, Long id, Integer version, ExecutionHistory.ExecutionProperties execution) {
-        return new ScenarioExecutionEntity(
+        ScenarioExecutionEntity entity = new ScenarioExecutionEntity(
             id,
             scenarioId,
             null,
@@ -205,6 +218,11 @@ public class ScenarioExecutionEntity {
             truncateExecutionTags(TagListMapper.tagsToString(execution.tags().orElse(null))),
             version
         );
+        execution.dataset().ifPresent(dataset -> {
+            entity.datasetConstants = datasetConstantsToString(dataset.constants);
+            entity.datasetDatatable = datasetDatatableToString(dataset.datatable);
+        });
+        return entity;
     }
 
     public ExecutionHistory.ExecutionSummary toDomain() {
@@ -215,11 +233,7 @@ public class ScenarioExecutionEntity {
         return toDomain(campaignReport, null);
     }
     public ExecutionHistory.ExecutionSummary toDomain(CampaignExecution campaignReport, DataSet dataset) {
-        Optional<DataSet> scenarioDataset = ofNullable(datasetId)
-            .map(id -> DataSet.builder()
-                .withId(datasetId)
-                .withName("")
-                .build())
+        Optional<DataSet> scenarioDataset = ofNullable(dataset())
             .or(() -> ofNullable(dataset));
         return ImmutableExecutionHistory.ExecutionSummary.builder()
             .executionId(id)
@@ -245,7 +259,7 @@ public class ScenarioExecutionEntity {
         error = execution.error().map(ScenarioExecutionEntity::truncateExecutionTrace).orElse(null);
     }
 
-    private static String truncateExecutionTrace(String trace) {
+    public static String truncateExecutionTrace(String trace) {
         return StringUtils.substring(trace, 0, 512);
     }
 
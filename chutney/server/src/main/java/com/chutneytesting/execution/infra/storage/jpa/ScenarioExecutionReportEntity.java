@@ -18,6 +18,8 @@ import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionR
 import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
@@ -40,10 +42,21 @@ public class ScenarioExecutionReportEntity {
     @JoinColumn(name = "SCENARIO_EXECUTION_ID")
     private ScenarioExecutionEntity scenarioExecution;
 
+    /**
+     * Legacy {@link ReportFormat#JSON} report, empty for other formats
+     */
     @Column(name = "REPORT")
     @Basic(fetch = FetchType.LAZY)
     private String report;
 
+    @Column(name = "COMPRESSED_REPORT")
+    @Basic(fetch = FetchType.LAZY)
+    private byte[] compressedReport;
+
+    @Column(name = "REPORT_FORMAT")
+    @Enumerated(EnumType.STRING)
+    private ReportFormat reportFormat;
+
     @Column(name = "VERSION")
     @Version
     private Integer version;
@@ -54,18 +67,33 @@ public class ScenarioExecutionReportEntity {
     public ScenarioExecutionReportEntity(ScenarioExecutionEntity scenarioExecution, String report) {
         this.scenarioExecutionId = scenarioExecution.id();
         this.scenarioExecution = scenarioExecution;
-        this.report = report;
+        setReport(report);
     }
 
     public void updateReport(ExecutionHistory.Execution execution) {
-        report = execution.report();
+        setReport(execution.report());
     }
 
     public String getReport() {
+        if (reportFormat == ReportFormat.GZIP_JSON) {
+            return ReportFormat.decompress(compressedReport);
+        }
         return report;
     }
 
+    public ReportFormat reportFormat() {
+        return reportFormat;
+    }
+
+    private void setReport(String report) {
+        this.report = "";
+        this.compressedReport = ReportFormat.compress(report);
+        this.reportFormat = ReportFormat.CURRENT;
+    }
+
     public ExecutionHistory.Execution toDomain() {
+        String report = getReport();
+        DataSet dataset = reportFormat == ReportFormat.JSON ? getDatasetFromReport(report) : scenarioExecution.dataset();
         return ImmutableExecutionHistory.Execution.builder()
             .executionId(scenarioExecutionId)
             .time(Instant.ofEpochMilli(scenarioExecution.executionTime()).atZone(ZoneId.systemDefault()).toLocalDateTime())
@@ -77,13 +105,13 @@ public class ScenarioExecutionReportEntity {
             .testCaseTitle(scenarioExecution.scenarioTitle())
             .environment(scenarioExecution.environment())
             .user(scenarioExecution.userId())
-            .dataset(ofNullable(getDatasetFromReport(report)))
+            .dataset(ofNullable(dataset))
             .scenarioId(scenarioExecution.scenarioId())
             .tags(TagListMapper.tagsStringToSet(scenarioExecution.tags()))
             .build();
     }
 
-    protected DataSet getDatasetFromReport(String report) {
+    public static DataSet getDatasetFromReport(String report) {
         try { // TODO unit test \o/
             ScenarioExecutionReport scenarioExecutionReport = ReportObjectMapperConfiguration.reportObjectMapper().readValue(report, ScenarioExecutionReport.class);
             if (scenarioExecutionReport.datasetId == null &&
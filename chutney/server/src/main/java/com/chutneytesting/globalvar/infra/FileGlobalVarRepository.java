@@ -9,11 +9,14 @@ package com.chutneytesting.globalvar.infra;
 
 import static com.chutneytesting.ServerConfigurationValues.CONFIGURATION_FOLDER_SPRING_VALUE;
 import static com.chutneytesting.tools.file.FileUtils.initFolder;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.server.core.domain.globalvar.GlobalVarNotFoundException;
 import com.chutneytesting.server.core.domain.globalvar.GlobalvarRepository;
 import com.chutneytesting.server.core.domain.tools.ZipUtils;
 import com.chutneytesting.tools.file.FileUtils;
+import com.chutneytesting.tools.file.FolderWatcher;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -35,14 +38,21 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.zip.ZipOutputStream;
 import org.hjson.JsonValue;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Flat map is cached and rebuilt on first read after a change.
+ * Changes are the ones made through this repository, and the ones made directly on files, seen by watching the store folder.
+ */
 @Component
-public class FileGlobalVarRepository implements GlobalvarRepository {
+public class FileGlobalVarRepository implements GlobalvarRepository, AutoCloseable {
 
     private static final String FILE_EXTENSION = ".hjson";
 
@@ -50,6 +60,13 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
 
     private final Path storeFolderPath;
 
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<FlatMap> flatMap = new AtomicReference<>();
+    private final Object reloadLock = new Object();
+    private final AtomicLong reloads = new AtomicLong();
+    private final AtomicLong reloadsTotalTime = new AtomicLong();
+    private final FolderWatcher folderWatcher;
+
     private final ObjectMapper objectMapper = new ObjectMapper()
         .findAndRegisterModules()
         .enable(SerializationFeature.INDENT_OUTPUT)
@@ -58,6 +75,7 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
     FileGlobalVarRepository(@Value(CONFIGURATION_FOLDER_SPRING_VALUE) String storeFolderPath) throws UncheckedIOException {
         this.storeFolderPath = Paths.get(storeFolderPath).resolve(ROOT_DIRECTORY_NAME);
         initFolder(this.storeFolderPath);
+        this.folderWatcher = FolderWatcher.watch(this.storeFolderPath, "global variables", events -> invalidateFlatMap());
     }
 
     @Override
@@ -90,6 +108,8 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
             Files.write(filePath, hjsonContent.getBytes());
         } catch (IOException e) {
             throw new UncheckedIOException("Cannot save " + filePath.toUri(), e);
+        } finally {
+            invalidateFlatMap();
         }
     }
 
@@ -112,11 +132,51 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
             throw new GlobalVarNotFoundException(fileName);
         } catch (IOException e) {
             throw new UncheckedIOException("Cannot delete " + filePath.toUri().toString(), e);
+        } finally {
+            invalidateFlatMap();
         }
     }
 
+    /**
+     * @return an unmodifiable map, shared by all callers until next change
+     */
     @Override
     public Map<String, String> getFlatMap() {
+        FlatMap current = flatMap.get();
+        if (current != null && current.version() == version.get()) {
+            return current.values();
+        }
+        synchronized (reloadLock) {
+            current = flatMap.get();
+            long currentVersion = version.get();
+            if (current == null || current.version() != currentVersion) {
+                current = new FlatMap(currentVersion, loadFlatMap());
+                flatMap.set(current);
+            }
+            return current.values();
+        }
+    }
+
+    /**
+     * Number of flat map reloads since start.
+     */
+    public long flatMapReloads() {
+        return reloads.get();
+    }
+
+    public long flatMapReloadsTotalTime(TimeUnit unit) {
+        return unit.convert(reloadsTotalTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return number of keys in last loaded flat map
+     */
+    public int flatMapSize() {
+        return ofNullable(flatMap.get()).map(current -> current.values().size()).orElse(0);
+    }
+
+    private Map<String, String> loadFlatMap() {
+        long start = System.nanoTime();
         final Map<String, String> map = new HashMap<>();
 
         Map<Path, String> fileContents = get();
@@ -128,7 +188,18 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
             }
         });
 
-        return map;
+        reloads.incrementAndGet();
+        reloadsTotalTime.addAndGet(System.nanoTime() - start);
+        return unmodifiableMap(map);
+    }
+
+    private void invalidateFlatMap() {
+        version.incrementAndGet();
+    }
+
+    @Override
+    public void close() throws IOException {
+        folderWatcher.close();
     }
 
     // TODO any - if needed, manage duplicate keys between files
@@ -190,4 +261,7 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
         }
         return currentPath.isEmpty() ? "" : currentPath + ".";
     }
+
+    private record FlatMap(long version, Map<String, String> values) {
+    }
 }
@@ -13,6 +13,12 @@ import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
 
+import com.chutneytesting.engine.domain.execution.EventBusMetrics;
+import com.chutneytesting.engine.domain.execution.ExecutionControlMetrics;
+import com.chutneytesting.engine.domain.execution.RxBus;
+import com.chutneytesting.engine.domain.execution.ScenarioExecution;
+import com.chutneytesting.globalvar.infra.FileGlobalVarRepository;
+import com.chutneytesting.jira.domain.JiraXrayPublisher;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
@@ -21,6 +27,9 @@ import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecutionCampaign;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.util.Arrays;
@@ -40,8 +49,12 @@ class MicrometerMetrics implements ChutneyMetrics {
     private final MeterRegistry meterRegistry;
     private final Map<String, Map<ServerReportStatus, AtomicLong>> statusCountCache = new HashMap<>();
 
-    MicrometerMetrics(MeterRegistry meterRegistry) {
+    MicrometerMetrics(MeterRegistry meterRegistry, JiraXrayPublisher jiraXrayPublisher, FileGlobalVarRepository globalVarRepository) {
         this.meterRegistry = meterRegistry;
+        registerEngineEventBusMetrics(RxBus.getInstance().metrics());
+        registerEngineExecutionControlMetrics(ScenarioExecution.controlMetrics());
+        registerJiraXrayPublisherMetrics(jiraXrayPublisher);
+        registerGlobalVarMetrics(globalVarRepository);
     }
 
     @Override
@@ -82,6 +95,50 @@ class MicrometerMetrics implements ChutneyMetrics {
         httpErrorCount.increment();
     }
 
+    private void registerEngineEventBusMetrics(EventBusMetrics eventBusMetrics) {
+        Gauge.builder("engine_event_bus_queue_depth", eventBusMetrics, EventBusMetrics::queueDepth)
+            .register(meterRegistry);
+        Gauge.builder("engine_event_bus_execution_channels", eventBusMetrics, EventBusMetrics::activeExecutionChannels)
+            .register(meterRegistry);
+        Gauge.builder("engine_event_bus_dispatch_max", eventBusMetrics, m -> m.dispatchMaxTime(TimeUnit.MILLISECONDS))
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        FunctionTimer.builder("engine_event_bus_dispatch", eventBusMetrics, EventBusMetrics::dispatchedEvents, m -> m.dispatchTotalTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+            .register(meterRegistry);
+    }
+
+    private void registerEngineExecutionControlMetrics(ExecutionControlMetrics executionControlMetrics) {
+        Gauge.builder("engine_executions_paused", executionControlMetrics, ExecutionControlMetrics::pausedExecutions)
+            .register(meterRegistry);
+        FunctionCounter.builder("engine_execution_pauses", executionControlMetrics, ExecutionControlMetrics::pauses)
+            .register(meterRegistry);
+        FunctionCounter.builder("engine_execution_stops", executionControlMetrics, ExecutionControlMetrics::stops)
+            .register(meterRegistry);
+        FunctionCounter.builder("engine_execution_interrupted_actions", executionControlMetrics, ExecutionControlMetrics::interruptedActions)
+            .register(meterRegistry);
+    }
+
+    private void registerJiraXrayPublisherMetrics(JiraXrayPublisher jiraXrayPublisher) {
+        Gauge.builder("jira_xray_publisher_queue_depth", jiraXrayPublisher, JiraXrayPublisher::pendingPublications)
+            .register(meterRegistry);
+        Gauge.builder("jira_xray_publisher_lag", jiraXrayPublisher, p -> p.lag(TimeUnit.MILLISECONDS))
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        FunctionCounter.builder("jira_xray_publisher_published_tests", jiraXrayPublisher, JiraXrayPublisher::publishedTests)
+            .register(meterRegistry);
+        FunctionCounter.builder("jira_xray_publisher_failures", jiraXrayPublisher, JiraXrayPublisher::failedPublications)
+            .register(meterRegistry);
+        FunctionCounter.builder("jira_xray_publisher_rejections", jiraXrayPublisher, JiraXrayPublisher::rejectedPublications)
+            .register(meterRegistry);
+    }
+
+    private void registerGlobalVarMetrics(FileGlobalVarRepository globalVarRepository) {
+        Gauge.builder("global_var_keys", globalVarRepository, FileGlobalVarRepository::flatMapSize)
+            .register(meterRegistry);
+        FunctionTimer.builder("global_var_reload", globalVarRepository, FileGlobalVarRepository::flatMapReloads, r -> r.flatMapReloadsTotalTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+            .register(meterRegistry);
+    }
+
     private void updateMetrics(Map<ServerReportStatus, Long> scenarioCountByStatus, Map<ServerReportStatus, AtomicLong> cachedMetrics) {
         cachedMetrics.forEach((key, value) -> {
             final Long valueInCache = scenarioCountByStatus.get(key);
@@ -113,6 +113,7 @@ public class SecuredControllerSpringBootIntegrationTest {
             {GET, "/api/ui/campaign/v1/lastexecutions/20", "CAMPAIGN_READ", null, OK},
             {GET, "/api/ui/campaign/v1/scenario/scenarioId", "SCENARIO_READ", null, OK},
             {GET, "/api/ui/campaign/v1/scheduling", "CAMPAIGN_READ", null, OK},
+            {GET, "/api/ui/campaign/execution/queue/v1", "CAMPAIGN_READ", null, OK},
             {POST, "/api/ui/campaign/v1/scheduling", "CAMPAIGN_WRITE", "{\"campaignsId\" : [ 1 ], \"campaignsTitle\" : [ \"cpg 1ta\" ], \"schedulingDate\" : [ 2024, 1, 30, 13, 1 ]}", OK},
             {DELETE, "/api/ui/campaign/v1/scheduling/666", "CAMPAIGN_WRITE", null, OK},
 
@@ -167,8 +168,10 @@ public class SecuredControllerSpringBootIntegrationTest {
             {POST, "/api/scenario/execution/v1", "SCENARIO_EXECUTE", "{\"scenario\":{},\"environment\": {\"name\":\"env\"}}", OK},
 
             {GET, "/api/ui/scenario/123/execution/v1", "SCENARIO_READ", null, OK},
+            {GET, "/api/ui/scenario/123/execution/v2", "SCENARIO_READ", null, OK},
             {GET, "/api/ui/scenario/123/execution/666/v1", "SCENARIO_READ", null, NOT_FOUND},
             {GET, "/api/ui/scenario/execution/666/summary/v1", "SCENARIO_READ", null, NOT_FOUND},
+            {GET, "/api/ui/scenario/execution/attachment/666/v1", "SCENARIO_READ", null, NOT_FOUND},
             {POST, "/api/ui/scenario/execution/v1/scenarioId/secuenv", "SCENARIO_EXECUTE", null, NOT_FOUND},
             {POST, "/api/idea/scenario/execution/DEFAULT", "SCENARIO_EXECUTE", "{\"content\":\"{\\\"when\\\":{}}\",\"params\":{}} ", OK},
             {POST, "/api/ui/scenario/executionasync/v1/scenarioId/DEFAULT", "SCENARIO_EXECUTE", null, NOT_FOUND},
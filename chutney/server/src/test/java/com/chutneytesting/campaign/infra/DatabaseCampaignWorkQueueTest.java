@@ -0,0 +1,206 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.campaign.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.chutneytesting.execution.domain.campaign.CampaignWorkItem;
+import com.chutneytesting.execution.domain.campaign.CampaignWorkItem.Status;
+import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import util.infra.AbstractLocalDatabaseTest;
+import util.infra.EnableH2MemTestInfra;
+import util.infra.EnablePostgreSQLTestInfra;
+import util.infra.EnableSQLiteTestInfra;
+
+public class DatabaseCampaignWorkQueueTest {
+
+    @Nested
+    @EnableH2MemTestInfra
+    class H2 extends AllTests {
+    }
+
+    @Nested
+    @EnableSQLiteTestInfra
+    class SQLite extends AllTests {
+    }
+
+    @Nested
+    @EnablePostgreSQLTestInfra
+    class PostgreSQL extends AllTests {
+    }
+
+    abstract class AllTests extends AbstractLocalDatabaseTest {
+
+        private static final Duration LEASE = Duration.ofMinutes(1);
+
+        @Autowired
+        private CampaignWorkItemJpaRepository campaignWorkItemJpaRepository;
+        @Autowired
+        private DatabaseCampaignWorkQueue sut;
+
+        @BeforeEach
+        void setUp() {
+            clearTables();
+        }
+
+        @Test
+        public void should_lease_longest_scenarios_of_oldest_campaign_execution_first() {
+            // Given
+            sut.enqueue(List.of(
+                CampaignWorkItem.pending(1L, 11L, new Campaign.CampaignScenario("1"), 100),
+                CampaignWorkItem.pending(1L, 11L, new Campaign.CampaignScenario("2"), 300)
+            ), LEASE);
+            sut.enqueue(List.of(
+                CampaignWorkItem.pending(1L, 10L, new Campaign.CampaignScenario("3"), 200),
+                CampaignWorkItem.pending(1L, 10L, new Campaign.CampaignScenario("4", "dataset"), 50)
+            ), LEASE);
+
+            // When
+            List<CampaignWorkItem> claimed = sut.claim("node1", 3, LEASE);
+
+            // Then
+            assertThat(claimed).extracting(CampaignWorkItem::scenarioId).containsExactlyInAnyOrder("3", "4", "2");
+            assertThat(claimed).allSatisfy(item -> {
+                assertThat(item.status()).isEqualTo(Status.LEASED);
+                assertThat(item.owner()).isEqualTo("node1");
+            });
+            assertThat(sut.claim("node2", 3, LEASE)).extracting(CampaignWorkItem::scenarioId).containsExactly("1");
+        }
+
+        @Test
+        public void should_never_lease_an_item_to_two_nodes() {
+            // Given
+            sut.enqueue(List.of(CampaignWorkItem.pending(1L, 10L, new Campaign.CampaignScenario("1"), 0)), LEASE);
+
+            // When
+            List<CampaignWorkItem> firstNodeItems = sut.claim("node1", 1, LEASE);
+            List<CampaignWorkItem> secondNodeItems = sut.claim("node2", 1, LEASE);
+
+            // Then
+            assertThat(firstNodeItems).hasSize(1);
+            assertThat(secondNodeItems).isEmpty();
+        }
+
+        @Test
+        public void should_lease_again_items_of_expired_leases() {
+            // Given
+            sut.enqueue(List.of(CampaignWorkItem.pending(1L, 10L, new Campaign.CampaignScenario("1"), 0)), LEASE);
+            CampaignWorkItem lostItem = sut.claim("lostNode", 1, Duration.ofMillis(-1)).get(0);
+
+            // When
+            List<CampaignWorkItem> claimed = sut.claim("node2", 1, LEASE);
+
+            // Then
+            assertThat(claimed).extracting(CampaignWorkItem::owner).containsExactly("node2");
+            assertThat(sut.complete(lostItem.id(), "lostNode", 42L)).isFalse();
+            assertThat(sut.complete(lostItem.id(), "node2", 43L)).isTrue();
+            assertThat(sut.items(10L)).singleElement().satisfies(item -> {
+                assertThat(item.status()).isEqualTo(Status.DONE);
+                assertThat(item.scenarioExecutionId()).isEqualTo(43L);
+            });
+        }
+
+        @Test
+        public void should_keep_renewed_leases() {
+            // Given
+            sut.enqueue(List.of(CampaignWorkItem.pending(1L, 10L, new Campaign.CampaignScenario("1"), 0)), LEASE);
+            CampaignWorkItem item = sut.claim("node1", 1, Duration.ofMillis(-1)).get(0);
+
+            // When
+            sut.renewLeases("node1", Set.of(item.id()), LEASE);
+
+            // Then
+            assertThat(sut.claim("node2", 1, LEASE)).isEmpty();
+        }
+
+        @Test
+        public void should_cancel_pending_items_and_delete_campaign_execution_items() {
+            // Given
+            sut.enqueue(List.of(
+                CampaignWorkItem.pending(1L, 10L, new Campaign.CampaignScenario("1"), 200),
+                CampaignWorkItem.pending(1L, 10L, new Campaign.CampaignScenario("2"), 100)
+            ), LEASE);
+            sut.claim("node1", 1, LEASE);
+
+            // When
+            sut.cancelPending(10L);
+
+            // Then
+            assertThat(sut.items(10L)).extracting(CampaignWorkItem::scenarioId, CampaignWorkItem::status)
+                .containsExactly(
+                    tuple("1", Status.LEASED),
+                    tuple("2", Status.CANCELLED)
+                );
+
+            sut.delete(10L);
+            assertThat(campaignWorkItemJpaRepository.count()).isZero();
+        }
+
+        @Test
+        public void should_cancel_items_of_expired_leases() {
+            // Given
+            sut.enqueue(List.of(CampaignWorkItem.pending(1L, 10L, new Campaign.CampaignScenario("1"), 0)), LEASE);
+            sut.claim("lostNode", 1, Duration.ofMillis(-1));
+
+            // When
+            sut.cancelPending(10L);
+
+            // Then
+            assertThat(sut.items(10L)).extracting(CampaignWorkItem::status).containsExactly(Status.CANCELLED);
+        }
+
+        @Test
+        public void should_persist_stop_requests_and_never_lease_items_of_stopped_campaign_executions() {
+            // Given
+            sut.enqueue(List.of(
+                CampaignWorkItem.pending(1L, 10L, new Campaign.CampaignScenario("1"), 200),
+                CampaignWorkItem.pending(1L, 10L, new Campaign.CampaignScenario("2"), 100)
+            ), LEASE);
+            sut.claim("node1", 1, LEASE);
+
+            // When
+            boolean stopRequested = sut.requestStop(10L);
+
+            // Then
+            assertThat(stopRequested).isTrue();
+            assertThat(sut.isStopRequested(10L)).isTrue();
+            assertThat(sut.items(10L)).extracting(CampaignWorkItem::scenarioId, CampaignWorkItem::status)
+                .containsExactly(
+                    tuple("1", Status.LEASED),
+                    tuple("2", Status.CANCELLED)
+                );
+            assertThat(sut.claim("node2", 2, LEASE)).isEmpty();
+            assertThat(sut.requestStop(11L)).isFalse();
+            assertThat(sut.isStopRequested(11L)).isFalse();
+        }
+
+        @Test
+        public void should_delete_items_of_campaign_executions_no_longer_coordinated() {
+            // Given
+            sut.enqueue(List.of(CampaignWorkItem.pending(1L, 10L, new Campaign.CampaignScenario("1"), 0)), Duration.ofMillis(-1));
+            sut.enqueue(List.of(CampaignWorkItem.pending(1L, 11L, new Campaign.CampaignScenario("1"), 0)), Duration.ofMillis(-1));
+            sut.renewCoordination(11L, LEASE);
+
+            // When
+            int deleted = sut.deleteAbandoned();
+
+            // Then
+            assertThat(deleted).isEqualTo(1);
+            assertThat(sut.items(10L)).isEmpty();
+            assertThat(sut.items(11L)).hasSize(1);
+        }
+    }
+}
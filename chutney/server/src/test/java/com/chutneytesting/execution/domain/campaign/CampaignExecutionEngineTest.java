@@ -14,12 +14,14 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.AdditionalMatchers.or;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -51,14 +53,18 @@ import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecutionReportBuilder;
 import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecutionCampaign;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -71,6 +77,9 @@ import org.springframework.util.StopWatch;
 
 public class CampaignExecutionEngineTest {
 
+    private static final Duration SHARDING_LEASE = Duration.ofMillis(200);
+    private static final Duration SHARDING_POLL_INTERVAL = Duration.ofMillis(20);
+
     private static ExecutorService executorService;
 
     private CampaignExecutionEngine sut;
@@ -115,6 +124,7 @@ public class CampaignExecutionEngineTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     public void should_update_jira_xray() {
         // Given
         Campaign campaign = createCampaign(firstTestCase, secondTestCase);
@@ -123,10 +133,10 @@ public class CampaignExecutionEngineTest {
         // When
         CampaignExecution cer = sut.executeScenarioInCampaign(campaign, "user", null);
 
-        ArgumentCaptor<ReportForJira> reportForJiraCaptor = ArgumentCaptor.forClass(ReportForJira.class);
-        verify(jiraXrayPlugin).updateTestExecution(eq(campaign.id), eq(cer.executionId), eq(firstTestCase.metadata.id), eq(""), reportForJiraCaptor.capture());
+        ArgumentCaptor<Supplier<ReportForJira>> reportForJiraCaptor = ArgumentCaptor.forClass(Supplier.class);
+        verify(jiraXrayPlugin).publishTestExecution(eq(campaign.id), eq(cer.executionId), eq(firstTestCase.metadata.id), eq(""), reportForJiraCaptor.capture());
 
-        assertThat(reportForJiraCaptor).isNotNull();
+        assertThat(reportForJiraCaptor.getValue().get()).isNotNull();
 
     }
 
@@ -143,7 +153,7 @@ public class CampaignExecutionEngineTest {
         // Then
         verify(testCaseRepository, times(2)).findExecutableById(anyString());
         verify(scenarioExecutionEngine, times(2)).execute(any(ExecutionRequest.class));
-        verify(executionHistoryRepository, times(4)).getExecution(anyString(), anyLong());
+        verify(executionHistoryRepository, times(2)).getExecution(anyString(), anyLong());
 
         assertThat(campaignExecution.scenarioExecutionReports()).hasSize(campaign.scenarios.size());
         assertThat(campaignExecution.scenarioExecutionReports().get(0).execution().executionId()).isEqualTo(firstScenarioExecutionId);
@@ -169,7 +179,7 @@ public class CampaignExecutionEngineTest {
         // Then
         verify(testCaseRepository).findExecutableById(anyString());
         verify(scenarioExecutionEngine).execute(any(ExecutionRequest.class));
-        verify(executionHistoryRepository, times(2)).getExecution(anyString(), anyLong());
+        verify(executionHistoryRepository).getExecution(anyString(), anyLong());
 
         assertThat(campaignExecution.scenarioExecutionReports()).hasSize(1);
         assertThat(campaignExecution.scenarioExecutionReports().get(0).execution().executionId()).isEqualTo(secondScenarioExecutionId);
@@ -211,7 +221,7 @@ public class CampaignExecutionEngineTest {
 
         // Then
         verify(scenarioExecutionEngine).execute(any(ExecutionRequest.class));
-        verify(executionHistoryRepository, times(2)).getExecution(anyString(), anyLong());
+        verify(executionHistoryRepository).getExecution(anyString(), anyLong());
         verify(campaignExecutionRepository).getCampaignExecutionById(0L);
         verify(scenarioExecutionEngineAsync).stop(firstTestCase.id(), firstScenarioExecutionId);
 
@@ -677,12 +687,122 @@ public class CampaignExecutionEngineTest {
         assertThat(campaignExecution.dataset).isNull();
     }
 
+    @Test
+    public void should_execute_parallel_campaign_scenarios_as_work_items_when_sharded() {
+        // Given
+        FakeCampaignWorkQueue workQueue = new FakeCampaignWorkQueue();
+        ExecutorService shardingExecutor = Executors.newCachedThreadPool();
+        CampaignExecutionSharding sharding = new CampaignExecutionSharding(workQueue, "node1", shardingExecutor, 2, SHARDING_LEASE, SHARDING_POLL_INTERVAL);
+        CampaignExecutionEngine shardedSut = shardedSut(sharding);
+        sharding.start(shardedSut::executeWorkItem);
+        Campaign campaign = createCampaign(firstTestCase, secondTestCase, true, false);
+        when(campaignRepository.findById(campaign.id)).thenReturn(campaign);
+        storeSavedCampaignExecutions();
+        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).thenReturn(mock(ScenarioExecutionReport.class));
+
+        try {
+            // When
+            CampaignExecution campaignExecution = shardedSut.executeScenarioInCampaign(campaign, "user");
+
+            // Then
+            verify(scenarioExecutionEngine, times(2)).execute(any(ExecutionRequest.class));
+            assertThat(campaignExecution.scenarioExecutionReports())
+                .extracting(sec -> sec.execution().executionId())
+                .containsExactlyInAnyOrder(firstScenarioExecutionId, secondScenarioExecutionId);
+            assertThat(campaignExecution.status()).isEqualTo(ServerReportStatus.SUCCESS);
+            assertThat(workQueue.size()).isZero();
+        } finally {
+            sharding.close();
+            shardingExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void should_not_execute_pending_work_items_once_sharded_campaign_execution_stop_is_requested() throws Exception {
+        // Given
+        FakeCampaignWorkQueue workQueue = new FakeCampaignWorkQueue();
+        ExecutorService shardingExecutor = Executors.newCachedThreadPool();
+        CampaignExecutionSharding sharding = new CampaignExecutionSharding(workQueue, "node1", shardingExecutor, 1, SHARDING_LEASE, SHARDING_POLL_INTERVAL);
+        CampaignExecutionEngine shardedSut = shardedSut(sharding);
+        sharding.start(shardedSut::executeWorkItem);
+        Campaign campaign = createCampaign(firstTestCase, secondTestCase, true, false);
+        when(campaignRepository.findById(campaign.id)).thenReturn(campaign);
+        storeSavedCampaignExecutions();
+        CountDownLatch runningScenario = new CountDownLatch(1);
+        CountDownLatch stopScenario = new CountDownLatch(1);
+        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).then((Answer<ScenarioExecutionReport>) invocationOnMock -> {
+            runningScenario.countDown();
+            stopScenario.await(5, SECONDS);
+            return mock(ScenarioExecutionReport.class);
+        });
+
+        try {
+            Future<CampaignExecution> campaignExecution = shardingExecutor.submit(() -> shardedSut.executeScenarioInCampaign(campaign, "user"));
+            assertThat(runningScenario.await(5, SECONDS)).isTrue();
+
+            // When
+            shardedSut.stopExecution(0L);
+            stopScenario.countDown();
+
+            // Then
+            assertThat(campaignExecution.get(5, SECONDS).scenarioExecutionReports())
+                .extracting(ScenarioExecutionCampaign::scenarioId, ScenarioExecutionCampaign::status)
+                .containsExactlyInAnyOrder(
+                    tuple(firstTestCase.id(), ServerReportStatus.SUCCESS),
+                    tuple(secondTestCase.id(), ServerReportStatus.NOT_EXECUTED)
+                );
+            verify(scenarioExecutionEngine).execute(any(ExecutionRequest.class));
+        } finally {
+            sharding.close();
+            shardingExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void should_not_execute_work_item_of_a_stopped_campaign_execution() {
+        // Given
+        FakeCampaignWorkQueue workQueue = new FakeCampaignWorkQueue();
+        CampaignExecutionSharding sharding = new CampaignExecutionSharding(workQueue, "node1", executorService, 1, SHARDING_LEASE, SHARDING_POLL_INTERVAL);
+        CampaignExecutionEngine shardedSut = shardedSut(sharding);
+        Campaign campaign = createCampaign(firstTestCase, secondTestCase, true, false);
+        when(campaignRepository.findById(campaign.id)).thenReturn(campaign);
+        when(campaignExecutionRepository.getCampaignExecutionById(10L)).thenReturn(
+            CampaignExecutionReportBuilder.builder().executionId(10L).campaignId(campaign.id).environment("env").userId("user").build()
+        );
+        CampaignWorkItem item = CampaignWorkItem.pending(campaign.id, 10L, new Campaign.CampaignScenario(firstTestCase.id()), 0);
+        workQueue.enqueue(List.of(item), SHARDING_LEASE);
+        sharding.requestStop(10L);
+
+        // When
+        Long scenarioExecutionId = shardedSut.executeWorkItem(item);
+
+        // Then
+        assertThat(scenarioExecutionId).isNull();
+        verify(scenarioExecutionEngine, times(0)).execute(any(ExecutionRequest.class));
+    }
+
     private final static Random campaignIdGenerator = new Random();
 
     private Long generateId() {
         return (long) campaignIdGenerator.nextInt(1000);
     }
 
+    private CampaignExecutionEngine shardedSut(CampaignExecutionSharding sharding) {
+        return new CampaignExecutionEngine(campaignRepository, campaignExecutionRepository, scenarioExecutionEngine, scenarioExecutionEngineAsync, executionHistoryRepository, testCaseRepository, jiraXrayPlugin, metrics, new CampaignScenarioScheduler(executorService), sharding, datasetRepository, objectMapper);
+    }
+
+    /**
+     * Work items executions read the campaign execution stored by the node which started it.
+     */
+    private void storeSavedCampaignExecutions() {
+        AtomicReference<CampaignExecution> savedCampaignExecution = new AtomicReference<>();
+        doAnswer(invocation -> {
+            savedCampaignExecution.set(invocation.getArgument(1));
+            return null;
+        }).when(campaignExecutionRepository).saveCampaignExecution(anyLong(), any(CampaignExecution.class));
+        when(campaignExecutionRepository.getCampaignExecutionById(anyLong())).then(invocation -> savedCampaignExecution.get());
+    }
+
     private ExecutionHistory.Execution executionWithId(String scenarioId, Long executionId) {
         return executionWithId(scenarioId, executionId, ServerReportStatus.SUCCESS);
     }
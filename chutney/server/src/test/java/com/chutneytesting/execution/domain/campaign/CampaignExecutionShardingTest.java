@@ -0,0 +1,208 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static util.WaitUtils.awaitDuring;
+
+import com.chutneytesting.execution.domain.campaign.CampaignWorkItem.Status;
+import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class CampaignExecutionShardingTest {
+
+    private static final Duration LEASE = Duration.ofMillis(200);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private final FakeCampaignWorkQueue workQueue = new FakeCampaignWorkQueue();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<CampaignExecutionSharding> nodes = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        nodes.forEach(CampaignExecutionSharding::close);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void should_execute_queued_items_on_polling_nodes_and_follow_their_progress() throws InterruptedException {
+        // Given
+        Map<String, String> executingNodes = new ConcurrentHashMap<>();
+        node("node1", 1).start(item -> {
+            executingNodes.put(item.scenarioId(), "node1");
+            return 10L;
+        });
+        node("node2", 1).start(item -> {
+            executingNodes.put(item.scenarioId(), "node2");
+            return 20L;
+        });
+        List<String> progress = Collections.synchronizedList(new ArrayList<>());
+
+        // When
+        node("coordinator", 1).executeAll(
+            items(1L, "1", "2", "3"),
+            () -> false,
+            item -> progress.add("started " + item.scenarioId()),
+            item -> progress.add("ended " + item.scenarioId())
+        );
+
+        // Then
+        assertThat(executingNodes).containsOnlyKeys("1", "2", "3");
+        assertThat(progress).hasSize(6);
+        Arrays.asList("1", "2", "3").forEach(scenarioId ->
+            assertThat(progress.indexOf("started " + scenarioId)).isLessThan(progress.indexOf("ended " + scenarioId))
+        );
+        assertThat(workQueue.size()).isZero();
+    }
+
+    @Test
+    public void should_notify_start_of_items_done_between_two_polls() throws InterruptedException {
+        // Given
+        FakeCampaignWorkQueue fastNodeQueue = new FakeCampaignWorkQueue() {
+            @Override
+            public synchronized void enqueue(List<CampaignWorkItem> items, Duration coordination) {
+                super.enqueue(items, coordination);
+                // Another node executes them before coordinator first poll
+                claim("fastNode", items.size(), LEASE).forEach(item -> complete(item.id(), "fastNode", 42L));
+            }
+        };
+        CampaignExecutionSharding coordinator = new CampaignExecutionSharding(fastNodeQueue, "coordinator", executor, 1, LEASE, POLL_INTERVAL);
+        List<String> progress = new ArrayList<>();
+
+        // When
+        coordinator.executeAll(
+            items(1L, "1"),
+            () -> false,
+            item -> progress.add("started " + item.scenarioId()),
+            item -> progress.add("ended " + item.scenarioId() + " in execution " + item.scenarioExecutionId())
+        );
+
+        // Then
+        assertThat(progress).containsExactly("started 1", "ended 1 in execution 42");
+    }
+
+    @Test
+    public void should_renew_leases_of_running_items() throws InterruptedException {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+        node("node1", 1).start(item -> {
+            executions.incrementAndGet();
+            awaitDuring((int) LEASE.toMillis() * 3, MILLISECONDS);
+            return 10L;
+        });
+        node("node2", 1).start(item -> {
+            executions.incrementAndGet();
+            return 20L;
+        });
+
+        // When
+        node("coordinator", 1).executeAll(items(1L, "1"), () -> false, item -> {}, item -> {});
+
+        // Then
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    public void should_execute_again_items_of_a_lost_node_once_their_lease_expired() throws Exception {
+        // Given
+        CountDownLatch lostNodeExecution = new CountDownLatch(1);
+        CampaignExecutionSharding lostNode = node("lostNode", 1);
+        lostNode.start(item -> {
+            try {
+                lostNodeExecution.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 10L;
+        });
+        List<CampaignWorkItem> endedItems = Collections.synchronizedList(new ArrayList<>());
+        CampaignExecutionSharding coordinator = node("coordinator", 1);
+        Future<?> campaignExecution = executor.submit(() -> {
+            coordinator.executeAll(items(1L, "1"), () -> false, item -> {}, endedItems::add);
+            return null;
+        });
+        await().atMost(5, SECONDS).until(() -> lostNode.runningItems() == 1);
+
+        // When
+        lostNode.close();
+        node("node2", 1).start(item -> 20L);
+
+        // Then
+        campaignExecution.get(5, SECONDS);
+        assertThat(endedItems).singleElement().satisfies(item -> {
+            assertThat(item.owner()).isEqualTo("node2");
+            assertThat(item.scenarioExecutionId()).isEqualTo(20L);
+        });
+        lostNodeExecution.countDown();
+    }
+
+    @Test
+    public void should_cancel_pending_items_when_stop_is_requested_on_another_node() throws Exception {
+        // Given
+        List<CampaignWorkItem> endedItems = Collections.synchronizedList(new ArrayList<>());
+        CampaignExecutionSharding coordinator = node("coordinator", 1);
+        Future<?> campaignExecution = executor.submit(() -> {
+            coordinator.executeAll(items(1L, "1", "2"), () -> false, item -> {}, endedItems::add);
+            return null;
+        });
+        await().atMost(5, SECONDS).until(() -> workQueue.size() == 2);
+
+        // When
+        boolean stopRequested = node("otherNode", 1).requestStop(1L);
+
+        // Then
+        campaignExecution.get(5, SECONDS);
+        assertThat(stopRequested).isTrue();
+        assertThat(endedItems).extracting(CampaignWorkItem::status).containsExactly(Status.CANCELLED, Status.CANCELLED);
+    }
+
+    @Test
+    public void should_delete_items_of_a_lost_coordinator() {
+        // Given
+        workQueue.enqueue(items(1L, "1", "2"), Duration.ofMillis(-1));
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        node("node1", 1).start(item -> {
+            executions.incrementAndGet();
+            return 10L;
+        });
+
+        // Then
+        await().atMost(5, SECONDS).until(() -> workQueue.size() == 0);
+        assertThat(executions).hasValue(0);
+    }
+
+    private CampaignExecutionSharding node(String nodeId, int capacity) {
+        CampaignExecutionSharding node = new CampaignExecutionSharding(workQueue, nodeId, executor, capacity, LEASE, POLL_INTERVAL);
+        nodes.add(node);
+        return node;
+    }
+
+    private static List<CampaignWorkItem> items(Long campaignExecutionId, String... scenarioIds) {
+        return Arrays.stream(scenarioIds)
+            .map(scenarioId -> CampaignWorkItem.pending(1L, campaignExecutionId, new Campaign.CampaignScenario(scenarioId), 0))
+            .toList();
+    }
+}
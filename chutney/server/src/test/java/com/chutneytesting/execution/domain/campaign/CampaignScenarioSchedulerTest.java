@@ -0,0 +1,204 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.chutneytesting.execution.domain.campaign.CampaignScenarioScheduler.ScenarioState;
+import com.chutneytesting.execution.domain.campaign.CampaignScenarioScheduler.ScenarioTask;
+import com.chutneytesting.execution.domain.campaign.CampaignScenarioScheduler.SchedulerState;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CampaignScenarioSchedulerTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_not_execute_more_scenarios_than_environment_limit() throws InterruptedException {
+        // Given
+        CampaignScenarioScheduler sut = new CampaignScenarioScheduler(executor, 0, Map.of("ENV", 2), 0);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Runnable scenario = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(50);
+            running.decrementAndGet();
+        };
+
+        // When
+        sut.executeAll(1L, 10L, "ENV", true, List.of(
+            new ScenarioTask("1", 0, scenario),
+            new ScenarioTask("2", 0, scenario),
+            new ScenarioTask("3", 0, scenario),
+            new ScenarioTask("4", 0, scenario),
+            new ScenarioTask("5", 0, scenario)
+        ));
+
+        // Then
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_execute_longest_scenarios_first_in_parallel_campaign() throws InterruptedException {
+        // Given
+        CampaignScenarioScheduler sut = new CampaignScenarioScheduler(executor, 1, Map.of(), 0);
+        List<String> executionOrder = new CopyOnWriteArrayList<>();
+
+        // When
+        sut.executeAll(1L, 10L, "ENV", true, List.of(
+            new ScenarioTask("short", 10, () -> executionOrder.add("short")),
+            new ScenarioTask("long", 1000, () -> executionOrder.add("long")),
+            new ScenarioTask("medium", 100, () -> executionOrder.add("medium"))
+        ));
+
+        // Then
+        assertThat(executionOrder).containsExactly("long", "medium", "short");
+    }
+
+    @Test
+    void should_keep_sequential_campaign_order_one_scenario_at_a_time() throws InterruptedException {
+        // Given
+        CampaignScenarioScheduler sut = new CampaignScenarioScheduler(executor);
+        List<String> executionOrder = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // When
+        sut.executeAll(1L, 10L, "ENV", false, List.of("1", "2", "3").stream()
+            .map(id -> new ScenarioTask(id, Long.parseLong(id), () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                executionOrder.add(id);
+                sleep(10);
+                running.decrementAndGet();
+            }))
+            .toList());
+
+        // Then
+        assertThat(executionOrder).containsExactly("1", "2", "3");
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_execute_scenarios_on_idle_environment_while_another_one_is_saturated() {
+        // Given
+        CampaignScenarioScheduler sut = new CampaignScenarioScheduler(executor, 1, Map.of(), 0);
+        CountDownLatch releaseBusyEnvironment = new CountDownLatch(1);
+        CompletableFuture<Void> busyCampaign = runAsync(() -> sut.executeAll(1L, 10L, "BUSY", true, List.of(
+            new ScenarioTask("1", 0, () -> awaitRelease(releaseBusyEnvironment)),
+            new ScenarioTask("2", 0, () -> {})
+        )));
+        await().atMost(5, SECONDS).until(() -> sut.state().queued().size() == 1);
+
+        // When
+        CompletableFuture<Void> idleCampaign = runAsync(() -> sut.executeAll(2L, 20L, "IDLE", true, List.of(
+            new ScenarioTask("3", 0, () -> {})
+        )));
+
+        // Then
+        await().atMost(5, SECONDS).until(idleCampaign::isDone);
+        assertThat(busyCampaign).isNotDone();
+        releaseBusyEnvironment.countDown();
+        await().atMost(5, SECONDS).until(busyCampaign::isDone);
+    }
+
+    @Test
+    void should_expose_running_and_queued_scenarios() {
+        // Given
+        CampaignScenarioScheduler sut = new CampaignScenarioScheduler(executor, 1, Map.of(), 0);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        CompletableFuture<Void> campaign = runAsync(() -> sut.executeAll(1L, 10L, "ENV", true, List.of(
+            new ScenarioTask("1", 200, () -> awaitRelease(release)),
+            new ScenarioTask("2", 100, () -> {})
+        )));
+        await().atMost(5, SECONDS).until(() -> sut.state().running().size() == 1);
+
+        // Then
+        SchedulerState state = sut.state();
+        assertThat(state.running()).extracting(ScenarioState::scenarioId).containsExactly("1");
+        assertThat(state.queued()).extracting(ScenarioState::scenarioId).containsExactly("2");
+        assertThat(state.queued().get(0).campaignExecutionId()).isEqualTo(10L);
+        assertThat(state.environments()).containsExactly(new CampaignScenarioScheduler.EnvironmentState("ENV", 1, 1, 1));
+
+        release.countDown();
+        await().atMost(5, SECONDS).until(campaign::isDone);
+        assertThat(sut.state().environments()).isEmpty();
+    }
+
+    @Test
+    void should_expose_scenarios_of_campaigns_without_environment() {
+        // Given
+        CampaignScenarioScheduler sut = new CampaignScenarioScheduler(executor, 1, Map.of(), 0);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        CompletableFuture<Void> campaign = runAsync(() -> sut.executeAll(1L, 10L, "ENV", true, List.of(
+            new ScenarioTask("1", 0, () -> awaitRelease(release))
+        )));
+        CompletableFuture<Void> campaignWithoutEnvironment = runAsync(() -> sut.executeAll(2L, 20L, null, true, List.of(
+            new ScenarioTask("2", 0, () -> awaitRelease(release))
+        )));
+        await().atMost(5, SECONDS).until(() -> sut.state().running().size() == 2);
+
+        // Then
+        assertThat(sut.state().environments()).containsExactly(
+            new CampaignScenarioScheduler.EnvironmentState(null, 1, 0, 0),
+            new CampaignScenarioScheduler.EnvironmentState("ENV", 1, 0, 1)
+        );
+
+        release.countDown();
+        await().atMost(5, SECONDS).until(() -> campaign.isDone() && campaignWithoutEnvironment.isDone());
+    }
+
+    private CompletableFuture<Void> runAsync(InterruptibleRunnable runnable) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                runnable.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface InterruptibleRunnable {
+        void run() throws InterruptedException;
+    }
+}
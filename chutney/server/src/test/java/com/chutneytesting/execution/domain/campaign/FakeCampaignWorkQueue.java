@@ -0,0 +1,152 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static java.util.Comparator.comparing;
+
+import com.chutneytesting.execution.domain.campaign.CampaignWorkItem.Status;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In memory work queue, shared by the nodes of a test as a database would be.
+ */
+public class FakeCampaignWorkQueue implements CampaignWorkQueue {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, StoredItem> storedItems = new LinkedHashMap<>();
+
+    @Override
+    public synchronized void enqueue(List<CampaignWorkItem> items, Duration coordination) {
+        long coordinationExpiration = now() + coordination.toMillis();
+        items.forEach(item -> {
+            long id = sequence.incrementAndGet();
+            storedItems.put(id, new StoredItem(new CampaignWorkItem(id, item.campaignId(), item.campaignExecutionId(), item.scenarioId(), item.datasetId(), item.expectedDuration(), item.status(), item.owner(), item.scenarioExecutionId()), coordinationExpiration));
+        });
+    }
+
+    @Override
+    public synchronized void renewCoordination(Long campaignExecutionId, Duration coordination) {
+        stored(campaignExecutionId).forEach(stored -> stored.coordinationExpiration = now() + coordination.toMillis());
+    }
+
+    @Override
+    public synchronized List<CampaignWorkItem> claim(String nodeId, int maxItems, Duration lease) {
+        long now = now();
+        List<StoredItem> claimed = storedItems.values().stream()
+            .filter(stored -> !stored.stopRequested && stored.isClaimable(now))
+            .sorted(comparing((StoredItem stored) -> stored.item.campaignExecutionId())
+                .thenComparing(stored -> stored.item.expectedDuration(), Comparator.reverseOrder())
+                .thenComparing(stored -> stored.item.id()))
+            .limit(maxItems)
+            .toList();
+        claimed.forEach(stored -> stored.lease(nodeId, now + lease.toMillis()));
+        return claimed.stream().map(stored -> stored.item).toList();
+    }
+
+    @Override
+    public synchronized void renewLeases(String nodeId, Collection<Long> itemIds, Duration lease) {
+        itemIds.stream()
+            .map(storedItems::get)
+            .filter(stored -> stored != null && stored.item.status() == Status.LEASED && nodeId.equals(stored.item.owner()))
+            .forEach(stored -> stored.leaseExpiration = now() + lease.toMillis());
+    }
+
+    @Override
+    public synchronized boolean complete(Long itemId, String nodeId, Long scenarioExecutionId) {
+        StoredItem stored = storedItems.get(itemId);
+        if (stored == null || stored.item.status() != Status.LEASED || !nodeId.equals(stored.item.owner())) {
+            return false;
+        }
+        stored.update(Status.DONE, nodeId, scenarioExecutionId);
+        return true;
+    }
+
+    @Override
+    public synchronized void cancelPending(Long campaignExecutionId) {
+        long now = now();
+        stored(campaignExecutionId).stream()
+            .filter(stored -> stored.isClaimable(now))
+            .forEach(stored -> stored.update(Status.CANCELLED, stored.item.owner(), null));
+    }
+
+    @Override
+    public synchronized boolean requestStop(Long campaignExecutionId) {
+        List<StoredItem> items = stored(campaignExecutionId);
+        items.forEach(stored -> stored.stopRequested = true);
+        cancelPending(campaignExecutionId);
+        return !items.isEmpty();
+    }
+
+    @Override
+    public synchronized boolean isStopRequested(Long campaignExecutionId) {
+        return stored(campaignExecutionId).stream().anyMatch(stored -> stored.stopRequested);
+    }
+
+    @Override
+    public synchronized List<CampaignWorkItem> items(Long campaignExecutionId) {
+        return stored(campaignExecutionId).stream().map(stored -> stored.item).toList();
+    }
+
+    @Override
+    public synchronized void delete(Long campaignExecutionId) {
+        storedItems.values().removeIf(stored -> stored.item.campaignExecutionId().equals(campaignExecutionId));
+    }
+
+    @Override
+    public synchronized int deleteAbandoned() {
+        long now = now();
+        int size = storedItems.size();
+        storedItems.values().removeIf(stored -> stored.coordinationExpiration < now);
+        return size - storedItems.size();
+    }
+
+    public synchronized int size() {
+        return storedItems.size();
+    }
+
+    private List<StoredItem> stored(Long campaignExecutionId) {
+        return storedItems.values().stream()
+            .filter(stored -> stored.item.campaignExecutionId().equals(campaignExecutionId))
+            .toList();
+    }
+
+    private static long now() {
+        return System.currentTimeMillis();
+    }
+
+    private static final class StoredItem {
+        private CampaignWorkItem item;
+        private long leaseExpiration;
+        private long coordinationExpiration;
+        private boolean stopRequested;
+
+        private StoredItem(CampaignWorkItem item, long coordinationExpiration) {
+            this.item = item;
+            this.coordinationExpiration = coordinationExpiration;
+        }
+
+        private boolean isClaimable(long now) {
+            return item.status() == Status.PENDING || (item.status() == Status.LEASED && leaseExpiration < now);
+        }
+
+        private void lease(String nodeId, long leaseExpiration) {
+            update(Status.LEASED, nodeId, null);
+            this.leaseExpiration = leaseExpiration;
+        }
+
+        private void update(Status status, String owner, Long scenarioExecutionId) {
+            item = new CampaignWorkItem(item.id(), item.campaignId(), item.campaignExecutionId(), item.scenarioId(), item.datasetId(), item.expectedDuration(), status, owner, scenarioExecutionId);
+        }
+    }
+}
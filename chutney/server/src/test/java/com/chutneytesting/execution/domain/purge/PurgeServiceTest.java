@@ -13,7 +13,10 @@ import static com.chutneytesting.server.core.domain.execution.report.ServerRepor
 import static java.time.LocalDateTime.now;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,6 +24,7 @@ import static org.mockito.Mockito.when;
 
 import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
 import com.chutneytesting.campaign.domain.CampaignRepository;
+import com.chutneytesting.engine.domain.execution.engine.step.SnapshotAttachmentStore;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
 import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory.ExecutionSummary;
@@ -31,10 +35,13 @@ import com.chutneytesting.server.core.domain.scenario.campaign.CampaignBuilder;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecutionReportBuilder;
 import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecutionCampaign;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.LongStream;
 import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -65,7 +72,7 @@ public class PurgeServiceTest {
                         TestCaseMetadataImpl.builder().withId(scenarioId).build()
                     ));
                     ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-                    when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                    when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                         scenarioExecutionBuilder().executionId(1L).build(),
                         scenarioExecutionBuilder().executionId(2L).build()
                     ));
@@ -94,7 +101,7 @@ public class PurgeServiceTest {
                     ));
                     ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
                     LocalDateTime now = now();
-                    when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                    when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                         scenarioExecutionBuilder().executionId(3L).time(now).build(),
                         scenarioExecutionBuilder().executionId(2L).time(now.minusSeconds(10)).build(),
                         scenarioExecutionBuilder().executionId(oldestScenarioExecutionId).time(now.minusSeconds(20)).build()
@@ -110,6 +117,41 @@ public class PurgeServiceTest {
                     assertThat(report.scenariosExecutionsIds()).containsExactly(oldestScenarioExecutionId);
                 }
 
+                @Test
+                void purge_oldest_of_whole_history_read_by_pages() {
+                    // Given
+                    // A full page of scenario's executions, and an older one on next page
+                    // And a configuration limit set to a page size for scenarios' executions
+                    int maxScenarioExecutionsConfiguration = PurgeServiceImpl.EXECUTIONS_PAGE_SIZE;
+                    String scenarioId = "1";
+                    long lastExecutionOfFirstPage = 2L;
+                    Long oldestScenarioExecutionId = 1L;
+
+                    TestCaseRepository testCaseRepository = mock(TestCaseRepository.class);
+                    when(testCaseRepository.findAll()).thenReturn(List.of(
+                        TestCaseMetadataImpl.builder().withId(scenarioId).build()
+                    ));
+                    ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
+                    LocalDateTime now = now();
+                    List<ExecutionHistory.ExecutionSummary> firstPage = LongStream.iterate(lastExecutionOfFirstPage + PurgeServiceImpl.EXECUTIONS_PAGE_SIZE - 1, id -> id - 1)
+                        .limit(PurgeServiceImpl.EXECUTIONS_PAGE_SIZE)
+                        .mapToObj(id -> (ExecutionHistory.ExecutionSummary) scenarioExecutionBuilder().executionId(id).time(now.minusSeconds(1000 - id)).build())
+                        .toList();
+                    when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(firstPage);
+                    when(executionsRepository.getExecutions(eq(scenarioId), eq(lastExecutionOfFirstPage), anyInt())).thenReturn(List.of(
+                        scenarioExecutionBuilder().executionId(oldestScenarioExecutionId).time(now.minusSeconds(2000)).build()
+                    ));
+
+                    // When
+                    PurgeServiceImpl sut = new PurgeServiceImpl(testCaseRepository, executionsRepository, mock(CampaignRepository.class), mock(CampaignExecutionRepository.class), maxScenarioExecutionsConfiguration, 100);
+                    PurgeReport report = sut.purge();
+
+                    // Then
+                    // The oldest scenario's execution, read on second page, is deleted
+                    verify(executionsRepository).deleteExecutions(Set.of(oldestScenarioExecutionId));
+                    assertThat(report.scenariosExecutionsIds()).containsExactly(oldestScenarioExecutionId);
+                }
+
                 @Test
                 void purge_all_when_zero_configuration() {
                     // Given
@@ -124,7 +166,7 @@ public class PurgeServiceTest {
                     ));
                     ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
                     LocalDateTime now = now();
-                    when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                    when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                         scenarioExecutionBuilder().executionId(3L).status(FAILURE).time(now).build(),
                         scenarioExecutionBuilder().executionId(2L).status(FAILURE).time(now.minusSeconds(10)).build(),
                         scenarioExecutionBuilder().executionId(1L).status(FAILURE).time(now.minusSeconds(20)).build()
@@ -157,7 +199,7 @@ public class PurgeServiceTest {
                         TestCaseMetadataImpl.builder().withId(scenarioId).build()
                     ));
                     ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-                    when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                    when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                         scenarioExecutionBuilder().executionId(1L).environment("env1").build(),
                         scenarioExecutionBuilder().executionId(2L).environment("env2").build()
                     ));
@@ -186,7 +228,7 @@ public class PurgeServiceTest {
                         TestCaseMetadataImpl.builder().withId(scenarioId).build()
                     ));
                     ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-                    when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                    when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                         scenarioExecutionBuilder().executionId(3L).time(now).environment("env1").build(),
                         scenarioExecutionBuilder().executionId(2L).time(now.minusSeconds(10)).environment("env2").build(),
                         scenarioExecutionBuilder().executionId(oldestScenarioExecutionId).time(now.minusSeconds(20)).environment("env1").build()
@@ -223,11 +265,11 @@ public class PurgeServiceTest {
                     TestCaseMetadataImpl.builder().withId(scenarioId2).build()
                 ));
                 ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-                when(executionsRepository.getExecutions(scenarioId1)).thenReturn(List.of(
+                when(executionsRepository.getExecutions(eq(scenarioId1), isNull(), anyInt())).thenReturn(List.of(
                     scenarioExecutionBuilder().executionId(1L).time(now).build(),
                     scenarioExecutionBuilder().executionId(3L).time(now.minusSeconds(10)).build()
                 ));
-                when(executionsRepository.getExecutions(scenarioId2)).thenReturn(List.of(
+                when(executionsRepository.getExecutions(eq(scenarioId2), isNull(), anyInt())).thenReturn(List.of(
                     scenarioExecutionBuilder().executionId(2L).time(now.minusSeconds(20)).build()
                 ));
 
@@ -324,7 +366,7 @@ public class PurgeServiceTest {
                     CampaignExecution campaignExecution3 = buildCampaignExecution(oldestCampaignExecutionId, campaignId, tuple(scenarioId, scenarioExecution3));
 
                     ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-                    when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                    when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                         scenarioExecution1.withCampaignReport(campaignExecution1),
                         scenarioExecution2.withCampaignReport(campaignExecution2),
                         scenarioExecution3.withCampaignReport(campaignExecution3)
@@ -381,7 +423,7 @@ public class PurgeServiceTest {
                     CampaignExecution campaignExecution3 = buildCampaignExecution(oldestCampaignExecutionId, campaignId, tuple(scenarioId, scenarioExecution3));
 
                     ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-                    when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                    when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                         scenarioExecution1.withCampaignReport(campaignExecution1),
                         scenarioExecution2.withCampaignReport(campaignExecution2),
                         scenarioExecution3.withCampaignReport(campaignExecution3)
@@ -437,7 +479,7 @@ public class PurgeServiceTest {
                     CampaignExecution campaignExecution3 = buildCampaignExecution(1L, campaignId, tuple(scenarioId, scenarioExecution3));
 
                     ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-                    when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                    when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                         scenarioExecution1.withCampaignReport(campaignExecution1),
                         scenarioExecution2.withCampaignReport(campaignExecution2),
                         scenarioExecution3.withCampaignReport(campaignExecution3)
@@ -498,7 +540,7 @@ public class PurgeServiceTest {
                     CampaignExecution campaignExecution3 = buildCampaignExecution(oldestCampaignExecutionId, campaignId, tuple(scenarioId, scenarioExecution3));
 
                     ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-                    when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                    when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                         scenarioExecution1.withCampaignReport(campaignExecution1),
                         scenarioExecution2.withCampaignReport(campaignExecution2),
                         scenarioExecution3.withCampaignReport(campaignExecution3)
@@ -571,7 +613,7 @@ public class PurgeServiceTest {
                 CampaignExecution campaignExecution6 = buildCampaignExecution(oldestCampaignExecutionId2, campaignId2, tuple(scenarioId, scenarioExecution6));
 
                 ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-                when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                     scenarioExecution1.withCampaignReport(campaignExecution1),
                     scenarioExecution2.withCampaignReport(campaignExecution4),
                     scenarioExecution3.withCampaignReport(campaignExecution2),
@@ -631,7 +673,7 @@ public class PurgeServiceTest {
                 ));
                 ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
                 LocalDateTime now = now();
-                when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                     scenarioExecutionBuilder().executionId(4L).status(FAILURE).time(now).build(),
                     scenarioExecutionBuilder().executionId(3L).status(FAILURE).time(now.minusSeconds(10)).build(),
                     scenarioExecutionBuilder().executionId(lastSuccessScenarioExecutionId).time(now.minusSeconds(20)).build(),
@@ -685,7 +727,7 @@ public class PurgeServiceTest {
                 CampaignExecution campaignExecution4 = buildCampaignExecution(1L, campaignId, tuple(scenarioId, scenarioExecution4));
 
                 ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-                when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                     scenarioExecution1.withCampaignReport(campaignExecution1),
                     scenarioExecution2.withCampaignReport(campaignExecution2),
                     scenarioExecution3.withCampaignReport(campaignExecution3),
@@ -748,7 +790,7 @@ public class PurgeServiceTest {
             CampaignExecution campaignExecution1 = buildCampaignExecution(1L, campaignId, tuple(scenarioId, autoRetryScenarioExecution2), tuple(scenarioId, scenarioExecution2));
 
             ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-            when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+            when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                 autoRetryScenarioExecution2.withCampaignReport(campaignExecution1),
                 scenarioExecution2.withCampaignReport(campaignExecution1),
                 scenarioExecution3,
@@ -821,7 +863,7 @@ public class PurgeServiceTest {
             CampaignExecution campaignExecution6 = buildCampaignExecution(2L, campaignId, tuple(scenarioId, scenarioExecution5));
 
             ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-            when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+            when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                 scenarioExecution1.withCampaignReport(campaignExecution1),
                 scenarioExecution2.withCampaignReport(campaignExecution2),
                 scenarioExecution3.withCampaignReport(campaignExecution5),
@@ -880,7 +922,7 @@ public class PurgeServiceTest {
                     TestCaseMetadataImpl.builder().withId(scenarioId).build()
                 ));
                 ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-                when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                     scenarioExecutionBuilder().executionId(1L).time(now.minusHours(23).minusMinutes(59).minusSeconds(59)).build(),
                     scenarioExecutionBuilder().executionId(2L).time(now.minusMinutes(50)).build(),
                     scenarioExecutionBuilder().executionId(3L).time(now.minusSeconds(10)).build(),
@@ -918,7 +960,7 @@ public class PurgeServiceTest {
                 ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
                 LocalDateTime now = now();
                 LocalDateTime twoDaysEarlier = now.minusDays(2);
-                when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                     scenarioExecutionBuilder().executionId(4L).time(now).build(),
                     scenarioExecutionBuilder().executionId(3L).time(now.minusSeconds(10)).build(),
                     scenarioExecutionBuilder().executionId(2L).time(twoDaysEarlier).build(),
@@ -976,7 +1018,7 @@ public class PurgeServiceTest {
                 CampaignExecution campaignExecution3 = buildCampaignExecution(3L, campaignId, tuple(scenarioId, scenarioExecution3));
 
                 ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-                when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                     scenarioExecution1.withCampaignReport(campaignExecution1),
                     scenarioExecution2.withCampaignReport(campaignExecution2),
                     scenarioExecution3.withCampaignReport(campaignExecution3)
@@ -1041,7 +1083,7 @@ public class PurgeServiceTest {
                 CampaignExecution campaignExecution3 = buildCampaignExecution(3L, campaignId, tuple(scenarioId, scenarioExecution3));
 
                 ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-                when(executionsRepository.getExecutions(scenarioId)).thenReturn(List.of(
+                when(executionsRepository.getExecutions(eq(scenarioId), isNull(), anyInt())).thenReturn(List.of(
                     scenarioExecution1.withCampaignReport(campaignExecution1),
                     scenarioExecution2.withCampaignReport(campaignExecution2),
                     scenarioExecution3.withCampaignReport(campaignExecution3)
@@ -1199,7 +1241,7 @@ public class PurgeServiceTest {
 
             // Scenarios executions stub
             ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
-            when(executionsRepository.getExecutions(scenarioId1)).thenReturn(List.of(
+            when(executionsRepository.getExecutions(eq(scenarioId1), isNull(), anyInt())).thenReturn(List.of(
                 se1_ce1.withCampaignReport(ce1),
                 se2_ce10.withCampaignReport(ce10),
                 se3_ce5.withCampaignReport(ce5),
@@ -1224,7 +1266,7 @@ public class PurgeServiceTest {
                 se28_ce9, // se28_ce9.withCampaignReport(ce9), after campaign deletion
                 se29_ce4 // se29_ce4.withCampaignReport(ce4) after campaign deletion
             ));
-            when(executionsRepository.getExecutions(scenarioId2)).thenReturn(List.of(
+            when(executionsRepository.getExecutions(eq(scenarioId2), isNull(), anyInt())).thenReturn(List.of(
                 se30_ce1.withCampaignReport(ce1),
                 se31_ce10.withCampaignReport(ce10),
                 se32_ce5.withCampaignReport(ce5),
@@ -1280,6 +1322,26 @@ public class PurgeServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("deletes reports' attachments")
+    class CleanReportsAttachments {
+        @Test
+        void stored_before_oldest_remaining_scenario_execution() {
+            // Given
+            ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
+            Instant oldestExecutionInstant = Instant.now().minusSeconds(60);
+            when(executionsRepository.oldestExecutionInstant()).thenReturn(Optional.of(oldestExecutionInstant));
+            SnapshotAttachmentStore attachmentStore = mock(SnapshotAttachmentStore.class);
+
+            // When
+            PurgeServiceImpl sut = new PurgeServiceImpl(mock(TestCaseRepository.class), executionsRepository, mock(CampaignRepository.class), mock(CampaignExecutionRepository.class), 10, 0, 10, 0, attachmentStore);
+            sut.purge();
+
+            // Then
+            verify(attachmentStore).deleteStoredBefore(oldestExecutionInstant);
+        }
+    }
+
     private static ExecutionSummary.Builder scenarioExecutionBuilder() {
         return ExecutionSummary.builder()
             .executionId(-1L)
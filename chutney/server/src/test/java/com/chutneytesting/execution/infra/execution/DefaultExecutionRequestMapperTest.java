@@ -9,6 +9,8 @@ package com.chutneytesting.execution.infra.execution;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.chutneytesting.agent.domain.explore.CurrentNetworkDescription;
@@ -16,12 +18,19 @@ import com.chutneytesting.engine.api.execution.ExecutionRequestDto;
 import com.chutneytesting.environment.api.environment.EmbeddedEnvironmentApi;
 import com.chutneytesting.environment.api.environment.dto.EnvironmentDto;
 import com.chutneytesting.environment.api.target.EmbeddedTargetApi;
+import com.chutneytesting.environment.api.target.dto.TargetDto;
+import com.chutneytesting.scenario.domain.gwt.GwtScenario;
+import com.chutneytesting.scenario.domain.gwt.GwtStep;
+import com.chutneytesting.scenario.domain.gwt.GwtStepImplementation;
+import com.chutneytesting.scenario.domain.gwt.GwtTestCase;
 import com.chutneytesting.scenario.domain.raw.RawTestCase;
 import com.chutneytesting.server.core.domain.dataset.DataSet;
 import com.chutneytesting.server.core.domain.execution.ExecutionRequest;
+import com.chutneytesting.server.core.domain.scenario.TestCaseMetadataImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import org.assertj.core.util.Files;
 import org.junit.jupiter.api.Test;
@@ -61,4 +70,34 @@ public class DefaultExecutionRequestMapperTest {
         assertThat(executionRequestDto.dataset.constants).isEqualTo(dataset.constants);
     }
 
+    @Test
+    public void should_resolve_each_target_once_per_execution_request() {
+        // Given
+        String envName = "env";
+        when(embeddedEnvironmentApi.getEnvironment(envName)).thenReturn(new EnvironmentDto(envName));
+        when(embeddedTargetApi.getTarget(envName, "target")).thenReturn(new TargetDto("target", "http://target:8080", null));
+        GwtStep step = GwtStep.builder()
+            .withDescription("step")
+            .withImplementation(new GwtStepImplementation("http-get", "target", null, null, null, null))
+            .build();
+        GwtTestCase testCase = GwtTestCase.builder()
+            .withMetadata(TestCaseMetadataImpl.builder().withTitle("title").build())
+            .withScenario(GwtScenario.builder()
+                .withGivens(List.of(step, step))
+                .withWhen(step)
+                .withThens(List.of(GwtStep.builder().withDescription("no target").build()))
+                .build())
+            .build();
+
+        // When
+        ExecutionRequestDto executionRequestDto = sut.toDto(new ExecutionRequest(testCase, envName, ""));
+
+        // Then
+        assertThat(executionRequestDto.scenario.steps).hasSize(4);
+        assertThat(executionRequestDto.scenario.steps.subList(0, 3))
+            .allSatisfy(s -> assertThat(s.target.url).isEqualTo("http://target:8080"));
+        assertThat(executionRequestDto.scenario.steps.get(3).target.name).isEmpty();
+        verify(embeddedTargetApi, times(1)).getTarget(envName, "target");
+    }
+
 }
@@ -162,6 +162,23 @@ public class DatabaseExecutionHistoryRepositoryTest {
                 .extracting(summary -> summary.info().get()).containsExactly("exec3", "exec2", "exec1");
         }
 
+        @Test
+        public void executions_summaries_are_paginated_by_execution_id_newest_first() {
+            String scenarioId = givenScenarioId();
+            sut.store(scenarioId, buildDetachedExecution(SUCCESS, "exec1", ""));
+            sut.store(scenarioId, buildDetachedExecution(SUCCESS, "exec2", ""));
+            sut.store(scenarioId, buildDetachedExecution(FAILURE, "exec3", ""));
+
+            List<ExecutionSummary> firstPage = sut.getExecutions(scenarioId, null, 2);
+            assertThat(firstPage)
+                .extracting(summary -> summary.info().get()).containsExactly("exec3", "exec2");
+
+            List<ExecutionSummary> secondPage = sut.getExecutions(scenarioId, firstPage.get(1).executionId(), 2);
+            assertThat(secondPage)
+                .extracting(summary -> summary.info().get()).containsExactly("exec1");
+            assertThat(sut.getExecutions(scenarioId, secondPage.get(0).executionId(), 2)).isEmpty();
+        }
+
         @Test
         public void last_execution_return_newest_first() {
             String scenarioIdOne = givenScenarioId();
@@ -238,6 +255,29 @@ public class DatabaseExecutionHistoryRepositoryTest {
             assertThat(updatedExecution.info()).hasValue("updated");
         }
 
+        @Test
+        public void update_summaries_alters_executions_but_not_their_reports() {
+            String scenarioId = givenScenario().getId().toString();
+            Execution first = sut.store(scenarioId, buildDetachedExecution(RUNNING, "exec1", ""));
+            Execution second = sut.store(scenarioId, buildDetachedExecution(RUNNING, "exec2", ""));
+
+            sut.updateSummaries(List.of(
+                buildDetachedExecution(PAUSED, "updated1", "").attach(first.executionId(), scenarioId).summary(),
+                buildDetachedExecution(RUNNING, "updated2", "error2").attach(second.executionId(), scenarioId).summary()
+            ));
+
+            Execution updatedFirst = sut.getExecution(scenarioId, first.executionId());
+            assertThat(updatedFirst.status()).isEqualTo(PAUSED);
+            assertThat(updatedFirst.info()).hasValue("updated1");
+            assertThat(updatedFirst.report()).isEqualTo(first.report());
+            ExecutionSummary updatedSecond = sut.getExecutionSummary(second.executionId());
+            assertThat(updatedSecond.info()).hasValue("updated2");
+            assertThat(updatedSecond.error()).hasValue("error2");
+
+            sut.update(scenarioId, buildDetachedExecution(SUCCESS, "final", "").attach(first.executionId(), scenarioId));
+            assertThat(sut.getExecution(scenarioId, first.executionId()).status()).isEqualTo(SUCCESS);
+        }
+
         @Disabled("TODO - Failed sometimes - investigation has to be done")
         @Test
         public void update_preserve_other_executions_order() {
@@ -412,6 +452,7 @@ public class DatabaseExecutionHistoryRepositoryTest {
             assertThat(executions.get(1).executionId()).isEqualTo(scenarioExecutionOne.id());
             assertThat(executions.get(1).campaignReport()).hasValueSatisfying(report -> {
                 assertThat(report.campaignId).isEqualTo(campaign.id());
+                assertThat(report.campaignName).isEqualTo(campaign.title());
                 assertThat(report.executionId).isEqualTo(campaignExecutionId);
             });
         }
@@ -601,6 +642,39 @@ public class DatabaseExecutionHistoryRepositoryTest {
                     .containsExactlyElementsOf(expectedOrder);
             }
 
+            @Test
+            void match_legacy_and_compressed_reports() {
+                var scenarioId1 = givenScenario().getId().toString();
+                var scenarioId2 = givenScenario().getId().toString();
+                var legacyExec = sut.store(scenarioId1, buildDetachedExecution("legacy toto"));
+                var compressedExec = sut.store(scenarioId2, buildDetachedExecution("compressed toto"));
+                namedParameterJdbcTemplate.update(
+                    "UPDATE SCENARIO_EXECUTIONS_REPORTS SET REPORT = :report, REPORT_FORMAT = 'JSON', COMPRESSED_REPORT = NULL WHERE SCENARIO_EXECUTION_ID = :id",
+                    Map.of("report", "legacy toto", "id", legacyExec.executionId()));
+
+                var executionSummaryList = sut.getExecutionReportMatchQuery("toto");
+
+                assertThat(executionSummaryList)
+                    .map(ExecutionSummary::executionId)
+                    .containsExactly(compressedExec.executionId(), legacyExec.executionId());
+                assertThat(sut.getExecution(scenarioId1, legacyExec.executionId()).report()).isEqualTo("legacy toto");
+            }
+
+            @Test
+            void match_executions_summary_columns() {
+                var scenarioId = givenScenario().getId().toString();
+                var exec = sut.store(scenarioId, buildDetachedExecution("report"));
+                namedParameterJdbcTemplate.update(
+                    "UPDATE SCENARIO_EXECUTIONS SET ERROR = :error WHERE ID = :id",
+                    Map.of("error", "connection refused", "id", exec.executionId()));
+
+                var executionSummaryList = sut.getExecutionReportMatchQuery("refused");
+
+                assertThat(executionSummaryList)
+                    .map(ExecutionSummary::executionId)
+                    .containsExactly(exec.executionId());
+            }
+
             private DetachedExecution buildDetachedExecution(String report) {
                 return ImmutableExecutionHistory.DetachedExecution.builder()
                     .time(LocalDateTime.now())
@@ -163,4 +163,19 @@ public class ScenarioExecutionReportEntityTest {
         // Then
         assertThat(dataset).isNull();
     }
+
+    @Test
+    public void should_store_report_compressed() {
+        // Given
+        String report = "{\"scenarioName\": \"TOTO\", \"steps\": [" + "{\"name\": \"step\", \"status\": \"SUCCESS\"},".repeat(100) + "{}]}";
+
+        // When
+        ScenarioExecutionReportEntity scenarioExecutionReportEntity = new ScenarioExecutionReportEntity(new ScenarioExecutionEntity(), report);
+
+        // Then
+        assertThat(scenarioExecutionReportEntity.reportFormat()).isEqualTo(ReportFormat.GZIP_JSON);
+        assertThat(scenarioExecutionReportEntity.getReport()).isEqualTo(report);
+        assertThat(ReportFormat.compress(report).length).isLessThan(report.length() / 10);
+    }
+
 }
@@ -8,8 +8,10 @@
 package com.chutneytesting.globalvar.infra;
 
 import static com.chutneytesting.globalvar.infra.FileGlobalVarRepository.ROOT_DIRECTORY_NAME;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.awaitility.Awaitility.await;
 
 import com.chutneytesting.tools.ThrowingConsumer;
 import java.io.IOException;
@@ -36,6 +38,7 @@ public class FileGlobalVarRepositoryTest {
         Files.walk(Paths.get(STORE_PATH + "/" + ROOT_DIRECTORY_NAME))
             .filter(Files::isRegularFile)
             .forEach(ThrowingConsumer.toUnchecked(Files::delete));
+        sut.close();
     }
 
     @Test
@@ -159,6 +162,41 @@ public class FileGlobalVarRepositoryTest {
         );
     }
 
+    @Test
+    public void should_load_flat_map_once_until_a_file_is_saved_or_deleted() {
+        // Given
+        sut.saveFile(FILE_NAME, "{key1: value1}");
+        Map<String, String> first = sut.getFlatMap();
+
+        // When
+        Map<String, String> second = sut.getFlatMap();
+        sut.saveFile("another_file", "{key2: value2}");
+        Map<String, String> afterSave = sut.getFlatMap();
+        sut.deleteFile(FILE_NAME);
+        Map<String, String> afterDelete = sut.getFlatMap();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(afterSave).containsOnly(entry("key1", "value1"), entry("key2", "value2"));
+        assertThat(afterDelete).containsOnly(entry("key2", "value2"));
+        assertThat(sut.flatMapSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_reload_flat_map_when_a_file_is_modified_outside_repository() throws IOException {
+        // Given
+        sut.saveFile(FILE_NAME, "{key1: value1}");
+        assertThat(sut.getFlatMap()).containsOnly(entry("key1", "value1"));
+
+        // When
+        Files.writeString(Paths.get(STORE_PATH).resolve(ROOT_DIRECTORY_NAME).resolve(FILE_NAME + ".hjson"), "{key1: modified}");
+
+        // Then
+        await().atMost(30, SECONDS).untilAsserted(() ->
+            assertThat(sut.getFlatMap()).containsOnly(entry("key1", "modified"))
+        );
+    }
+
     @Test
     public void should_backup_repository_directory_as_zip_file() throws IOException {
         // Given
@@ -65,6 +65,7 @@ public abstract class AbstractLocalDatabaseTest {
 
     protected void clearTables() {
         JdbcTemplate jdbcTemplate = namedParameterJdbcTemplate.getJdbcTemplate();
+        jdbcTemplate.execute("DELETE FROM CAMPAIGN_WORK_ITEMS");
         jdbcTemplate.execute("DELETE FROM CAMPAIGN_EXECUTIONS");
         jdbcTemplate.execute("DELETE FROM SCENARIO_EXECUTIONS_REPORTS");
         jdbcTemplate.execute("DELETE FROM SCENARIO_EXECUTIONS");
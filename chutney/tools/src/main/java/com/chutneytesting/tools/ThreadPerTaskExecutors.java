@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.tools;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executors starting a new thread for each submitted task, so that the number of concurrent tasks is not bounded by a pool size.
+ * <p>
+ * Threads are virtual when running on a JVM supporting them (Java 21+).
+ * Otherwise, they are platform daemon threads created on demand and reused when idle.
+ */
+public final class ThreadPerTaskExecutors {
+
+    private static final boolean VIRTUAL_THREADS_SUPPORTED = virtualThreadsAvailable();
+
+    private ThreadPerTaskExecutors() {
+    }
+
+    public static boolean virtualThreadsSupported() {
+        return VIRTUAL_THREADS_SUPPORTED;
+    }
+
+    public static ExecutorService newThreadPerTaskExecutor(String threadNamePrefix) {
+        if (virtualThreadsSupported()) {
+            try {
+                ThreadFactory threadFactory = virtualThreadFactory(threadNamePrefix);
+                Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+                return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot create virtual threads executor", e);
+            }
+        }
+        return Executors.newCachedThreadPool(platformThreadFactory(threadNamePrefix));
+    }
+
+    /**
+     * Thread.ofVirtual().name(prefix + "-", 1).factory() through reflection, as long as sources target Java 17.
+     */
+    private static ThreadFactory virtualThreadFactory(String threadNamePrefix) throws ReflectiveOperationException {
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix + "-", 1L);
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    }
+
+    private static boolean virtualThreadsAvailable() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static ThreadFactory platformThreadFactory(String threadNamePrefix) {
+        AtomicLong count = new AtomicLong();
+        return r -> {
+            Thread thread = new Thread(r, threadNamePrefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.tools.file;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches creations, modifications and deletions of a folder entries, on a daemon thread, until closed.
+ * When the folder cannot be watched, a warning is logged and no change is ever notified.
+ */
+public final class FolderWatcher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FolderWatcher.class);
+
+    private final Path folder;
+    private final String name;
+    private final Consumer<List<WatchEvent<?>>> onChanges;
+    private final WatchService watchService;
+
+    private FolderWatcher(Path folder, String name, Consumer<List<WatchEvent<?>>> onChanges) {
+        this.folder = folder;
+        this.name = name;
+        this.onChanges = onChanges;
+        this.watchService = startWatching();
+    }
+
+    /**
+     * @param name      of watched folder in logs and of watching thread
+     * @param onChanges called on watching thread with the events of each batch of changes, events context being paths relative to folder
+     */
+    public static FolderWatcher watch(Path folder, String name, Consumer<List<WatchEvent<?>>> onChanges) {
+        return new FolderWatcher(folder, name, onChanges);
+    }
+
+    public boolean watching() {
+        return watchService != null;
+    }
+
+    private WatchService startWatching() {
+        try {
+            WatchService watcher = folder.getFileSystem().newWatchService();
+            folder.register(watcher, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            Thread watcherThread = new Thread(() -> watchChanges(watcher), name.replace(' ', '-') + "-watcher");
+            watcherThread.setDaemon(true);
+            watcherThread.start();
+            return watcher;
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Cannot watch {} folder {}, only changes made through Chutney will be seen", name, folder, e);
+            return null;
+        }
+    }
+
+    private void watchChanges(WatchService watcher) {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                List<WatchEvent<?>> events = key.pollEvents();
+                try {
+                    onChanges.accept(events);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Cannot handle changes of {} folder {}", name, folder, e);
+                }
+                if (!key.reset()) {
+                    LOGGER.warn("{} folder {} is no longer watched", name, folder);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Watcher closed
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.tools.file;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FolderWatcherTest {
+
+    @Test
+    void should_notify_folder_changes(@TempDir Path folder) throws Exception {
+        // Given
+        List<Path> changed = new CopyOnWriteArrayList<>();
+        try (FolderWatcher watcher = FolderWatcher.watch(folder, "test", events -> events.stream().map(WatchEvent::context).map(Path.class::cast).forEach(changed::add))) {
+            assertThat(watcher.watching()).isTrue();
+
+            // When
+            Files.writeString(folder.resolve("file.txt"), "content");
+
+            // Then
+            await().atMost(30, SECONDS).untilAsserted(() ->
+                assertThat(changed).contains(Path.of("file.txt"))
+            );
+        }
+    }
+
+    @Test
+    void should_keep_watching_when_callback_fails(@TempDir Path folder) throws Exception {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        try (FolderWatcher ignored = FolderWatcher.watch(folder, "test", events -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("callback failure");
+        })) {
+            Files.writeString(folder.resolve("first.txt"), "content");
+            await().atMost(30, SECONDS).until(() -> calls.get() > 0);
+            int callsAfterFirstChange = calls.get();
+
+            // When
+            Files.writeString(folder.resolve("second.txt"), "content");
+
+            // Then
+            await().atMost(30, SECONDS).until(() -> calls.get() > callsAfterFirstChange);
+        }
+    }
+
+    @Test
+    void should_not_notify_once_closed(@TempDir Path folder) throws Exception {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        FolderWatcher watcher = FolderWatcher.watch(folder, "test", events -> calls.incrementAndGet());
+
+        // When
+        watcher.close();
+        Files.writeString(folder.resolve("file.txt"), "content");
+
+        // Then
+        Thread.sleep(500);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void should_not_watch_missing_folder(@TempDir Path folder) throws Exception {
+        try (FolderWatcher watcher = FolderWatcher.watch(folder.resolve("missing"), "test", events -> {})) {
+            assertThat(watcher.watching()).isFalse();
+        }
+    }
+}
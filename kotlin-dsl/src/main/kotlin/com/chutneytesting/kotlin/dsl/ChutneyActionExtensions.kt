@@ -199,11 +199,12 @@ fun ChutneyStepBuilder.AmqpUnbindQueueAction(
 }
 
 /**
- * On an amqp target, publish a message
+ * On an amqp target, publish a message, or a batch of messages
  * -------
  * Outputs:
  * - payload : the payload sent  (String)
  * - headers : the headers sent [key1,value1];[key2,value2]... (String)
+ * - payloads : when publishing messages, the payloads sent (List<String>)
  */
 fun ChutneyStepBuilder.AmqpBasicPublishAction(
     target: String,
@@ -211,7 +212,9 @@ fun ChutneyStepBuilder.AmqpBasicPublishAction(
     routingKey: String,
     headers: Map<String, Any>,
     properties: Map<String, String>,
-    payload: String,
+    payload: String? = null,
+    messages: List<Map<String, Any>>? = null,
+    timeout: String? = null,
     outputs: Map<String, Any> = mapOf(),
     validations: Map<String, Any> = mapOf(),
     strategy: Strategy? = null
@@ -224,7 +227,9 @@ fun ChutneyStepBuilder.AmqpBasicPublishAction(
             "routing-key" to routingKey,
             "headers" to headers,
             "properties" to properties,
-            "payload" to payload
+            "payload" to payload,
+            "messages" to messages,
+            "timeout" to timeout
         ).notEmptyToMap(),
         outputs = outputs,
         validations = validations
@@ -393,13 +398,15 @@ fun ChutneyStepBuilder.MongoDeleteAction(
  * On a mongoDb target, find documents
  * -------
  * Outputs:
- * - documents : the list as json of documents (List<String>)
+ * - documents : the list as json of documents (List<String>), or as maps when decode is true (List<Map<String, Object>>)
  */
 fun ChutneyStepBuilder.MongoFindAction(
     target: String,
     collection: String,
     query: String,
     limit: Int? = null,
+    batchSize: Int? = null,
+    decode: Boolean? = null,
     outputs: Map<String, Any> = mapOf(),
     validations: Map<String, Any> = mapOf(),
     strategy: Strategy? = null
@@ -410,7 +417,42 @@ fun ChutneyStepBuilder.MongoFindAction(
         inputs = listOf(
             "collection" to collection,
             "query" to query,
-            "limit" to limit
+            "limit" to limit,
+            "batchSize" to batchSize,
+            "decode" to decode
+        ).notEmptyToMap(),
+        outputs = outputs,
+        validations = validations
+    )
+    if (strategy != null) this.strategy = strategy
+}
+
+/**
+ * On a mongoDb target, run an aggregation pipeline
+ * -------
+ * Outputs:
+ * - documents : the list as json of documents (List<String>), or as maps when decode is true (List<Map<String, Object>>)
+ */
+fun ChutneyStepBuilder.MongoAggregateAction(
+    target: String,
+    collection: String,
+    pipeline: String,
+    limit: Int? = null,
+    batchSize: Int? = null,
+    decode: Boolean? = null,
+    outputs: Map<String, Any> = mapOf(),
+    validations: Map<String, Any> = mapOf(),
+    strategy: Strategy? = null
+) {
+    implementation = ChutneyStepImpl(
+        type = "mongo-aggregate",
+        target = target,
+        inputs = listOf(
+            "collection" to collection,
+            "pipeline" to pipeline,
+            "limit" to limit,
+            "batchSize" to batchSize,
+            "decode" to decode
         ).notEmptyToMap(),
         outputs = outputs,
         validations = validations
@@ -1819,6 +1861,7 @@ fun ChutneyStepBuilder.KafkaBasicConsumeAction(
     contentType: String? = null,
     ackMode: KafkaSpringOffsetCommitBehavior? = null,
     resetOffset: Boolean = false,
+    session: Boolean? = null,
     outputs: Map<String, Any> = mapOf(),
     validations: Map<String, Any> = mapOf(),
     strategy: Strategy? = null
@@ -1836,7 +1879,8 @@ fun ChutneyStepBuilder.KafkaBasicConsumeAction(
             "header-selector" to headerSelector,
             "content-type" to contentType,
             "ackMode" to ackMode,
-            "resetOffset" to resetOffset
+            "resetOffset" to resetOffset,
+            "session" to session
         ).notEmptyToMap(),
         outputs = outputs,
         validations = validations